@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,8 +29,6 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
-import java.util.Arrays;
-
 /**
  * A convenience class for creating implementations of {@link javafx.beans.value.ObservableValue}.
  * It contains all of the infrastructure support for value invalidation- and
@@ -199,87 +197,49 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
     private static class Generic<T> extends ExpressionHelper<T> {
 
-        private InvalidationListener[] invalidationListeners;
-        private ChangeListener<? super T>[] changeListeners;
-        private int invalidationSize;
-        private int changeSize;
-        private boolean locked;
+        private final ListenerArray<InvalidationListener> invalidationListeners;
+        private final ListenerArray<ChangeListener<? super T>> changeListeners;
         private T currentValue;
 
         private Generic(ObservableValue<T> observable, InvalidationListener listener0, InvalidationListener listener1) {
             super(observable);
-            this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
-            this.invalidationSize = 2;
+            this.invalidationListeners = new ListenerArray<>(listener0, listener1);
+            this.changeListeners = new ListenerArray<>();
         }
 
         private Generic(ObservableValue<T> observable, T currentValue, ChangeListener<? super T> listener0, ChangeListener<? super T> listener1) {
             super(observable);
-            this.changeListeners = new ChangeListener[] {listener0, listener1};
-            this.changeSize = 2;
+            this.invalidationListeners = new ListenerArray<>();
+            this.changeListeners = new ListenerArray<>(listener0, listener1);
             this.currentValue = currentValue;
         }
 
         private Generic(ObservableValue<T> observable, T currentValue, InvalidationListener invalidationListener, ChangeListener<? super T> changeListener) {
             super(observable);
-            this.invalidationListeners = new InvalidationListener[] {invalidationListener};
-            this.invalidationSize = 1;
-            this.changeListeners = new ChangeListener[] {changeListener};
-            this.changeSize = 1;
+            this.invalidationListeners = new ListenerArray<>(invalidationListener);
+            this.changeListeners = new ListenerArray<>(changeListener);
             this.currentValue = currentValue;
         }
 
         @Override
         protected Generic<T> addListener(InvalidationListener listener) {
-            if (invalidationListeners == null) {
-                invalidationListeners = new InvalidationListener[] {listener};
-                invalidationSize = 1;
-            } else {
-                final int oldCapacity = invalidationListeners.length;
-                if (locked) {
-                    final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
-                    invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
-                } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
-                    if (invalidationSize == oldCapacity) {
-                        final int newCapacity = (oldCapacity * 3)/2 + 1;
-                        invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
-                    }
-                }
-                invalidationListeners[invalidationSize++] = listener;
-            }
+            invalidationListeners.add(listener);
             return this;
         }
 
         @Override
         protected ExpressionHelper<T> removeListener(InvalidationListener listener) {
-            if (invalidationListeners != null) {
-                for (int index = 0; index < invalidationSize; index++) {
-                    if (listener.equals(invalidationListeners[index])) {
-                        if (invalidationSize == 1) {
-                            if (changeSize == 1) {
-                                return new SingleChange<>(observable, currentValue, changeListeners[0]);
-                            }
-                            invalidationListeners = null;
-                            invalidationSize = 0;
-                        } else if ((invalidationSize == 2) && (changeSize == 0)) {
-                            return new SingleInvalidation<>(observable, invalidationListeners[1-index]);
-                        } else {
-                            final int numMoved = invalidationSize - index - 1;
-                            final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
-                                invalidationListeners = new InvalidationListener[invalidationListeners.length];
-                                System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
-                            }
-                            invalidationSize--;
-                            if (!locked) {
-                                invalidationListeners[invalidationSize] = null; // Let gc do its work
-                            }
-                        }
-                        break;
+            final int invalidationSize = invalidationListeners.size();
+            final int changeSize = changeListeners.size();
+            for (int index = 0; index < invalidationSize; index++) {
+                if (listener.equals(invalidationListeners.get(index))) {
+                    if ((invalidationSize == 1) && (changeSize == 1)) {
+                        return new SingleChange<>(observable, currentValue, changeListeners.get(0));
+                    } else if ((invalidationSize == 2) && (changeSize == 0)) {
+                        return new SingleInvalidation<>(observable, invalidationListeners.get(1-index));
                     }
+                    invalidationListeners.remove(listener);
+                    break;
                 }
             }
             return this;
@@ -287,24 +247,8 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
         @Override
         protected ExpressionHelper<T> addListener(ChangeListener<? super T> listener) {
-            if (changeListeners == null) {
-                changeListeners = new ChangeListener[] {listener};
-                changeSize = 1;
-            } else {
-                final int oldCapacity = changeListeners.length;
-                if (locked) {
-                    final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
-                    changeListeners = Arrays.copyOf(changeListeners, newCapacity);
-                } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
-                    if (changeSize == oldCapacity) {
-                        final int newCapacity = (oldCapacity * 3)/2 + 1;
-                        changeListeners = Arrays.copyOf(changeListeners, newCapacity);
-                    }
-                }
-                changeListeners[changeSize++] = listener;
-            }
-            if (changeSize == 1) {
+            changeListeners.add(listener);
+            if (changeListeners.size() == 1) {
                 currentValue = observable.getValue();
             }
             return this;
@@ -312,50 +256,34 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
         @Override
         protected ExpressionHelper<T> removeListener(ChangeListener<? super T> listener) {
-            if (changeListeners != null) {
-                for (int index = 0; index < changeSize; index++) {
-                    if (listener.equals(changeListeners[index])) {
-                        if (changeSize == 1) {
-                            if (invalidationSize == 1) {
-                                return new SingleInvalidation<>(observable, invalidationListeners[0]);
-                            }
-                            changeListeners = null;
-                            changeSize = 0;
-                            currentValue = null;  // clear current value to avoid stale reference
-                        } else if ((changeSize == 2) && (invalidationSize == 0)) {
-                            return new SingleChange<>(observable, currentValue, changeListeners[1-index]);
-                        } else {
-                            final int numMoved = changeSize - index - 1;
-                            final ChangeListener<? super T>[] oldListeners = changeListeners;
-                            if (locked) {
-                                changeListeners = new ChangeListener[changeListeners.length];
-                                System.arraycopy(oldListeners, 0, changeListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
-                            }
-                            changeSize--;
-                            if (!locked) {
-                                changeListeners[changeSize] = null; // Let gc do its work
-                            }
-                        }
-                        break;
+            final int invalidationSize = invalidationListeners.size();
+            final int changeSize = changeListeners.size();
+            for (int index = 0; index < changeSize; index++) {
+                if (listener.equals(changeListeners.get(index))) {
+                    if ((changeSize == 1) && (invalidationSize == 1)) {
+                        return new SingleInvalidation<>(observable, invalidationListeners.get(0));
+                    } else if ((changeSize == 2) && (invalidationSize == 0)) {
+                        return new SingleChange<>(observable, currentValue, changeListeners.get(1-index));
                     }
+                    changeListeners.remove(listener);
+                    if (changeSize == 1) {
+                        currentValue = null;  // clear current value to avoid stale reference
+                    }
+                    break;
                 }
             }
             return this;
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         protected void fireValueChangedEvent() {
-            final InvalidationListener[] curInvalidationList = invalidationListeners;
-            final int curInvalidationSize = invalidationSize;
-            final ChangeListener<? super T>[] curChangeList = changeListeners;
-            final int curChangeSize = changeSize;
+            final Object[] curInvalidationList = invalidationListeners.acquire();
+            final int curInvalidationSize = invalidationListeners.size();
+            final Object[] curChangeList = changeListeners.acquire();
+            final int curChangeSize = changeListeners.size();
 
             try {
-                locked = true;
-
                 final T oldValue = currentValue;
 
                 if (curChangeSize > 0) {
@@ -373,7 +301,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
                 for (int i = 0; i < curInvalidationSize; i++) {
                     try {
-                        curInvalidationList[i].invalidated(observable);
+                        ((InvalidationListener) curInvalidationList[i]).invalidated(observable);
                     } catch (Exception e) {
                         Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
                     }
@@ -383,7 +311,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                     if (changed) {
                         for (int i = 0; i < curChangeSize; i++) {
                             try {
-                                curChangeList[i].changed(observable, oldValue, currentValue);
+                                ((ChangeListener<? super T>) curChangeList[i]).changed(observable, oldValue, currentValue);
                             } catch (Exception e) {
                                 Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
                             }
@@ -391,7 +319,8 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                invalidationListeners.release();
+                changeListeners.release();
             }
         }
     }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.binding;
+
+import java.util.Arrays;
+import javafx.beans.WeakListener;
+
+/**
+ * A copy-on-write array of listeners, used by the listener helpers when an
+ * observable has more than one listener of a kind.
+ * <p>
+ * Notification does not allocate: a notification {@linkplain #acquire()
+ * acquires} the current array and its size, iterates over them and then
+ * {@linkplain #release() releases} the array. Only if listeners are added or
+ * removed while the array is acquired, the array is copied before it is
+ * modified, so that the notifications in progress are not affected.
+ * Notifications can be nested.
+ * <p>
+ * Listeners that implement {@link WeakListener} and whose referent was
+ * garbage collected are removed whenever the array would otherwise have to
+ * grow, or has to be copied anyway.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <L> the type of the listeners
+ */
+public final class ListenerArray<L> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] listeners;
+    private int size;
+
+    // number of notifications in progress
+    private int lockCount;
+
+    // whether the array was acquired by a notification that may still iterate over it
+    private boolean shared;
+
+    public ListenerArray() {
+        this.listeners = EMPTY;
+    }
+
+    public ListenerArray(L listener) {
+        this.listeners = new Object[] {listener};
+        this.size = 1;
+    }
+
+    public ListenerArray(L listener0, L listener1) {
+        this.listeners = new Object[] {listener0, listener1};
+        this.size = 2;
+    }
+
+    /**
+     * Returns the number of listeners.
+     * @return the number of listeners
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the listener at the given index.
+     * @param index the index, between 0 and {@code size() - 1}
+     * @return the listener
+     */
+    @SuppressWarnings("unchecked")
+    public L get(int index) {
+        return (L) listeners[index];
+    }
+
+    /**
+     * Adds a listener at the end of this array.
+     * @param listener the listener
+     */
+    public void add(L listener) {
+        if (shared) {
+            int newCapacity = Math.max(size + 1, listeners.length);
+            listeners = copy(listeners, size, newCapacity);
+            size = compact(listeners, size);
+            shared = false;
+        } else if (size == listeners.length) {
+            size = compact(listeners, size);
+            if (size == listeners.length) {
+                listeners = Arrays.copyOf(listeners, (size * 3) / 2 + 1);
+            }
+        }
+        listeners[size++] = listener;
+    }
+
+    /**
+     * Removes the first listener that is equal to the given listener.
+     * @param listener the listener
+     * @return the index of the removed listener, or -1 if it was not found
+     */
+    public int remove(Object listener) {
+        for (int index = 0; index < size; index++) {
+            if (listener.equals(listeners[index])) {
+                removeAt(index);
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        final int numMoved = size - index - 1;
+        if (shared) {
+            final Object[] oldListeners = listeners;
+            listeners = new Object[oldListeners.length];
+            System.arraycopy(oldListeners, 0, listeners, 0, index);
+            System.arraycopy(oldListeners, index + 1, listeners, index, numMoved);
+            shared = false;
+        } else {
+            System.arraycopy(listeners, index + 1, listeners, index, numMoved);
+        }
+        listeners[--size] = null; // Let gc do its work
+    }
+
+    /**
+     * Starts a notification and returns the array to iterate over. The
+     * listeners are the first {@link #size()} elements of the array, where
+     * the size must be read before any listener is notified. The array
+     * returned must not be modified and must be {@linkplain #release()
+     * released} when the notification is done.
+     * @return the current listeners
+     */
+    public Object[] acquire() {
+        lockCount++;
+        shared = true;
+        return listeners;
+    }
+
+    /**
+     * Ends a notification started with {@link #acquire()}.
+     */
+    public void release() {
+        if (--lockCount == 0) {
+            shared = false;
+        }
+    }
+
+    private static Object[] copy(Object[] listeners, int size, int capacity) {
+        Object[] copy = new Object[capacity];
+        System.arraycopy(listeners, 0, copy, 0, size);
+        return copy;
+    }
+
+    // removes the garbage collected weak listeners in place, returns the new size
+    private static int compact(Object[] listeners, int size) {
+        int index = 0;
+        for (int src = 0; src < size; src++) {
+            Object listener = listeners[src];
+            if (!(listener instanceof WeakListener weak && weak.wasGarbageCollected())) {
+                listeners[index++] = listener;
+            }
+        }
+        for (int i = index; i < size; i++) {
+            listeners[i] = null;
+        }
+        return index;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,9 +26,9 @@
 package com.sun.javafx.collections;
 
 import com.sun.javafx.binding.ExpressionHelperBase;
+import com.sun.javafx.binding.ListenerArray;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
-import java.util.Arrays;
 
 /**
  */
@@ -168,81 +168,43 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
     private static class Generic<E> extends ListListenerHelper<E> {
 
-        private InvalidationListener[] invalidationListeners;
-        private ListChangeListener<? super E>[] changeListeners;
-        private int invalidationSize;
-        private int changeSize;
-        private boolean locked;
+        private final ListenerArray<InvalidationListener> invalidationListeners;
+        private final ListenerArray<ListChangeListener<? super E>> changeListeners;
 
         private Generic(InvalidationListener listener0, InvalidationListener listener1) {
-            this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
-            this.invalidationSize = 2;
+            this.invalidationListeners = new ListenerArray<>(listener0, listener1);
+            this.changeListeners = new ListenerArray<>();
         }
 
         private Generic(ListChangeListener<? super E> listener0, ListChangeListener<? super E> listener1) {
-            this.changeListeners = new ListChangeListener[] {listener0, listener1};
-            this.changeSize = 2;
+            this.invalidationListeners = new ListenerArray<>();
+            this.changeListeners = new ListenerArray<>(listener0, listener1);
         }
 
         private Generic(InvalidationListener invalidationListener, ListChangeListener<? super E> changeListener) {
-            this.invalidationListeners = new InvalidationListener[] {invalidationListener};
-            this.invalidationSize = 1;
-            this.changeListeners = new ListChangeListener[] {changeListener};
-            this.changeSize = 1;
+            this.invalidationListeners = new ListenerArray<>(invalidationListener);
+            this.changeListeners = new ListenerArray<>(changeListener);
         }
 
         @Override
         protected Generic<E> addListener(InvalidationListener listener) {
-            if (invalidationListeners == null) {
-                invalidationListeners = new InvalidationListener[] {listener};
-                invalidationSize = 1;
-            } else {
-                final int oldCapacity = invalidationListeners.length;
-                if (locked) {
-                    final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
-                    invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
-                } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
-                    if (invalidationSize == oldCapacity) {
-                        final int newCapacity = (oldCapacity * 3)/2 + 1;
-                        invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
-                    }
-                }
-                invalidationListeners[invalidationSize++] = listener;
-            }
+            invalidationListeners.add(listener);
             return this;
         }
 
         @Override
         protected ListListenerHelper<E> removeListener(InvalidationListener listener) {
-            if (invalidationListeners != null) {
-                for (int index = 0; index < invalidationSize; index++) {
-                    if (listener.equals(invalidationListeners[index])) {
-                        if (invalidationSize == 1) {
-                            if (changeSize == 1) {
-                                return new SingleChange<>(changeListeners[0]);
-                            }
-                            invalidationListeners = null;
-                            invalidationSize = 0;
-                        } else if ((invalidationSize == 2) && (changeSize == 0)) {
-                            return new SingleInvalidation<>(invalidationListeners[1-index]);
-                        } else {
-                            final int numMoved = invalidationSize - index - 1;
-                            final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
-                                invalidationListeners = new InvalidationListener[invalidationListeners.length];
-                                System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
-                            }
-                            invalidationSize--;
-                            if (!locked) {
-                                invalidationListeners[invalidationSize] = null; // Let gc do its work
-                            }
-                        }
-                        break;
+            final int invalidationSize = invalidationListeners.size();
+            final int changeSize = changeListeners.size();
+            for (int index = 0; index < invalidationSize; index++) {
+                if (listener.equals(invalidationListeners.get(index))) {
+                    if ((invalidationSize == 1) && (changeSize == 1)) {
+                        return new SingleChange<>(changeListeners.get(0));
+                    } else if ((invalidationSize == 2) && (changeSize == 0)) {
+                        return new SingleInvalidation<>(invalidationListeners.get(1-index));
                     }
+                    invalidationListeners.remove(listener);
+                    break;
                 }
             }
             return this;
@@ -250,73 +212,40 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected ListListenerHelper<E> addListener(ListChangeListener<? super E> listener) {
-            if (changeListeners == null) {
-                changeListeners = new ListChangeListener[] {listener};
-                changeSize = 1;
-            } else {
-                final int oldCapacity = changeListeners.length;
-                if (locked) {
-                    final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
-                    changeListeners = Arrays.copyOf(changeListeners, newCapacity);
-                } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
-                    if (changeSize == oldCapacity) {
-                        final int newCapacity = (oldCapacity * 3)/2 + 1;
-                        changeListeners = Arrays.copyOf(changeListeners, newCapacity);
-                    }
-                }
-                changeListeners[changeSize++] = listener;
-            }
+            changeListeners.add(listener);
             return this;
         }
 
         @Override
         protected ListListenerHelper<E> removeListener(ListChangeListener<? super E> listener) {
-            if (changeListeners != null) {
-                for (int index = 0; index < changeSize; index++) {
-                    if (listener.equals(changeListeners[index])) {
-                        if (changeSize == 1) {
-                            if (invalidationSize == 1) {
-                                return new SingleInvalidation<>(invalidationListeners[0]);
-                            }
-                            changeListeners = null;
-                            changeSize = 0;
-                        } else if ((changeSize == 2) && (invalidationSize == 0)) {
-                            return new SingleChange<>(changeListeners[1-index]);
-                        } else {
-                            final int numMoved = changeSize - index - 1;
-                            final ListChangeListener<? super E>[] oldListeners = changeListeners;
-                            if (locked) {
-                                changeListeners = new ListChangeListener[changeListeners.length];
-                                System.arraycopy(oldListeners, 0, changeListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
-                            }
-                            changeSize--;
-                            if (!locked) {
-                                changeListeners[changeSize] = null; // Let gc do its work
-                            }
-                        }
-                        break;
+            final int invalidationSize = invalidationListeners.size();
+            final int changeSize = changeListeners.size();
+            for (int index = 0; index < changeSize; index++) {
+                if (listener.equals(changeListeners.get(index))) {
+                    if ((changeSize == 1) && (invalidationSize == 1)) {
+                        return new SingleInvalidation<>(invalidationListeners.get(0));
+                    } else if ((changeSize == 2) && (invalidationSize == 0)) {
+                        return new SingleChange<>(changeListeners.get(1-index));
                     }
+                    changeListeners.remove(listener);
+                    break;
                 }
             }
             return this;
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         protected void fireValueChangedEvent(ListChangeListener.Change<? extends E> change) {
-            final InvalidationListener[] curInvalidationList = invalidationListeners;
-            final int curInvalidationSize = invalidationSize;
-            final ListChangeListener<? super E>[] curChangeList = changeListeners;
-            final int curChangeSize = changeSize;
+            final Object[] curInvalidationList = invalidationListeners.acquire();
+            final int curInvalidationSize = invalidationListeners.size();
+            final Object[] curChangeList = changeListeners.acquire();
+            final int curChangeSize = changeListeners.size();
 
             try {
-                locked = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
                     try {
-                        curInvalidationList[i].invalidated(change.getList());
+                        ((InvalidationListener) curInvalidationList[i]).invalidated(change.getList());
                     } catch (Exception e) {
                         Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
                     }
@@ -324,13 +253,14 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                 for (int i = 0; i < curChangeSize; i++) {
                     change.reset();
                     try {
-                        curChangeList[i].onChanged(change);
+                        ((ListChangeListener<? super E>) curChangeList[i]).onChanged(change);
                     } catch (Exception e) {
                         Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
                     }
                 }
             } finally {
-                locked = false;
+                invalidationListeners.release();
+                changeListeners.release();
             }
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,7 +31,9 @@ import javafx.collections.ObservableMap;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -46,6 +48,12 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V>{
     private MapListenerHelper<K, V> listenerHelper;
     private final Map<K, V> backingMap;
 
+    // number of nested batches in progress
+    private int batchDepth;
+
+    // the state before the current batch of every key changed in the batch
+    private Map<K, PendingChange<V>> pendingChanges;
+
     public ObservableMapWrapper(Map<K, V> map) {
         this.backingMap = map;
     }
@@ -111,10 +119,62 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V>{
 
     }
 
+    private record PendingChange<V>(boolean existed, V oldValue) {}
+
     protected void callObservers(MapChangeListener.Change<K,V> change) {
+        if (batchDepth > 0) {
+            K key = change.getKey();
+            if (!pendingChanges.containsKey(key)) {
+                pendingChanges.put(key, new PendingChange<>(change.wasRemoved(), change.getValueRemoved()));
+            }
+            return;
+        }
         MapListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    /**
+     * Starts a batch of modifications. Until the matching call to
+     * {@link #endBatch()}, no change is reported to the listeners.
+     * Batches can be nested.
+     */
+    public void beginBatch() {
+        if (batchDepth++ == 0) {
+            pendingChanges = new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Ends a batch of modifications. When the outermost batch ends, a single
+     * change is reported for every key whose mapping differs from the
+     * mapping it had when the batch started, in the order in which the keys
+     * were first modified.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        if (--batchDepth > 0) {
+            return;
+        }
+        Map<K, PendingChange<V>> changes = pendingChanges;
+        pendingChanges = null;
+        for (Map.Entry<K, PendingChange<V>> e : changes.entrySet()) {
+            K key = e.getKey();
+            PendingChange<V> pending = e.getValue();
+            boolean exists = backingMap.containsKey(key);
+            V value = exists ? backingMap.get(key) : null;
+            if (pending.existed()) {
+                if (!exists) {
+                    callObservers(new SimpleChange(key, pending.oldValue(), null, false, true));
+                } else if (!Objects.equals(pending.oldValue(), value)) {
+                    callObservers(new SimpleChange(key, pending.oldValue(), value, true, true));
+                }
+            } else if (exists) {
+                callObservers(new SimpleChange(key, null, value, true, false));
+            }
+        }
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         listenerHelper = MapListenerHelper.addListener(listenerHelper, listener);
@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.logging;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Attributes the time spent in the CSS, layout, synchronization and render
+ * passes to the types of the nodes that spend it.
+ * <p>
+ * The profiler is enabled by setting the system property
+ * {@code javafx.nodeProfiler} to true. Every measured call is charged with its
+ * self time, that is its duration minus the duration of the measured calls it
+ * makes, so that the time of a branch is not counted again for each of its
+ * ancestors. The samples are aggregated per thread and per {@link NodeType},
+ * without allocating once a node type has been seen. At the end of every
+ * pulse (on the FX thread) and of every render (on the render thread), they
+ * are added to the summary returned by {@link #getSummary()} and reported as
+ * {@code javafx.NodeTypeTime} events to the flight recorder.
+ */
+public final class NodeProfiler extends Logger {
+    public static final boolean PROFILING_ENABLED = Boolean.getBoolean("javafx.nodeProfiler");
+
+    private static final String JFR_LISTENER = "com.sun.javafx.logging.jfr.JFRNodeTypeListener";
+
+    /**
+     * The measured operations.
+     */
+    public enum Operation {
+        /** Applying styles to a node, {@code NodeHelper.processCSS} */
+        CSS,
+        /** Laying out the children of a parent, {@code Parent.layoutChildren} */
+        LAYOUT,
+        /** Synchronizing a node with its peer, {@code Node.syncPeer} */
+        SYNC,
+        /** Rendering a peer, {@code NGNode.render} */
+        RENDER
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    /**
+     * A node class together with a list of style classes.
+     */
+    public static final class NodeType {
+        private Class<?> type;
+        private List<String> styleClass;
+        private int hash;
+        private final int id;
+        private final String styleClassName;
+
+        private NodeType() {
+            id = -1;
+            styleClassName = null;
+        }
+
+        private NodeType(NodeType key, int id) {
+            this.type = key.type;
+            this.styleClass = List.copyOf(key.styleClass);
+            this.hash = key.hash;
+            this.id = id;
+            this.styleClassName = String.join(" ", styleClass);
+        }
+
+        private void set(Class<?> type, List<String> styleClass) {
+            this.type = type;
+            this.styleClass = styleClass;
+            this.hash = 31 * type.hashCode() + styleClass.hashCode();
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * @return the style classes separated by spaces
+         */
+        public String getStyleClass() {
+            return styleClassName;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof NodeType other
+                && type == other.type
+                && styleClass.equals(other.styleClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return styleClassName.isEmpty() ? type.getName() : type.getName() + " [" + styleClassName + "]";
+        }
+    }
+
+    /**
+     * The accumulated time of one operation on one node type.
+     *
+     * @param operation the operation
+     * @param nodeType the node type
+     * @param count the number of measured calls
+     * @param selfTime the self time of these calls, in nanoseconds
+     */
+    public record Entry(Operation operation, NodeType nodeType, long count, long selfTime) {
+    }
+
+    /**
+     * Receives the accumulated time of each operation and node type measured
+     * during a pulse, or during the rendering of a pulse.
+     */
+    public interface Listener {
+        void nodeTypeTime(int pulseId, Operation operation, NodeType nodeType, int count, long selfTime);
+    }
+
+    /*
+     * The samples of a thread. The slot of an operation on a node type is
+     * nodeType.id * OPERATIONS.length + operation.ordinal().
+     */
+    private static final class Recorder {
+        final NodeType probe = new NodeType();
+        long[] childTimes = new long[32];
+        int depth;
+        int[] counts = new int[0];
+        long[] selfTimes = new long[0];
+        int[] touched = new int[16];
+        int touchedCount;
+    }
+
+    private static final ThreadLocal<Recorder> recorders = ThreadLocal.withInitial(Recorder::new);
+    private static final Map<NodeType, NodeType> nodeTypes = new ConcurrentHashMap<>();
+
+    // Guarded by NodeProfiler.class
+    private static NodeType[] nodeTypesById = new NodeType[16];
+    private static int nodeTypeCount;
+    private static long[] summaryCounts = new long[0];
+    private static long[] summarySelfTimes = new long[0];
+
+    private static volatile Listener listener;
+
+    // The source of the start and end times, in nanoseconds; replaced by tests
+    private static LongSupplier clock = System::nanoTime;
+
+    private int pulseNumber;
+    private int fxPulseNumber;
+    private int renderPulseNumber;
+
+    public static Logger createInstance() {
+        if (PROFILING_ENABLED) {
+            return new NodeProfiler();
+        }
+        return null;
+    }
+
+    private NodeProfiler() {
+        listener = loadListener();
+    }
+
+    // Replaces the clock, or restores System.nanoTime if the value is null; used by tests
+    static void setClock(LongSupplier value) {
+        clock = value != null ? value : System::nanoTime;
+    }
+
+    /**
+     * Returns the node type of a node class with the given style classes.
+     *
+     * @param type the node class
+     * @param styleClass the style classes of the node
+     * @return the node type, never null
+     */
+    public static NodeType getNodeType(Class<?> type, List<String> styleClass) {
+        return getNodeType(recorders.get(), type, styleClass);
+    }
+
+    private static NodeType getNodeType(Recorder recorder, Class<?> type, List<String> styleClass) {
+        NodeType probe = recorder.probe;
+        probe.set(type, styleClass);
+        NodeType nodeType = nodeTypes.get(probe);
+        if (nodeType == null) {
+            synchronized (NodeProfiler.class) {
+                nodeType = nodeTypes.get(probe);
+                if (nodeType == null) {
+                    nodeType = new NodeType(probe, nodeTypeCount);
+                    if (nodeTypeCount == nodeTypesById.length) {
+                        nodeTypesById = Arrays.copyOf(nodeTypesById, nodeTypeCount * 2);
+                    }
+                    nodeTypesById[nodeTypeCount++] = nodeType;
+                    nodeTypes.put(nodeType, nodeType);
+                }
+            }
+        }
+        probe.set(Object.class, List.of());
+        return nodeType;
+    }
+
+    /**
+     * Starts measuring a call. Every call to this method must be followed by
+     * a call to one of the {@code end} methods on the same thread, usually
+     * in a {@code finally} block.
+     *
+     * @return the start time
+     */
+    public static long begin() {
+        Recorder recorder = recorders.get();
+        if (recorder.depth == recorder.childTimes.length) {
+            recorder.childTimes = Arrays.copyOf(recorder.childTimes, recorder.depth * 2);
+        }
+        recorder.childTimes[recorder.depth++] = 0;
+        return clock.getAsLong();
+    }
+
+    /**
+     * Ends measuring a call and charges its self time to a node type.
+     *
+     * @param operation the operation
+     * @param type the node class
+     * @param styleClass the style classes of the node
+     * @param start the value returned by {@link #begin()}
+     */
+    public static void end(Operation operation, Class<?> type, List<String> styleClass, long start) {
+        long elapsed = clock.getAsLong() - start;
+        Recorder recorder = recorders.get();
+        record(recorder, operation, getNodeType(recorder, type, styleClass), elapsed);
+    }
+
+    /**
+     * Ends measuring a call and charges its self time to a node type. If the
+     * node type is null, the time is charged to the enclosing call.
+     *
+     * @param operation the operation
+     * @param nodeType the node type, may be null
+     * @param start the value returned by {@link #begin()}
+     */
+    public static void end(Operation operation, NodeType nodeType, long start) {
+        long elapsed = clock.getAsLong() - start;
+        record(recorders.get(), operation, nodeType, elapsed);
+    }
+
+    private static void record(Recorder recorder, Operation operation, NodeType nodeType, long elapsed) {
+        if (recorder.depth == 0) {
+            return;
+        }
+        long selfTime = elapsed - recorder.childTimes[--recorder.depth];
+        if (nodeType == null) {
+            if (recorder.depth > 0) {
+                recorder.childTimes[recorder.depth - 1] += elapsed - selfTime;
+            }
+            return;
+        }
+        if (recorder.depth > 0) {
+            recorder.childTimes[recorder.depth - 1] += elapsed;
+        }
+
+        int slot = nodeType.id * OPERATIONS.length + operation.ordinal();
+        if (slot >= recorder.counts.length) {
+            int length = Math.max(slot + 1, recorder.counts.length * 2);
+            recorder.counts = Arrays.copyOf(recorder.counts, length);
+            recorder.selfTimes = Arrays.copyOf(recorder.selfTimes, length);
+        }
+        if (recorder.counts[slot]++ == 0) {
+            if (recorder.touchedCount == recorder.touched.length) {
+                recorder.touched = Arrays.copyOf(recorder.touched, recorder.touchedCount * 2);
+            }
+            recorder.touched[recorder.touchedCount++] = slot;
+        }
+        recorder.selfTimes[slot] += selfTime;
+    }
+
+    /*
+     * Adds the samples of the current thread to the summary and reports them
+     * to the listener.
+     */
+    private static void flush(int pulseId) {
+        Recorder recorder = recorders.get();
+        if (recorder.touchedCount == 0) {
+            return;
+        }
+        Listener l = listener;
+        NodeType[] types;
+        synchronized (NodeProfiler.class) {
+            types = nodeTypesById;
+            if (summaryCounts.length < recorder.counts.length) {
+                summaryCounts = Arrays.copyOf(summaryCounts, recorder.counts.length);
+                summarySelfTimes = Arrays.copyOf(summarySelfTimes, recorder.counts.length);
+            }
+            for (int i = 0; i < recorder.touchedCount; i++) {
+                int slot = recorder.touched[i];
+                summaryCounts[slot] += recorder.counts[slot];
+                summarySelfTimes[slot] += recorder.selfTimes[slot];
+            }
+        }
+        for (int i = 0; i < recorder.touchedCount; i++) {
+            int slot = recorder.touched[i];
+            if (l != null) {
+                l.nodeTypeTime(pulseId, OPERATIONS[slot % OPERATIONS.length],
+                               types[slot / OPERATIONS.length],
+                               recorder.counts[slot], recorder.selfTimes[slot]);
+            }
+            recorder.counts[slot] = 0;
+            recorder.selfTimes[slot] = 0;
+        }
+        recorder.touchedCount = 0;
+    }
+
+    /**
+     * Returns the time accumulated since the profiler was started or last
+     * reset, by operation and node type, in decreasing order of self time.
+     * The samples of the calling thread that were not yet added to the
+     * summary are added first.
+     *
+     * @return the summary
+     */
+    public static List<Entry> getSummary() {
+        flush(0);
+        List<Entry> entries = new ArrayList<>();
+        synchronized (NodeProfiler.class) {
+            for (int slot = 0; slot < summaryCounts.length; slot++) {
+                if (summaryCounts[slot] != 0) {
+                    entries.add(new Entry(OPERATIONS[slot % OPERATIONS.length],
+                                          nodeTypesById[slot / OPERATIONS.length],
+                                          summaryCounts[slot], summarySelfTimes[slot]));
+                }
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::selfTime).reversed());
+        return entries;
+    }
+
+    /**
+     * Discards the summary.
+     */
+    public static synchronized void reset() {
+        Arrays.fill(summaryCounts, 0);
+        Arrays.fill(summarySelfTimes, 0);
+    }
+
+    @Override
+    public void pulseStart() {
+        fxPulseNumber = ++pulseNumber;
+    }
+
+    @Override
+    public void pulseEnd() {
+        flush(fxPulseNumber);
+        fxPulseNumber = 0;
+    }
+
+    @Override
+    public void renderStart() {
+        renderPulseNumber = fxPulseNumber;
+    }
+
+    @Override
+    public void renderEnd() {
+        flush(renderPulseNumber);
+        renderPulseNumber = 0;
+    }
+
+    // Loading the JFR listener reflectively, in case the jdk.jfr module isn't available
+    private static Listener loadListener() {
+        try {
+            Class<?> klass = Class.forName(JFR_LISTENER);
+            Method method = klass.getDeclaredMethod("createInstance");
+            return (Listener) method.invoke(null);
+        } catch (NoClassDefFoundError | ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            // Ignore
+        }
+        return null;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.logging.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("javafx.NodeTypeTime")
+@Label("JavaFX Node Type Time")
+@Category("JavaFX")
+@Description("Time spent in one pulse phase on the nodes of one type, recorded if javafx.nodeProfiler is true")
+@StackTrace(false)
+@Enabled(false)
+public final class JFRNodeTypeEvent extends Event {
+    @PulseId
+    @Label("Pulse Id")
+    private int pulseId;
+
+    @Label("Operation")
+    @Description("CSS, LAYOUT, SYNC or RENDER")
+    private String operation;
+
+    @Label("Node Class")
+    private Class<?> nodeClass;
+
+    @Label("Style Class")
+    @Description("The style classes of the nodes, separated by spaces")
+    private String styleClass;
+
+    @Label("Count")
+    @Description("Number of calls")
+    private int count;
+
+    @Label("Self Time")
+    @Description("Time spent in the calls, excluding the calls they made on other nodes")
+    @Timespan(Timespan.NANOSECONDS)
+    private long selfTime;
+
+    public void setPulseId(int pulseId) {
+        this.pulseId = pulseId;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public void setNodeClass(Class<?> nodeClass) {
+        this.nodeClass = nodeClass;
+    }
+
+    public void setStyleClass(String styleClass) {
+        this.styleClass = styleClass;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public void setSelfTime(long selfTime) {
+        this.selfTime = selfTime;
+    }
+}
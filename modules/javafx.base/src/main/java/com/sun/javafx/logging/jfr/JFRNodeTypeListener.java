@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.logging.jfr;
+
+import com.sun.javafx.logging.NodeProfiler;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Reports the node type times of the {@link NodeProfiler} as JFR events.
+ */
+public final class JFRNodeTypeListener implements NodeProfiler.Listener {
+    private final JFRNodeTypeEvent event = new JFRNodeTypeEvent();
+
+    public static NodeProfiler.Listener createInstance() {
+        return new JFRNodeTypeListener();
+    }
+
+    private JFRNodeTypeListener() {
+        FlightRecorder.register(JFRNodeTypeEvent.class);
+    }
+
+    @Override
+    public void nodeTypeTime(int pulseId, NodeProfiler.Operation operation, NodeProfiler.NodeType nodeType,
+                             int count, long selfTime) {
+        if (!event.isEnabled()) {
+            return;
+        }
+        JFRNodeTypeEvent e = new JFRNodeTypeEvent();
+        e.setPulseId(pulseId);
+        e.setOperation(operation.name());
+        e.setNodeClass(nodeType.getType());
+        e.setStyleClass(nodeType.getStyleClass());
+        e.setCount(count);
+        e.setSelfTime(selfTime);
+        e.commit();
+    }
+}
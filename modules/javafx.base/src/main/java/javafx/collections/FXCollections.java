@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -44,8 +44,10 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.beans.InvalidationListener;
 
@@ -698,6 +700,103 @@ public class FXCollections {
         }
     }
 
+    /**
+     * Performs the given action on the provided observable list, and reports
+     * all the modifications made by the action as <b>one</b> change.
+     * <p>
+     * While the action runs, no change notification is fired on the list.
+     * When the action completes, normally or by throwing an exception, the
+     * listeners are notified once, with a change that aggregates all the
+     * modifications made in the meantime: for example, an element that is
+     * added and then removed by the action is not reported at all, and
+     * elements added at adjacent positions are reported as a single
+     * sub-change. This makes it possible to apply many modifications to a
+     * list, such as the updates received from a data feed, while listeners
+     * of the list and the lists derived from it, such as {@link
+     * javafx.collections.transformation.FilteredList FilteredList} and
+     * {@link javafx.collections.transformation.SortedList SortedList},
+     * process them only once.
+     * <p>
+     * Batches can be nested, in which case the change is reported when the
+     * outermost batch completes. The modifications must be made on the
+     * thread that calls this method. Lists that are not created by the
+     * methods of this class may not support aggregation, in which case the
+     * action is performed and the modifications are reported as usual.
+     *
+     * @param <E> the type of elements in the list
+     * @param list the list to modify
+     * @param action the action that modifies the list
+     * @throws NullPointerException if {@code list} or {@code action} is {@code null}
+     * @since 25
+     */
+    public static <E> void batch(ObservableList<E> list, Consumer<? super ObservableList<E>> action) {
+        Objects.requireNonNull(list, "list cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        if (list instanceof SynchronizedObservableList<E> syncList) {
+            synchronized (syncList.mutex) {
+                batch(syncList.backingList, l -> action.accept(list));
+            }
+        } else if (list instanceof CheckedObservableList<E> checkedList) {
+            batch(checkedList.list, l -> action.accept(list));
+        } else if (list instanceof ObservableListBase<E> listBase) {
+            listBase.beginChange();
+            try {
+                action.accept(list);
+            } finally {
+                listBase.endChange();
+            }
+        } else {
+            action.accept(list);
+        }
+    }
+
+    /**
+     * Performs the given action on the provided observable map, and reports
+     * at most <b>one</b> change per key for all the modifications made by the
+     * action.
+     * <p>
+     * While the action runs, no change notification is fired on the map.
+     * When the action completes, normally or by throwing an exception, the
+     * listeners are notified once for every key whose mapping differs from
+     * the mapping it had before the action, in the order in which the keys
+     * were first modified: for example, a key whose value is replaced
+     * several times is reported once, with its original and final values,
+     * and a key that is added and then removed is not reported at all.
+     * <p>
+     * Batches can be nested, in which case the changes are reported when the
+     * outermost batch completes. The modifications must be made on the
+     * thread that calls this method. Maps that are not created by the
+     * methods of this class may not support aggregation, in which case the
+     * action is performed and the modifications are reported as usual.
+     *
+     * @param <K> the type of keys in the map
+     * @param <V> the type of values in the map
+     * @param map the map to modify
+     * @param action the action that modifies the map
+     * @throws NullPointerException if {@code map} or {@code action} is {@code null}
+     * @since 25
+     */
+    public static <K, V> void batch(ObservableMap<K, V> map, Consumer<? super ObservableMap<K, V>> action) {
+        Objects.requireNonNull(map, "map cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        if (map instanceof SynchronizedObservableMap<K, V> syncMap) {
+            synchronized (syncMap.mutex) {
+                batch(syncMap.backingMap, m -> action.accept(map));
+            }
+        } else if (map instanceof CheckedObservableMap<K, V> checkedMap) {
+            batch(checkedMap.backingMap, m -> action.accept(map));
+        } else if (map instanceof ObservableMapWrapper<K, V> mapWrapper) {
+            mapWrapper.beginBatch();
+            try {
+                action.accept(map);
+            } finally {
+                mapWrapper.endBatch();
+            }
+        } else {
+            action.accept(map);
+        }
+    }
+
     private static class EmptyObservableList<E> extends AbstractList<E> implements ObservableList<E> {
 
         private final ListIterator<E> iterator = new ListIterator<>() {
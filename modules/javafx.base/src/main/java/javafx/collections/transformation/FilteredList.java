@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,10 +33,15 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Predicate;
 import javafx.beans.NamedArg;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
 
@@ -51,11 +56,18 @@ import javafx.collections.ObservableList;
  */
 public final class FilteredList<E> extends TransformationList<E, E>{
 
+    // minimum number of elements to test in parallel, and per task
+    private static final int PARALLEL_THRESHOLD = 16384;
+    private static final int PARALLEL_CHUNK_SIZE = 4096;
+
     private int[] filtered;
     private int size;
 
     private SortHelper helper;
 
+    // true while the predicate is replaced by narrowPredicate()
+    private boolean narrowing;
+
     /**
      * Constructs a new FilteredList wrapper around the source list.
      * The provided predicate will match the elements in the source list that will be visible.
@@ -100,7 +112,11 @@ public final class FilteredList<E> extends TransformationList<E, E>{
             predicate = new ObjectPropertyBase<>() {
                 @Override
                 protected void invalidated() {
-                    refilter();
+                    if (narrowing) {
+                        refilterAccepted();
+                    } else {
+                        refilter();
+                    }
                 }
 
                 @Override
@@ -126,6 +142,72 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         predicateProperty().set(predicate);
     }
 
+    /**
+     * Replaces the predicate with a predicate that is at least as strict as the
+     * current one. Only the elements that are in this list are tested against
+     * the new predicate, and the only change fired is the removal of the
+     * elements it rejects. This is useful when the predicate is refined
+     * step by step, for example when a search term is typed one character at a
+     * time.
+     * <p>
+     * The new predicate must not match any element of the source list that
+     * the current predicate does not match, otherwise the content of this list
+     * is undefined until the next change of the predicate.
+     * <p>
+     * A null predicate matches all elements and is never stricter than a
+     * non-null one, so passing null behaves like {@link #setPredicate(Predicate)}
+     * and filters the whole source list again.
+     *
+     * @param predicate the new predicate, or null to match all elements
+     * @throws RuntimeException if the predicate property is bound
+     * @since 25
+     */
+    public final void narrowPredicate(Predicate<? super E> predicate) {
+        if (predicate == null) {
+            setPredicate(null);
+            return;
+        }
+        narrowing = true;
+        try {
+            setPredicate(predicate);
+        } finally {
+            narrowing = false;
+        }
+    }
+
+    /**
+     * Whether the predicate is evaluated in parallel when the whole source list
+     * needs to be filtered again, which happens on every change of the
+     * predicate. Only large source lists are filtered in parallel; changes of
+     * the source list are always handled on the calling thread.
+     * <p>
+     * When enabled, the predicate is called concurrently from the threads of
+     * the {@link ForkJoinPool#commonPool() common pool} and must be
+     * thread-safe. It must not access any state that can only be accessed from
+     * the JavaFX Application Thread. The elements are read with
+     * {@link List#get(int)}, which must be safe to call concurrently as long
+     * as the source list is not modified.
+     *
+     * @defaultValue false
+     * @since 25
+     */
+    private BooleanProperty parallelFiltering;
+
+    public final BooleanProperty parallelFilteringProperty() {
+        if (parallelFiltering == null) {
+            parallelFiltering = new SimpleBooleanProperty(this, "parallelFiltering");
+        }
+        return parallelFiltering;
+    }
+
+    public final boolean isParallelFiltering() {
+        return parallelFiltering != null && parallelFiltering.get();
+    }
+
+    public final void setParallelFiltering(boolean value) {
+        parallelFilteringProperty().set(value);
+    }
+
     private Predicate<? super E> getPredicateImpl() {
         if (getPredicate() != null) {
             return getPredicate();
@@ -321,19 +403,126 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         if (hasListeners()) {
             removed = new ArrayList<>(this);
         }
-        size = 0;
-        int i = 0;
         Predicate<? super E> pred = getPredicateImpl();
-        for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
-            final E next = it.next();
-            if (pred.test(next)) {
-                filtered[size++] = i;
+        int count = getSource().size();
+        if (isParallel(count)) {
+            size = parallelFilter(null, count, pred, filtered);
+        } else {
+            size = 0;
+            int i = 0;
+            for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
+                final E next = it.next();
+                if (pred.test(next)) {
+                    filtered[size++] = i;
+                }
+                ++i;
             }
-            ++i;
         }
         if (hasListeners()) {
             fireChange(new GenericAddRemoveChange<>(0, size, removed, this));
         }
     }
 
+    /**
+     * Tests only the elements that are in this list against the predicate,
+     * and removes the ones it does not match.
+     */
+    private void refilterAccepted() {
+        Predicate<? super E> pred = getPredicateImpl();
+        int[] accepted = new int[filtered.length];
+        int count;
+        if (isParallel(size)) {
+            count = parallelFilter(filtered, size, pred, accepted);
+        } else {
+            count = 0;
+            for (int i = 0; i < size; ++i) {
+                if (pred.test(getSource().get(filtered[i]))) {
+                    accepted[count++] = filtered[i];
+                }
+            }
+        }
+        if (count == size) {
+            return;
+        }
+
+        if (hasListeners()) {
+            beginChange();
+            for (int i = 0, pos = 0; i < size; ++i) {
+                if (pos < count && accepted[pos] == filtered[i]) {
+                    ++pos;
+                } else {
+                    nextRemove(pos, getSource().get(filtered[i]));
+                }
+            }
+            filtered = accepted;
+            size = count;
+            endChange();
+        } else {
+            filtered = accepted;
+            size = count;
+        }
+    }
+
+    private boolean isParallel(int count) {
+        return count >= PARALLEL_THRESHOLD && isParallelFiltering()
+                && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Tests the elements at the first {@code count} source indexes in
+     * {@code indexes}, or at the source indexes {@code [0, count)} if
+     * {@code indexes} is null, in parallel. The source indexes of the matched
+     * elements are written, in order, to {@code result}.
+     *
+     * @return the number of matched elements
+     */
+    private int parallelFilter(int[] indexes, int count, Predicate<? super E> pred, int[] result) {
+        int taskCount = Math.min(count / PARALLEL_CHUNK_SIZE, ForkJoinPool.getCommonPoolParallelism() * 4);
+        List<FilterTask<E>> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; ++i) {
+            int from = (int) ((long) count * i / taskCount);
+            int to = (int) ((long) count * (i + 1) / taskCount);
+            tasks.add(new FilterTask<>(getSource(), pred, indexes, from, to));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        int pos = 0;
+        for (FilterTask<E> task : tasks) {
+            System.arraycopy(task.accepted, 0, result, pos, task.count);
+            pos += task.count;
+        }
+        return pos;
+    }
+
+    private static class FilterTask<E> extends RecursiveAction {
+
+        private final List<? extends E> source;
+        private final Predicate<? super E> predicate;
+        private final int[] indexes;
+        private final int from;
+        private final int to;
+
+        private int[] accepted;
+        private int count;
+
+        FilterTask(List<? extends E> source, Predicate<? super E> predicate, int[] indexes, int from, int to) {
+            this.source = source;
+            this.predicate = predicate;
+            this.indexes = indexes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            accepted = new int[to - from];
+            for (int i = from; i < to; ++i) {
+                int index = indexes == null ? i : indexes[i];
+                if (predicate.test(source.get(index))) {
+                    accepted[count++] = index;
+                }
+            }
+        }
+    }
+
 }
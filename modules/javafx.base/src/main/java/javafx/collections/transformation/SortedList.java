@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -64,6 +64,10 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     private final Element<E> tempElement = new Element<>(null, -1);
 
+    // Updates of more than 1 / UPDATE_RESORT_RATIO of the elements resort the
+    // whole list, smaller ones move each updated element on its own.
+    private static final int UPDATE_RESORT_RATIO = 4;
+
 
     /**
      * Creates a new SortedList wrapped around the source list.
@@ -101,15 +105,38 @@ public final class SortedList<E> extends TransformationList<E, E>{
     protected void sourceChanged(Change<? extends E> c) {
         if (elementComparator != null) {
             beginChange();
+            // Updated elements are collected and moved together, as the new
+            // position of each of them can only be found once the others are
+            // known.
+            int[] updated = null;
+            int updatedCount = 0;
             while (c.next()) {
+                if (c.wasUpdated()) {
+                    int from = c.getFrom();
+                    int to = c.getTo();
+                    if (updated == null) {
+                        updated = new int[to - from];
+                    } else if (updatedCount + to - from > updated.length) {
+                        updated = Arrays.copyOf(updated, Math.max(updated.length * 2, updatedCount + to - from));
+                    }
+                    for (int i = from; i < to; ++i) {
+                        updated[updatedCount++] = i;
+                    }
+                    continue;
+                }
+                if (updatedCount > 0) {
+                    update(updated, updatedCount);
+                    updatedCount = 0;
+                }
                 if (c.wasPermutated()) {
                     updatePermutationIndexes(c);
-                } else if (c.wasUpdated()) {
-                    update(c);
                 } else {
                     addRemove(c);
                 }
             }
+            if (updatedCount > 0) {
+                update(updated, updatedCount);
+            }
             endChange();
         } else {
             updateUnsorted(c);
@@ -381,15 +408,177 @@ public final class SortedList<E> extends TransformationList<E, E>{
         nextRemove(0, removed);
     }
 
-    private void update(Change<? extends E> c) {
+    private void update(int[] indexes, int count) {
+        if (count * UPDATE_RESORT_RATIO > size) {
+            resort();
+        } else {
+            reposition(indexes, count);
+        }
+        for (int i = 0; i < count; ++i) {
+            nextUpdate(this.perm[indexes[i]]);
+        }
+    }
+
+    private void resort() {
         int[] perm = helper.sort(sorted, 0, size, elementComparator);  // elementComparator is never null here
         for (int i = 0; i < size; i++) {
             this.perm[sorted[i].index] = i;
         }
-        nextPermutation(0, size, perm);
-        for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
-            nextUpdate(this.perm[i]);
+        int from = 0;
+        int to = size;
+        while (from < to && perm[from] == from) {
+            ++from;
+        }
+        while (to > from && perm[to - 1] == to - 1) {
+            --to;
+        }
+        if (from < to) {
+            nextPermutation(from, to, Arrays.copyOfRange(perm, from, to));
+        }
+    }
+
+    /**
+     * Moves the elements at the first {@code count} source indexes in
+     * {@code indexes} to their new position. All other elements are still in
+     * order, so the new position of each updated element is found with a binary
+     * search among them. An updated element that is still in order with its
+     * neighbors does not move, and elements that compare equal keep their
+     * relative order, so the permutation only covers the elements that actually
+     * moved.
+     */
+    @SuppressWarnings("unchecked")
+    private void reposition(int[] indexes, int count) {
+        final int remaining = size - count;
+
+        // view indexes of the updated elements, in ascending order
+        final int[] oldPos = new int[count];
+        for (int i = 0; i < count; ++i) {
+            oldPos[i] = perm[indexes[i]];
+        }
+        Arrays.sort(oldPos);
+
+        // The index of each updated element among the remaining ones. All
+        // comparisons are done before the list is modified, so that a failing
+        // comparator leaves the list unchanged.
+        final int[] rank = new int[count];
+        for (int i = 0; i < count; ++i) {
+            rank[i] = oldPos[i] - i;
+        }
+        final int[] gap = new int[count];
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; ++i) {
+            gap[i] = findGap(sorted[oldPos[i]], rank[i], remaining, rank);
+            order[i] = i;
+        }
+        if (count > 1) {
+            Arrays.sort(order, (i1, i2) -> gap[i1] != gap[i2]
+                    ? Integer.compare(gap[i1], gap[i2])
+                    : elementComparator.compare(sorted[oldPos[i1]], sorted[oldPos[i2]]));
+        }
+
+        // take the updated elements out
+        Element<E>[] moved = new Element[count];
+        int dst = oldPos[0];
+        for (int i = 0; i < count; ++i) {
+            moved[i] = sorted[oldPos[i]];
+            int len = (i + 1 < count ? oldPos[i + 1] : size) - oldPos[i] - 1;
+            System.arraycopy(sorted, oldPos[i] + 1, sorted, dst, len);
+            dst += len;
+        }
+
+        // and merge them back, starting from the end
+        int src = remaining - 1;
+        dst = size - 1;
+        for (int j = count - 1; j >= 0; --j) {
+            int m = order[j];
+            int len = src - gap[m] + 1;
+            if (len > 0) {
+                System.arraycopy(sorted, gap[m], sorted, dst - len + 1, len);
+                dst -= len;
+                src -= len;
+            }
+            sorted[dst--] = moved[m];
+        }
+
+        int lo = Math.min(oldPos[0], gap[order[0]]);
+        int hi = Math.max(oldPos[count - 1], gap[order[count - 1]] + count - 1) + 1;
+        int[] perm = new int[hi - lo];
+        int first = hi;
+        int last = lo - 1;
+        for (int i = lo; i < hi; ++i) {
+            int index = sorted[i].index;
+            int old = this.perm[index];
+            perm[old - lo] = i;
+            this.perm[index] = i;
+            if (old != i) {
+                first = Math.min(first, i);
+                last = i;
+            }
+        }
+        if (first <= last) {
+            nextPermutation(first, last + 1, Arrays.copyOfRange(perm, first - lo, last + 1 - lo));
+        }
+    }
+
+    /**
+     * Returns the index among the elements that were not updated at which the
+     * given updated element is to be inserted. {@code rank} is its current index
+     * among them, which is kept when the element is still in order.
+     * {@code ranks} holds the ranks of all updated elements, in ascending order,
+     * and is used to skip them in {@code sorted}.
+     */
+    private int findGap(Element<E> e, int rank, int remaining, int[] ranks) {
+        if (rank > 0 && elementComparator.compare(remainingAt(rank - 1, ranks), e) > 0) {
+            // first element greater than e, before rank
+            int low = 0;
+            int high = rank - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (elementComparator.compare(remainingAt(mid, ranks), e) > 0) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+        if (rank < remaining && elementComparator.compare(e, remainingAt(rank, ranks)) > 0) {
+            // first element not less than e, after rank
+            int low = rank + 1;
+            int high = remaining;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (elementComparator.compare(remainingAt(mid, ranks), e) >= 0) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the element at the given index, counting only the elements that
+     * were not updated.
+     */
+    private Element<E> remainingAt(int index, int[] ranks) {
+        if (ranks.length == 1) {
+            return sorted[index < ranks[0] ? index : index + 1];
+        }
+        // number of updated elements at or before index
+        int low = 0;
+        int high = ranks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ranks[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
+        return sorted[index + low];
     }
 
     private void addRemove(Change<? extends E> c) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,7 +25,9 @@
 
 package test.com.sun.javafx.binding;
 
+import com.sun.javafx.binding.ListenerArray;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -244,13 +246,7 @@ public class ExpressionHelperUtility {
                 try {
                     final Field field = clazz.getDeclaredField("changeListeners");
                     field.setAccessible(true);
-                    final ListChangeListener<? super E>[] listeners = (ListChangeListener[])field.get(helper);
-                    if (listeners != null) {
-                        final Field sizeField = clazz.getDeclaredField("changeSize");
-                        sizeField.setAccessible(true);
-                        final int size = sizeField.getInt(helper);
-                        return Arrays.asList(Arrays.copyOf(listeners, size));
-                    }
+                    return toList((ListenerArray<ListChangeListener<? super E>>)field.get(helper));
                 } catch (Exception ex) { }
             }
         } catch (ClassNotFoundException ex) { }
@@ -376,6 +372,9 @@ public class ExpressionHelperUtility {
         try {
             final Field field = clazz.getDeclaredField("invalidationListeners");
             field.setAccessible(true);
+            if (field.get(helper) instanceof ListenerArray array) {
+                return toList((ListenerArray<InvalidationListener>)array);
+            }
             final InvalidationListener[] listeners = (InvalidationListener[])field.get(helper);
             if (listeners != null) {
                 final Field sizeField = clazz.getDeclaredField("invalidationSize");
@@ -401,6 +400,9 @@ public class ExpressionHelperUtility {
         try {
             final Field field = clazz.getDeclaredField("changeListeners");
             field.setAccessible(true);
+            if (field.get(helper) instanceof ListenerArray array) {
+                return toList((ListenerArray<ChangeListener<? super T>>)array);
+            }
             final ChangeListener<? super T>[] listeners = (ChangeListener[])field.get(helper);
             if (listeners != null) {
                 final Field sizeField = clazz.getDeclaredField("changeSize");
@@ -411,4 +413,12 @@ public class ExpressionHelperUtility {
         } catch (Exception ex) { }
         return Collections.emptyList();
     }
+
+    private static <L> List<L> toList(ListenerArray<L> listeners) {
+        final List<L> list = new ArrayList<>(listeners.size());
+        for (int i = 0; i < listeners.size(); i++) {
+            list.add(listeners.get(i));
+        }
+        return list;
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.javafx.binding;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.javafx.binding.ListenerArray;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.WeakListener;
+import org.junit.jupiter.api.Test;
+
+public class ListenerArrayTest {
+
+    private static final Object listener = new Object();
+    private static final Object listener2 = new Object();
+    private static final Object listener3 = new Object();
+
+    private static final WeakListener validWeakListener = () -> false;
+
+    private static final WeakListener gcedWeakListener = () -> true;
+
+    private static List<Object> contents(ListenerArray<Object> array) {
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < array.size(); i++) {
+            list.add(array.get(i));
+        }
+        return list;
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        ListenerArray<Object> array = new ListenerArray<>();
+        assertEquals(0, array.size());
+
+        array.add(listener);
+        array.add(listener2);
+        array.add(listener3);
+        assertEquals(List.of(listener, listener2, listener3), contents(array));
+
+        assertEquals(1, array.remove(listener2));
+        assertEquals(List.of(listener, listener3), contents(array));
+        assertEquals(-1, array.remove(listener2));
+        assertEquals(0, array.remove(listener));
+        assertEquals(0, array.remove(listener3));
+        assertEquals(0, array.size());
+    }
+
+    @Test
+    public void testAcquireReturnsSameArrayWithoutModification() {
+        ListenerArray<Object> array = new ListenerArray<>(listener, listener2);
+        Object[] first = array.acquire();
+        array.release();
+        Object[] second = array.acquire();
+        array.release();
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testAddDuringNotificationDoesNotAffectSnapshot() {
+        ListenerArray<Object> array = new ListenerArray<>(listener, listener2);
+        Object[] snapshot = array.acquire();
+        int size = array.size();
+
+        array.add(listener3);
+
+        assertEquals(2, size);
+        assertSame(listener, snapshot[0]);
+        assertSame(listener2, snapshot[1]);
+        assertNotSame(snapshot, array.acquire());
+        array.release();
+        array.release();
+        assertEquals(List.of(listener, listener2, listener3), contents(array));
+    }
+
+    @Test
+    public void testRemoveDuringNotificationDoesNotAffectSnapshot() {
+        ListenerArray<Object> array = new ListenerArray<>(listener, listener2);
+        array.add(listener3);
+        Object[] snapshot = array.acquire();
+
+        array.remove(listener);
+        array.remove(listener3);
+
+        assertSame(listener, snapshot[0]);
+        assertSame(listener2, snapshot[1]);
+        assertSame(listener3, snapshot[2]);
+        array.release();
+        assertEquals(List.of(listener2), contents(array));
+    }
+
+    @Test
+    public void testNestedNotification() {
+        ListenerArray<Object> array = new ListenerArray<>(listener, listener2);
+        Object[] outer = array.acquire();
+        Object[] inner = array.acquire();
+        array.release();
+
+        // the outer notification is still in progress
+        array.remove(listener);
+        assertSame(listener, outer[0]);
+        assertSame(listener, inner[0]);
+        array.release();
+        assertEquals(List.of(listener2), contents(array));
+    }
+
+    @Test
+    public void testModificationAfterReleaseIsInPlace() {
+        ListenerArray<Object> array = new ListenerArray<>(listener, listener2);
+        array.add(listener3);
+        Object[] snapshot = array.acquire();
+        array.release();
+        array.remove(listener);
+        assertSame(snapshot, array.acquire());
+        array.release();
+    }
+
+    @Test
+    public void testGarbageCollectedListenersAreRemovedWhenGrowing() {
+        ListenerArray<Object> array = new ListenerArray<>(gcedWeakListener, validWeakListener);
+        array.add(listener);
+        assertEquals(List.of(validWeakListener, listener), contents(array));
+    }
+
+    @Test
+    public void testGarbageCollectedListenersAreRemovedWhenCopying() {
+        ListenerArray<Object> array = new ListenerArray<>(listener, gcedWeakListener);
+        array.add(listener2);
+        array.add(gcedWeakListener);
+        array.acquire();
+        array.add(listener3);
+        array.release();
+        assertEquals(List.of(listener, listener2, listener3), contents(array));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.javafx.logging;
+
+import com.sun.javafx.logging.NodeProfiler;
+import com.sun.javafx.logging.NodeProfiler.Entry;
+import com.sun.javafx.logging.NodeProfiler.NodeType;
+import com.sun.javafx.logging.NodeProfiler.Operation;
+import com.sun.javafx.logging.NodeProfilerShim;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NodeProfilerTest {
+
+    private static final class Outer {}
+    private static final class Inner {}
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long now;
+
+    private void advance(long nanos) {
+        now += nanos;
+    }
+
+    private static Entry find(Operation operation, Class<?> type) {
+        for (Entry entry : NodeProfiler.getSummary()) {
+            if (entry.operation() == operation && entry.nodeType().getType() == type) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        NodeProfiler.getSummary();
+        NodeProfiler.reset();
+        NodeProfilerShim.setClock(() -> now);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        NodeProfilerShim.setClock(null);
+    }
+
+    @Test
+    public void testNodeTypesAreShared() {
+        List<String> styleClass = new ArrayList<>(List.of("cell", "table-cell"));
+        NodeType nodeType = NodeProfiler.getNodeType(Outer.class, styleClass);
+
+        assertSame(Outer.class, nodeType.getType());
+        assertEquals("cell table-cell", nodeType.getStyleClass());
+        assertSame(nodeType, NodeProfiler.getNodeType(Outer.class, List.of("cell", "table-cell")));
+        assertNotSame(nodeType, NodeProfiler.getNodeType(Inner.class, styleClass));
+
+        styleClass.add("selected");
+        assertNotSame(nodeType, NodeProfiler.getNodeType(Outer.class, styleClass));
+        assertEquals("cell table-cell", nodeType.getStyleClass());
+    }
+
+    @Test
+    public void testNestedCallsAreChargedToTheirOwnType() {
+        long outerStart = NodeProfiler.begin();
+        advance(5 * MILLIS);
+        for (int i = 0; i < 2; i++) {
+            long innerStart = NodeProfiler.begin();
+            advance(20 * MILLIS);
+            NodeProfiler.end(Operation.RENDER, Inner.class, List.of(), innerStart);
+        }
+        NodeProfiler.end(Operation.LAYOUT, Outer.class, List.of("outer"), outerStart);
+
+        Entry inner = find(Operation.RENDER, Inner.class);
+        Entry outer = find(Operation.LAYOUT, Outer.class);
+        assertNotNull(inner);
+        assertNotNull(outer);
+        assertEquals(2, inner.count());
+        assertEquals(1, outer.count());
+        assertEquals("outer", outer.nodeType().getStyleClass());
+        assertEquals(40 * MILLIS, inner.selfTime());
+        assertEquals(5 * MILLIS, outer.selfTime());
+        assertNull(find(Operation.LAYOUT, Inner.class));
+    }
+
+    @Test
+    public void testCallsWithoutTypeAreChargedToTheEnclosingCall() {
+        long outerStart = NodeProfiler.begin();
+        long anonymousStart = NodeProfiler.begin();
+        advance(10 * MILLIS);
+        long innerStart = NodeProfiler.begin();
+        advance(20 * MILLIS);
+        NodeProfiler.end(Operation.RENDER, Inner.class, List.of(), innerStart);
+        NodeProfiler.end(Operation.RENDER, (NodeType) null, anonymousStart);
+        NodeProfiler.end(Operation.RENDER, Outer.class, List.of(), outerStart);
+
+        Entry outer = find(Operation.RENDER, Outer.class);
+        assertNotNull(outer);
+        assertEquals(10 * MILLIS, outer.selfTime());
+        assertEquals(20 * MILLIS, find(Operation.RENDER, Inner.class).selfTime());
+    }
+
+    @Test
+    public void testSummaryIsSortedAndCanBeReset() {
+        for (int i = 0; i < 3; i++) {
+            long start = NodeProfiler.begin();
+            advance((i + 1) * MILLIS);
+            NodeProfiler.end(Operation.values()[i], Outer.class, List.of(), start);
+        }
+
+        List<Entry> summary = NodeProfiler.getSummary();
+        assertEquals(3, summary.size());
+        for (int i = 0; i < summary.size(); i++) {
+            assertEquals((3 - i) * MILLIS, summary.get(i).selfTime());
+            assertSame(Operation.values()[2 - i], summary.get(i).operation());
+        }
+
+        NodeProfiler.reset();
+        assertTrue(NodeProfiler.getSummary().isEmpty());
+    }
+}
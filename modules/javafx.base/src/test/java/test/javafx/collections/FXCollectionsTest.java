@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,6 +33,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
 import test.javafx.collections.MockSetObserver.Tuple;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
@@ -194,6 +195,178 @@ public class FXCollectionsTest {
 
     }
 
+    @Test
+    public void batchListTest() {
+        ObservableList<String> seq = FXCollections.observableArrayList("a", "b", "c");
+        final int[] calls = new int[1];
+        final List<String> changes = new ArrayList<>();
+        seq.addListener((ListChangeListener<String>) c -> {
+            calls[0]++;
+            while (c.next()) {
+                changes.add(c.getFrom() + ":" + c.getRemoved() + "->" + c.getAddedSubList());
+            }
+        });
+
+        FXCollections.batch(seq, l -> {
+            l.add("d");
+            l.add("e");
+            l.remove("a");
+            l.set(0, "B");
+        });
+
+        assertEquals(List.of("B", "c", "d", "e"), seq);
+        assertEquals(1, calls[0]);
+        assertEquals(List.of("0:[a, b]->[B]", "2:[]->[d, e]"), changes);
+    }
+
+    @Test
+    public void batchListAggregatesChangeTest() {
+        ObservableList<Integer> seq = FXCollections.observableArrayList();
+        final List<String> changes = new ArrayList<>();
+        seq.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                changes.add(c.getFrom() + ":" + c.getRemoved() + "->" + c.getAddedSubList());
+            }
+        });
+
+        FXCollections.batch(seq, l -> {
+            for (int i = 0; i < 1000; i++) {
+                l.add(i);
+            }
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(1000, seq.size());
+    }
+
+    @Test
+    public void batchListWithoutNetChangeTest() {
+        ObservableList<String> seq = FXCollections.observableArrayList("a", "b");
+        final MockListObserver<String> observer = new MockListObserver<>();
+        seq.addListener(observer);
+
+        FXCollections.batch(seq, l -> {
+            l.add("c");
+            l.remove("c");
+        });
+
+        assertEquals(List.of("a", "b"), seq);
+        observer.check0();
+    }
+
+    @Test
+    public void nestedBatchListTest() {
+        ObservableList<String> seq = FXCollections.observableArrayList();
+        final MockListObserver<String> observer = new MockListObserver<>();
+        seq.addListener(observer);
+
+        FXCollections.batch(seq, l -> {
+            l.add("a");
+            FXCollections.batch(l, l2 -> l2.add("b"));
+            observer.check0();
+            l.add("c");
+        });
+
+        assertEquals(List.of("a", "b", "c"), seq);
+        observer.check1AddRemove(seq, List.of(), 0, 3);
+    }
+
+    @Test
+    public void batchListFiresChangeWhenActionThrowsTest() {
+        ObservableList<String> seq = FXCollections.observableArrayList();
+        final MockListObserver<String> observer = new MockListObserver<>();
+        seq.addListener(observer);
+
+        assertThrows(IllegalStateException.class, () -> FXCollections.batch(seq, l -> {
+            l.add("a");
+            throw new IllegalStateException();
+        }));
+
+        observer.check1AddRemove(seq, List.of(), 0, 1);
+    }
+
+    @Test
+    public void batchCheckedAndSynchronizedListTest() {
+        ObservableList<String> seq = FXCollections.observableArrayList();
+        ObservableList<String> checked = FXCollections.checkedObservableList(seq, String.class);
+        ObservableList<String> sync = FXCollections.synchronizedObservableList(seq);
+        final int[] calls = new int[3];
+        seq.addListener((ListChangeListener<String>) c -> calls[0]++);
+        checked.addListener((ListChangeListener<String>) c -> calls[1]++);
+        sync.addListener((ListChangeListener<String>) c -> calls[2]++);
+
+        FXCollections.batch(checked, l -> {
+            l.add("a");
+            l.add("b");
+        });
+        FXCollections.batch(sync, l -> {
+            l.add("c");
+            l.add("d");
+        });
+
+        assertEquals(List.of("a", "b", "c", "d"), seq);
+        assertArrayEquals(new int[] {2, 2, 2}, calls);
+    }
+
+    @Test
+    public void batchListWithNullArgumentsTest() {
+        assertThrows(NullPointerException.class, () -> FXCollections.batch((ObservableList<String>) null, l -> {}));
+        assertThrows(NullPointerException.class,
+                () -> FXCollections.batch(FXCollections.observableArrayList(), (Consumer<ObservableList<Object>>) null));
+    }
+
+    @Test
+    public void batchMapTest() {
+        ObservableMap<String, Integer> map = FXCollections.observableHashMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        final List<String> changes = new ArrayList<>();
+        map.addListener((MapChangeListener<String, Integer>) c ->
+                changes.add(c.getKey() + ":" + c.getValueRemoved() + "->" + c.getValueAdded()));
+
+        FXCollections.batch(map, m -> {
+            m.put("a", 10);
+            m.put("a", 11);
+            m.remove("b");
+            m.put("d", 4);
+            m.put("e", 5);
+            m.remove("e");
+            m.put("c", 30);
+            m.put("c", 3);
+            assertTrue(changes.isEmpty());
+        });
+
+        assertEquals(Map.of("a", 11, "c", 3, "d", 4), map);
+        assertEquals(List.of("a:1->11", "b:2->null", "d:null->4"), changes);
+    }
+
+    @Test
+    public void batchCheckedAndSynchronizedMapTest() {
+        ObservableMap<String, Integer> map = FXCollections.observableHashMap();
+        ObservableMap<String, Integer> checked = FXCollections.checkedObservableMap(map, String.class, Integer.class);
+        ObservableMap<String, Integer> sync = FXCollections.synchronizedObservableMap(map);
+        final MockMapObserver<String, Integer> observer = new MockMapObserver<>();
+        final MockMapObserver<String, Integer> checkedObserver = new MockMapObserver<>();
+        final MockMapObserver<String, Integer> syncObserver = new MockMapObserver<>();
+        map.addListener(observer);
+        checked.addListener(checkedObserver);
+        sync.addListener(syncObserver);
+
+        FXCollections.batch(checked, m -> {
+            m.put("a", 1);
+            m.put("a", 2);
+        });
+        FXCollections.batch(sync, m -> {
+            m.put("b", 1);
+            m.put("b", 2);
+        });
+
+        assertEquals(2, observer.getCallsNumber());
+        assertEquals(2, checkedObserver.getCallsNumber());
+        assertEquals(2, syncObserver.getCallsNumber());
+    }
+
     @Test
     public void sortTest() {
         String[] content = new String[] {"one", "two", "three", "four", "five" };
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,13 +26,17 @@
 package test.javafx.collections;
 
 import com.sun.javafx.collections.ObservableListWrapper;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableListWrapperShim;
 import javafx.collections.transformation.FilteredList;
@@ -308,6 +312,110 @@ public class FilteredListTest {
         compareIndices();
     }
 
+    @Test
+    public void testNarrowPredicate() {
+        AtomicInteger tested = new AtomicInteger();
+        filteredList.narrowPredicate(e -> {
+            tested.incrementAndGet();
+            return e.equals("d");
+        });
+        assertEquals(2, tested.get());
+        assertEquals(Arrays.asList("d"), filteredList);
+        mlo.check1AddRemove(filteredList, Arrays.asList("a"), 0, 0);
+        compareIndices();
+    }
+
+    @Test
+    public void testNarrowPredicateWithoutRemoval() {
+        filteredList.narrowPredicate(e -> !e.equals("b"));
+        assertEquals(Arrays.asList("a", "d"), filteredList);
+        mlo.check0();
+        compareIndices();
+
+        // the source changes are filtered with the new predicate
+        list.add("b");
+        assertEquals(Arrays.asList("a", "d"), filteredList);
+        list.add("e");
+        assertEquals(Arrays.asList("a", "d", "e"), filteredList);
+        compareIndices();
+    }
+
+    @Test
+    public void testNarrowPredicateToNull() {
+        filteredList.narrowPredicate(null);
+        assertNull(filteredList.getPredicate());
+        assertEquals(list, filteredList);
+        mlo.check1AddRemove(filteredList, Arrays.asList("a", "d"), 0, 4);
+        compareIndices();
+    }
+
+    @Test
+    public void testNarrowPredicateRemovesSeveralRanges() {
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        for (int i = 0; i < 100; i++) {
+            source.add(i);
+        }
+        FilteredList<Integer> filtered = source.filtered(i -> i % 2 == 0);
+        List<Integer> mirror = new ArrayList<>(filtered);
+        filtered.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                assertFalse(c.wasAdded());
+                mirror.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+            }
+        });
+
+        filtered.narrowPredicate(i -> i % 2 == 0 && (i < 20 || i > 30) && i % 7 != 0);
+        List<Integer> expected = source.stream()
+                .filter(i -> i % 2 == 0 && (i < 20 || i > 30) && i % 7 != 0)
+                .collect(Collectors.toList());
+        assertEquals(expected, filtered);
+        assertEquals(expected, mirror);
+        compareIndices(filtered);
+    }
+
+    @Test
+    public void testNarrowPredicateWhenBound() {
+        ObjectProperty<Predicate<? super String>> pProperty = new SimpleObjectProperty<>();
+        filteredList.predicateProperty().bind(pProperty);
+        assertThrows(RuntimeException.class, () -> filteredList.narrowPredicate(e -> false));
+        assertNull(filteredList.getPredicate());
+
+        // narrowing does not leak into the next predicate change
+        pProperty.set(e -> e.equals("c"));
+        assertEquals(Arrays.asList("c", "c"), filteredList);
+        compareIndices();
+    }
+
+    @Test
+    public void testParallelFiltering() {
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        for (int i = 0; i < 100_000; i++) {
+            source.add(i);
+        }
+        FilteredList<Integer> filtered = source.filtered(null);
+        assertFalse(filtered.isParallelFiltering());
+        filtered.setParallelFiltering(true);
+        MockListObserver<Integer> observer = new MockListObserver<>();
+        filtered.addListener(observer);
+
+        filtered.setPredicate(i -> i % 3 == 0);
+        List<Integer> expected = source.stream().filter(i -> i % 3 == 0).collect(Collectors.toList());
+        assertEquals(expected, filtered);
+        observer.check1AddRemove(filtered, source, 0, expected.size());
+        compareIndices(filtered);
+
+        filtered.narrowPredicate(i -> i % 3 == 0 && i % 5 != 0);
+        expected = source.stream().filter(i -> i % 3 == 0 && i % 5 != 0).collect(Collectors.toList());
+        assertEquals(expected, filtered);
+        compareIndices(filtered);
+
+        source.remove(0, 50_000);
+        filtered.setPredicate(i -> i % 2 == 0);
+        expected = source.stream().filter(i -> i % 2 == 0).collect(Collectors.toList());
+        assertEquals(expected, filtered);
+        compareIndices(filtered);
+    }
+
     @Test
     public void testGetSourceIndexOutOfBounds() {
         assertThrows(IndexOutOfBoundsException.class, () -> filteredList.getSourceIndex(-1));
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Random;
 
 import javafx.beans.Observable;
 import javafx.beans.property.SimpleObjectProperty;
@@ -249,7 +250,7 @@ public class SortedListTest {
         ObservableList<Person> expected = FXCollections.observableArrayList(
                 new Person("five"), new Person("one"), new Person("three"),
                 new Person("two"), new Person("zero"));
-        listener.checkPermutation(0, expected, 0, list.size(), new int[]{0, 4, 1, 2, 3});
+        listener.checkPermutation(0, expected, 1, 5, new int[]{4, 1, 2, 3});
         listener.checkUpdate(1, expected, 4, 5);
         assertEquals(expected, sorted);
 
@@ -286,7 +287,7 @@ public class SortedListTest {
         ObservableList<Person> expected = FXCollections.observableArrayList(
                 new Person("five"), new Person("one"), new Person("three"),
                 new Person("two"), new Person("zero"));
-        listener.checkPermutation(0, expected, 0, expected.size(), new int[] {0, 4, 1, 2, 3});
+        listener.checkPermutation(0, expected, 1, 5, new int[] {4, 1, 2, 3});
         listener.checkUpdate(1, expected, 4, 5);
         assertEquals(expected, sorted);
         assertEquals(expected, unsorted);
@@ -321,6 +322,116 @@ public class SortedListTest {
         compareIndices(sorted);
     }
 
+    @Test
+    public void testMutableElementStillInOrder() {
+        ObservableList<Person> list = createPersonsList();
+        SortedList<Person> sorted = list.sorted();
+        MockListObserver<Person> listener = new MockListObserver<>();
+        sorted.addListener(listener);
+        list.get(2).name.set("seven"); // three -> seven, stays between one and two
+        ObservableList<Person> expected = FXCollections.observableArrayList(
+                new Person("five"), new Person("four"), new Person("one"),
+                new Person("seven"), new Person("two"));
+        listener.check1Update(expected, 3, 4);
+        assertEquals(expected, sorted);
+
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testMutableElementMovesToFront() {
+        ObservableList<Person> list = createPersonsList();
+        SortedList<Person> sorted = list.sorted();
+        MockListObserver<Person> listener = new MockListObserver<>();
+        sorted.addListener(listener);
+        list.get(0).name.set("alpha"); // one -> alpha
+        ObservableList<Person> expected = FXCollections.observableArrayList(
+                new Person("alpha"), new Person("five"), new Person("four"),
+                new Person("three"), new Person("two"));
+        listener.checkPermutation(0, expected, 0, 3, new int[] {1, 2, 0});
+        listener.checkUpdate(1, expected, 0, 1);
+        assertEquals(expected, sorted);
+
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testMutableElementKeepsOrderOfEqualElements() {
+        ObservableList<Person> list = FXCollections.observableArrayList(
+                (Person p) -> new Observable[]{p.name});
+        Person a = new Person("a");
+        Person b1 = new Person("b");
+        Person b2 = new Person("b");
+        Person c = new Person("c");
+        list.addAll(a, b1, b2, c);
+        SortedList<Person> sorted = list.sorted();
+        MockListObserver<Person> listener = new MockListObserver<>();
+        sorted.addListener(listener);
+
+        // equal to its new neighbors, does not move
+        a.name.set("b");
+        listener.check1Update(sorted, 0, 1);
+        assertSame(a, sorted.get(0));
+        listener.clear();
+
+        c.name.set("b");
+        listener.check1Update(sorted, 3, 4);
+        assertSame(c, sorted.get(3));
+        listener.clear();
+
+        // moves behind the elements it is equal to, which keep their order
+        a.name.set("c");
+        listener.checkPermutation(0, sorted, 0, 4, new int[] {3, 0, 1, 2});
+        listener.checkUpdate(1, sorted, 3, 4);
+        assertSame(b1, sorted.get(0));
+        assertSame(b2, sorted.get(1));
+        assertSame(c, sorted.get(2));
+        assertSame(a, sorted.get(3));
+
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testMutableElementsInSingleChange() {
+        Random random = new Random(7);
+        ObservableList<Person> list = FXCollections.observableArrayList(
+                (Person p) -> new Observable[]{p.name});
+        for (int i = 0; i < 200; i++) {
+            list.add(new Person(Integer.toString(random.nextInt(50))));
+        }
+        SortedList<Person> sorted = list.sorted();
+        List<Person> mirror = new ArrayList<>(sorted);
+        sorted.addListener((ListChangeListener<Person>) c -> {
+            while (c.next()) {
+                assertTrue(c.wasPermutated() || c.wasUpdated());
+                if (c.wasPermutated()) {
+                    List<Person> old = new ArrayList<>(mirror);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        mirror.set(c.getPermutation(i), old.get(i));
+                    }
+                }
+            }
+        });
+
+        for (int n = 0; n < 100; n++) {
+            int count = 1 + random.nextInt(n % 10 == 0 ? 100 : 5);
+            int from = random.nextInt(list.size() - count + 1);
+            FXCollections.batch(list, l -> {
+                for (int i = from; i < from + count; i++) {
+                    l.get(i).name.set(Integer.toString(random.nextInt(50)));
+                }
+            });
+
+            for (int i = 0; i < sorted.size(); i++) {
+                assertSame(sorted.get(i), mirror.get(i));
+                if (i > 0) {
+                    assertTrue(sorted.get(i - 1).compareTo(sorted.get(i)) <= 0);
+                }
+            }
+            compareIndices(sorted);
+        }
+    }
+
     private ObservableList<Person> createPersonsList() {
         ObservableList<Person> list = FXCollections.observableArrayList(
                 (Person p) -> new Observable[]{p.name});
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.scene.control;
+
+import java.util.Arrays;
+
+/**
+ * A sparse cache of cell sizes, indexed by item index, that supports prefix
+ * sums in logarithmic time.
+ *
+ * <p>Each entry is either known (a size has been measured and stored) or
+ * unknown. Offsets are computed by substituting a caller-supplied estimate for
+ * every unknown entry, which is how {@code VirtualFlow} positions cells it has
+ * not measured yet.</p>
+ *
+ * <p>The sizes are kept in a pair of Fenwick (binary indexed) trees backed by
+ * primitive arrays: one holding the sum of the known sizes and one holding the
+ * number of known entries. This makes {@link #set(int, double)},
+ * {@link #getOffset(int, double)} and {@link #getIndexAt(double, double, int)}
+ * run in O(log n), without boxing.</p>
+ *
+ * <p>The {@link #size() size} of the cache is the index of the highest entry
+ * that has ever been set, plus one. Entries at or beyond the size are unknown.</p>
+ */
+public final class CellSizeIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // the raw sizes, NaN for unknown entries
+    private double[] sizes;
+
+    // Fenwick trees (1-based) over the known sizes and the known entry count
+    private double[] sumTree;
+    private int[] countTree;
+
+    private int size;
+
+    public CellSizeIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the number of entries in this cache, known or not.
+     * @return the index of the highest entry that was set, plus one
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the size stored for the given index.
+     * @param index the index
+     * @return the stored size, or -1 if the size at this index is unknown
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            return -1;
+        }
+        double value = sizes[index];
+        return Double.isNaN(value) ? -1 : value;
+    }
+
+    /**
+     * Returns whether a size is known for the given index.
+     * @param index the index
+     * @return true if a size has been stored for this index
+     */
+    public boolean isKnown(int index) {
+        return index >= 0 && index < size && !Double.isNaN(sizes[index]);
+    }
+
+    /**
+     * Stores the size for the given index, growing the cache if needed.
+     * @param index the index, must not be negative
+     * @param value the size, must not be negative
+     */
+    public void set(int index, double value) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (index >= sizes.length) {
+            grow(index + 1);
+        }
+        if (index >= size) {
+            size = index + 1;
+        }
+
+        double old = sizes[index];
+        sizes[index] = value;
+
+        double sumDelta;
+        int countDelta;
+        if (Double.isNaN(old)) {
+            sumDelta = value;
+            countDelta = 1;
+        } else {
+            if (old == value) {
+                return;
+            }
+            sumDelta = value - old;
+            countDelta = 0;
+        }
+
+        for (int i = index + 1; i < sumTree.length; i += i & -i) {
+            sumTree[i] += sumDelta;
+            countTree[i] += countDelta;
+        }
+    }
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public void clear() {
+        if (sizes.length > INITIAL_CAPACITY) {
+            allocate(INITIAL_CAPACITY);
+        } else {
+            Arrays.fill(sizes, Double.NaN);
+            Arrays.fill(sumTree, 0);
+            Arrays.fill(countTree, 0);
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the sum of the known sizes in the range {@code [0, end)}.
+     * @param end the exclusive end index
+     * @return the sum of the known sizes
+     */
+    public double getKnownSum(int end) {
+        double sum = 0;
+        for (int i = Math.min(end, size); i > 0; i -= i & -i) {
+            sum += sumTree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of known sizes in the range {@code [0, end)}.
+     * @param end the exclusive end index
+     * @return the number of known sizes
+     */
+    public int getKnownCount(int end) {
+        int count = 0;
+        for (int i = Math.min(end, size); i > 0; i -= i & -i) {
+            count += countTree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the offset of the start of the entry at the given index, that is
+     * the sum of the sizes in the range {@code [0, index)}, using
+     * {@code estimate} for every unknown size.
+     * @param index the index
+     * @param estimate the size to use for unknown entries
+     * @return the offset of the entry
+     */
+    public double getOffset(int index, double estimate) {
+        if (index <= 0) {
+            return 0;
+        }
+        int end = Math.min(index, size);
+
+        // Walk the tree top-down so that the partial sums are accumulated in
+        // exactly the same order as in getIndexAt().
+        double sum = 0;
+        int count = 0;
+        int pos = 0;
+        for (int step = Integer.highestOneBit(end); step != 0; step >>= 1) {
+            if ((end & step) != 0) {
+                pos += step;
+                sum += sumTree[pos];
+                count += countTree[pos];
+            }
+        }
+        double offset = sum + (end - count) * estimate;
+        if (index > end) {
+            offset += (index - end) * estimate;
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the index of the entry that contains the given offset, among the
+     * first {@code count} entries, using {@code estimate} for every unknown
+     * size. This is the lowest index {@code i} for which
+     * {@code getOffset(i + 1, estimate) > offset}.
+     * @param offset the offset
+     * @param estimate the size to use for unknown entries
+     * @param count the number of entries to consider
+     * @return the index of the entry, or {@code count} if the offset lies
+     * beyond the end of the last entry
+     */
+    public int getIndexAt(double offset, double estimate, int count) {
+        if (count <= 0) {
+            return count;
+        }
+        if (!(estimate > 0)) {
+            // only non-negative sizes keep the offsets monotonic
+            estimate = 0;
+        }
+        int end = Math.min(count, size);
+
+        // find the largest pos such that getOffset(pos) <= offset
+        double sum = 0;
+        int known = 0;
+        int pos = 0;
+        for (int step = Integer.highestOneBit(Math.max(end, 1)); step != 0; step >>= 1) {
+            int next = pos + step;
+            if (next > end) {
+                continue;
+            }
+            double nextSum = sum + sumTree[next];
+            int nextKnown = known + countTree[next];
+            if (!(nextSum + (next - nextKnown) * estimate > offset)) {
+                pos = next;
+                sum = nextSum;
+                known = nextKnown;
+            }
+        }
+        if (pos < end) {
+            return pos;
+        }
+
+        // the offset lies beyond the cached entries, all remaining entries
+        // have the estimated size
+        double base = sum + (end - known) * estimate;
+        if (end == count || Double.isNaN(offset)) {
+            return count;
+        }
+        if (estimate == 0) {
+            return base > offset ? end : count;
+        }
+        double steps = Math.max(0, Math.floor((offset - base) / estimate));
+        return steps >= count - end ? count : end + (int) steps;
+    }
+
+    private void allocate(int capacity) {
+        sizes = new double[capacity];
+        Arrays.fill(sizes, Double.NaN);
+        sumTree = new double[capacity + 1];
+        countTree = new int[capacity + 1];
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = sizes.length;
+        while (capacity < minCapacity) {
+            capacity = capacity > (Integer.MAX_VALUE >> 1) ? Integer.MAX_VALUE - 8 : capacity << 1;
+        }
+        double[] oldSizes = sizes;
+        allocate(capacity);
+        System.arraycopy(oldSizes, 0, sizes, 0, oldSizes.length);
+
+        // rebuild both trees in linear time
+        for (int i = 1; i <= capacity; i++) {
+            double value = sizes[i - 1];
+            if (!Double.isNaN(value)) {
+                sumTree[i] += value;
+                countTree[i] += 1;
+            }
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                sumTree[parent] += sumTree[i];
+                countTree[parent] += countTree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.scene.control;
+
+import java.util.Arrays;
+
+/**
+ * A list of non-negative row counts that supports prefix sums and searching
+ * by row in logarithmic time.
+ *
+ * <p>{@code TreeItem} keeps one of these for its children, each entry holding
+ * the number of rows that the child and its expanded descendants occupy. This
+ * lets {@code TreeView} and {@code TreeTableView} map between rows and tree
+ * items by descending the tree, without summing the counts of all the
+ * siblings on the way.</p>
+ *
+ * <p>The counts are kept in a Fenwick (binary indexed) tree backed by a
+ * primitive array, next to the raw counts.</p>
+ */
+public final class RowCountIndex {
+
+    private int[] counts;
+
+    // Fenwick tree (1-based) over the counts
+    private int[] tree;
+
+    private int size;
+
+    private int total;
+
+    /**
+     * Creates an index holding the given counts.
+     * @param counts the counts, which are copied, none may be negative
+     * @param size the number of counts to use from the array
+     */
+    public RowCountIndex(int[] counts, int size) {
+        setAll(counts, size);
+    }
+
+    /**
+     * Replaces all the counts of this index, in linear time.
+     * @param counts the counts, which are copied, none may be negative
+     * @param size the number of counts to use from the array
+     */
+    public void setAll(int[] counts, int size) {
+        if (this.counts == null || this.counts.length < size) {
+            this.counts = new int[size];
+            this.tree = new int[size + 1];
+        } else {
+            Arrays.fill(this.tree, 0);
+        }
+        System.arraycopy(counts, 0, this.counts, 0, size);
+        this.size = size;
+
+        int sum = 0;
+        for (int i = 1; i <= size; i++) {
+            int count = counts[i - 1];
+            sum += count;
+            tree[i] += count;
+            int parent = i + (i & -i);
+            if (parent <= size) {
+                tree[parent] += tree[i];
+            }
+        }
+        total = sum;
+    }
+
+    /**
+     * Returns the number of counts in this index.
+     * @return the number of counts
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the sum of all the counts.
+     * @return the sum of all the counts
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the count at the given index.
+     * @param index the index
+     * @return the count
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return counts[index];
+    }
+
+    /**
+     * Changes the count at the given index.
+     * @param index the index
+     * @param count the new count, must not be negative
+     */
+    public void set(int index, int count) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int delta = count - counts[index];
+        if (delta == 0) {
+            return;
+        }
+        counts[index] = count;
+        total += delta;
+        for (int i = index + 1; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the sum of the counts in the range {@code [0, end)}.
+     * @param end the exclusive end index
+     * @return the sum of the counts before {@code end}
+     */
+    public int getSum(int end) {
+        int sum = 0;
+        for (int i = Math.min(end, size); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the index of the entry that contains the given row, when the
+     * entries are laid out one after the other, each spanning as many rows as
+     * its count. This is the lowest index {@code i} for which
+     * {@code getSum(i + 1) > row}; entries with a count of zero are never
+     * returned.
+     * @param row the row, relative to the start of the first entry
+     * @return the index of the entry, or -1 if the row is negative or not
+     * smaller than the {@link #getTotal() total}
+     */
+    public int getIndexAt(int row) {
+        if (row < 0 || row >= total) {
+            return -1;
+        }
+
+        // find the largest pos such that getSum(pos) <= row
+        int pos = 0;
+        int remaining = row;
+        for (int step = Integer.highestOneBit(size); step != 0; step >>= 1) {
+            int next = pos + step;
+            if (next <= size && tree[next] <= remaining) {
+                pos = next;
+                remaining -= tree[next];
+            }
+        }
+        return pos;
+    }
+}
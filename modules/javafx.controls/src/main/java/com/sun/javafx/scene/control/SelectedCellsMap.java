@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,201 +24,1169 @@
  */
 package com.sun.javafx.scene.control;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
+import javafx.scene.control.TableColumnBase;
 import javafx.scene.control.TablePositionBase;
 
+import com.sun.javafx.collections.NonIterableChange;
+
 import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.UnaryOperator;
 
 /**
  * Implementation code used by the TableSelectionModel implementations. In short
  * this code exists to speed up some common use cases which were incredibly
  * slow in the old approach. The old approach essentially required a lot of
- * iterating through the selectedCells list. The new approach is to keep this
- * list for what it is good for (representing selection order primarily), and
- * introduce a Map<Integer, BitSet> to speed up the slow parts - namely looking
- * up whether a given row/column intersection is selected or not.
+ * iterating through the selectedCells list, which held a position for every
+ * selected cell.
+ *
+ * The selection is now kept as a list of blocks, sorted by row, each of which
+ * selects the same columns in a range of rows. Selecting all the cells of a
+ * table, or a rectangular range of them, adds a single block; selecting or
+ * deselecting one cell splits the block of its row, and the blocks of adjacent
+ * rows that select the same columns are merged again. Looking up whether a
+ * given row/column intersection is selected is a binary search over the
+ * blocks.
+ *
+ * The positions of the selected cells are created when they are asked for,
+ * sorted by row, then by column. The lists of cells handed out by this class
+ * implement {@link RowAddressableList}, so that the rows of the cells can be
+ * walked without creating them.
  *
- * Note that a map that contains an empty bitset is used to represent that the
- * row is selected.
+ * Note that a row in which only a position without a column is selected is a
+ * selected row.
  *
  * Refer to JDK-8123472 for more information on this issue.
  */
 // T == TablePosition<S,?>
 public abstract class SelectedCellsMap<T extends TablePositionBase> {
-    private final ObservableList<T> selectedCells;
-    private final ObservableList<T> sortedSelectedCells;
 
-    private final Map<Integer, BitSet> selectedCellBitSetMap;
+    private final ListChangeListener<T> listener;
 
-    public SelectedCellsMap(final ListChangeListener<T> listener) {
-        selectedCells = FXCollections.<T>observableArrayList();
-        sortedSelectedCells = new SortedList<>(selectedCells, (T o1, T o2) -> {
-            int result = o1.getRow() - o2.getRow();
-            return result == 0 ? (o1.getColumn() - o2.getColumn()) : result;
-        });
-        sortedSelectedCells.addListener(listener);
+    // the selection, as disjoint blocks sorted by row
+    private final List<Block> blocks = new ArrayList<>();
+
+    // the index of the first cell of each block, of which only the first
+    // validOffsets are up to date
+    private int[] offsets = new int[8];
+    private int validOffsets;
+
+    private int size;
 
-        selectedCellBitSetMap = new TreeMap<>((o1, o2) -> o1.compareTo(o2));
+    private final Selection<T> selection = new Selection<>(this);
+
+    // a view of the selected cells, used as the list of the change events
+    private final CellsView cellsView = new CellsView();
+
+    public SelectedCellsMap(final ListChangeListener<T> listener) {
+        this.listener = listener;
     }
 
     public abstract boolean isCellSelectionEnabled();
 
+    /**
+     * Creates the position of a selected cell.
+     * @param row the row of the cell
+     * @param column the column of the cell, or null for a row
+     * @param columnIndex the column index of the cell when it was selected, or
+     *      -1 if the column was not visible
+     * @return the position
+     */
+    protected abstract T createPosition(int row, TableColumnBase<?,?> column, int columnIndex);
+
     public int size() {
-        return selectedCells.size();
+        return size;
     }
 
     public T get(int i) {
         if (i < 0) {
             return null;
         }
-        return sortedSelectedCells.get(i);
+        return selection.get(i);
     }
 
     public void add(T tp) {
+        CellsChange change = new CellsChange();
+        apply(tp.getRow(), tp.getRow() + 1, columns -> withCell(columns, tp.getTableColumn(), tp.getColumn()), change);
+        change.fire();
+    }
+
+    public void addAll(Collection<T> cells) {
+        // the rows and columns of the cells that were not selected yet
+        List<T> added = new ArrayList<>();
+        for (T tp : cells) {
+            int row = tp.getRow();
+            Columns columns = selection.columnsOf(row);
+            if (withCell(columns, tp.getTableColumn(), tp.getColumn()) != columns) {
+                apply(row, row + 1, c -> withCell(c, tp.getTableColumn(), tp.getColumn()), null);
+                added.add(tp);
+            }
+        }
+
+        int[] indices = new int[added.size()];
+        for (int i = 0; i < indices.length; i++) {
+            T tp = added.get(i);
+            indices[i] = selection.indexOf(tp.getRow(), tp.getTableColumn(), tp.getColumn());
+        }
+        Arrays.sort(indices);
+
+        CellsChange change = new CellsChange();
+        for (int index : indices) {
+            change.add(index, index + 1, List.of());
+        }
+        change.fire();
+    }
+
+    /**
+     * Selects the columns of the given cells in each of the rows
+     * {@code [fromRow, toRow)}, in addition to the cells that are already
+     * selected. Only the columns of the cells are used, not their rows.
+     * @param fromRow the first row, inclusive
+     * @param toRow the last row, exclusive
+     * @param cells the cells of one row
+     */
+    public void addRange(int fromRow, int toRow, List<T> cells) {
+        Columns template = withCells(Columns.EMPTY, cells);
+        CellsChange change = new CellsChange();
+        apply(fromRow, toRow, columns -> withCells(columns, template), change);
+        change.fire();
+    }
+
+    public void setAll(Collection<T> cells) {
+        Snapshot<T> removed = snapshot();
+
+        blocks.clear();
+        validOffsets = 0;
+        size = 0;
+        if (cells instanceof Snapshot<?> s && s.map == this) {
+            blocks.addAll(Arrays.asList(s.blocks));
+            size = s.size();
+        } else {
+            for (T tp : cells) {
+                apply(tp.getRow(), tp.getRow() + 1, columns -> withCell(columns, tp.getTableColumn(), tp.getColumn()), null);
+            }
+        }
+
+        fireReplaced(removed);
+    }
+
+    /**
+     * Selects the columns of the given cells in each of the rows
+     * {@code [fromRow, toRow)}, replacing the current selection.
+     * @param fromRow the first row, inclusive
+     * @param toRow the last row, exclusive
+     * @param cells the cells of one row
+     */
+    public void setRange(int fromRow, int toRow, List<T> cells) {
+        Snapshot<T> removed = snapshot();
+
+        blocks.clear();
+        validOffsets = 0;
+        size = 0;
+        Columns columns = withCells(Columns.EMPTY, cells);
+        if (fromRow < toRow && !columns.isEmpty()) {
+            blocks.add(new Block(fromRow, toRow, columns));
+            size = (toRow - fromRow) * columns.size();
+        }
+
+        fireReplaced(removed);
+    }
+
+    public void remove(T tp) {
         final int row = tp.getRow();
-        final int columnIndex = tp.getColumn();
-
-        // update the bitset map
-        boolean isNewBitSet = false;
-        BitSet bitset;
-        if (! selectedCellBitSetMap.containsKey(row)) {
-            bitset = new BitSet();
-            selectedCellBitSetMap.put(row, bitset);
-            isNewBitSet = true;
+        final Columns columns = selection.columnsOf(row);
+        final int i = columns.find(tp.getTableColumn());
+        if (i < 0) {
+            return;
+        }
+
+        final T removed = createPosition(row, columns.columns[i], columns.indices[i]);
+        final int index = selection.indexOfRow(row) + i;
+        apply(row, row + 1, c -> c.without(i), null);
+
+        CellsChange change = new CellsChange();
+        change.add(index, index, List.of(removed));
+        change.fire();
+    }
+
+    /**
+     * Deselects all the cells of the given row.
+     * @param row the row
+     */
+    public void removeRow(int row) {
+        CellsChange change = new CellsChange();
+        apply(row, row + 1, columns -> Columns.EMPTY, change);
+        change.fire();
+    }
+
+    /**
+     * Moves the cells of a row to another row when the rows of the table are
+     * shifted, without notifying the listener. The cells of the other row are
+     * deselected if the row has no selected cells.
+     * @param fromRow the row whose cells are moved
+     * @param toRow the row the cells are moved to
+     */
+    public void shiftRow(int fromRow, int toRow) {
+        Columns moved = selection.columnsOf(fromRow);
+        apply(fromRow, fromRow + 1, columns -> Columns.EMPTY, null);
+        apply(toRow, toRow + 1, columns -> moved.isEmpty() ? Columns.EMPTY : withCells(columns, moved), null);
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Snapshot<T> removed = snapshot();
+
+        blocks.clear();
+        validOffsets = 0;
+        size = 0;
+
+        listener.onChanged(new NonIterableChange.GenericAddRemoveChange<>(0, 0, removed, cellsView));
+    }
+
+    public boolean isSelected(int row, int columnIndex) {
+        Columns columns = selection.columnsOf(row);
+        if (columnIndex < 0) {
+            return !columns.isEmpty();
         } else {
-            bitset = selectedCellBitSetMap.get(row);
+            return columns.findIndex(columnIndex) >= 0;
         }
+    }
+
+    public int indexOf(T tp) {
+        return selection.indexOf(tp);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a copy of the selected cells, in sorted order. Only the blocks
+     * of the selection are copied, not its cells.
+     * @return a copy of the selected cells
+     */
+    public Snapshot<T> snapshot() {
+        return new Snapshot<>(this, blocks);
+    }
+
+    /**
+     * Returns a view of a range of the selected cells.
+     * @param fromIndex the index of the first cell, inclusive
+     * @param toIndex the index of the last cell, exclusive
+     * @return the cells
+     */
+    public List<T> subList(int fromIndex, int toIndex) {
+        return cellsView.subList(fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the selection after moving each selected row in the range
+     * {@code [fromRow, fromRow + newRows.length)} to its new row. The selected
+     * rows outside of the range are not moved. The selection itself is not
+     * changed.
+     * @param fromRow the first row of the range
+     * @param newRows the new row of each row of the range
+     * @return the permuted selection, or null if no selected row is moved
+     */
+    public List<T> permuteRows(int fromRow, int[] newRows) {
+        final int toRow = fromRow + newRows.length;
+        final List<Block> permuted = new ArrayList<>();
+        boolean moved = false;
+
+        // the block being built from consecutive new rows
+        int pieceFrom = 0;
+        int pieceTo = 0;
+        Columns pieceColumns = null;
 
-        final boolean cellSelectionModeEnabled = isCellSelectionEnabled();
+        for (Block block : blocks) {
+            if (block.to <= fromRow || block.from >= toRow) {
+                permuted.add(block);
+                continue;
+            }
+            if (block.from < fromRow) {
+                permuted.add(new Block(block.from, fromRow, block.columns));
+            }
+            if (block.to > toRow) {
+                permuted.add(new Block(toRow, block.to, block.columns));
+            }
+            for (int row = Math.max(block.from, fromRow), end = Math.min(block.to, toRow); row < end; row++) {
+                int newRow = newRows[row - fromRow];
+                moved |= newRow != row;
+                if (pieceColumns == block.columns && pieceTo == newRow) {
+                    pieceTo++;
+                } else {
+                    if (pieceColumns != null) {
+                        permuted.add(new Block(pieceFrom, pieceTo, pieceColumns));
+                    }
+                    pieceFrom = newRow;
+                    pieceTo = newRow + 1;
+                    pieceColumns = block.columns;
+                }
+            }
+        }
+        if (pieceColumns != null) {
+            permuted.add(new Block(pieceFrom, pieceTo, pieceColumns));
+        }
 
-        if (cellSelectionModeEnabled) {
-            if (columnIndex >= 0) {
-                boolean isAlreadySet = bitset.get(columnIndex);
+        if (!moved) {
+            return null;
+        }
+        permuted.sort(Comparator.comparingInt(block -> block.from));
+        return new Snapshot<>(this, merge(permuted));
+    }
 
-                if (!isAlreadySet) {
-                    bitset.set(columnIndex);
+    /**
+     * Returns the cells of a snapshot that are not selected anymore. Only the
+     * blocks of the snapshot and of the selection are compared, not their
+     * cells.
+     * @param snapshot a list returned by {@link #snapshot()}
+     * @return the cells that were deselected since the snapshot was taken
+     */
+    public List<T> removedSince(List<T> snapshot) {
+        final List<Block> removed = new ArrayList<>();
+        final Map<Columns, Map<Columns, Columns>> differences = new IdentityHashMap<>();
 
-                    // add into the list
-                    selectedCells.add(tp);
+        int current = 0;
+        for (Block block : ((Snapshot<T>) snapshot).blocks) {
+            // compare the block with each block (or gap) of the selection it overlaps
+            int row = block.from;
+            current = selection.firstBlockEndingAfter(row, current);
+            while (row < block.to) {
+                Block selected = current < blocks.size() ? blocks.get(current) : null;
+                int end;
+                Columns columns;
+                if (selected != null && selected.from <= row) {
+                    end = Math.min(block.to, selected.to);
+                    columns = selected.columns;
+                } else {
+                    end = selected != null ? Math.min(block.to, selected.from) : block.to;
+                    columns = Columns.EMPTY;
+                }
+                Columns difference = differences
+                        .computeIfAbsent(block.columns, k -> new IdentityHashMap<>())
+                        .computeIfAbsent(columns, block.columns::minus);
+                removed.add(new Block(row, end, difference));
+                if (selected != null && end == selected.to) {
+                    current++;
                 }
+                row = end;
+            }
+        }
+        return new Snapshot<>(this, merge(removed));
+    }
+
+    /**
+     * Returns the index of the first cell of the given row in a snapshot.
+     * The cells of the snapshot are not created to find it.
+     * @param <T> the type of the positions
+     * @param snapshot a list returned by {@link #snapshot()}
+     * @param row the row
+     * @return the index of the cell, or -1 if no cell of the row is in the snapshot
+     */
+    public static <T extends TablePositionBase> int indexOfRow(List<T> snapshot, int row) {
+        return ((RowAddressableList<T>) snapshot).indexOfRow(row);
+    }
+
+    /**
+     * Removes the cell at the given index from a snapshot. The snapshot is not
+     * copied: the returned list is a view of it without the cell.
+     * @param <T> the type of the positions
+     * @param snapshot a list returned by {@link #snapshot()}
+     * @param index the index of the cell, or -1 to remove nothing
+     * @return the snapshot without the cell
+     */
+    public static <T extends TablePositionBase> List<T> removeFromSnapshot(List<T> snapshot, int index) {
+        if (index < 0) {
+            return snapshot;
+        }
+        return new WithoutCell<>((RowAddressableList<T>) snapshot, index);
+    }
+
+    /**
+     * Calls the action once for each row of the given cells, in the order in
+     * which the rows first appear. The rows of a {@link RowAddressableList}
+     * are walked without creating its cells.
+     * @param cells the cells
+     * @param action the action
+     */
+    public static void forEachRow(List<? extends TablePositionBase<?>> cells, IntConsumer action) {
+        if (cells instanceof RowAddressableList<?> list) {
+            for (int i = 0, max = list.size(); i < max; i = list.nextRowIndex(i)) {
+                action.accept(list.getRow(i));
+            }
+            return;
+        }
+
+        BitSet rows = new BitSet();
+        List<Integer> negativeRows = null;
+        for (TablePositionBase<?> cell : cells) {
+            int row = cell.getRow();
+            if (row >= 0) {
+                if (rows.get(row)) continue;
+                rows.set(row);
             } else {
-                // FIXME slow path (for now)
-                if (!selectedCells.contains(tp)) {
-                    selectedCells.add(tp);
+                if (negativeRows == null) {
+                    negativeRows = new ArrayList<>();
+                } else if (negativeRows.contains(row)) {
+                    continue;
                 }
+                negativeRows.add(row);
             }
-        } else {
-            if (isNewBitSet) {
-                if (columnIndex >= 0) {
-                    bitset.set(columnIndex);
+            action.accept(row);
+        }
+    }
+
+    /**
+     * A list of cells sorted by row, whose rows are known without creating
+     * the cells.
+     * @param <T> the type of the positions
+     */
+    public interface RowAddressableList<T> extends List<T> {
+        /**
+         * Returns the row of the cell at the given index, without creating it.
+         * @param index the index of the cell
+         * @return the row of the cell
+         */
+        int getRow(int index);
+
+        /**
+         * Returns the index of the first cell after the given one that is in
+         * another row.
+         * @param index the index of a cell
+         * @return the index of the first cell of the next row, or the size of
+         *      the list if the cell is in the last row
+         */
+        int nextRowIndex(int index);
+
+        /**
+         * Returns the index of the first cell of the given row.
+         * @param row the row
+         * @return the index of the cell, or -1 if no cell of the row is in the list
+         */
+        int indexOfRow(int row);
+    }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Implementation                                                          *
+     *                                                                         *
+     **************************************************************************/
+
+    // Replaces the columns of each of the rows [fromRow, toRow) by the result of
+    // the function, which is called once per distinct columns, and records the
+    // cells that were added or removed in the change, if any.
+    private void apply(int fromRow, int toRow, UnaryOperator<Columns> function, CellsChange change) {
+        if (fromRow >= toRow) {
+            return;
+        }
+
+        final Map<Columns, Columns> results = new IdentityHashMap<>();
+        final List<Block> pieces = new ArrayList<>();
+        final List<Update> updates = new ArrayList<>();
+
+        int start = selection.firstBlockEndingAfter(fromRow, 0);
+        int end = start;
+        int row = fromRow;
+        while (row < toRow) {
+            Block block = end < blocks.size() ? blocks.get(end) : null;
+            if (block != null && block.from <= row) {
+                int pieceEnd = Math.min(block.to, toRow);
+                Columns columns = results.computeIfAbsent(block.columns, function);
+                if (block.from < row) {
+                    pieces.add(new Block(block.from, row, block.columns));
+                }
+                pieces.add(new Block(row, pieceEnd, columns));
+                if (block.to > pieceEnd) {
+                    pieces.add(new Block(pieceEnd, block.to, block.columns));
+                }
+                if (!columns.equals(block.columns)) {
+                    updates.add(new Update(row, pieceEnd, block.columns, columns));
+                }
+                row = pieceEnd;
+                end++;
+            } else {
+                int pieceEnd = block != null ? Math.min(block.from, toRow) : toRow;
+                Columns columns = results.computeIfAbsent(Columns.EMPTY, function);
+                if (!columns.isEmpty()) {
+                    pieces.add(new Block(row, pieceEnd, columns));
+                    updates.add(new Update(row, pieceEnd, Columns.EMPTY, columns));
                 }
-                selectedCells.add(tp);
+                row = pieceEnd;
+            }
+        }
+
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        // the neighbouring blocks may now be merged with the new ones
+        if (start > 0) {
+            pieces.add(0, blocks.get(--start));
+        }
+        if (end < blocks.size()) {
+            pieces.add(blocks.get(end++));
+        }
+        blocks.subList(start, end).clear();
+        blocks.addAll(start, merge(pieces));
+        validOffsets = Math.min(validOffsets, start);
+
+        for (Update update : updates) {
+            size += (update.to - update.from) * (update.after.size() - update.before.size());
+        }
+
+        if (change != null) {
+            for (Update update : updates) {
+                record(update, change);
             }
         }
     }
 
-    public void addAll(Collection<T> cells) {
-        // update bitset
-        for (T tp : cells) {
-            final int row = tp.getRow();
-            final int columnIndex = tp.getColumn();
-
-            // update the bitset map
-            BitSet bitset;
-            if (! selectedCellBitSetMap.containsKey(row)) {
-                bitset = new BitSet();
-                selectedCellBitSetMap.put(row, bitset);
+    // Records the cells added and removed by an update of the selection, in
+    // the coordinates of the updated selection
+    private void record(Update update, CellsChange change) {
+        final Columns before = update.before;
+        final Columns after = update.after;
+        final int start = cellsBefore(update.from);
+
+        if (before.isEmpty()) {
+            change.add(start, start + (update.to - update.from) * after.size(), List.of());
+            return;
+        }
+        if (after.isEmpty()) {
+            change.add(start, start, new Snapshot<>(this, List.of(new Block(update.from, update.to, before))));
+            return;
+        }
+
+        final boolean added = after.containsAll(before);
+        final boolean removed = before.containsAll(after);
+        for (int row = update.from; row < update.to; row++) {
+            int rowStart = start + (row - update.from) * after.size();
+            if (added) {
+                for (int i = 0; i < after.size(); i++) {
+                    if (before.find(after.columns[i], after.indices[i]) < 0) {
+                        change.add(rowStart + i, rowStart + i + 1, List.of());
+                    }
+                }
+            } else if (removed) {
+                int kept = 0;
+                for (int i = 0; i < before.size(); i++) {
+                    if (after.find(before.columns[i], before.indices[i]) >= 0) {
+                        kept++;
+                    } else {
+                        change.add(rowStart + kept, rowStart + kept,
+                                List.of(createPosition(row, before.columns[i], before.indices[i])));
+                    }
+                }
             } else {
-                bitset = selectedCellBitSetMap.get(row);
+                change.add(rowStart, rowStart + after.size(),
+                        new Snapshot<>(this, List.of(new Block(row, row + 1, before))));
             }
+        }
+    }
 
-            if (columnIndex < 0) {
-                continue;
+    // Returns the number of selected cells in the rows before the given row
+    private int cellsBefore(int row) {
+        int i = selection.firstBlockEndingAfter(row, 0);
+        if (i == blocks.size()) {
+            return size;
+        }
+        Block block = blocks.get(i);
+        return offset(i) + Math.max(0, row - block.from) * block.columns.size();
+    }
+
+    // Returns the index of the first cell of the given block, or the size of
+    // the selection for the block after the last one
+    private int offset(int block) {
+        if (block == blocks.size()) {
+            return size;
+        }
+        if (block >= validOffsets) {
+            if (offsets.length < blocks.size()) {
+                offsets = Arrays.copyOf(offsets, Math.max(offsets.length * 2, blocks.size()));
             }
+            int offset = validOffsets == 0 ? 0 : offsets[validOffsets - 1] + blocks.get(validOffsets - 1).size();
+            for (int i = validOffsets; i <= block; i++) {
+                offsets[i] = offset;
+                offset += blocks.get(i).size();
+            }
+            validOffsets = block + 1;
+        }
+        return offsets[block];
+    }
+
+    private void fireReplaced(Snapshot<T> removed) {
+        if (!removed.isEmpty() || size > 0) {
+            listener.onChanged(new NonIterableChange.GenericAddRemoveChange<>(0, size, removed, cellsView));
+        }
+    }
 
-            bitset.set(columnIndex);
+    // Returns the given columns with the given column added, following the
+    // selection mode: in cell selection mode a cell is added unless its column
+    // index (or, without a column index, its column) is already selected, and
+    // in row selection mode only the first cell of a row is kept
+    private Columns withCell(Columns columns, TableColumnBase<?,?> column, int columnIndex) {
+        if (!isCellSelectionEnabled()) {
+            return columns.isEmpty() ? columns.with(column, columnIndex) : columns;
         }
+        boolean selected = columnIndex >= 0 ? columns.findIndex(columnIndex) >= 0 : columns.find(column) >= 0;
+        return selected ? columns : columns.with(column, columnIndex);
+    }
 
-        // add into the list
-        selectedCells.addAll(cells);
+    private Columns withCells(Columns columns, Columns added) {
+        for (int i = 0; i < added.size(); i++) {
+            columns = withCell(columns, added.columns[i], added.indices[i]);
+        }
+        return columns;
     }
 
-    public void setAll(Collection<T> cells) {
-        // update bitset
-        selectedCellBitSetMap.clear();
+    private Columns withCells(Columns columns, List<T> cells) {
         for (T tp : cells) {
-            final int row = tp.getRow();
-            final int columnIndex = tp.getColumn();
-
-            // update the bitset map
-            BitSet bitset;
-            if (! selectedCellBitSetMap.containsKey(row)) {
-                bitset = new BitSet();
-                selectedCellBitSetMap.put(row, bitset);
+            columns = withCell(columns, tp.getTableColumn(), tp.getColumn());
+        }
+        return columns;
+    }
+
+    // Drops the empty blocks of a list sorted by row, and merges the adjacent
+    // blocks that select the same columns
+    private static List<Block> merge(List<Block> blocks) {
+        List<Block> merged = new ArrayList<>(blocks.size());
+        for (Block block : blocks) {
+            if (block.from >= block.to || block.columns.isEmpty()) {
+                continue;
+            }
+            Block last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && last.to == block.from && last.columns.equals(block.columns)) {
+                merged.set(merged.size() - 1, new Block(last.from, block.to, last.columns));
             } else {
-                bitset = selectedCellBitSetMap.get(row);
+                merged.add(block);
             }
+        }
+        return merged;
+    }
 
-            if (columnIndex < 0) {
-                continue;
+    // The columns selected in each row of a block, sorted by column index. Each
+    // column is kept with the index it had when it was selected, which is -1 if
+    // it was not visible (or for a position without a column).
+    private static final class Columns {
+        static final Columns EMPTY = new Columns(new int[0], new TableColumnBase<?,?>[0]);
+
+        final int[] indices;
+        final TableColumnBase<?,?>[] columns;
+
+        Columns(int[] indices, TableColumnBase<?,?>[] columns) {
+            this.indices = indices;
+            this.columns = columns;
+        }
+
+        int size() {
+            return indices.length;
+        }
+
+        boolean isEmpty() {
+            return indices.length == 0;
+        }
+
+        // Returns the position of the given column, or -1
+        int find(TableColumnBase<?,?> column) {
+            for (int i = 0; i < columns.length; i++) {
+                if (Objects.equals(columns[i], column)) {
+                    return i;
+                }
             }
+            return -1;
+        }
 
-            bitset.set(columnIndex);
+        // Returns the position of the given column with the given index, or -1
+        int find(TableColumnBase<?,?> column, int columnIndex) {
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i] == column && indices[i] == columnIndex) {
+                    return i;
+                }
+            }
+            return -1;
         }
 
-        // add into the list
-        selectedCells.setAll(cells);
+        // Returns the position of a column with the given index, or -1
+        int findIndex(int columnIndex) {
+            for (int i = 0; i < indices.length; i++) {
+                if (indices[i] == columnIndex) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        boolean containsAll(Columns other) {
+            for (int i = 0; i < other.size(); i++) {
+                if (find(other.columns[i], other.indices[i]) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Columns with(TableColumnBase<?,?> column, int columnIndex) {
+            int i = 0;
+            while (i < indices.length && indices[i] <= columnIndex) {
+                i++;
+            }
+            int[] newIndices = new int[indices.length + 1];
+            TableColumnBase<?,?>[] newColumns = new TableColumnBase<?,?>[indices.length + 1];
+            System.arraycopy(indices, 0, newIndices, 0, i);
+            System.arraycopy(columns, 0, newColumns, 0, i);
+            newIndices[i] = columnIndex;
+            newColumns[i] = column;
+            System.arraycopy(indices, i, newIndices, i + 1, indices.length - i);
+            System.arraycopy(columns, i, newColumns, i + 1, indices.length - i);
+            return new Columns(newIndices, newColumns);
+        }
+
+        Columns without(int i) {
+            if (indices.length == 1) {
+                return EMPTY;
+            }
+            int[] newIndices = new int[indices.length - 1];
+            TableColumnBase<?,?>[] newColumns = new TableColumnBase<?,?>[indices.length - 1];
+            System.arraycopy(indices, 0, newIndices, 0, i);
+            System.arraycopy(columns, 0, newColumns, 0, i);
+            System.arraycopy(indices, i + 1, newIndices, i, indices.length - i - 1);
+            System.arraycopy(columns, i + 1, newColumns, i, indices.length - i - 1);
+            return new Columns(newIndices, newColumns);
+        }
+
+        // Returns the columns that are not in the other columns
+        Columns minus(Columns other) {
+            Columns result = this;
+            for (int i = indices.length - 1; i >= 0; i--) {
+                if (other.find(columns[i]) >= 0) {
+                    result = result.without(i);
+                }
+            }
+            return result;
+        }
+
+        @Override public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Columns other)) return false;
+            if (!Arrays.equals(indices, other.indices)) return false;
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i] != other.columns[i]) return false;
+            }
+            return true;
+        }
+
+        @Override public int hashCode() {
+            return Arrays.hashCode(indices);
+        }
     }
 
-    public void remove(T tp) {
-        final int row = tp.getRow();
-        final int columnIndex = tp.getColumn();
+    // The same columns selected in each of the rows [from, to)
+    private static final class Block {
+        final int from;
+        final int to;
+        final Columns columns;
+
+        Block(int from, int to, Columns columns) {
+            this.from = from;
+            this.to = to;
+            this.columns = columns;
+        }
+
+        int size() {
+            return (to - from) * columns.size();
+        }
+    }
+
+    // The columns of the rows [from, to) before and after an update
+    private static final class Update {
+        final int from;
+        final int to;
+        final Columns before;
+        final Columns after;
+
+        Update(int from, int to, Columns before, Columns after) {
+            this.from = from;
+            this.to = to;
+            this.before = before;
+            this.after = after;
+        }
+    }
 
-        // update the bitset map
-        if (selectedCellBitSetMap.containsKey(row)) {
-            BitSet bitset = selectedCellBitSetMap.get(row);
+    private abstract static class CellList<T> extends AbstractList<T> implements RowAddressableList<T>, RandomAccess {
+        @Override public List<T> subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size());
+            return new SubList<>(this, fromIndex, toIndex);
+        }
+    }
 
-            if (columnIndex >= 0) {
-                bitset.clear(columnIndex);
+    // The cells of a list of blocks, created when they are asked for
+    private abstract static class BlockCells<T extends TablePositionBase> extends CellList<T> {
+        final SelectedCellsMap<T> map;
+
+        BlockCells(SelectedCellsMap<T> map) {
+            this.map = map;
+        }
+
+        abstract int blockCount();
+
+        abstract Block block(int i);
+
+        // the index of the first cell of the given block, or the size of the
+        // list for the block after the last one
+        abstract int offset(int i);
+
+        @Override public int size() {
+            return offset(blockCount());
+        }
+
+        // Returns the first block that ends after the given row (which may
+        // start after it), searching from the given block
+        int firstBlockEndingAfter(int row, int from) {
+            int lo = from;
+            int hi = blockCount();
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (block(mid).to > row) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+
+        // Returns the block of the cell at the given index
+        int blockOfCell(int index) {
+            int lo = 0;
+            int hi = blockCount() - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (offset(mid) <= index) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+        Columns columnsOf(int row) {
+            int i = firstBlockEndingAfter(row, 0);
+            return i < blockCount() && block(i).from <= row ? block(i).columns : Columns.EMPTY;
+        }
+
+        @Override public T get(int index) {
+            Objects.checkIndex(index, size());
+            int i = blockOfCell(index);
+            Block block = block(i);
+            int cell = index - offset(i);
+            int column = cell % block.columns.size();
+            return map.createPosition(block.from + cell / block.columns.size(),
+                    block.columns.columns[column], block.columns.indices[column]);
+        }
+
+        @Override public int getRow(int index) {
+            Objects.checkIndex(index, size());
+            int i = blockOfCell(index);
+            Block block = block(i);
+            return block.from + (index - offset(i)) / block.columns.size();
+        }
+
+        @Override public int nextRowIndex(int index) {
+            Objects.checkIndex(index, size());
+            int i = blockOfCell(index);
+            int columnCount = block(i).columns.size();
+            return offset(i) + ((index - offset(i)) / columnCount + 1) * columnCount;
+        }
+
+        @Override public int indexOfRow(int row) {
+            int i = firstBlockEndingAfter(row, 0);
+            if (i == blockCount() || block(i).from > row) {
+                return -1;
             }
+            return offset(i) + (row - block(i).from) * block(i).columns.size();
+        }
+
+        int indexOf(int row, TableColumnBase<?,?> column, int columnIndex) {
+            int index = indexOfRow(row);
+            int i = index < 0 ? -1 : columnsOf(row).find(column, columnIndex);
+            return i < 0 ? -1 : index + i;
+        }
 
-            if (bitset.isEmpty()) {
-                selectedCellBitSetMap.remove(row);
+        @Override public int indexOf(Object o) {
+            if (!(o instanceof TablePositionBase<?> tp)) {
+                return -1;
             }
+            int index = indexOfRow(tp.getRow());
+            int i = index < 0 ? -1 : columnsOf(tp.getRow()).find(tp.getTableColumn());
+            // the positions are equal when their rows and columns are
+            return i >= 0 && get(index + i).equals(tp) ? index + i : -1;
         }
 
-        // update list
-        selectedCells.remove(tp);
+        @Override public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+
+        @Override public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
     }
 
-    public void clear() {
-        // update bitset
-        selectedCellBitSetMap.clear();
+    // The current selection
+    private static final class Selection<T extends TablePositionBase> extends BlockCells<T> {
+        Selection(SelectedCellsMap<T> map) {
+            super(map);
+        }
 
-        // update list
-        selectedCells.clear();
+        @Override int blockCount() {
+            return map.blocks.size();
+        }
+
+        @Override Block block(int i) {
+            return map.blocks.get(i);
+        }
+
+        @Override int offset(int i) {
+            return map.offset(i);
+        }
     }
 
-    public boolean isSelected(int row, int columnIndex) {
-        if (columnIndex < 0) {
-            return selectedCellBitSetMap.containsKey(row);
-        } else {
-            return selectedCellBitSetMap.containsKey(row) ? selectedCellBitSetMap.get(row).get(columnIndex) : false;
+    /**
+     * An immutable list of selected cells, in sorted order, which copies the
+     * blocks of the selection but not its cells.
+     * @param <T> the type of the positions
+     */
+    public static final class Snapshot<T extends TablePositionBase> extends BlockCells<T> {
+        private final Block[] blocks;
+        private final int[] offsets;
+
+        private Snapshot(SelectedCellsMap<T> map, List<Block> blocks) {
+            super(map);
+            this.blocks = blocks.toArray(new Block[0]);
+            this.offsets = new int[this.blocks.length + 1];
+            for (int i = 0; i < this.blocks.length; i++) {
+                offsets[i + 1] = offsets[i] + this.blocks[i].size();
+            }
+        }
+
+        @Override int blockCount() {
+            return blocks.length;
+        }
+
+        @Override Block block(int i) {
+            return blocks[i];
+        }
+
+        @Override int offset(int i) {
+            return offsets[i];
         }
     }
 
-    public int indexOf(T tp) {
-        return sortedSelectedCells.indexOf(tp);
+    // A range of the cells of another list
+    private static final class SubList<T> extends CellList<T> {
+        private final RowAddressableList<T> list;
+        private final int from;
+        private final int to;
+
+        SubList(RowAddressableList<T> list, int from, int to) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override public T get(int index) {
+            Objects.checkIndex(index, size());
+            return list.get(from + index);
+        }
+
+        @Override public int size() {
+            return to - from;
+        }
+
+        @Override public int getRow(int index) {
+            Objects.checkIndex(index, size());
+            return list.getRow(from + index);
+        }
+
+        @Override public int nextRowIndex(int index) {
+            Objects.checkIndex(index, size());
+            return Math.min(list.nextRowIndex(from + index), to) - from;
+        }
+
+        @Override public int indexOfRow(int row) {
+            int index = list.indexOfRow(row);
+            if (index < 0 || index >= to) {
+                return -1;
+            }
+            if (index < from) {
+                // the row may continue into this list
+                return from < to && list.getRow(from) == row ? 0 : -1;
+            }
+            return index - from;
+        }
+
+        @Override public List<T> subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size());
+            return new SubList<>(list, from + fromIndex, from + toIndex);
+        }
     }
 
-    public boolean isEmpty() {
-        return selectedCells.isEmpty();
+    // The cells of another list without one of them
+    private static final class WithoutCell<T> extends CellList<T> {
+        private final RowAddressableList<T> list;
+        private final int index;
+
+        WithoutCell(RowAddressableList<T> list, int index) {
+            Objects.checkIndex(index, list.size());
+            this.list = list;
+            this.index = index;
+        }
+
+        @Override public T get(int i) {
+            Objects.checkIndex(i, size());
+            return list.get(i < index ? i : i + 1);
+        }
+
+        @Override public int size() {
+            return list.size() - 1;
+        }
+
+        @Override public int getRow(int i) {
+            Objects.checkIndex(i, size());
+            return list.getRow(i < index ? i : i + 1);
+        }
+
+        @Override public int nextRowIndex(int i) {
+            Objects.checkIndex(i, size());
+            int next = list.nextRowIndex(i < index ? i : i + 1);
+            return next > index ? next - 1 : next;
+        }
+
+        @Override public int indexOfRow(int row) {
+            int i = list.indexOfRow(row);
+            if (i < index) {
+                return i;
+            }
+            if (i > index) {
+                return i - 1;
+            }
+            // the first cell of the row is the removed one
+            return i + 1 < list.size() && list.getRow(i + 1) == row ? i : -1;
+        }
+    }
+
+    // The live view of the selected cells
+    private final class CellsView extends ReadOnlyUnbackedObservableList<T> implements RowAddressableList<T> {
+        @Override public T get(int i) {
+            return selection.get(i);
+        }
+
+        @Override public int size() {
+            return size;
+        }
+
+        @Override public int getRow(int index) {
+            return selection.getRow(index);
+        }
+
+        @Override public int nextRowIndex(int index) {
+            return selection.nextRowIndex(index);
+        }
+
+        @Override public int indexOfRow(int row) {
+            return selection.indexOfRow(row);
+        }
+
+        @Override public int indexOf(Object o) {
+            return selection.indexOf(o);
+        }
+
+        @Override public int lastIndexOf(Object o) {
+            return selection.indexOf(o);
+        }
+
+        @Override public List<T> subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size());
+            return new SubList<>(this, fromIndex, toIndex);
+        }
     }
 
-    public ObservableList<T> getSelectedCells() {
-        return selectedCells;
+    // A change of the selected cells, made of sub-changes in ascending order
+    // whose indices are those of the selection after the change
+    private final class CellsChange extends ListChangeListener.Change<T> {
+        private int[] from = new int[4];
+        private int[] to = new int[4];
+        private final List<List<T>> removed = new ArrayList<>();
+        private int count;
+        private int cursor = -1;
+
+        CellsChange() {
+            super(cellsView);
+        }
+
+        void add(int fromIndex, int toIndex, List<T> removedCells) {
+            if (count > 0 && removedCells.isEmpty() && fromIndex == to[count - 1]) {
+                // adjacent additions are merged
+                to[count - 1] = toIndex;
+                return;
+            }
+            if (count == from.length) {
+                from = Arrays.copyOf(from, count * 2);
+                to = Arrays.copyOf(to, count * 2);
+            }
+            from[count] = fromIndex;
+            to[count] = toIndex;
+            removed.add(removedCells);
+            count++;
+        }
+
+        void fire() {
+            if (count > 0) {
+                listener.onChanged(this);
+            }
+        }
+
+        @Override public boolean next() {
+            if (cursor + 1 < count) {
+                cursor++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override public void reset() {
+            cursor = -1;
+        }
+
+        @Override public int getFrom() {
+            checkState();
+            return from[cursor];
+        }
+
+        @Override public int getTo() {
+            checkState();
+            return to[cursor];
+        }
+
+        @Override public List<T> getRemoved() {
+            checkState();
+            return removed.get(cursor);
+        }
+
+        @Override protected int[] getPermutation() {
+            checkState();
+            return new int[0];
+        }
+
+        private void checkState() {
+            if (cursor < 0 || cursor >= count) {
+                throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -551,6 +551,14 @@ public abstract class Axis<T> extends Region {
      */
     public abstract T toRealValue(double value);
 
+    /**
+     * Gets the display position along this axis for a given numeric value. Charts use it
+     * to plot {@link XYValues}, which are stored as numeric values.
+     */
+    double toDisplayPosition(double value) {
+        return getDisplayPosition(toRealValue(value));
+    }
+
     /**
      * Calculate a list of all the data values for each tick mark in range
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -69,7 +69,8 @@ import javafx.css.StyleableProperty;
 /**
  * Line Chart plots a line connecting the data points in a series. The data points
  * themselves can be represented by symbols optionally. Line charts are usually used
- * to view data trends over time or category.
+ * to view data trends over time or category. Series of many points can keep them
+ * in {@link XYValues}, which are drawn without symbols.
  *
  * @param <X> the X axis value type
  * @param <Y> the Y axis value type
@@ -205,6 +206,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
                     if(xData != null) xData.add(data.getXValue());
                     if(yData != null) yData.add(data.getYValue());
                 }
+                addValuesRange(series, xData, yData);
             }
             // JDK-8118969 No need to invalidate range if there is one data item - whose value is zero.
             if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
@@ -459,9 +461,37 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             final DoubleProperty seriesYAnimMultiplier = seriesYMultiplierMap.get(series);
             final Node seriesNode = series.getNode();
             if (seriesNode instanceof Path) {
-                AreaChart.makePaths(this, series,
-                                    constructedPath, null, (Path) seriesNode,
-                                    seriesYAnimMultiplier.get(), getAxisSortingPolicy());
+                final XYValues values = series.getValues();
+                if (values != null) {
+                    XYValuesPlotter.makeLine(getXAxis(), getYAxis(), values, (Path) seriesNode,
+                                             seriesYAnimMultiplier.get());
+                    layoutSymbols(series, seriesYAnimMultiplier.get());
+                } else {
+                    AreaChart.makePaths(this, series,
+                                        constructedPath, null, (Path) seriesNode,
+                                        seriesYAnimMultiplier.get(), getAxisSortingPolicy());
+                }
+            }
+        }
+    }
+
+    /**
+     * Lays out the symbols of the data items of a series whose line is drawn through its values.
+     */
+    private void layoutSymbols(Series<X,Y> series, double yAnimMultiplier) {
+        for (Iterator<Data<X, Y>> it = getDisplayedDataIterator(series); it.hasNext(); ) {
+            Data<X, Y> item = it.next();
+            Node symbol = item.getNode();
+            if (symbol == null) continue;
+            double x = getXAxis().getDisplayPosition(item.getCurrentX());
+            double y = getYAxis().getDisplayPosition(
+                    getYAxis().toRealValue(getYAxis().toNumericValue(item.getCurrentY()) * yAnimMultiplier));
+            final double w = symbol.prefWidth(-1);
+            final double h = symbol.prefHeight(-1);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                symbol.resizeRelocate(-w*2, -h*2, w, h);
+            } else {
+                symbol.resizeRelocate(x-(w/2), y-(h/2), w, h);
             }
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -155,6 +155,12 @@ public final class NumberAxis extends ValueAxis<Number> {
 
     // -------------- PROTECTED METHODS --------------------------------------------------------------------------------
 
+    /** {@inheritDoc} */
+    @Override double toDisplayPosition(double value) {
+        // getDisplayPosition() is not overridden, so the mapping is linear
+        return linearDisplayPosition(value);
+    }
+
     /**
      * Get the string label name for a tick mark with the given value.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,10 +30,12 @@ import javafx.animation.ParallelTransition;
 import javafx.application.Platform;
 import javafx.beans.NamedArg;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.AccessibleRole;
 import javafx.scene.Node;
 import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Path;
 import javafx.util.Duration;
 
 import com.sun.javafx.charts.Legend.LegendItem;
@@ -42,6 +44,11 @@ import java.util.Iterator;
 
 /**
  * Chart type that plots symbols for the data points in a series.
+ * <p>
+ * The {@link XYValues} of a series are plotted as small squares rather than symbols,
+ * with a single square for all the points that fall in the same place. They are drawn
+ * by a {@link Path} set as the node of the series, which has the
+ * {@code chart-series-points} style class.
  *
  * @param <X> the X axis value type
  * @param <Y> the Y axis value type
@@ -49,6 +56,9 @@ import java.util.Iterator;
  */
 public class ScatterChart<X,Y> extends XYChart<X,Y> {
 
+    /** The size of the squares drawn for the values of a series */
+    private static final double POINT_SIZE = 4;
+
     private ParallelTransition parallelTransition;
 
     // -------------- CONSTRUCTORS ----------------------------------------------
@@ -137,6 +147,35 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         for (int j=0; j<series.getData().size(); j++) {
             dataItemAdded(series,j,series.getData().get(j));
         }
+        // the series may still hold the path of a chart it was removed from
+        if (series.getValues() != null) addPointsPath(series);
+    }
+
+    @Override void valuesChanged(Series<X,Y> series) {
+        if (series.getValues() != null && !(series.getNode() instanceof Path)) {
+            addPointsPath(series);
+        } else if (series.getValues() == null && series.getNode() != null) {
+            getPlotChildren().remove(series.getNode());
+            series.setNode(null);
+        }
+    }
+
+    private void addPointsPath(Series<X,Y> series) {
+        Path points = new Path();
+        points.getStyleClass().setAll("chart-series-points", "series" + getData().indexOf(series),
+                series.defaultColorStyleClass);
+        series.setNode(points);
+        getPlotChildren().add(points);
+    }
+
+    @Override protected void seriesChanged(ListChangeListener.Change<? extends Series> c) {
+        // update the style classes of the values of all series
+        for (int i = 0; i < getDataSize(); i++) {
+            final Series<X,Y> s = getData().get(i);
+            if (s.getNode() instanceof Path) {
+                s.getNode().getStyleClass().setAll("chart-series-points", "series" + i, s.defaultColorStyleClass);
+            }
+        }
     }
 
     /** {@inheritDoc} */
@@ -147,6 +186,16 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
             parallelTransition.setOnFinished(event -> {
                 removeSeriesFromDisplay(series);
             });
+            final Node points = series.getNode();
+            if (points != null) {
+                FadeTransition ft = new FadeTransition(Duration.millis(500),points);
+                ft.setToValue(0);
+                ft.setOnFinished(actionEvent -> {
+                    getPlotChildren().remove(points);
+                    points.setOpacity(1.0);
+                });
+                parallelTransition.getChildren().add(ft);
+            }
             for (final Data<X,Y> d : series.getData()) {
                 final Node symbol = d.getNode();
                 // fade out old symbol
@@ -164,6 +213,7 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
                 final Node symbol = d.getNode();
                 getPlotChildren().remove(symbol);
             }
+             if (series.getNode() != null) getPlotChildren().remove(series.getNode());
              removeSeriesFromDisplay(series);
         }
     }
@@ -187,6 +237,10 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
                     symbol.resizeRelocate(x-(w/2), y-(h/2),w,h);
                 }
             }
+            final XYValues values = series.getValues();
+            if (values != null && series.getNode() instanceof Path) {
+                XYValuesPlotter.makePoints(getXAxis(), getYAxis(), values, (Path) series.getNode(), POINT_SIZE);
+            }
         }
     }
 
@@ -196,6 +250,9 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         Node node = series.getData().isEmpty() ? null : series.getData().get(0).getNode();
         if (node != null) {
             legendItem.getSymbol().getStyleClass().addAll(node.getStyleClass());
+        } else if (series.getValues() != null) {
+            legendItem.getSymbol().getStyleClass().addAll("chart-symbol", "series" + seriesIndex,
+                    series.defaultColorStyleClass);
         }
         return legendItem;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -466,6 +466,14 @@ public abstract class ValueAxis<T extends Number> extends Axis<T> {
         return offset + ((value.doubleValue() - currentLowerBound.get()) * getScale());
     }
 
+    /**
+     * Gets the display position for a numeric value with the mapping of
+     * {@link #getDisplayPosition(Number)}, without boxing the value.
+     */
+    final double linearDisplayPosition(double value) {
+        return offset + ((value - currentLowerBound.get()) * getScale());
+    }
+
     /**
      * Gets the data value for the given display position on this axis. If the axis
      * is a CategoryAxis this will be the nearest value.
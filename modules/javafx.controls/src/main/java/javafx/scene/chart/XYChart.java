@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -43,6 +43,7 @@ import com.sun.javafx.scene.control.skin.resources.ControlResources;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
@@ -561,6 +562,19 @@ public abstract class XYChart<X,Y> extends Chart {
         requestChartLayout();
     }
 
+    /** Called when the values of a series, or its {@code XYValues}, have changed */
+    private void seriesValuesChanged(Series<X,Y> series) {
+        valuesChanged(series);
+        invalidateRange();
+        requestChartLayout();
+    }
+
+    /**
+     * Called when the values of a series, or its {@code XYValues}, have changed. Charts
+     * that plot values with nodes other than the series node can create or remove them here.
+     */
+    void valuesChanged(Series<X,Y> series) {}
+
     private <T> void dataValueChanged(Data<X,Y> item, T newValue, ObjectProperty<T> currentValueProperty) {
         if (currentValueProperty.get() != newValue) invalidateRange();
         dataItemChanged(item);
@@ -699,11 +713,33 @@ public abstract class XYChart<X,Y> extends Chart {
                     if(yData != null) yData.add(data.getYValue());
                 }
             }
+            for(Series<X,Y> series : getData()) {
+                addValuesRange(series, xData, yData);
+            }
             if(xData != null) xa.invalidateRange(xData);
             if(yData != null) ya.invalidateRange(yData);
         }
     }
 
+    /**
+     * Adds the smallest and largest values of the {@code XYValues} of a series, if any,
+     * to the data used to auto range the axes.
+     */
+    final void addValuesRange(Series<X,Y> series, List<X> xData, List<Y> yData) {
+        final XYValues values = series.getValues();
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        if (xData != null && !Double.isNaN(values.getMinX())) {
+            xData.add(getXAxis().toRealValue(values.getMinX()));
+            xData.add(getXAxis().toRealValue(values.getMaxX()));
+        }
+        if (yData != null && !Double.isNaN(values.getMinY())) {
+            yData.add(getYAxis().toRealValue(values.getMinY()));
+            yData.add(getYAxis().toRealValue(values.getMaxY()));
+        }
+    }
+
     /**
      * Called to update and layout the plot children. This should include all work to updates nodes representing
      * the plot on top of the axis and grid lines etc. The origin is the top left of the plot area, the plot area with
@@ -1612,8 +1648,9 @@ public abstract class XYChart<X,Y> extends Chart {
 
         /**
          * The node to display for this series. This is created by the chart if it uses nodes to represent the whole
-         * series. For example line chart uses this for the line but scatter chart does not use it. This node will be
-         * set as soon as the series is added to the chart. You can then get it to add mouse listeners etc.
+         * series. For example line chart uses this for the line but scatter chart only uses it for the
+         * {@link #valuesProperty() values} of the series. This node will be set as soon as the series is added to
+         * the chart. You can then get it to add mouse listeners etc.
          */
         private ObjectProperty<Node> node = new SimpleObjectProperty<>(this, "node");
         public final Node getNode() { return node.get(); }
@@ -1668,6 +1705,48 @@ public abstract class XYChart<X,Y> extends Chart {
         public final void setData(ObservableList<Data<X,Y>> value) { data.setValue(value); }
         public final ObjectProperty<ObservableList<Data<X,Y>>> dataProperty() { return data; }
 
+        private final InvalidationListener valuesListener = o -> {
+            final XYChart<X, Y> chart = getChart();
+            if (chart != null) chart.seriesValuesChanged(Series.this);
+        };
+
+        /**
+         * The points of this series, stored in arrays of {@code double} rather than as {@link Data} items.
+         * <p>
+         * {@link LineChart} draws its line through these values, and {@link ScatterChart} draws a mark for
+         * them, without symbols and with a number of path elements that depends on the size of the plot
+         * rather than on the number of points. The data items of the series, if any, are still plotted
+         * with their symbols. Other charts ignore the values.
+         *
+         * @defaultValue null
+         * @see XYValues
+         * @since 25
+         */
+        private final ObjectProperty<XYValues> values = new ObjectPropertyBase<>() {
+            private XYValues old;
+            @Override protected void invalidated() {
+                final XYValues current = get();
+                if (old == current) return;
+                if (old != null) old.removeListener(valuesListener);
+                if (current != null) current.addListener(valuesListener);
+                old = current;
+                valuesListener.invalidated(current);
+            }
+
+            @Override
+            public Object getBean() {
+                return Series.this;
+            }
+
+            @Override
+            public String getName() {
+                return "values";
+            }
+        };
+        public final XYValues getValues() { return values.get(); }
+        public final void setValues(XYValues value) { values.set(value); }
+        public final ObjectProperty<XYValues> valuesProperty() { return values; }
+
         // -------------- CONSTRUCTORS ----------------------------------------------
 
         /**
@@ -1698,6 +1777,19 @@ public abstract class XYChart<X,Y> extends Chart {
             setName(name);
         }
 
+        /**
+         * Constructs a named Series with no data items whose points are the given values.
+         *
+         * @param name a name for the series
+         * @param values the values of the series
+         * @since 25
+         */
+        public Series(String name, XYValues values) {
+            this();
+            setName(name);
+            setValues(values);
+        }
+
         // -------------- PUBLIC METHODS ----------------------------------------------
 
         /**
@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package javafx.scene.chart;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+/**
+ * The x and y values of the points of a series, stored in arrays of {@code double}.
+ * <p>
+ * {@link XYChart.Data} items are convenient for series of a few hundred points, but
+ * each of them holds several properties and, with most charts, a symbol node. A
+ * series with hundreds of thousands or millions of points can instead keep them
+ * in an {@code XYValues}, set as the {@link XYChart.Series#valuesProperty() values}
+ * of the series. {@link LineChart} and {@link ScatterChart} plot these values
+ * without symbols, and only create the path elements needed for the pixels the
+ * series covers: a line chart keeps the first, last, lowest and highest point
+ * of each pixel column, and a scatter chart draws one mark for all the points
+ * that fall in the same place.
+ * <p>
+ * The values are meant for axes that plot numbers, such as {@link NumberAxis}.
+ * A value of {@code NaN} is not plotted; in a line chart, it breaks the line.
+ * Line charts plot the values in the order in which they are stored, whatever
+ * the {@link LineChart#axisSortingPolicyProperty() sorting policy} of the chart.
+ * When the x values are in increasing order, which is the case with most time
+ * series, only the points within the range of the x axis are visited.
+ * <p>
+ * Invalidation listeners are notified after each change of the values.
+ *
+ * <pre><code>
+ * XYValues values = new XYValues(1_000_000);
+ * for (int i = 0; i &lt; 1_000_000; i++) {
+ *     values.add(i, Math.sin(i / 1000.0));
+ * }
+ * lineChart.getData().add(new XYChart.Series&lt;&gt;("Signal", values));
+ * </code></pre>
+ *
+ * @since 25
+ */
+public final class XYValues implements Observable {
+
+    private static final double[] EMPTY = new double[0];
+
+    private double[] xValues;
+    private double[] yValues;
+    private int size;
+
+    private InvalidationListener[] listeners;
+
+    // Extent of the values and whether the x values are increasing, updated
+    // when points are added and recomputed lazily after other changes
+    private boolean statsValid = true;
+    private double minX = Double.NaN;
+    private double maxX = Double.NaN;
+    private double minY = Double.NaN;
+    private double maxY = Double.NaN;
+    private boolean sortedByX = true;
+
+    /**
+     * Creates an empty {@code XYValues}.
+     */
+    public XYValues() {
+        xValues = EMPTY;
+        yValues = EMPTY;
+    }
+
+    /**
+     * Creates an empty {@code XYValues} with room for the given number of points.
+     *
+     * @param initialCapacity the number of points that can be added without growing the arrays
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public XYValues(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        xValues = new double[initialCapacity];
+        yValues = new double[initialCapacity];
+    }
+
+    /**
+     * Creates an {@code XYValues} holding a copy of the given values.
+     *
+     * @param x the x values
+     * @param y the y values
+     * @throws NullPointerException if {@code x} or {@code y} is null
+     * @throws IllegalArgumentException if {@code x} and {@code y} have different lengths
+     */
+    public XYValues(double[] x, double[] y) {
+        checkArrays(x, y);
+        xValues = x.clone();
+        yValues = y.clone();
+        size = x.length;
+        statsValid = false;
+    }
+
+    /**
+     * Returns the number of points.
+     *
+     * @return the number of points
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether there are no points.
+     *
+     * @return true if there are no points
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the x value of a point.
+     *
+     * @param index the index of the point
+     * @return the x value of the point
+     * @throws IndexOutOfBoundsException if {@code index} is not in the range {@code [0, size())}
+     */
+    public double getX(int index) {
+        Objects.checkIndex(index, size);
+        return xValues[index];
+    }
+
+    /**
+     * Returns the y value of a point.
+     *
+     * @param index the index of the point
+     * @return the y value of the point
+     * @throws IndexOutOfBoundsException if {@code index} is not in the range {@code [0, size())}
+     */
+    public double getY(int index) {
+        Objects.checkIndex(index, size);
+        return yValues[index];
+    }
+
+    /**
+     * Adds a point after the last one.
+     *
+     * @param x the x value of the point
+     * @param y the y value of the point
+     */
+    public void add(double x, double y) {
+        ensureCapacity(size + 1);
+        xValues[size] = x;
+        yValues[size] = y;
+        size++;
+        if (statsValid) {
+            include(size - 1);
+        }
+        fireInvalidation();
+    }
+
+    /**
+     * Adds points after the last one.
+     *
+     * @param x the x values of the points
+     * @param y the y values of the points
+     * @throws NullPointerException if {@code x} or {@code y} is null
+     * @throws IllegalArgumentException if {@code x} and {@code y} have different lengths
+     */
+    public void addAll(double[] x, double[] y) {
+        checkArrays(x, y);
+        if (x.length == 0) {
+            return;
+        }
+        int from = size;
+        ensureCapacity(size + x.length);
+        System.arraycopy(x, 0, xValues, size, x.length);
+        System.arraycopy(y, 0, yValues, size, y.length);
+        size += x.length;
+        if (statsValid) {
+            for (int i = from; i < size; i++) {
+                include(i);
+            }
+        }
+        fireInvalidation();
+    }
+
+    /**
+     * Replaces all points with a copy of the given values.
+     *
+     * @param x the x values of the points
+     * @param y the y values of the points
+     * @throws NullPointerException if {@code x} or {@code y} is null
+     * @throws IllegalArgumentException if {@code x} and {@code y} have different lengths
+     */
+    public void setAll(double[] x, double[] y) {
+        checkArrays(x, y);
+        if (x.length > xValues.length) {
+            xValues = x.clone();
+            yValues = y.clone();
+        } else {
+            System.arraycopy(x, 0, xValues, 0, x.length);
+            System.arraycopy(y, 0, yValues, 0, y.length);
+        }
+        size = x.length;
+        statsValid = false;
+        fireInvalidation();
+    }
+
+    /**
+     * Replaces a point.
+     *
+     * @param index the index of the point
+     * @param x the new x value of the point
+     * @param y the new y value of the point
+     * @throws IndexOutOfBoundsException if {@code index} is not in the range {@code [0, size())}
+     */
+    public void set(int index, double x, double y) {
+        Objects.checkIndex(index, size);
+        xValues[index] = x;
+        yValues[index] = y;
+        statsValid = false;
+        fireInvalidation();
+    }
+
+    /**
+     * Removes the points in the given range. Removing the first points of a series
+     * while adding new ones at its end keeps a window of the latest points.
+     *
+     * @param from the index of the first point to remove, inclusive
+     * @param to the index of the last point to remove, exclusive
+     * @throws IndexOutOfBoundsException if {@code from} or {@code to} is out of range,
+     *         or if {@code from} is greater than {@code to}
+     */
+    public void remove(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        if (from == to) {
+            return;
+        }
+        System.arraycopy(xValues, to, xValues, from, size - to);
+        System.arraycopy(yValues, to, yValues, from, size - to);
+        size -= to - from;
+        statsValid = false;
+        fireInvalidation();
+    }
+
+    /**
+     * Removes all points.
+     */
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        size = 0;
+        minX = maxX = minY = maxY = Double.NaN;
+        sortedByX = true;
+        statsValid = true;
+        fireInvalidation();
+    }
+
+    /**
+     * Grows the arrays, if needed, so that they can hold at least the given number of points.
+     *
+     * @param capacity the number of points
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > xValues.length) {
+            int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) capacity, xValues.length * 3L / 2 + 16));
+            xValues = Arrays.copyOf(xValues, newCapacity);
+            yValues = Arrays.copyOf(yValues, newCapacity);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addListener(InvalidationListener listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        if (listeners == null) {
+            listeners = new InvalidationListener[] { listener };
+        } else {
+            listeners = Arrays.copyOf(listeners, listeners.length + 1);
+            listeners[listeners.length - 1] = listener;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        if (listeners == null) {
+            return;
+        }
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                if (listeners.length == 1) {
+                    listeners = null;
+                } else {
+                    InvalidationListener[] result = new InvalidationListener[listeners.length - 1];
+                    System.arraycopy(listeners, 0, result, 0, i);
+                    System.arraycopy(listeners, i + 1, result, i, listeners.length - i - 1);
+                    listeners = result;
+                }
+                return;
+            }
+        }
+    }
+
+    private void fireInvalidation() {
+        // the array is replaced, never modified, when listeners are added or removed
+        InvalidationListener[] current = listeners;
+        if (current != null) {
+            for (InvalidationListener listener : current) {
+                try {
+                    listener.invalidated(this);
+                } catch (Exception e) {
+                    Thread currentThread = Thread.currentThread();
+                    currentThread.getUncaughtExceptionHandler().uncaughtException(currentThread, e);
+                }
+            }
+        }
+    }
+
+    private static void checkArrays(double[] x, double[] y) {
+        Objects.requireNonNull(x, "x must not be null");
+        Objects.requireNonNull(y, "y must not be null");
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y must have the same length: " + x.length + " != " + y.length);
+        }
+    }
+
+    // -------------- PACKAGE PRIVATE METHODS ---------------------------------------
+
+    /**
+     * The smallest x value, ignoring NaN, or NaN if there is none.
+     */
+    double getMinX() {
+        updateStats();
+        return minX;
+    }
+
+    double getMaxX() {
+        updateStats();
+        return maxX;
+    }
+
+    double getMinY() {
+        updateStats();
+        return minY;
+    }
+
+    double getMaxY() {
+        updateStats();
+        return maxY;
+    }
+
+    /**
+     * Whether the x values are in increasing order and none of them is NaN.
+     */
+    boolean isSortedByX() {
+        updateStats();
+        return sortedByX;
+    }
+
+    /**
+     * Returns the index of the first point whose x value is not less than the given
+     * value, or {@code size()} if there is none. The x values must be sorted.
+     */
+    int indexOfX(double x) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xValues[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Direct access to the x values for plotting. Only the first {@code size()} values are valid.
+     */
+    double[] xArray() {
+        return xValues;
+    }
+
+    double[] yArray() {
+        return yValues;
+    }
+
+    private void updateStats() {
+        if (statsValid) {
+            return;
+        }
+        minX = maxX = minY = maxY = Double.NaN;
+        sortedByX = true;
+        for (int i = 0; i < size; i++) {
+            include(i);
+        }
+        statsValid = true;
+    }
+
+    private void include(int index) {
+        double x = xValues[index];
+        double y = yValues[index];
+        if (sortedByX && (Double.isNaN(x) || (index > 0 && x < xValues[index - 1]))) {
+            sortedByX = false;
+        }
+        if (!Double.isNaN(x)) {
+            minX = Double.isNaN(minX) ? x : Math.min(minX, x);
+            maxX = Double.isNaN(maxX) ? x : Math.max(maxX, x);
+        }
+        if (!Double.isNaN(y)) {
+            minY = Double.isNaN(minY) ? y : Math.min(minY, y);
+            maxY = Double.isNaN(maxY) ? y : Math.max(maxY, y);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package javafx.scene.chart;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+
+/**
+ * Builds the paths that plot {@link XYValues}, with a number of path elements
+ * bounded by the size of the plot rather than by the number of values.
+ */
+final class XYValuesPlotter {
+
+    private XYValuesPlotter() {
+    }
+
+    /**
+     * Builds a line through the values, keeping for every pixel column crossed by
+     * a run of consecutive points only the first, lowest, highest and last point
+     * of the run (M4 decimation). The decimated line covers the same pixels as the
+     * full one.
+     */
+    static <X,Y> void makeLine(Axis<X> axisX, Axis<Y> axisY, XYValues values, Path linePath, double yAnimMultiplier) {
+        final double[] xs = values.xArray();
+        final double[] ys = values.yArray();
+        final double hlw = linePath.getStrokeWidth() / 2.0;
+        final List<PathElement> elements = new ArrayList<>();
+
+        int from = 0;
+        int to = values.size();
+        if (values.isSortedByX() && to > 0) {
+            // only visit the points in the range of the axis, and one on each side
+            double v0 = axisX.toNumericValue(axisX.getValueForDisplay(-hlw));
+            double v1 = axisX.toNumericValue(axisX.getValueForDisplay(axisX.getWidth() + hlw));
+            if (!Double.isNaN(v0) && !Double.isNaN(v1)) {
+                from = Math.max(0, values.indexOfX(Math.min(v0, v1)) - 1);
+                to = Math.min(to, values.indexOfX(Math.max(v0, v1)) + 1);
+            }
+        }
+
+        boolean moveTo = true;
+        boolean inColumn = false;
+        double column = 0;
+        double firstX = 0, firstY = 0, lastX = 0, lastY = 0;
+        double minX = 0, minY = 0, maxX = 0, maxY = 0;
+        int first = 0, last = 0, min = 0, max = 0;
+        for (int i = from; i < to; i++) {
+            double x = axisX.toDisplayPosition(xs[i]);
+            double y = axisY.toDisplayPosition(ys[i] * yAnimMultiplier);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                // break the line
+                if (inColumn) {
+                    addColumn(elements, moveTo, first, firstX, firstY, min, minX, minY,
+                            max, maxX, maxY, last, lastX, lastY);
+                    inColumn = false;
+                }
+                moveTo = true;
+                continue;
+            }
+            double c = Math.floor(x);
+            if (inColumn && c == column) {
+                last = i;
+                lastX = x;
+                lastY = y;
+                if (y < minY) {
+                    min = i;
+                    minX = x;
+                    minY = y;
+                }
+                if (y > maxY) {
+                    max = i;
+                    maxX = x;
+                    maxY = y;
+                }
+                continue;
+            }
+            if (inColumn) {
+                addColumn(elements, moveTo, first, firstX, firstY, min, minX, minY,
+                        max, maxX, maxY, last, lastX, lastY);
+                moveTo = false;
+            }
+            inColumn = true;
+            column = c;
+            first = last = min = max = i;
+            firstX = lastX = minX = maxX = x;
+            firstY = lastY = minY = maxY = y;
+        }
+        if (inColumn) {
+            addColumn(elements, moveTo, first, firstX, firstY, min, minX, minY,
+                    max, maxX, maxY, last, lastX, lastY);
+        }
+        linePath.getElements().setAll(elements);
+    }
+
+    private static void addColumn(List<PathElement> elements, boolean moveTo,
+                                  int first, double firstX, double firstY,
+                                  int min, double minX, double minY,
+                                  int max, double maxX, double maxY,
+                                  int last, double lastX, double lastY) {
+        elements.add(moveTo ? new MoveTo(firstX, firstY) : new LineTo(firstX, firstY));
+        // the extremes are added in the order of the points
+        if (min < max) {
+            if (min != first) elements.add(new LineTo(minX, minY));
+            if (max != last) elements.add(new LineTo(maxX, maxY));
+        } else if (max < min) {
+            if (max != first) elements.add(new LineTo(maxX, maxY));
+            if (min != last) elements.add(new LineTo(minX, minY));
+        }
+        if (last != first) elements.add(new LineTo(lastX, lastY));
+    }
+
+    /**
+     * Builds a filled square of the given size for the values, skipping the points
+     * that fall in a cell of the plot already marked by a previous point.
+     */
+    static <X,Y> void makePoints(Axis<X> axisX, Axis<Y> axisY, XYValues values, Path pointsPath, double size) {
+        final double[] xs = values.xArray();
+        final double[] ys = values.yArray();
+        final double half = size / 2;
+        final double width = axisX.getWidth();
+        final double height = axisY.getHeight();
+        final List<PathElement> elements = new ArrayList<>();
+
+        int from = 0;
+        int to = values.size();
+        if (values.isSortedByX() && to > 0) {
+            double v0 = axisX.toNumericValue(axisX.getValueForDisplay(-half));
+            double v1 = axisX.toNumericValue(axisX.getValueForDisplay(width + half));
+            if (!Double.isNaN(v0) && !Double.isNaN(v1)) {
+                from = values.indexOfX(Math.min(v0, v1));
+                to = values.indexOfX(Math.max(v0, v1));
+                // include the points equal to the upper bound
+                while (to < values.size() && xs[to] <= Math.max(v0, v1)) to++;
+            }
+        }
+
+        // one cell per mark, with a margin of one cell around the plot for
+        // the marks that are partly visible
+        final int columns = (int) Math.ceil(width / size) + 2;
+        final int rows = (int) Math.ceil(height / size) + 2;
+        final BitSet marked = new BitSet(columns * rows);
+        for (int i = from; i < to; i++) {
+            double x = axisX.toDisplayPosition(xs[i]);
+            double y = axisY.toDisplayPosition(ys[i]);
+            if (!(x >= -half && x <= width + half && y >= -half && y <= height + half)) {
+                // NaN or not visible
+                continue;
+            }
+            int cell = (int) Math.floor(y / size + 1) * columns + (int) Math.floor(x / size + 1);
+            if (marked.get(cell)) {
+                continue;
+            }
+            marked.set(cell);
+            elements.add(new MoveTo(x - half, y - half));
+            elements.add(new LineTo(x + half, y - half));
+            elements.add(new LineTo(x + half, y + half));
+            elements.add(new LineTo(x - half, y + half));
+            elements.add(new ClosePath());
+        }
+        pointsPath.getElements().setAll(elements);
+    }
+}
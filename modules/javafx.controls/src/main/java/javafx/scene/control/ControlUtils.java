@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package javafx.scene.control;
 
+import com.sun.javafx.scene.control.SelectedCellsMap;
 import com.sun.javafx.scene.control.skin.Utils;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -169,24 +170,22 @@ class ControlUtils {
         while (c.next()) {
             sm.startAtomic();
 
-            final List<Integer> removed = new ArrayList<>(c.getRemovedSize());
-            c.getRemoved().stream()
-                    .mapToInt(TablePositionBase::getRow)
-                    .distinct()
-                    .filter(removeRowFilter)
-                    .forEach(row -> {
-                        removed.add(row);
-                        sm.selectedIndices.clear(row);
-                    });
+            final List<Integer> removed = new ArrayList<>();
+            SelectedCellsMap.forEachRow(c.getRemoved(), row -> {
+                if (removeRowFilter.test(row)) {
+                    removed.add(row);
+                }
+            });
+            // clearing the highest row first is cheap for the indices list
+            for (int i = removed.size() - 1; i >= 0; i--) {
+                sm.selectedIndices.clear(removed.get(i));
+            }
 
             final int[] addedSize = new int[1];
-            c.getAddedSubList().stream()
-                    .mapToInt(TablePositionBase::getRow)
-                    .distinct()
-                    .forEach(row -> {
-                        addedSize[0]++;
-                        sm.selectedIndices.set(row);
-                    });
+            SelectedCellsMap.forEachRow(c.getAddedSubList(), row -> {
+                addedSize[0]++;
+                sm.selectedIndices.set(row);
+            });
 
             sm.stopAtomic();
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -716,11 +716,17 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
             }
 
             _beginChange();
-            size = -1;
+            // the size is kept up to date, so that indexOf() is cheap when
+            // appending many indices
+            if (size >= 0) size++;
             bitset.set(index);
             if (index <= lastGetValue) reset();
-            int indicesIndex = indexOf(index);
-            _nextAdd(indicesIndex, indicesIndex + 1);
+            // no change is fired while atomic, e.g. when shifting the
+            // selection, so the (linear) index lookup is skipped
+            if (!isAtomic()) {
+                int indicesIndex = indexOf(index);
+                _nextAdd(indicesIndex, indicesIndex + 1);
+            }
             _endChange();
         }
 
@@ -824,9 +830,9 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         public void clear(int index) {
             if (!bitset.get(index)) return;
 
-            int indicesIndex = indexOf(index);
+            int indicesIndex = isAtomic() ? -1 : indexOf(index);
             _beginChange();
-            size = -1;
+            if (size >= 0) size--;
             bitset.clear(index);
             if (index <= lastGetValue) reset();
             _nextRemove(indicesIndex, index);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,10 +27,8 @@ package javafx.scene.control;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -1704,9 +1702,10 @@ public class TableView<S> extends Control {
         }
 
         TableViewSelectionModel<S> selectionModel = getSelectionModel();
-        final List<TablePosition> prevState = selectionModel == null ?
-                null :
-                new ArrayList<>(selectionModel.getSelectedCells());
+        // only the blocks of the selection are copied, not its cells
+        final List<TablePosition<S,?>> prevState = selectionModel instanceof TableViewArrayListSelectionModel ?
+                ((TableViewArrayListSelectionModel<S>) selectionModel).selectedCellsMap.snapshot() :
+                null;
 
         // we set makeAtomic to true here, so that we don't fire intermediate
         // sort events - instead we send a single permutation event at the end
@@ -1739,14 +1738,9 @@ public class TableView<S> extends Control {
                 final TableViewArrayListSelectionModel<S> sm = (TableViewArrayListSelectionModel<S>)selectionModel;
                 final ObservableList<TablePosition<S,?>> newState = (ObservableList<TablePosition<S,?>>)(Object)sm.getSelectedCells();
 
-                List<TablePosition<S, ?>> removed = new ArrayList<>();
-                if (prevState != null) {
-                    for (TablePosition<S, ?> prevItem : prevState) {
-                        if (!newState.contains(prevItem)) {
-                            removed.add(prevItem);
-                        }
-                    }
-                }
+                List<TablePosition<S, ?>> removed = prevState == null ?
+                        List.of() :
+                        sm.selectedCellsMap.removedSince(prevState);
 
                 if (!removed.isEmpty()) {
                     // the sort operation effectively permutates the selectedCells list,
@@ -2275,6 +2269,12 @@ public class TableView<S> extends Control {
                 @Override public boolean isCellSelectionEnabled() {
                     return TableViewArrayListSelectionModel.this.isCellSelectionEnabled();
                 }
+
+                @Override protected TablePosition<S,?> createPosition(int row, TableColumnBase<?,?> column, int columnIndex) {
+                    TablePosition<S,?> pos = new TablePosition<>(getTableView(), row, (TableColumn<S,?>) column);
+                    pos.fixedColumnIndex = columnIndex;
+                    return pos;
+                }
             };
 
             selectedCellsSeq = new ReadOnlyUnbackedObservableList<>() {
@@ -2285,6 +2285,14 @@ public class TableView<S> extends Control {
                 @Override public int size() {
                     return selectedCellsMap.size();
                 }
+
+                @Override public int indexOf(Object o) {
+                    return o instanceof TablePosition ? selectedCellsMap.indexOf((TablePosition<S,?>) o) : -1;
+                }
+
+                @Override public List<TablePosition<S,?>> subList(int fromIndex, int toIndex) {
+                    return selectedCellsMap.subList(fromIndex, toIndex);
+                }
             };
 //            selectedCellsSeq.addListener((ListChangeListener<? super TablePosition<S,?>>) c -> {
 //                ControlUtils.updateSelectedIndices(this, c);
@@ -2445,48 +2453,26 @@ public class TableView<S> extends Control {
                 } else if (c.wasPermutated()) {
                     // General approach:
                     //   -- detected a sort has happened
-                    //   -- Create a permutation lookup map (1)
-                    //   -- dump all the selected indices into a list (2)
-                    //   -- create a list containing the new indices (3)
-                    //   -- for each previously-selected index (4)
-                    //     -- if index is in the permutation lookup map
-                    //       -- add the new index to the new indices list
-                    //   -- Perform batch selection (5)
+                    //   -- Create a permutation lookup array (1)
+                    //   -- move the selected rows of the permutated range to their
+                    //      new rows, without creating their cells (2)
+                    //   -- Perform batch selection (3)
 
                     startAtomic();
 
                     final int oldSelectedIndex = getSelectedIndex();
 
                     // (1)
-                    int length = c.getTo() - c.getFrom();
-                    HashMap<Integer, Integer> pMap = new HashMap<> (length);
+                    int[] newRows = new int[c.getTo() - c.getFrom()];
                     for (int i = c.getFrom(); i < c.getTo(); i++) {
-                        pMap.put(i, c.getPermutation(i));
+                        newRows[i - c.getFrom()] = c.getPermutation(i);
                     }
 
                     // (2)
-                    List<TablePosition<S,?>> selectedIndices = new ArrayList<>((ObservableList<TablePosition<S,?>>)(Object)getSelectedCells());
-
-                    // (3)
-                    List<TablePosition<S,?>> newIndices = new ArrayList<>(selectedIndices.size());
+                    List<TablePosition<S,?>> newIndices = selectedCellsMap.permuteRows(c.getFrom(), newRows);
 
-                    // (4)
-                    boolean selectionIndicesChanged = false;
-                    for (int i = 0; i < selectedIndices.size(); i++) {
-                        final TablePosition<S,?> oldIndex = selectedIndices.get(i);
-                        final int oldRow = oldIndex.getRow();
-
-                        if (pMap.containsKey(oldRow)) {
-                            int newIndex = pMap.get(oldRow);
-
-                            selectionIndicesChanged = selectionIndicesChanged || newIndex != oldRow;
-
-                            newIndices.add(new TablePosition<>(oldIndex.getTableView(), newIndex, oldIndex.getTableColumn()));
-                        }
-                    }
-
-                    if (selectionIndicesChanged) {
-                        // (5)
+                    if (newIndices != null) {
+                        // (3)
                         quietClearSelection();
                         stopAtomic();
 
@@ -2522,24 +2508,12 @@ public class TableView<S> extends Control {
 
                     final int clearIndex = param.getClearIndex();
                     final int setIndex = param.getSetIndex();
-                    TablePosition<S,?> oldTP = null;
                     if (clearIndex > -1) {
-                        for (int i = 0; i < selectedCellsMap.size(); i++) {
-                            TablePosition<S,?> tp = selectedCellsMap.get(i);
-                            if (tp.getRow() == clearIndex) {
-                                oldTP = tp;
-                                selectedCellsMap.remove(tp);
-                            } else if (tp.getRow() == setIndex && !param.isSelected()) {
-                                selectedCellsMap.remove(tp);
-                            }
-                        }
-                    }
-
-                    if (oldTP != null && param.isSelected()) {
-                        TablePosition<S,?> newTP = new TablePosition<>(
-                                tableView, param.getSetIndex(), oldTP.getTableColumn());
-
-                        selectedCellsMap.add(newTP);
+                        // the cells are moved quietly, as listening to each of them would
+                        // make shifting the selection quadratic in the number of rows
+                        selectedCellsMap.shiftRow(clearIndex, setIndex);
+                        selectedIndices.clear(clearIndex);
+                        selectedIndices.set(setIndex, param.isSelected());
                     }
 
                     stopAtomic();
@@ -2572,7 +2546,7 @@ public class TableView<S> extends Control {
 
             // firstly we make a copy of the selection, so that we can send out
             // the correct details in the selection change event.
-            List<TablePosition<S,?>> previousSelection = new ArrayList<>(selectedCellsMap.getSelectedCells());
+            List<TablePosition<S,?>> previousSelection = selectedCellsMap.snapshot();
 
             // secondly we check if we can short-circuit out of here because the new selection
             // equals the current selection
@@ -2604,16 +2578,12 @@ public class TableView<S> extends Control {
 
 
             // We remove the new selection from the list seeing as it is not removed.
-            if (isCellSelectionEnabled) {
-                previousSelection.remove(newTablePosition);
-            } else {
-                for (TablePosition<S,?> tp : previousSelection) {
-                    if (tp.getRow() == row) {
-                        previousSelection.remove(tp);
-                        break;
-                    }
-                }
-            }
+            // The snapshot only copies the blocks of the selection, so the cell
+            // is removed by index rather than from a copy of its cells.
+            final int newIndex = isCellSelectionEnabled ?
+                    previousSelection.indexOf(newTablePosition) :
+                    SelectedCellsMap.indexOfRow(previousSelection, row);
+            previousSelection = SelectedCellsMap.removeFromSnapshot(previousSelection, newIndex);
 
             // fire off a single add/remove/replace notification (rather than
             // individual remove and add notifications) - see JDK-8119264
@@ -2797,36 +2767,32 @@ public class TableView<S> extends Control {
         @Override public void selectAll() {
             if (getSelectionMode() == SelectionMode.SINGLE) return;
 
+            // the positions of the selected cells are only created when
+            // they are needed, see SelectedCellsMap
+            final TableView<S> view = getTableView();
+            final int rowCount = getItemCount();
             if (isCellSelectionEnabled()) {
-                List<TablePosition<S,?>> indices = new ArrayList<>();
-                TableColumn<S,?> column;
-                TablePosition<S,?> tp = null;
-                for (int col = 0; col < getTableView().getVisibleLeafColumns().size(); col++) {
-                    column = getTableView().getVisibleLeafColumns().get(col);
-                    for (int row = 0; row < getItemCount(); row++) {
-                        tp = new TablePosition<>(getTableView(), row, column);
-                        indices.add(tp);
-                    }
+                final List<TableColumn<S,?>> columns = new ArrayList<>(view.getVisibleLeafColumns());
+                final List<TablePosition<S,?>> cellsOfRow = new ArrayList<>(columns.size());
+                for (TableColumn<S,?> column : columns) {
+                    cellsOfRow.add(new TablePosition<>(view, 0, column));
                 }
-                selectedCellsMap.setAll(indices);
+                selectedCellsMap.setRange(0, rowCount, cellsOfRow);
 
-                if (tp != null) {
-                    select(tp.getRow(), tp.getTableColumn());
-                    focus(tp.getRow(), tp.getTableColumn());
+                if (rowCount > 0 && !columns.isEmpty()) {
+                    TableColumn<S,?> column = columns.get(columns.size() - 1);
+                    select(rowCount - 1, column);
+                    focus(rowCount - 1, column);
                 }
             } else {
-                List<TablePosition<S,?>> indices = new ArrayList<>();
-                for (int i = 0; i < getItemCount(); i++) {
-                    indices.add(new TablePosition<>(getTableView(), i, null));
-                }
-                selectedCellsMap.setAll(indices);
+                selectedCellsMap.setRange(0, rowCount, List.of(new TablePosition<>(view, 0, null)));
 
                 int focusedIndex = getFocusedIndex();
                 if (focusedIndex == -1) {
                     final int itemCount = getItemCount();
                     if (itemCount > 0) {
                         select(itemCount - 1);
-                        focus(indices.get(indices.size() - 1));
+                        focus(new TablePosition<>(view, rowCount - 1, null));
                     }
                 } else {
                     select(focusedIndex);
@@ -2856,34 +2822,27 @@ public class TableView<S> extends Control {
             final int _minRow = Math.min(minRow, maxRow);
             final int _maxRow = Math.max(minRow, maxRow);
 
-            List<TablePosition<S,?>> cellsToSelect = new ArrayList<>();
+            // the same cells are selected in each row of the range, so that the
+            // range is added to the selection as a single block
+            final int fromRow = Math.max(0, _minRow);
+            final int toRow = Math.min(itemCount, _maxRow + 1);
+            final List<TablePosition<S,?>> cellsOfRow = new ArrayList<>();
 
-            for (int _row = _minRow; _row <= _maxRow; _row++) {
-                // begin copy/paste of select(int, column) method (with some
-                // slight modifications)
-                if (_row < 0 || _row >= itemCount) continue;
-
-                if (! isCellSelectionEnabled) {
-                    cellsToSelect.add(new TablePosition<>(tableView, _row, (TableColumn<S,?>)minColumn));
-                } else {
-                    for (int _col = _minColumnIndex; _col <= _maxColumnIndex; _col++) {
-                        final TableColumn<S, ?> column = tableView.getVisibleLeafColumn(_col);
+            if (! isCellSelectionEnabled) {
+                cellsOfRow.add(new TablePosition<>(tableView, fromRow, (TableColumn<S,?>)minColumn));
+            } else {
+                for (int _col = _minColumnIndex; _col <= _maxColumnIndex; _col++) {
+                    final TableColumn<S, ?> column = tableView.getVisibleLeafColumn(_col);
 
-                        // if I'm in cell selection mode but the column is null, I don't want
-                        // to select the whole row instead...
-                        if (column == null && isCellSelectionEnabled) continue;
+                    // if I'm in cell selection mode but the column is null, I don't want
+                    // to select the whole row instead...
+                    if (column == null) continue;
 
-                        cellsToSelect.add(new TablePosition<>(tableView, _row, column));
-                        // end copy/paste
-                    }
+                    cellsOfRow.add(new TablePosition<>(tableView, fromRow, column));
                 }
             }
 
-            // to prevent duplication we remove all currently selected cells from
-            // our list of cells to select.
-            cellsToSelect.removeAll(getSelectedCells());
-
-            selectedCellsMap.addAll(cellsToSelect);
+            selectedCellsMap.addRange(fromRow, toRow, cellsOfRow);
             stopAtomic();
 
             // fire off events.
@@ -2920,25 +2879,13 @@ public class TableView<S> extends Control {
             final int row = tp.getRow();
             final boolean columnIsNull = tp.getTableColumn() == null;
 
-            List<TablePosition> toRemove = new ArrayList<>();
-            for (TablePosition pos : getSelectedCells()) {
-                if (!csMode) {
-                    if (pos.getRow() == row) {
-                        toRemove.add(pos);
-                        break;
-                    }
-                } else {
-                    if (columnIsNull && pos.getRow() == row) {
-                        // if we are in cell selection mode and the column is null,
-                        // we remove all items in the row
-                        toRemove.add(pos);
-                    } else if (pos.equals(tp)) {
-                        toRemove.add(tp);
-                        break;
-                    }
-                }
+            if (!csMode || columnIsNull) {
+                // if we are in cell selection mode and the column is null,
+                // we remove all items in the row
+                selectedCellsMap.removeRow(row);
+            } else {
+                selectedCellsMap.remove(tp);
             }
-            toRemove.stream().forEach(selectedCellsMap::remove);
 
             if (isEmpty() && ! isAtomic()) {
                 updateSelectedIndex(-1);
@@ -2947,7 +2894,7 @@ public class TableView<S> extends Control {
         }
 
         @Override public void clearSelection() {
-            final List<TablePosition<S,?>> removed = new ArrayList<>((Collection)getSelectedCells());
+            final List<TablePosition<S,?>> removed = selectedCellsMap.snapshot();
 
             quietClearSelection();
 
@@ -3184,7 +3131,7 @@ public class TableView<S> extends Control {
             // Allow removing the row index if cell selection is not enabled or
             // if such row doesn't have any selected cells
             IntPredicate removeRowFilter = row -> !isCellSelectionEnabled() ||
-                    getSelectedCells().stream().noneMatch(tp -> tp.getRow() == row);
+                    !selectedCellsMap.isSelected(row, -1);
             ControlUtils.updateSelectedIndices(this, this.isCellSelectionEnabled(), c, removeRowFilter);
 
             if (isAtomic()) {
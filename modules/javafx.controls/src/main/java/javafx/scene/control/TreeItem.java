@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -44,6 +44,7 @@ import javafx.event.EventType;
 import javafx.scene.Node;
 
 import com.sun.javafx.event.EventHandlerManager;
+import com.sun.javafx.scene.control.RowCountIndex;
 import java.util.Comparator;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanWrapper;
@@ -366,6 +367,7 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
         new EventHandler<>() {
             @Override public void handle(TreeModificationEvent<Object> event) {
                 expandedDescendentCountDirty = true;
+                childRowCountChanged(event.getTreeItem());
             }
     };
 
@@ -404,6 +406,27 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
     // when all children are collapsed.
     int previousExpandedDescendentCount = 1;
 
+    // The number of rows taken by each child and its expanded descendants, in
+    // the order of childRowList (the children list the index was built from).
+    // This lets TreeView and TreeTableView map between rows and items in
+    // logarithmic time. The index is rebuilt when the children change, and
+    // otherwise only updated for the children in childRowChanges, that is the
+    // children below which an expanded item count change event was fired.
+    private RowCountIndex childRowIndex;
+    private List<TreeItem<T>> childRowList;
+    private boolean childRowIndexValid = false;
+    private List<TreeItem<?>> childRowChanges;
+    private int childRowStamp;
+
+    // The position of this item in the children of its parent, when the
+    // parent last built its child row index. It is only a hint, and is
+    // checked before use.
+    private int childRowHint = -1;
+
+    // Above this number of pending changes, rebuilding the child row index is
+    // cheaper than updating it
+    private static final int MAX_CHILD_ROW_CHANGES = 32;
+
     Comparator<TreeItem<T>> lastComparator = null;
     TreeSortMode lastSortMode = null;
 
@@ -422,6 +445,7 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
     // called whenever the contents of the children sequence changes
     private ListChangeListener<TreeItem<T>> childrenListener = c -> {
         expandedDescendentCountDirty = true;
+        invalidateChildRowIndex();
         updateChildren(c);
     };
 
@@ -915,12 +939,113 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
 
         ignoreSortUpdate = true;
         if (!isLeaf() && isExpanded()) {
-            for (TreeItem<T> child : getChildren()) {
+            expandedDescendentCount += updateChildRowIndex(getChildren(), reset).getTotal();
+        }
+        ignoreSortUpdate = false;
+    }
+
+    // Returns the row counts of the given children of this item, for use by
+    // TreeView and TreeTableView. The list is either the result of
+    // getChildren() or the children field, depending on whether the caller
+    // may cause the children to be populated.
+    RowCountIndex getChildRowIndex(List<TreeItem<T>> list) {
+        return updateChildRowIndex(list, false);
+    }
+
+    // Returns the position of the given child in the list passed to the last
+    // call to getChildRowIndex(List), or -1
+    int indexOfChildRow(TreeItem<?> child) {
+        List<TreeItem<T>> list = childRowList;
+        if (child == null || list == null) return -1;
+
+        int hint = child.childRowHint;
+        if (hint >= 0 && hint < list.size() && list.get(hint) == child) {
+            return hint;
+        }
+        for (int i = 0, max = list.size(); i < max; i++) {
+            if (list.get(i) == child) {
+                child.childRowHint = i;
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private RowCountIndex updateChildRowIndex(List<TreeItem<T>> list, boolean reset) {
+        if (list == null) {
+            list = Collections.emptyList();
+        }
+
+        if (reset || !childRowIndexValid || childRowIndex == null || list != childRowList) {
+            childRowList = list;
+            childRowIndexValid = true;
+            childRowChanges = null;
+            int stamp = childRowStamp;
+
+            int size = list.size();
+            int[] counts = new int[size];
+            for (int i = 0; i < size; i++) {
+                TreeItem<T> child = list.get(i);
                 if (child == null) continue;
-                expandedDescendentCount += child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
+                child.childRowHint = i;
+                counts[i] = child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
+            }
+            if (childRowIndex == null) {
+                childRowIndex = new RowCountIndex(counts, size);
+            } else {
+                childRowIndex.setAll(counts, size);
+            }
+
+            // the children may have changed while the counts were computed,
+            // for example by a TreeItem that populates its children lazily
+            if (stamp != childRowStamp) {
+                childRowIndexValid = false;
+            }
+        } else if (childRowChanges != null) {
+            // computing the counts may record new changes, which are
+            // applied the next time
+            List<TreeItem<?>> changes = childRowChanges;
+            childRowChanges = null;
+            for (TreeItem<?> child : changes) {
+                int i = indexOfChildRow(child);
+                if (i >= 0 && i < childRowIndex.size()) {
+                    childRowIndex.set(i, child.isExpanded() ? child.getExpandedDescendentCount(false) : 1);
+                }
             }
         }
-        ignoreSortUpdate = false;
+        return childRowIndex;
+    }
+
+    private void invalidateChildRowIndex() {
+        childRowStamp++;
+        childRowIndexValid = false;
+        childRowChanges = null;
+    }
+
+    // Records that the number of rows taken by the child containing the given
+    // descendant may have changed
+    private void childRowCountChanged(TreeItem<?> descendant) {
+        if (!childRowIndexValid || descendant == this) return;
+
+        TreeItem<?> child = descendant;
+        while (child != null && child.getParent() != this) {
+            child = child.getParent();
+        }
+        if (child == null) {
+            invalidateChildRowIndex();
+            return;
+        }
+
+        if (childRowChanges == null) {
+            childRowChanges = new ArrayList<>();
+        }
+        int count = childRowChanges.size();
+        if (count > 0 && childRowChanges.get(count - 1) == child) return;
+        if (count >= MAX_CHILD_ROW_CHANGES && count >= childRowIndex.size() / 8) {
+            invalidateChildRowIndex();
+            return;
+        }
+        childRowChanges.add(child);
     }
 
     private void updateChildren(ListChangeListener.Change<? extends TreeItem<T>> c) {
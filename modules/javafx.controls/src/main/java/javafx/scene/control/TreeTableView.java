@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,14 +25,12 @@
 
 package javafx.scene.control;
 
-import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -758,10 +756,6 @@ public class TreeTableView<S> extends Control {
     // be recalculated.
     private boolean expandedItemCountDirty = true;
 
-    // Used in the getTreeItem(int row) method to act as a cache.
-    // See JDK-8125681 for the justification and performance gains.
-    private Map<Integer, SoftReference<TreeItem<S>>> treeItemCacheMap = new HashMap<>();
-
     // this is the only publicly writable list for columns. This represents the
     // columns as they are given initially by the developer.
     private final ObservableList<TreeTableColumn<S,?>> columns = FXCollections.observableArrayList();
@@ -1789,7 +1783,7 @@ public class TreeTableView<S> extends Control {
      *      collapsed).
      */
     public int getRow(TreeItem<S> item) {
-        return TreeUtil.getRow(item, getRoot(), expandedItemCountDirty, isShowRoot());
+        return TreeUtil.getRow(item, getRoot(), isShowRoot());
     }
 
     /**
@@ -1806,19 +1800,11 @@ public class TreeTableView<S> extends Control {
 
         if (expandedItemCountDirty) {
             updateExpandedItemCount(getRoot());
-        } else {
-            if (treeItemCacheMap.containsKey(_row)) {
-                SoftReference<TreeItem<S>> treeItemRef = treeItemCacheMap.get(_row);
-                TreeItem<S> treeItem = treeItemRef.get();
-                if (treeItem != null) {
-                    return treeItem;
-                }
-            }
         }
 
-        TreeItem<S> treeItem = TreeUtil.getItem(getRoot(), _row, expandedItemCountDirty);
-        treeItemCacheMap.put(_row, new SoftReference<>(treeItem));
-        return treeItem;
+        // the row counts kept by each TreeItem make this lookup logarithmic
+        // in the size of the tree, so the result is not cached
+        return TreeUtil.getItem(getRoot(), _row);
     }
 
     /**
@@ -1992,9 +1978,25 @@ public class TreeTableView<S> extends Control {
         }
 
         TreeTableViewSelectionModel<S> selectionModel = getSelectionModel();
-        final List<TreeTablePosition<S,?>> prevState = (selectionModel == null) ?
-                null :
-                new ArrayList<>(selectionModel.getSelectedCells());
+        // only the blocks of the selection are copied, not its cells
+        final List<TreeTablePosition<S,?>> prevState = selectionModel instanceof TreeTableViewArrayListSelectionModel ?
+                ((TreeTableViewArrayListSelectionModel<S>) selectionModel).selectedCellsMap.snapshot() :
+                null;
+
+        // the parents of the selected items, whose children are sorted on demand
+        // when sorting all the descendants
+        final Set<TreeItem<S>> selectedParents = new HashSet<>();
+        if (prevState != null && getSortMode() == TreeSortMode.ALL_DESCENDANTS) {
+            SelectedCellsMap.forEachRow(prevState, row -> {
+                // This null check is not required ideally.
+                // The tree item of a selected row should always be a valid TreeItem.
+                // But, it is possible to be null due to JDK-8248217.
+                TreeItem<S> treeItem = getTreeItem(row);
+                if (treeItem != null && treeItem.getParent() != null) {
+                    selectedParents.add(treeItem.getParent());
+                }
+            });
+        }
 
         // we set makeAtomic to true here, so that we don't fire intermediate
         // sort events - instead we send a single permutation event at the end
@@ -2011,21 +2013,12 @@ public class TreeTableView<S> extends Control {
         }
         Boolean success = sortPolicy.call(this);
 
-        if (prevState != null) {
-            if (getSortMode() == TreeSortMode.ALL_DESCENDANTS) {
-                Set<TreeItem<S>> sortedParents = new HashSet<>();
-                for (TreeTablePosition<S,?> selectedPosition : prevState) {
-                    // This null check is not required ideally.
-                    // The selectedPosition.getTreeItem() should always return a valid TreeItem.
-                    // But, it is possible to be null due to JDK-8248217.
-                    if (selectedPosition.getTreeItem() != null) {
-                        TreeItem<S> parent = selectedPosition.getTreeItem().getParent();
-                        while (parent != null && sortedParents.add(parent)) {
-                            parent.getChildren();
-                            parent = parent.getParent();
-                        }
-                    }
-                }
+        Set<TreeItem<S>> sortedParents = new HashSet<>();
+        for (TreeItem<S> selectedParent : selectedParents) {
+            TreeItem<S> parent = selectedParent;
+            while (parent != null && sortedParents.add(parent)) {
+                parent.getChildren();
+                parent = parent.getParent();
             }
         }
 
@@ -2048,14 +2041,9 @@ public class TreeTableView<S> extends Control {
                 final TreeTableViewArrayListSelectionModel<S> sm = (TreeTableViewArrayListSelectionModel<S>)selectionModel;
                 final ObservableList<TreeTablePosition<S, ?>> newState = sm.getSelectedCells();
 
-                List<TreeTablePosition<S, ?>> removed = new ArrayList<>();
-                if (prevState != null) {
-                    for (TreeTablePosition<S, ?> prevItem: prevState) {
-                        if (!newState.contains(prevItem)) {
-                            removed.add(prevItem);
-                        }
-                    }
-                }
+                List<TreeTablePosition<S, ?>> removed = prevState == null ?
+                        List.of() :
+                        sm.selectedCellsMap.removedSince(prevState);
 
                 if (!removed.isEmpty()) {
                     // the sort operation effectively permutates the selectedCells list,
@@ -2116,13 +2104,7 @@ public class TreeTableView<S> extends Control {
     }
 
     private void updateExpandedItemCount(TreeItem<S> treeItem) {
-        setExpandedItemCount(TreeUtil.updateExpandedItemCount(treeItem, expandedItemCountDirty, isShowRoot()));
-
-        if (expandedItemCountDirty) {
-            // this is a very inefficient thing to do, but for now having a cache
-            // is better than nothing at all...
-            treeItemCacheMap.clear();
-        }
+        setExpandedItemCount(TreeUtil.updateExpandedItemCount(treeItem, isShowRoot()));
 
         expandedItemCountDirty = false;
     }
@@ -2602,6 +2584,12 @@ public class TreeTableView<S> extends Control {
                 @Override public boolean isCellSelectionEnabled() {
                     return TreeTableViewArrayListSelectionModel.this.isCellSelectionEnabled();
                 }
+
+                @Override protected TreeTablePosition<S,?> createPosition(int row, TableColumnBase<?,?> column, int columnIndex) {
+                    TreeTablePosition<S,?> pos = new TreeTablePosition<>(getTreeTableView(), row, (TreeTableColumn<S,?>) column);
+                    pos.fixedColumnIndex = columnIndex;
+                    return pos;
+                }
             };
 
             selectedCellsSeq = new ReadOnlyUnbackedObservableList<>() {
@@ -2612,6 +2600,14 @@ public class TreeTableView<S> extends Control {
                 @Override public int size() {
                     return selectedCellsMap.size();
                 }
+
+                @Override public int indexOf(Object o) {
+                    return o instanceof TreeTablePosition ? selectedCellsMap.indexOf((TreeTablePosition<S,?>) o) : -1;
+                }
+
+                @Override public List<TreeTablePosition<S,?>> subList(int fromIndex, int toIndex) {
+                    return selectedCellsMap.subList(fromIndex, toIndex);
+                }
             };
 //            selectedCellsSeq.addListener((ListChangeListener<? super TreeTablePosition<S,?>>) c -> {
 //                ControlUtils.updateSelectedIndices(this, c);
@@ -2753,26 +2749,20 @@ public class TreeTableView<S> extends Control {
                         startRow++;
                     } else if (e.wasPermutated()) {
                         // Approach:
-                        // Get the current selection.
-                        // Create a new selection with updated index(row).
+                        // Work out the new row of each row below the permutated children,
+                        // from the permutation and the number of rows of each child.
+                        // Create a new selection with the selected rows moved to their new
+                        // rows, without creating the selected cells.
                         // Update the current selection with new selection.
                         // If sorting is in progress then one Selection change event will be sent from
                         // TreeTableView.sort() method, and should not be sent from here.
                         // else, in case otherwise, the selection change events would be generated.
                         // Do not call shiftSelection() in case of permutation change(when shift == 0).
 
-                        List<TreeTablePosition<S, ?>> currentSelection = new ArrayList<>(selectedCellsMap.getSelectedCells());
-                        List<TreeTablePosition<S, ?>> updatedSelection = new ArrayList<>();
+                        List<TreeTablePosition<S, ?>> updatedSelection = change == null ?
+                                null : permuteSelection(treeItem, change);
 
-                        boolean selectionIndicesChanged = false;
-                        for (TreeTablePosition<S, ?> selectedCell : currentSelection) {
-                            int newRow = treeTableView.getRow(selectedCell.getTreeItem());
-                            if (selectedCell.getRow() != newRow) {
-                                selectionIndicesChanged = true;
-                            }
-                            updatedSelection.add(new TreeTablePosition<>(selectedCell, newRow));
-                        }
-                        if (selectionIndicesChanged) {
+                        if (updatedSelection != null) {
                             if (treeTableView.isSortingInProgress()) {
                                 startAtomic();
                                 selectedCellsMap.setAll(updatedSelection);
@@ -2869,24 +2859,12 @@ public class TreeTableView<S> extends Control {
 
                             final int clearIndex = param.getClearIndex();
                             final int setIndex = param.getSetIndex();
-                            TreeTablePosition<S,?> oldTP = null;
                             if (clearIndex > -1) {
-                                for (int i = 0; i < selectedCellsMap.size(); i++) {
-                                    TreeTablePosition<S,?> tp = selectedCellsMap.get(i);
-                                    if (tp.getRow() == clearIndex) {
-                                        oldTP = tp;
-                                        selectedCellsMap.remove(tp);
-                                    } else if (tp.getRow() == setIndex && !param.isSelected()) {
-                                        selectedCellsMap.remove(tp);
-                                    }
-                                }
-                            }
-
-                            if (oldTP != null && param.isSelected()) {
-                                TreeTablePosition<S,?> newTP = new TreeTablePosition<>(
-                                        treeTableView, param.getSetIndex(), oldTP.getTableColumn());
-
-                                selectedCellsMap.add(newTP);
+                                // the cells are moved quietly, as listening to each of them would
+                                // make shifting the selection quadratic in the number of rows
+                                selectedCellsMap.shiftRow(clearIndex, setIndex);
+                                selectedIndices.clear(clearIndex);
+                                selectedIndices.set(setIndex, param.isSelected());
                             }
 
                             stopAtomic();
@@ -2898,6 +2876,63 @@ public class TreeTableView<S> extends Control {
             }
         };
 
+        // Returns the selection after the permutation of the children of the given
+        // tree item, or null if no selected row is moved
+        private List<TreeTablePosition<S,?>> permuteSelection(TreeItem<S> treeItem,
+                                                              ListChangeListener.Change<? extends TreeItem<?>> change) {
+            final int from = change.getFrom();
+            final int to = change.getTo();
+            final int parentRow = treeTableView.getRow(treeItem);
+            if (!ControlUtils.isTreeItemIncludingAncestorsExpanded(treeItem) ||
+                    (parentRow < 0 && treeItem != treeTableView.getRoot())) {
+                // the children are not shown
+                return null;
+            }
+
+            // the children in their previous order, which is given by the permutation
+            // or, when the children were set again, by the removed children
+            final List<TreeItem<S>> children = treeItem.children;
+            final List<TreeItem<?>> oldChildren = new ArrayList<>(to - from);
+            if (change.wasPermutated()) {
+                for (int i = from; i < to; i++) {
+                    oldChildren.add(children.get(change.getPermutation(i)));
+                }
+            } else if (change.getRemovedSize() == to - from) {
+                oldChildren.addAll(change.getRemoved());
+            } else {
+                return null;
+            }
+
+            // the first row of each child in the new order
+            int startRow = parentRow + 1;
+            for (int i = 0; i < from; i++) {
+                startRow += getRowCount(children.get(i));
+            }
+            final Map<TreeItem<?>, Integer> newStartRows = new IdentityHashMap<>();
+            int rowCount = 0;
+            for (int i = from; i < to; i++) {
+                newStartRows.put(children.get(i), startRow + rowCount);
+                rowCount += getRowCount(children.get(i));
+            }
+
+            final int[] newRows = new int[rowCount];
+            int index = 0;
+            for (TreeItem<?> child : oldChildren) {
+                Integer newStartRow = newStartRows.get(child);
+                if (newStartRow == null) {
+                    return null;
+                }
+                for (int i = 0, max = getRowCount(child); i < max; i++) {
+                    newRows[index++] = newStartRow + i;
+                }
+            }
+            return selectedCellsMap.permuteRows(startRow, newRows);
+        }
+
+        private static int getRowCount(TreeItem<?> item) {
+            return item.isExpanded() ? item.getExpandedDescendentCount(false) : 1;
+        }
+
         private WeakChangeListener<TreeItem<S>> weakRootPropertyListener =
                 new WeakChangeListener<>(rootPropertyListener);
 
@@ -2950,7 +2985,7 @@ public class TreeTableView<S> extends Control {
 
             // firstly we make a copy of the selection, so that we can send out
             // the correct details in the selection change event.
-            List<TreeTablePosition<S,?>> previousSelection = new ArrayList<>(selectedCellsMap.getSelectedCells());
+            List<TreeTablePosition<S,?>> previousSelection = selectedCellsMap.snapshot();
 
             // secondly we check if we can short-circuit out of here because the new selection
             // equals the current selection
@@ -2981,16 +3016,12 @@ public class TreeTableView<S> extends Control {
             stopAtomic();
 
             // We remove the new selection from the list seeing as it is not removed.
-            if (isCellSelectionEnabled) {
-                previousSelection.remove(newTablePosition);
-            } else {
-                for (TreeTablePosition<S,?> tp : previousSelection) {
-                    if (tp.getRow() == row) {
-                        previousSelection.remove(tp);
-                        break;
-                    }
-                }
-            }
+            // The snapshot only copies the blocks of the selection, so the cell
+            // is removed by index rather than from a copy of its cells.
+            final int newIndex = isCellSelectionEnabled ?
+                    previousSelection.indexOf(newTablePosition) :
+                    SelectedCellsMap.indexOfRow(previousSelection, row);
+            previousSelection = SelectedCellsMap.removeFromSnapshot(previousSelection, newIndex);
 
             // fire off a single add/remove/replace notification (rather than
             // individual remove and add notifications) - see JDK-8119264
@@ -3165,36 +3196,32 @@ public class TreeTableView<S> extends Control {
         @Override public void selectAll() {
             if (getSelectionMode() == SelectionMode.SINGLE) return;
 
+            // the positions of the selected cells are only created when
+            // they are needed, see SelectedCellsMap
+            final TreeTableView<S> view = getTreeTableView();
+            final int rowCount = getRowCount();
             if (isCellSelectionEnabled()) {
-                List<TreeTablePosition<S,?>> indices = new ArrayList<>();
-                TreeTableColumn<S,?> column;
-                TreeTablePosition<S,?> tp = null;
-                for (int col = 0; col < getTreeTableView().getVisibleLeafColumns().size(); col++) {
-                    column = getTreeTableView().getVisibleLeafColumns().get(col);
-                    for (int row = 0; row < getRowCount(); row++) {
-                        tp = new TreeTablePosition<>(getTreeTableView(), row, column);
-                        indices.add(tp);
-                    }
+                final List<TreeTableColumn<S,?>> columns = new ArrayList<>(view.getVisibleLeafColumns());
+                final List<TreeTablePosition<S,?>> cellsOfRow = new ArrayList<>(columns.size());
+                for (TreeTableColumn<S,?> column : columns) {
+                    cellsOfRow.add(new TreeTablePosition<>(view, 0, column, false));
                 }
-                selectedCellsMap.setAll(indices);
+                selectedCellsMap.setRange(0, rowCount, cellsOfRow);
 
-                if (tp != null) {
-                    select(tp.getRow(), tp.getTableColumn());
-                    focus(tp.getRow(), tp.getTableColumn());
+                if (rowCount > 0 && !columns.isEmpty()) {
+                    TreeTableColumn<S,?> column = columns.get(columns.size() - 1);
+                    select(rowCount - 1, column);
+                    focus(rowCount - 1, column);
                 }
             } else {
-                List<TreeTablePosition<S,?>> indices = new ArrayList<>();
-                for (int i = 0; i < getRowCount(); i++) {
-                    indices.add(new TreeTablePosition<>(getTreeTableView(), i, null));
-                }
-                selectedCellsMap.setAll(indices);
+                selectedCellsMap.setRange(0, rowCount, List.of(new TreeTablePosition<>(view, 0, null, false)));
 
                 int focusedIndex = getFocusedIndex();
                 if (focusedIndex == -1) {
                     final int itemCount = getItemCount();
                     if (itemCount > 0) {
                         select(itemCount - 1);
-                        focus(indices.get(indices.size() - 1));
+                        focus(new TreeTablePosition<>(view, rowCount - 1, null));
                     }
                 } else {
                     select(focusedIndex);
@@ -3224,34 +3251,27 @@ public class TreeTableView<S> extends Control {
             final int _minRow = Math.min(minRow, maxRow);
             final int _maxRow = Math.max(minRow, maxRow);
 
-            List<TreeTablePosition<S,?>> cellsToSelect = new ArrayList<>();
-
-            for (int _row = _minRow; _row <= _maxRow; _row++) {
-                // begin copy/paste of select(int, column) method (with some
-                // slight modifications)
-                if (_row < 0 || _row >= itemCount) continue;
+            // the same cells are selected in each row of the range, so that the
+            // range is added to the selection as a single block
+            final int fromRow = Math.max(0, _minRow);
+            final int toRow = Math.min(itemCount, _maxRow + 1);
+            final List<TreeTablePosition<S,?>> cellsOfRow = new ArrayList<>();
 
-                if (! isCellSelectionEnabled) {
-                    cellsToSelect.add(new TreeTablePosition<>(treeTableView, _row, (TreeTableColumn<S,?>)minColumn));
-                } else {
-                    for (int _col = _minColumnIndex; _col <= _maxColumnIndex; _col++) {
-                        final TreeTableColumn<S, ?> column = treeTableView.getVisibleLeafColumn(_col);
+            if (! isCellSelectionEnabled) {
+                cellsOfRow.add(new TreeTablePosition<>(treeTableView, fromRow, (TreeTableColumn<S,?>)minColumn, false));
+            } else {
+                for (int _col = _minColumnIndex; _col <= _maxColumnIndex; _col++) {
+                    final TreeTableColumn<S, ?> column = treeTableView.getVisibleLeafColumn(_col);
 
-                        // if I'm in cell selection mode but the column is null, I don't want
-                        // to select the whole row instead...
-                        if (column == null && isCellSelectionEnabled) continue;
+                    // if I'm in cell selection mode but the column is null, I don't want
+                    // to select the whole row instead...
+                    if (column == null) continue;
 
-                        cellsToSelect.add(new TreeTablePosition<>(treeTableView, _row, column));
-                        // end copy/paste
-                    }
+                    cellsOfRow.add(new TreeTablePosition<>(treeTableView, fromRow, column, false));
                 }
             }
 
-            // to prevent duplication we remove all currently selected cells from
-            // our list of cells to select.
-            cellsToSelect.removeAll(getSelectedCells());
-
-            selectedCellsMap.addAll(cellsToSelect);
+            selectedCellsMap.addRange(fromRow, toRow, cellsOfRow);
             stopAtomic();
 
             // fire off events
@@ -3288,25 +3308,13 @@ public class TreeTableView<S> extends Control {
             final int row = tp.getRow();
             final boolean columnIsNull = tp.getTableColumn() == null;
 
-            List<TreeTablePosition> toRemove = new ArrayList<>();
-            for (TreeTablePosition pos : getSelectedCells()) {
-                if (!csMode) {
-                    if (pos.getRow() == row) {
-                        toRemove.add(pos);
-                        break;
-                    }
-                } else {
-                    if (columnIsNull && pos.getRow() == row) {
-                        // if we are in cell selection mode and the column is null,
-                        // we remove all items in the row
-                        toRemove.add(pos);
-                    } else if (pos.equals(tp)) {
-                        toRemove.add(tp);
-                        break;
-                    }
-                }
+            if (!csMode || columnIsNull) {
+                // if we are in cell selection mode and the column is null,
+                // we remove all items in the row
+                selectedCellsMap.removeRow(row);
+            } else {
+                selectedCellsMap.remove(tp);
             }
-            toRemove.stream().forEach(selectedCellsMap::remove);
 
             if (isEmpty() && ! isAtomic()) {
                 updateSelectedIndex(-1);
@@ -3315,7 +3323,7 @@ public class TreeTableView<S> extends Control {
         }
 
         @Override public void clearSelection() {
-            final List<TreeTablePosition<S,?>> removed = new ArrayList<>((Collection)getSelectedCells());
+            final List<TreeTablePosition<S,?>> removed = selectedCellsMap.snapshot();
 
             quietClearSelection();
 
@@ -3554,7 +3562,7 @@ public class TreeTableView<S> extends Control {
             // Allow removing the row index if cell selection is not enabled or
             // if such row doesn't have any selected cells
             IntPredicate removeRowFilter = row -> !isCellSelectionEnabled() ||
-                    getSelectedCells().stream().noneMatch(tp -> tp.getRow() == row);
+                    !selectedCellsMap.isSelected(row, -1);
             ControlUtils.updateSelectedIndices(this, this.isCellSelectionEnabled(), c, removeRowFilter);
 
             if (isAtomic()) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,73 +27,68 @@ package javafx.scene.control;
 
 import java.util.List;
 
+import com.sun.javafx.scene.control.RowCountIndex;
+
 /**
  * A package protected util class used by TreeView and TreeTableView to reduce
  * the level of code duplication.
  */
 class TreeUtil {
 
-    static <T> int getExpandedDescendantCount(TreeItem<T> node, boolean treeItemCountDirty) {
+    static <T> int getExpandedDescendantCount(TreeItem<T> node) {
         if (node == null) return 0;
         if (node.isLeaf()) return 1;
 
-        return node.getExpandedDescendentCount(treeItemCountDirty);
+        return node.getExpandedDescendentCount(false);
     }
 
-    static int updateExpandedItemCount(TreeItem treeItem, boolean treeItemCountDirty, boolean isShowRoot) {
+    static int updateExpandedItemCount(TreeItem treeItem, boolean isShowRoot) {
         if (treeItem == null) {
             return 0;
         } else if (! treeItem.isExpanded()) {
             return 1;
         } else {
-            int count = getExpandedDescendantCount(treeItem, treeItemCountDirty);
+            int count = getExpandedDescendantCount(treeItem);
             if (! isShowRoot) count--;
 
             return count;
         }
     }
 
-    static <T> TreeItem<T> getItem(TreeItem<T> parent, int itemIndex, boolean treeItemCountDirty) {
+    static <T> TreeItem<T> getItem(TreeItem<T> parent, int itemIndex) {
         if (parent == null) return null;
 
         // if itemIndex is 0 then our parent is what we were looking for
         if (itemIndex == 0) return parent;
 
         // if itemIndex is > the total item count, then it is out of range
-        if (itemIndex >= getExpandedDescendantCount(parent, treeItemCountDirty)) return null;
-
-        // if we got here, then one of our descendants is the item we're after
-        List<TreeItem<T>> children = parent.getChildren();
-        if (children == null) return null;
+        if (itemIndex >= getExpandedDescendantCount(parent)) return null;
 
-        int idx = itemIndex - 1;
+        // if we got here, then one of our descendants is the item we're after.
+        // At each level, the row counts of the children tell us which child
+        // holds the item, so we descend without visiting the other siblings.
+        TreeItem<T> node = parent;
+        int idx = itemIndex;
+        while (idx > 0) {
+            if (node.isLeaf() || ! node.isExpanded()) return null;
 
-        TreeItem<T> child;
-        for (int i = 0, max = children.size(); i < max; i++) {
-            child = children.get(i);
-            if (idx == 0) return child;
+            // getChildren() may populate or sort the children
+            List<TreeItem<T>> children = node.getChildren();
+            if (children == null) return null;
 
-            if (child.isLeaf() || ! child.isExpanded()) {
-                idx--;
-                continue;
-            }
+            RowCountIndex rowCounts = node.getChildRowIndex(children);
+            int i = rowCounts.getIndexAt(idx - 1);
 
-            int expandedChildCount = getExpandedDescendantCount(child, treeItemCountDirty);
-            if (idx >= expandedChildCount) {
-                idx -= expandedChildCount;
-                continue;
-            }
+            // We might get here if getItem(0) is called on an empty tree
+            if (i < 0) return null;
 
-            TreeItem<T> result = getItem(child, idx, treeItemCountDirty);
-            if (result != null) return result;
-            idx--;
+            idx -= 1 + rowCounts.getSum(i);
+            node = children.get(i);
         }
-
-        // We might get here if getItem(0) is called on an empty tree
-        return null;
+        return node;
     }
 
-    static <T> int getRow(TreeItem<T> item, TreeItem<T> root, boolean treeItemCountDirty, boolean isShowRoot) {
+    static <T> int getRow(TreeItem<T> item, TreeItem<T> root, boolean isShowRoot) {
         if (item == null) {
             return -1;
         } else if (isShowRoot && item.equals(root)) {
@@ -104,8 +99,6 @@ class TreeUtil {
         TreeItem<T> i = item;
         TreeItem<T> p = item.getParent();
 
-        TreeItem<T> sibling;
-        List<TreeItem<T>> siblings;
         boolean parentIsCollapsed = false;
 
         while (!i.equals(root) && p != null) {
@@ -114,25 +107,22 @@ class TreeUtil {
                 break;
             }
 
-            siblings = p.children;
-
-            // work up each sibling, from the current item
-            int itemIndex = siblings.indexOf(i);
-            for (int pos = itemIndex - 1; pos > -1; pos--) {
-                sibling = siblings.get(pos);
-                if (sibling == null) continue;
-
-                row += getExpandedDescendantCount(sibling, treeItemCountDirty);
-
-                if (sibling.equals(root)) {
+            // add the rows of all the siblings before the current item
+            // (the children field is used so that they are not populated)
+            RowCountIndex rowCounts = p.getChildRowIndex(p.children);
+            int itemIndex = p.indexOfChildRow(i);
+            if (itemIndex > 0) {
+                int rootIndex = root != null && root.getParent() == p ? p.indexOfChildRow(root) : -1;
+                if (rootIndex >= 0 && rootIndex < itemIndex) {
                     if (! isShowRoot) {
                         // special case: we've found out that our sibling is
                         // actually the root node AND we aren't showing root nodes.
                         // This means that the item shouldn't actually be shown.
                         return -1;
                     }
-                    return row;
+                    return row + rowCounts.getSum(itemIndex) - rowCounts.getSum(rootIndex);
                 }
+                row += rowCounts.getSum(itemIndex);
             }
 
             i = p;
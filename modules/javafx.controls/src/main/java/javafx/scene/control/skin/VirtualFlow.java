@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package javafx.scene.control.skin;
 
 import com.sun.javafx.scene.ParentHelper;
+import com.sun.javafx.scene.control.CellSizeIndex;
 import com.sun.javafx.scene.control.Logging;
 import com.sun.javafx.scene.control.Properties;
 import com.sun.javafx.scene.control.VirtualScrollBar;
@@ -275,15 +276,16 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     double estimatedSize = -1d;
 
     /**
-     * A list containing the cached version of the calculated size (height for
-     * vertical, width for horizontal) for a (fictive or real) cell for
-     * each element of the backing data.
-     * This list is used to calculate the estimatedSize.
-     * The list is not expected to be complete, but it is always up to date.
-     * When the size of the items in the backing list changes, this list is
+     * A cache containing the calculated size (height for vertical, width for
+     * horizontal) for a (fictive or real) cell for each element of the backing
+     * data.
+     * This cache is used to calculate the estimatedSize, and to map between
+     * item indices and offsets in logarithmic time.
+     * The cache is not expected to be complete, but it is always up to date.
+     * When the size of the items in the backing list changes, this cache is
      * cleared.
      */
-    private ArrayList<Double> itemSizeCache = new ArrayList<>();
+    private final CellSizeIndex itemSizeCache = new CellSizeIndex();
 
     // used for panning the virtual flow
     private double lastX;
@@ -2937,23 +2939,17 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private double computeViewportOffset(double position, int localCellCount) {
-        double p = com.sun.javafx.util.Utils.clamp(0, position, 1);
-        double bound = 0d;
         double estSize = estimatedSize / localCellCount;
         double maxOff = estimatedSize - getViewportLength();
         if ((maxOff > 0) && (absoluteOffset > maxOff)) {
             return maxOff - absoluteOffset;
         }
 
-        for (int i = 0; i < localCellCount; i++) {
-            double h = getCellSize(i);
-            if (h < 0) h = estSize;
-            if (bound + h > absoluteOffset) {
-                return absoluteOffset - bound;
-            }
-            bound += h;
+        int index = itemSizeCache.getIndexAt(absoluteOffset, estSize, localCellCount);
+        if (index < 0 || index >= localCellCount) {
+            return 0d;
         }
-        return 0d;
+        return absoluteOffset - itemSizeCache.getOffset(index, estSize);
     }
 
     private void adjustPositionToIndex(int index) {
@@ -2964,13 +2960,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         if (cellCount <= 0) {
             setPosition(0.0f);
         } else {
-            double targetOffset = 0;
             double estSize = estimatedSize/cellCount;
-            for (int i = 0; i < index; i++) {
-                double cz = getCellSize(i);
-                if (cz < 0) cz = estSize;
-                targetOffset = targetOffset+ cz;
-            }
+            double targetOffset = itemSizeCache.getOffset(index, estSize);
             this.absoluteOffset = (estimatedSize < viewportLength)  ? 0  : targetOffset;
             adjustPosition();
         }
@@ -3025,15 +3016,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private double computeBaseOffset(int index) {
-        double baseOffset = 0d;
-        int currentCellCount = getCellCount();
-        double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < index; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            baseOffset += nextSize;
-        }
-        return baseOffset;
+        double estSize = estimatedSize / getCellCount();
+        return itemSizeCache.getOffset(index, estSize);
     }
 
     /**
@@ -3045,17 +3029,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private int computeCurrentIndex(int currentCellCount) {
-        double total = 0;
-        double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < currentCellCount; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            total = total + nextSize;
-            if (total > absoluteOffset) {
-                return i;
-            }
+        if (currentCellCount <= 0) {
+            return 0;
         }
-        return currentCellCount == 0 ? 0 : currentCellCount - 1;
+        double estSize = estimatedSize / currentCellCount;
+        int index = itemSizeCache.getIndexAt(absoluteOffset, estSize, currentCellCount);
+        return index >= currentCellCount ? currentCellCount - 1 : index;
     }
 
     /**
@@ -3087,21 +3066,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private double getOrCreateCellSize (int idx, boolean create) {
         if (idx < 0) return -1;
-        // is the current cache long enough to contain idx?
-        if (itemSizeCache.size() > idx) {
-            // is there a non-null value stored in the cache?
-            if (itemSizeCache.get(idx) != null) {
-                return itemSizeCache.get(idx);
-            }
+        // is there a value stored in the cache?
+        if (itemSizeCache.isKnown(idx)) {
+            return itemSizeCache.get(idx);
         }
         if (!create) return -1;
         boolean doRelease = false;
 
-        // Make sure we have enough space in the cache to store this index
-        while (idx >= itemSizeCache.size()) {
-            itemSizeCache.add(itemSizeCache.size(), null);
-        }
-
         double answer = 1d;
         if (getFixedCellSize() > 0) {
             answer = getFixedCellSize();
@@ -3141,10 +3112,11 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         int cellIndex = cell.getIndex();
 
         if (itemSizeCache.size() > cellIndex) {
-            Double oldSize = itemSizeCache.get(cellIndex);
+            boolean known = itemSizeCache.isKnown(cellIndex);
+            double oldSize = itemSizeCache.get(cellIndex);
             double newSize = getCellLength(cell);
             itemSizeCache.set(cellIndex, newSize);
-            if ((oldSize != null) && !oldSize.equals(newSize)) {
+            if (known && (Double.compare(oldSize, newSize) != 0)) {
                 int currentIndex = computeCurrentIndex();
                 double oldOffset = computeViewportOffset(getPosition());
                 if ((cellIndex == currentIndex) && (oldOffset != 0)) {
@@ -3189,28 +3161,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                 getOrCreateCellSize(itemSizeCache.size());
                 added++;
             }
-            cacheCount = itemSizeCache.size();
-            int cnt = 0;
-            double tot = 0d;
-            for (int i = 0; (i < itemCount && i < cacheCount); i++) {
-                Double il = itemSizeCache.get(i);
-                if (il != null) {
-                    tot = tot + il;
-                    cnt++;
-                }
-            }
+            int cnt = itemSizeCache.getKnownCount(itemCount);
+            double tot = itemSizeCache.getKnownSum(itemCount);
             this.estimatedSize = cnt == 0 ? 1d : tot * itemCount / cnt;
             double estSize = estimatedSize / itemCount;
 
             if (keepRatio) {
-                double newOffset = 0;
-                for (int i = 0; i < oldIndex; i++) {
-                    double h = getCellSize(i);
-                    if (h < 0) {
-                        h = estSize;
-                    }
-                    newOffset += h;
-                }
+                double newOffset = itemSizeCache.getOffset(oldIndex, estSize);
                 this.absoluteOffset = newOffset + oldOffset;
                 adjustPosition();
             }
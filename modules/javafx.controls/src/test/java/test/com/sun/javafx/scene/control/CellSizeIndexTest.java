@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.javafx.scene.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import com.sun.javafx.scene.control.CellSizeIndex;
+
+public class CellSizeIndexTest {
+
+    @Test
+    public void testEmptyIndex() {
+        CellSizeIndex index = new CellSizeIndex();
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(0), 0);
+        assertFalse(index.isKnown(0));
+        assertEquals(0, index.getKnownCount(10));
+        assertEquals(0, index.getKnownSum(10), 0);
+        assertEquals(50, index.getOffset(5, 10), 0);
+        assertEquals(2, index.getIndexAt(25, 10, 5));
+        assertEquals(5, index.getIndexAt(50, 10, 5));
+        assertEquals(0, index.getIndexAt(-1, 10, 5));
+    }
+
+    @Test
+    public void testSetGrowsSize() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(100, 24);
+        assertEquals(101, index.size());
+        assertTrue(index.isKnown(100));
+        assertFalse(index.isKnown(99));
+        assertEquals(24, index.get(100), 0);
+        assertEquals(-1, index.get(99), 0);
+        assertEquals(1, index.getKnownCount(101));
+        assertEquals(0, index.getKnownCount(100));
+    }
+
+    @Test
+    public void testOffsetUsesEstimateForUnknownSizes() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(0, 10);
+        index.set(2, 30);
+        // 10 + 5 + 30 + 5 + 5
+        assertEquals(55, index.getOffset(5, 5), 0);
+        assertEquals(15, index.getOffset(2, 5), 0);
+        assertEquals(40, index.getKnownSum(5), 0);
+        assertEquals(2, index.getKnownCount(5));
+    }
+
+    @Test
+    public void testReplaceSize() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(3, 10);
+        index.set(3, 20);
+        assertEquals(20, index.get(3), 0);
+        assertEquals(1, index.getKnownCount(4));
+        assertEquals(20, index.getKnownSum(4), 0);
+    }
+
+    @Test
+    public void testIndexAtBoundaries() {
+        CellSizeIndex index = new CellSizeIndex();
+        for (int i = 0; i < 10; i++) {
+            index.set(i, 20);
+        }
+        assertEquals(0, index.getIndexAt(0, 1, 10));
+        assertEquals(0, index.getIndexAt(19.9, 1, 10));
+        assertEquals(1, index.getIndexAt(20, 1, 10));
+        assertEquals(9, index.getIndexAt(199, 1, 10));
+        assertEquals(10, index.getIndexAt(200, 1, 10));
+        // only the first 5 entries are considered
+        assertEquals(5, index.getIndexAt(150, 1, 5));
+    }
+
+    @Test
+    public void testClear() {
+        CellSizeIndex index = new CellSizeIndex();
+        for (int i = 0; i < 1000; i++) {
+            index.set(i, 1);
+        }
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(0, index.getKnownCount(1000));
+        assertEquals(2000, index.getOffset(1000, 2), 0);
+    }
+
+    @Test
+    public void testMatchesLinearComputation() {
+        Random random = new Random(42);
+        CellSizeIndex index = new CellSizeIndex();
+        List<Double> sizes = new ArrayList<>();
+        for (int n = 0; n < 2000; n++) {
+            int i = random.nextInt(500);
+            double value = random.nextInt(50) + 0.5;
+            index.set(i, value);
+            while (sizes.size() <= i) {
+                sizes.add(null);
+            }
+            sizes.set(i, value);
+        }
+
+        double estimate = 12;
+        int count = 600;
+        double total = 0;
+        for (int i = 0; i < count; i++) {
+            assertEquals(total, index.getOffset(i, estimate), 1e-6);
+            Double size = i < sizes.size() ? sizes.get(i) : null;
+            double next = total + (size == null ? estimate : size);
+            assertEquals(i, index.getIndexAt(total, estimate, count));
+            assertEquals(i, index.getIndexAt((total + next) / 2, estimate, count));
+            total = next;
+        }
+        assertEquals(count, index.getIndexAt(total, estimate, count));
+    }
+}
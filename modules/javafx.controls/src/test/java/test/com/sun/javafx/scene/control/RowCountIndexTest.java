@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.javafx.scene.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import com.sun.javafx.scene.control.RowCountIndex;
+
+public class RowCountIndexTest {
+
+    @Test
+    public void testEmptyIndex() {
+        RowCountIndex index = new RowCountIndex(new int[0], 0);
+        assertEquals(0, index.size());
+        assertEquals(0, index.getTotal());
+        assertEquals(0, index.getSum(5));
+        assertEquals(-1, index.getIndexAt(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(0));
+    }
+
+    @Test
+    public void testSumsAndSearch() {
+        RowCountIndex index = new RowCountIndex(new int[] { 1, 3, 0, 2, 1 }, 5);
+        assertEquals(7, index.getTotal());
+        assertEquals(0, index.getSum(0));
+        assertEquals(1, index.getSum(1));
+        assertEquals(4, index.getSum(2));
+        assertEquals(4, index.getSum(3));
+        assertEquals(6, index.getSum(4));
+        assertEquals(7, index.getSum(5));
+        assertEquals(7, index.getSum(100));
+
+        assertEquals(-1, index.getIndexAt(-1));
+        assertEquals(0, index.getIndexAt(0));
+        assertEquals(1, index.getIndexAt(1));
+        assertEquals(1, index.getIndexAt(3));
+        // the empty entry at index 2 is skipped
+        assertEquals(3, index.getIndexAt(4));
+        assertEquals(3, index.getIndexAt(5));
+        assertEquals(4, index.getIndexAt(6));
+        assertEquals(-1, index.getIndexAt(7));
+    }
+
+    @Test
+    public void testSizeLimitsCounts() {
+        RowCountIndex index = new RowCountIndex(new int[] { 2, 2, 2, 2 }, 2);
+        assertEquals(2, index.size());
+        assertEquals(4, index.getTotal());
+        assertThrows(IndexOutOfBoundsException.class, () -> index.set(2, 1));
+    }
+
+    @Test
+    public void testSetUpdatesSums() {
+        RowCountIndex index = new RowCountIndex(new int[] { 1, 1, 1, 1 }, 4);
+        index.set(1, 10);
+        assertEquals(10, index.get(1));
+        assertEquals(13, index.getTotal());
+        assertEquals(11, index.getSum(2));
+        assertEquals(1, index.getIndexAt(10));
+        assertEquals(2, index.getIndexAt(11));
+
+        index.set(1, 0);
+        assertEquals(3, index.getTotal());
+        assertEquals(2, index.getIndexAt(1));
+    }
+
+    @Test
+    public void testSetAllReusesIndex() {
+        RowCountIndex index = new RowCountIndex(new int[] { 5, 5, 5, 5 }, 4);
+        index.setAll(new int[] { 1, 2 }, 2);
+        assertEquals(2, index.size());
+        assertEquals(3, index.getTotal());
+        assertEquals(1, index.getSum(1));
+        assertEquals(1, index.getIndexAt(2));
+
+        index.setAll(new int[] { 1, 1, 1, 1, 1, 1 }, 6);
+        assertEquals(6, index.getTotal());
+        assertEquals(5, index.getIndexAt(5));
+    }
+
+    @Test
+    public void testMatchesLinearSums() {
+        Random random = new Random(7);
+        int size = 1000;
+        int[] counts = new int[size];
+        for (int i = 0; i < size; i++) {
+            counts[i] = random.nextInt(4);
+        }
+        RowCountIndex index = new RowCountIndex(counts, size);
+
+        for (int round = 0; round < 200; round++) {
+            int i = random.nextInt(size);
+            counts[i] = random.nextInt(50);
+            index.set(i, counts[i]);
+
+            int sum = 0;
+            for (int j = 0; j < size; j++) {
+                assertEquals(sum, index.getSum(j));
+                for (int row = sum; row < sum + counts[j]; row += 7) {
+                    assertEquals(j, index.getIndexAt(row));
+                }
+                sum += counts[j];
+            }
+            assertEquals(sum, index.getTotal());
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.javafx.scene.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumnBase;
+import javafx.scene.control.TablePosition;
+import javafx.scene.control.TableView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.sun.javafx.scene.control.SelectedCellsMap;
+
+public class SelectedCellsMapTest {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int COLUMN_COUNT = 50;
+
+    private TableView<String> table;
+    private boolean cellSelectionEnabled;
+    private int createdCount;
+    private SelectedCellsMap<TablePosition<String,?>> map;
+
+    // the selected cells before the last change, and the changes since
+    private List<String> cellsBefore;
+    private List<String> changedCells;
+
+    @BeforeEach
+    public void setup() {
+        table = new TableView<>();
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            table.getColumns().add(new TableColumn<>("column " + i));
+        }
+        cellSelectionEnabled = true;
+        map = new SelectedCellsMap<>(c -> onChanged(c)) {
+            @Override public boolean isCellSelectionEnabled() {
+                return cellSelectionEnabled;
+            }
+
+            @Override protected TablePosition<String,?> createPosition(int row, TableColumnBase<?,?> column, int columnIndex) {
+                createdCount++;
+                return new TablePosition<>(table, row, (TableColumn<String,?>) column);
+            }
+        };
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends TablePosition<String,?>> c) {
+        if (cellsBefore == null) {
+            return;
+        }
+        // replay the change on the previous cells
+        changedCells = new ArrayList<>(cellsBefore);
+        while (c.next()) {
+            for (int i = 0; i < c.getRemovedSize(); i++) {
+                assertEquals(toString(c.getRemoved().get(i)), changedCells.remove(c.getFrom()));
+            }
+            for (int i = c.getFrom(); i < c.getTo(); i++) {
+                changedCells.add(i, toString(c.getList().get(i)));
+            }
+        }
+    }
+
+    private void recordChanges() {
+        cellsBefore = cells();
+        changedCells = null;
+    }
+
+    private void assertChangesReplayed() {
+        assertEquals(cells(), changedCells);
+    }
+
+    private List<String> cells() {
+        List<String> cells = new ArrayList<>();
+        for (int i = 0; i < map.size(); i++) {
+            cells.add(toString(map.get(i)));
+        }
+        return cells;
+    }
+
+    private static String toString(TablePosition<?,?> tp) {
+        return tp.getRow() + ":" + tp.getColumn();
+    }
+
+    private TablePosition<String,?> cell(int row, int column) {
+        return new TablePosition<>(table, row, column < 0 ? null : table.getColumns().get(column));
+    }
+
+    private List<TablePosition<String,?>> cellsOfRow(int fromColumn, int toColumn) {
+        List<TablePosition<String,?>> cells = new ArrayList<>();
+        for (int column = fromColumn; column < toColumn; column++) {
+            cells.add(cell(0, column));
+        }
+        return cells;
+    }
+
+    private static List<Integer> rows(List<? extends TablePosition<?,?>> cells) {
+        List<Integer> rows = new ArrayList<>();
+        SelectedCellsMap.forEachRow(cells, rows::add);
+        return rows;
+    }
+
+    @Test
+    public void testSelectAllDoesNotCreateCells() {
+        map.setRange(0, ROW_COUNT, cellsOfRow(0, COLUMN_COUNT));
+
+        assertEquals(ROW_COUNT * COLUMN_COUNT, map.size());
+        assertTrue(map.isSelected(ROW_COUNT - 1, COLUMN_COUNT - 1));
+        assertTrue(map.isSelected(0, -1));
+        assertFalse(map.isSelected(ROW_COUNT, 0));
+        assertEquals(0, createdCount);
+
+        assertEquals(500_000 * COLUMN_COUNT + 7, map.indexOf(cell(500_000, 7)));
+        assertEquals("999999:49", toString(map.get(map.size() - 1)));
+        assertEquals(2, createdCount);
+    }
+
+    @Test
+    public void testRemoveAndAddCellAfterSelectAll() {
+        map.setRange(0, ROW_COUNT, cellsOfRow(0, COLUMN_COUNT));
+
+        map.remove(cell(500_000, 7));
+        assertEquals(ROW_COUNT * COLUMN_COUNT - 1, map.size());
+        assertFalse(map.isSelected(500_000, 7));
+        assertTrue(map.isSelected(500_000, 6));
+        assertTrue(map.isSelected(500_000, 8));
+        assertTrue(map.isSelected(500_001, 7));
+        assertEquals("500000:8", toString(map.get(500_000 * COLUMN_COUNT + 7)));
+
+        map.add(cell(500_000, 7));
+        assertEquals(ROW_COUNT * COLUMN_COUNT, map.size());
+        assertTrue(map.isSelected(500_000, 7));
+        assertEquals(500_000 * COLUMN_COUNT + 7, map.indexOf(cell(500_000, 7)));
+
+        // the removed cell is created for the change event, and the cells
+        // asked for above
+        assertTrue(createdCount <= 4, "created " + createdCount + " cells");
+    }
+
+    @Test
+    public void testRowsOfSnapshotWithoutCellAreNotCreated() {
+        map.setRange(0, ROW_COUNT, cellsOfRow(0, COLUMN_COUNT));
+
+        // the previous selection of a click in a cell after select-all
+        List<TablePosition<String,?>> snapshot = map.snapshot();
+        int index = SelectedCellsMap.indexOfRow(snapshot, 500_000) + 3;
+        List<TablePosition<String,?>> removed = SelectedCellsMap.removeFromSnapshot(snapshot, index);
+        map.clear();
+        createdCount = 0;
+
+        assertEquals(ROW_COUNT * COLUMN_COUNT - 1, removed.size());
+        assertEquals(ROW_COUNT, rows(removed).size());
+        assertEquals(500_001, rows(removed.subList(0, index)).size());
+        assertEquals(500_000, rows(removed.subList(index, removed.size())).size());
+        assertEquals(List.of(500_000, 500_001), rows(removed.subList(index, index + COLUMN_COUNT)));
+        assertEquals(0, createdCount);
+    }
+
+    @Test
+    public void testRowsOfSnapshotWithoutOnlyCellOfRow() {
+        cellSelectionEnabled = false;
+        map.setRange(0, 10, List.of(cell(0, -1)));
+
+        List<TablePosition<String,?>> snapshot = map.snapshot();
+        List<TablePosition<String,?>> removed = SelectedCellsMap.removeFromSnapshot(snapshot, SelectedCellsMap.indexOfRow(snapshot, 4));
+
+        assertEquals(List.of(0, 1, 2, 3, 5, 6, 7, 8, 9), rows(removed));
+        assertEquals(List.of(3, 5), rows(removed.subList(3, 5)));
+        assertEquals(-1, SelectedCellsMap.indexOfRow(removed, 4));
+        assertEquals(4, SelectedCellsMap.indexOfRow(removed, 5));
+        assertEquals(0, createdCount);
+    }
+
+    @Test
+    public void testAddRangeSplitsAndMergesBlocks() {
+        map.setRange(0, 10, cellsOfRow(0, 2));
+
+        recordChanges();
+        map.addRange(5, 15, cellsOfRow(2, 3));
+        assertChangesReplayed();
+
+        assertEquals(10 * 2 + 10, map.size());
+        assertFalse(map.isSelected(4, 2));
+        assertTrue(map.isSelected(5, 2));
+        assertTrue(map.isSelected(14, 2));
+        assertFalse(map.isSelected(14, 0));
+
+        recordChanges();
+        map.addRange(0, 5, cellsOfRow(2, 3));
+        assertChangesReplayed();
+        assertEquals(10 * 3 + 5, map.size());
+    }
+
+    @Test
+    public void testAddAllRemoveRowAndShiftRow() {
+        map.setRange(0, 10, cellsOfRow(0, 3));
+
+        recordChanges();
+        map.addAll(List.of(cell(12, 1), cell(3, 4), cell(3, 1), cell(11, 0)));
+        assertChangesReplayed();
+        assertEquals(10 * 3 + 3, map.size());
+
+        recordChanges();
+        map.removeRow(3);
+        assertChangesReplayed();
+        assertFalse(map.isSelected(3, -1));
+
+        map.shiftRow(12, 2);
+        assertFalse(map.isSelected(12, -1));
+        assertTrue(map.isSelected(2, 0));
+        assertTrue(map.isSelected(2, 1));
+        assertEquals(10 * 3 - 3 + 1, map.size());
+
+        map.shiftRow(12, 1);
+        assertFalse(map.isSelected(1, -1));
+    }
+
+    @Test
+    public void testRowSelectionKeepsOneCellPerRow() {
+        cellSelectionEnabled = false;
+        map.add(cell(2, 3));
+        map.add(cell(2, 4));
+        map.addRange(0, 5, List.of(cell(0, -1)));
+
+        assertEquals(5, map.size());
+        assertEquals("2:3", toString(map.get(2)));
+        assertTrue(map.isSelected(2, 3));
+        assertFalse(map.isSelected(2, 4));
+        assertFalse(map.isSelected(1, 3));
+        assertTrue(map.isSelected(1, -1));
+    }
+
+    @Test
+    public void testPermuteRows() {
+        cellSelectionEnabled = false;
+        map.addAll(List.of(cell(1, -1), cell(2, -1), cell(5, -1), cell(12, -1)));
+
+        int[] newRows = new int[10];
+        for (int i = 0; i < newRows.length; i++) {
+            newRows[i] = 9 - i;
+        }
+        List<TablePosition<String,?>> permuted = map.permuteRows(0, newRows);
+        assertEquals(List.of(4, 7, 8, 12), rows(permuted));
+
+        recordChanges();
+        map.setAll(permuted);
+        assertChangesReplayed();
+        assertEquals(List.of(4, 7, 8, 12), rows(map.snapshot()));
+
+        assertNull(map.permuteRows(20, new int[] { 21, 20 }));
+    }
+
+    @Test
+    public void testRemovedSince() {
+        map.setRange(0, 10, cellsOfRow(0, 3));
+        List<TablePosition<String,?>> snapshot = map.snapshot();
+
+        map.remove(cell(3, 1));
+        map.removeRow(5);
+        map.add(cell(20, 0));
+
+        List<String> removed = new ArrayList<>();
+        for (TablePosition<String,?> tp : map.removedSince(snapshot)) {
+            removed.add(toString(tp));
+        }
+        assertEquals(List.of("3:1", "5:0", "5:1", "5:2"), removed);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,7 +38,9 @@ import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
+import javafx.scene.chart.XYValues;
 import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
 import org.junit.jupiter.api.Disabled;
@@ -754,6 +756,104 @@ public class LineChartTest extends XYChartTestBase {
         assertEquals(0, ((Path)series1.getNode()).getElements().size());
     }
 
+    private static double getY(PathElement element) {
+        return element instanceof LineTo lineTo ? lineTo.getY() : ((MoveTo) element).getY();
+    }
+
+    @Test
+    public void testValuesLineIsDecimated() {
+        createChart();
+        startApp();
+        final int count = 200_000;
+        XYValues values = new XYValues(count);
+        for (int i = 0; i < count; i++) {
+            values.add(90.0 * i / count, 15 + 14 * Math.sin(i / 37.0) * Math.cos(i / 5000.0));
+        }
+        XYChart.Series<Number, Number> series = new XYChart.Series<>("values", values);
+        lineChart.getData().add(series);
+        pulse();
+
+        NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        List<PathElement> elements = ((Path) series.getNode()).getElements();
+        // at most four points per pixel column
+        assertTrue(elements.size() > xAxis.getWidth(), "elements: " + elements.size());
+        assertTrue(elements.size() <= 4 * (xAxis.getWidth() + 2), "elements: " + elements.size());
+        assertTrue(elements.get(0) instanceof MoveTo);
+
+        // the extremes of the line are kept
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            double y = yAxis.getDisplayPosition(values.getY(i));
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+        assertEquals(minY, elements.stream().mapToDouble(LineChartTest::getY).min().getAsDouble(), 1e-9);
+        assertEquals(maxY, elements.stream().mapToDouble(LineChartTest::getY).max().getAsDouble(), 1e-9);
+
+        // the line follows the changes of the values
+        values.remove(count / 2, count);
+        pulse();
+        double lastX = ((LineTo) elements.get(elements.size() - 1)).getX();
+        assertEquals(xAxis.getDisplayPosition(values.getX(values.size() - 1)), lastX, 1e-9);
+    }
+
+    @Test
+    public void testValuesNaNBreaksLine() {
+        createChart();
+        startApp();
+        XYValues values = new XYValues(new double[] { 10, 20, 30, 40, 50 }, new double[] { 5, 10, Double.NaN, 10, 5 });
+        XYChart.Series<Number, Number> series = new XYChart.Series<>("values", values);
+        lineChart.getData().add(series);
+        pulse();
+        List<PathElement> elements = ((Path) series.getNode()).getElements();
+        assertEquals(4, elements.size());
+        assertEquals(2, elements.stream().filter(e -> e instanceof MoveTo).count());
+    }
+
+    @Test
+    public void testValuesWithDataSymbols() {
+        createChart();
+        startApp();
+        series1.setValues(new XYValues(new double[] { 0, 90 }, new double[] { 0, 30 }));
+        lineChart.getData().add(series1);
+        pulse();
+        // the line goes through the values, the data items keep their symbols
+        assertEquals(2, ((Path) series1.getNode()).getElements().size());
+        assertEquals(5, countSymbols(lineChart, "chart-line-symbol"));
+        Node symbol = series1.getData().get(0).getNode();
+        assertEquals(lineChart.getXAxis().getDisplayPosition(10d),
+                symbol.getLayoutX() + symbol.getLayoutBounds().getWidth() / 2, 1e-9);
+
+        series1.setValues(null);
+        pulse();
+        // MoveTo and one LineTo per data item
+        assertEquals(6, ((Path) series1.getNode()).getElements().size());
+    }
+
+    @Test
+    public void testValuesAutoRange() {
+        lineChart = new LineChart<>(new NumberAxis(), new NumberAxis());
+        lineChart.setAnimated(false);
+        startApp();
+        XYValues values = new XYValues();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i, i % 100);
+        }
+        lineChart.getData().add(new XYChart.Series<>("values", values));
+        pulse();
+        NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        assertTrue(xAxis.getUpperBound() >= 999, "upper bound: " + xAxis.getUpperBound());
+        assertTrue(yAxis.getUpperBound() >= 99, "upper bound: " + yAxis.getUpperBound());
+
+        values.add(5000, 500);
+        pulse();
+        assertTrue(xAxis.getUpperBound() >= 5000, "upper bound: " + xAxis.getUpperBound());
+        assertTrue(yAxis.getUpperBound() >= 500, "upper bound: " + yAxis.getUpperBound());
+    }
+
     private List<Point2D> convertSeriesDataToPoint2D(XYChart.Series<Number, Number> series) {
         return series.getData().stream()
                 .map(data -> new Point2D(data.getXValue().doubleValue(), data.getYValue().doubleValue()))
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.javafx.scene.chart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Random;
+import javafx.scene.chart.Chart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.ScatterChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.chart.XYChartShim;
+import javafx.scene.chart.XYValues;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import org.junit.jupiter.api.Test;
+
+public class ScatterChartTest extends ChartTestBase {
+
+    ScatterChart<Number,Number> scatterChart;
+    XYChart.Series<Number, Number> series;
+    XYValues values;
+
+    @Override
+    protected void createChart() {
+        scatterChart = new ScatterChart<>(new NumberAxis(0, 100, 10), new NumberAxis(0, 100, 10));
+        scatterChart.setAnimated(false);
+        Random random = new Random(0);
+        values = new XYValues();
+        for (int i = 0; i < 100_000; i++) {
+            values.add(random.nextDouble() * 100, random.nextDouble() * 100);
+        }
+        series = new XYChart.Series<>("values", values);
+    }
+
+    @Override
+    protected Chart getChart() {
+        return scatterChart;
+    }
+
+    private Path getPoints() {
+        return (Path) series.getNode();
+    }
+
+    @Test
+    public void testValuesArePlottedByPath() {
+        createChart();
+        startApp();
+        scatterChart.getData().add(series);
+        pulse();
+        assertEquals(1, XYChartShim.getPlotChildren(scatterChart).size());
+        checkStyleClass(getPoints(), "chart-series-points", "series0", "default-color0");
+
+        // one square per 4x4 cell, at most, rather than per point
+        double width = scatterChart.getXAxis().getWidth();
+        double height = scatterChart.getYAxis().getHeight();
+        long squares = getPoints().getElements().stream().filter(e -> e instanceof MoveTo).count();
+        assertEquals(5 * squares, getPoints().getElements().size());
+        assertTrue(squares > width * height / 64, "squares: " + squares);
+        assertTrue(squares <= (width / 4 + 2) * (height / 4 + 2), "squares: " + squares);
+    }
+
+    @Test
+    public void testValuesChanged() {
+        createChart();
+        startApp();
+        scatterChart.getData().add(series);
+        pulse();
+        values.clear();
+        values.add(50, 50);
+        values.add(50, 50);
+        values.add(Double.NaN, 10);
+        values.add(200, 10);
+        pulse();
+        // duplicates, NaN and points out of the plot are skipped
+        assertEquals(5, getPoints().getElements().size());
+
+        series.setValues(null);
+        pulse();
+        assertNull(series.getNode());
+        assertEquals(0, XYChartShim.getPlotChildren(scatterChart).size());
+
+        series.setValues(values);
+        pulse();
+        assertEquals(1, XYChartShim.getPlotChildren(scatterChart).size());
+        assertEquals(5, getPoints().getElements().size());
+    }
+
+    @Test
+    public void testSeriesRemovedAndAdded() {
+        createChart();
+        startApp();
+        scatterChart.getData().add(series);
+        pulse();
+        scatterChart.getData().remove(series);
+        pulse();
+        assertEquals(0, XYChartShim.getPlotChildren(scatterChart).size());
+
+        scatterChart.getData().add(series);
+        pulse();
+        assertEquals(1, XYChartShim.getPlotChildren(scatterChart).size());
+        assertTrue(getPoints().getElements().size() > 0);
+    }
+}
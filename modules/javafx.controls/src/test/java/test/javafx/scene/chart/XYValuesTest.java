@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.javafx.scene.chart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.beans.InvalidationListener;
+import javafx.scene.chart.XYValues;
+import org.junit.jupiter.api.Test;
+
+public class XYValuesTest {
+
+    private static void assertValues(XYValues values, double... xy) {
+        assertEquals(xy.length / 2, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(xy[2 * i], values.getX(i));
+            assertEquals(xy[2 * i + 1], values.getY(i));
+        }
+    }
+
+    @Test
+    public void testAdd() {
+        XYValues values = new XYValues();
+        assertTrue(values.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            values.add(i, -i);
+        }
+        assertEquals(100, values.size());
+        assertEquals(42, values.getX(42));
+        assertEquals(-42, values.getY(42));
+    }
+
+    @Test
+    public void testAddAll() {
+        XYValues values = new XYValues(1);
+        values.add(0, 1);
+        values.addAll(new double[] { 2, 4 }, new double[] { 3, 5 });
+        assertValues(values, 0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void testConstructorCopiesArrays() {
+        double[] x = { 1, 2 };
+        double[] y = { 3, 4 };
+        XYValues values = new XYValues(x, y);
+        x[0] = 10;
+        assertValues(values, 1, 3, 2, 4);
+    }
+
+    @Test
+    public void testSetAndSetAll() {
+        XYValues values = new XYValues(new double[] { 1, 2, 3 }, new double[] { 4, 5, 6 });
+        values.set(1, 20, 50);
+        assertValues(values, 1, 4, 20, 50, 3, 6);
+        values.setAll(new double[] { 7 }, new double[] { 8 });
+        assertValues(values, 7, 8);
+        values.setAll(new double[] { 1, 2, 3, 4 }, new double[] { 5, 6, 7, 8 });
+        assertValues(values, 1, 5, 2, 6, 3, 7, 4, 8);
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        XYValues values = new XYValues(new double[] { 1, 2, 3, 4 }, new double[] { 5, 6, 7, 8 });
+        values.remove(0, 2);
+        assertValues(values, 3, 7, 4, 8);
+        values.remove(1, 1);
+        assertEquals(2, values.size());
+        values.clear();
+        assertTrue(values.isEmpty());
+        values.add(9, 10);
+        assertValues(values, 9, 10);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        XYValues values = new XYValues(new double[] { 1, 2 }, new double[] { 3, 4 });
+        assertThrows(IllegalArgumentException.class, () -> new XYValues(-1));
+        assertThrows(IllegalArgumentException.class, () -> new XYValues(new double[1], new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> values.addAll(new double[1], new double[2]));
+        assertThrows(NullPointerException.class, () -> values.setAll(null, new double[0]));
+        assertThrows(IndexOutOfBoundsException.class, () -> values.getX(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> values.getY(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> values.set(2, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> values.remove(1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> values.remove(2, 1));
+        assertValues(values, 1, 3, 2, 4);
+    }
+
+    @Test
+    public void testListeners() {
+        XYValues values = new XYValues();
+        AtomicInteger count = new AtomicInteger();
+        InvalidationListener listener = o -> {
+            assertTrue(o == values);
+            count.incrementAndGet();
+        };
+        values.addListener(listener);
+        values.add(1, 2);
+        values.addAll(new double[] { 3 }, new double[] { 4 });
+        values.set(0, 5, 6);
+        values.setAll(new double[] { 7, 8 }, new double[] { 9, 10 });
+        values.remove(0, 1);
+        values.clear();
+        assertEquals(6, count.get());
+
+        // no change, no notification
+        values.clear();
+        values.addAll(new double[0], new double[0]);
+        assertEquals(6, count.get());
+
+        values.removeListener(listener);
+        values.add(1, 2);
+        assertEquals(6, count.get());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -85,6 +85,7 @@ import javafx.scene.control.SplitPane;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableCellShim;
 import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumnBase;
 import javafx.scene.control.TablePosition;
 import javafx.scene.control.TableRow;
 import javafx.scene.control.TableRowShim;
@@ -3000,6 +3001,10 @@ public class TableViewTest {
             @Override public boolean isCellSelectionEnabled() {
                 return false;
             }
+
+            @Override protected TablePosition createPosition(int row, TableColumnBase<?,?> column, int columnIndex) {
+                return new TablePosition<>(null, row, (TableColumn) column);
+            }
         };
         ReadOnlyUnbackedObservableList<TablePosition<Object, ?>> selectedCellsSeq = new ReadOnlyUnbackedObservableList<>() {
             @Override public TablePosition<Object, ?> get(int i) {
@@ -5633,6 +5638,116 @@ public class TableViewTest {
         });
     }
 
+    private TableView<Integer> createIntegerTable(int rowCount, int columnCount) {
+        TableView<Integer> table = new TableView<>();
+        for (int i = 0; i < rowCount; i++) {
+            table.getItems().add(i);
+        }
+        for (int c = 0; c < columnCount; c++) {
+            table.getColumns().add(new TableColumn<Integer, String>("Column " + c));
+        }
+        table.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        return table;
+    }
+
+    @Test public void testSelectAllCellsOfLargeTable() {
+        TableView<Integer> table = createIntegerTable(20_000, 5);
+        TableView.TableViewSelectionModel<Integer> sm = table.getSelectionModel();
+        sm.setCellSelectionEnabled(true);
+        TableColumn<Integer, ?> col0 = table.getColumns().get(0);
+        TableColumn<Integer, ?> col2 = table.getColumns().get(2);
+        TableColumn<Integer, ?> col4 = table.getColumns().get(4);
+
+        List<Integer> addedSizes = new ArrayList<>();
+        sm.getSelectedCells().addListener((ListChangeListener<TablePosition>) c -> {
+            while (c.next()) {
+                addedSizes.add(c.getAddedSize());
+            }
+        });
+
+        sm.selectAll();
+        assertEquals(List.of(100_000), addedSizes);
+        assertEquals(100_000, sm.getSelectedCells().size());
+        assertEquals(20_000, sm.getSelectedIndices().size());
+        assertEquals(Integer.valueOf(19_999), sm.getSelectedIndices().get(19_999));
+        assertTrue(sm.isSelected(19_999, col4));
+        assertTrue(sm.isSelected(123, null));
+        assertEquals(19_999, sm.getSelectedIndex());
+        assertEquals(new TablePosition<>(table, 19_999, col4), table.getFocusModel().getFocusedCell());
+
+        TablePosition<?, ?> cell = sm.getSelectedCells().get(7);
+        assertEquals(1, cell.getRow());
+        assertEquals(2, cell.getColumn());
+        assertSame(col2, cell.getTableColumn());
+        assertEquals(7, sm.getSelectedCells().indexOf(cell));
+
+        sm.clearSelection(5, col0);
+        assertEquals(99_999, sm.getSelectedCells().size());
+        assertFalse(sm.isSelected(5, col0));
+        assertTrue(sm.isSelected(5, col2));
+        assertEquals(20_000, sm.getSelectedIndices().size());
+
+        sm.clearSelection();
+        assertTrue(sm.getSelectedCells().isEmpty());
+        assertTrue(sm.getSelectedIndices().isEmpty());
+        assertFalse(sm.isSelected(19_999, col4));
+    }
+
+    @Test public void testSelectAllRowsOfLargeTable() {
+        TableView<Integer> table = createIntegerTable(50_000, 3);
+        TableView.TableViewSelectionModel<Integer> sm = table.getSelectionModel();
+        sm.clearAndSelect(10);
+
+        sm.selectAll();
+        assertEquals(50_000, sm.getSelectedCells().size());
+        assertEquals(50_000, sm.getSelectedIndices().size());
+        assertEquals(50_000, sm.getSelectedItems().size());
+        assertEquals(10, sm.getSelectedIndex());
+        assertTrue(sm.isSelected(49_999));
+        assertNull(sm.getSelectedCells().get(42).getTableColumn());
+        assertEquals(42, sm.getSelectedCells().get(42).getRow());
+
+        // the selection follows the removal of items
+        table.getItems().remove(0);
+        assertEquals(49_999, sm.getSelectedIndices().size());
+        assertEquals(49_999, sm.getSelectedCells().size());
+        assertTrue(sm.isSelected(49_998));
+        assertFalse(sm.isSelected(49_999));
+
+        sm.clearAndSelect(3);
+        assertEquals(1, sm.getSelectedCells().size());
+        assertEquals(List.of(3), sm.getSelectedIndices());
+    }
+
+    @Test public void testClearAndSelectAfterSelectAll() {
+        TableView<Integer> table = createIntegerTable(20_000, 5);
+        TableView.TableViewSelectionModel<Integer> sm = table.getSelectionModel();
+        sm.setCellSelectionEnabled(true);
+        TableColumn<Integer, ?> col2 = table.getColumns().get(2);
+        sm.selectAll();
+
+        List<TablePosition> removed = new ArrayList<>();
+        sm.getSelectedCells().addListener((ListChangeListener<TablePosition>) c -> {
+            while (c.next()) {
+                removed.addAll(c.getRemoved());
+            }
+        });
+
+        sm.clearAndSelect(7, col2);
+        assertEquals(99_999, removed.size());
+        assertTrue(removed.stream().noneMatch(tp -> tp.getRow() == 7 && tp.getTableColumn() == col2));
+        assertEquals(1, sm.getSelectedCells().size());
+        assertTrue(sm.isSelected(7, col2));
+
+        sm.setCellSelectionEnabled(false);
+        sm.selectAll();
+        removed.clear();
+        sm.clearAndSelect(42);
+        assertEquals(19_999, removed.size());
+        assertTrue(removed.stream().noneMatch(tp -> tp.getRow() == 42));
+        assertEquals(List.of(42), sm.getSelectedIndices());
+    }
+
     public static class Book {
         private SimpleStringProperty title = new SimpleStringProperty();
         private SimpleStringProperty author = new SimpleStringProperty();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -7614,4 +7614,72 @@ public class TreeTableViewTest {
 
         assertEquals(-snappedNewValue, rootHeader.getLayoutX(), 0);
     }
+
+    @Test
+    public void testSelectAllCellsOfLargeTree() {
+        TreeItem<String> root = new TreeItem<>("root");
+        root.setExpanded(true);
+        for (int i = 0; i < 10_000; i++) {
+            root.getChildren().add(new TreeItem<>("item " + i));
+        }
+        TreeTableView<String> table = new TreeTableView<>(root);
+        for (int c = 0; c < 4; c++) {
+            table.getColumns().add(new TreeTableColumn<String, String>("Column " + c));
+        }
+        TreeTableView.TreeTableViewSelectionModel<String> sm = table.getSelectionModel();
+        sm.setSelectionMode(SelectionMode.MULTIPLE);
+        sm.setCellSelectionEnabled(true);
+        TreeTableColumn<String, ?> col1 = table.getColumns().get(1);
+        TreeTableColumn<String, ?> col3 = table.getColumns().get(3);
+
+        sm.selectAll();
+        assertEquals(40_004, sm.getSelectedCells().size());
+        assertEquals(10_001, sm.getSelectedIndices().size());
+        assertTrue(sm.isSelected(10_000, col3));
+
+        TreeTablePosition<String, ?> cell = sm.getSelectedCells().get(9);
+        assertEquals(2, cell.getRow());
+        assertSame(col1, cell.getTableColumn());
+        assertSame(root.getChildren().get(1), cell.getTreeItem());
+
+        sm.clearSelection(2, col1);
+        assertEquals(40_003, sm.getSelectedCells().size());
+        assertFalse(sm.isSelected(2, col1));
+        assertTrue(sm.isSelected(2, col3));
+
+        sm.clearSelection();
+        assertTrue(sm.getSelectedCells().isEmpty());
+        assertTrue(sm.getSelectedIndices().isEmpty());
+    }
+
+    @Test
+    public void testClearAndSelectAfterSelectAll() {
+        TreeItem<String> root = new TreeItem<>("root");
+        root.setExpanded(true);
+        for (int i = 0; i < 10_000; i++) {
+            root.getChildren().add(new TreeItem<>("item " + i));
+        }
+        TreeTableView<String> table = new TreeTableView<>(root);
+        for (int c = 0; c < 4; c++) {
+            table.getColumns().add(new TreeTableColumn<String, String>("Column " + c));
+        }
+        TreeTableView.TreeTableViewSelectionModel<String> sm = table.getSelectionModel();
+        sm.setSelectionMode(SelectionMode.MULTIPLE);
+        sm.setCellSelectionEnabled(true);
+        TreeTableColumn<String, ?> col1 = table.getColumns().get(1);
+        sm.selectAll();
+
+        List<TreeTablePosition<String, ?>> removed = new ArrayList<>();
+        sm.getSelectedCells().addListener((ListChangeListener<TreeTablePosition<String, ?>>) c -> {
+            while (c.next()) {
+                removed.addAll(c.getRemoved());
+            }
+        });
+
+        sm.clearAndSelect(2, col1);
+        assertEquals(40_003, removed.size());
+        assertTrue(removed.stream().noneMatch(tp -> tp.getRow() == 2 && tp.getTableColumn() == col1));
+        assertEquals(1, sm.getSelectedCells().size());
+        assertTrue(sm.isSelected(2, col1));
+    }
 }
@@ -39,6 +39,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javafx.application.Platform;
@@ -4175,6 +4176,78 @@ public class TreeViewTest {
         }
     }
 
+    @Test
+    public void testRowMappingFollowsTreeModifications() {
+        Random random = new Random(42);
+        TreeItem<String> root = new TreeItem<>("root");
+        root.setExpanded(true);
+        List<TreeItem<String>> items = new ArrayList<>();
+        items.add(root);
+        TreeView<String> treeView = new TreeView<>(root);
+
+        for (int round = 0; round < 300; round++) {
+            TreeItem<String> item = items.get(random.nextInt(items.size()));
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    TreeItem<String> child = new TreeItem<>("item-" + round);
+                    child.setExpanded(random.nextBoolean());
+                    item.getChildren().add(random.nextInt(item.getChildren().size() + 1), child);
+                    items.add(child);
+                }
+                case 2 -> {
+                    if (item != root) {
+                        item.setExpanded(!item.isExpanded());
+                    }
+                }
+                case 3 -> {
+                    if (item != root) {
+                        item.getParent().getChildren().remove(item);
+                        removeWithDescendants(items, item);
+                    }
+                }
+            }
+
+            if (round % 10 == 0) {
+                treeView.setShowRoot(!treeView.isShowRoot());
+            }
+            assertRowMapping(treeView, items);
+        }
+    }
+
+    private static void removeWithDescendants(List<TreeItem<String>> items, TreeItem<String> item) {
+        items.remove(item);
+        for (TreeItem<String> child : item.getChildren()) {
+            removeWithDescendants(items, child);
+        }
+    }
+
+    private static void collectRows(TreeItem<String> item, List<TreeItem<String>> rows) {
+        rows.add(item);
+        if (item.isExpanded()) {
+            for (TreeItem<String> child : item.getChildren()) {
+                collectRows(child, rows);
+            }
+        }
+    }
+
+    private static void assertRowMapping(TreeView<String> treeView, List<TreeItem<String>> items) {
+        List<TreeItem<String>> rows = new ArrayList<>();
+        collectRows(treeView.getRoot(), rows);
+        if (!treeView.isShowRoot()) {
+            rows.remove(0);
+        }
+
+        assertEquals(rows.size(), treeView.getExpandedItemCount());
+        for (int row = 0; row < rows.size(); row++) {
+            assertSame(rows.get(row), treeView.getTreeItem(row));
+            assertEquals(row, treeView.getRow(rows.get(row)));
+        }
+        assertNull(treeView.getTreeItem(rows.size()));
+        for (TreeItem<String> item : items) {
+            assertEquals(rows.indexOf(item), treeView.getRow(item));
+        }
+    }
+
     public static class MisbehavingOnCancelTreeCell<S> extends TreeCell<S> {
 
         @Override
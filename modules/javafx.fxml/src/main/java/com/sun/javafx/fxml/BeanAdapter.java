@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,7 @@ import java.lang.reflect.TypeVariable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import java.lang.reflect.*;
 
@@ -56,6 +57,12 @@ public class BeanAdapter extends AbstractMap<String, Object> {
         private final Map<String, List<Method>> methods;
         private final MethodCache nextClassCache;
 
+        // The getter, setter and property model methods that were looked up,
+        // by property name
+        private final Map<String, Optional<Method>> getterMethods = new ConcurrentHashMap<>();
+        private final Map<String, Optional<Method>> setterMethods = new ConcurrentHashMap<>();
+        private final Map<String, Optional<Method>> propertyModelMethods = new ConcurrentHashMap<>();
+
         private MethodCache(Map<String, List<Method>> methods, MethodCache nextClassCache) {
             this.methods = methods;
             this.nextClassCache = nextClassCache;
@@ -78,8 +85,25 @@ public class BeanAdapter extends AbstractMap<String, Object> {
 
     }
 
-    private static final HashMap<Class<?>, MethodCache> globalMethodCache =
-        new HashMap<>();
+    // The method caches are computed once per class and shared by all threads
+    private static final ClassValue<MethodCache> globalMethodCache = new ClassValue<>() {
+        @Override
+        protected MethodCache computeValue(Class<?> type) {
+            return createClassMethodCache(type);
+        }
+    };
+
+    // The static getter and setter methods that were looked up, by target type
+    private static final ClassValue<Map<StaticMethodKey, Optional<Method>>> staticMethodCache =
+        new ClassValue<>() {
+            @Override
+            protected Map<StaticMethodKey, Optional<Method>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private record StaticMethodKey(Class<?> sourceType, String key, Class<?> valueType) {
+    }
 
     private final MethodCache localCache;
 
@@ -106,39 +130,37 @@ public class BeanAdapter extends AbstractMap<String, Object> {
         if (type == Object.class) {
             return null;
         }
-        MethodCache classMethodCache;
-        synchronized (globalMethodCache) {
-            if ((classMethodCache = globalMethodCache.get(type)) != null) {
-                return classMethodCache;
-            }
-            Map<String, List<Method>> classMethods = new HashMap<>();
-
-            ReflectUtil.checkPackageAccess(type);
-            if (Modifier.isPublic(type.getModifiers())) {
-                // only interested in public methods in public classes in
-                // non-restricted packages
-                final Method[] declaredMethods = type.getDeclaredMethods();
-                for (int i = 0; i < declaredMethods.length; i++) {
-                    Method method = declaredMethods[i];
-                    int modifiers = method.getModifiers();
-
-                    if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)) {
-                        String name = method.getName();
-                        List<Method> namedMethods = classMethods.get(name);
-
-                        if (namedMethods == null) {
-                            namedMethods = new ArrayList<>();
-                            classMethods.put(name, namedMethods);
-                        }
 
-                        namedMethods.add(method);
+        return globalMethodCache.get(type);
+    }
+
+    private static MethodCache createClassMethodCache(final Class<?> type) {
+        Map<String, List<Method>> classMethods = new HashMap<>();
+
+        ReflectUtil.checkPackageAccess(type);
+        if (Modifier.isPublic(type.getModifiers())) {
+            // only interested in public methods in public classes in
+            // non-restricted packages
+            final Method[] declaredMethods = type.getDeclaredMethods();
+            for (int i = 0; i < declaredMethods.length; i++) {
+                Method method = declaredMethods[i];
+                int modifiers = method.getModifiers();
+
+                if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)) {
+                    String name = method.getName();
+                    List<Method> namedMethods = classMethods.get(name);
+
+                    if (namedMethods == null) {
+                        namedMethods = new ArrayList<>();
+                        classMethods.put(name, namedMethods);
                     }
+
+                    namedMethods.add(method);
                 }
             }
-            MethodCache cache = new MethodCache(classMethods, getClassMethodCache(type.getSuperclass()));
-            globalMethodCache.put(type, cache);
-            return cache;
         }
+
+        return new MethodCache(classMethods, getClassMethodCache(type.getSuperclass()));
     }
 
     /**
@@ -152,23 +174,48 @@ public class BeanAdapter extends AbstractMap<String, Object> {
     }
 
     private Method getGetterMethod(String key) {
-        Method getterMethod = localCache.getMethod(getMethodName(GET_PREFIX, key));
+        Optional<Method> getterMethod = localCache.getterMethods.get(key);
 
         if (getterMethod == null) {
-            getterMethod = localCache.getMethod(getMethodName(IS_PREFIX, key));
+            Method method = localCache.getMethod(getMethodName(GET_PREFIX, key));
+
+            if (method == null) {
+                method = localCache.getMethod(getMethodName(IS_PREFIX, key));
+            }
+
+            getterMethod = Optional.ofNullable(method);
+            localCache.getterMethods.putIfAbsent(key, getterMethod);
         }
 
-        return getterMethod;
+        return getterMethod.orElse(null);
     }
 
     private Method getSetterMethod(String key) {
-        Class<?> type = getType(key);
+        Optional<Method> setterMethod = localCache.setterMethods.get(key);
 
-        if (type == null) {
-            throw new UnsupportedOperationException("Cannot determine type for property.");
+        if (setterMethod == null) {
+            Class<?> type = getType(key);
+
+            if (type == null) {
+                throw new UnsupportedOperationException("Cannot determine type for property.");
+            }
+
+            setterMethod = Optional.ofNullable(localCache.getMethod(getMethodName(SET_PREFIX, key), type));
+            localCache.setterMethods.putIfAbsent(key, setterMethod);
         }
 
-        return localCache.getMethod(getMethodName(SET_PREFIX, key), type);
+        return setterMethod.orElse(null);
+    }
+
+    private Method getPropertyModelMethod(String key) {
+        Optional<Method> propertyModelMethod = localCache.propertyModelMethods.get(key);
+
+        if (propertyModelMethod == null) {
+            propertyModelMethod = Optional.ofNullable(localCache.getMethod(key));
+            localCache.propertyModelMethods.putIfAbsent(key, propertyModelMethod);
+        }
+
+        return propertyModelMethod.orElse(null);
     }
 
     private static String getMethodName(String prefix, String key) {
@@ -195,7 +242,7 @@ public class BeanAdapter extends AbstractMap<String, Object> {
     }
 
     private Object get(String key) {
-        Method getterMethod = key.endsWith(PROPERTY_SUFFIX) ? localCache.getMethod(key) : getGetterMethod(key);
+        Method getterMethod = key.endsWith(PROPERTY_SUFFIX) ? getPropertyModelMethod(key) : getGetterMethod(key);
 
         Object value;
         if (getterMethod != null) {
@@ -827,6 +874,71 @@ public class BeanAdapter extends AbstractMap<String, Object> {
     }
 
     private static Method getStaticGetterMethod(Class<?> sourceType, String key,
+        Class<?> targetType) {
+        return getStaticMethod(sourceType, key, null, targetType);
+    }
+
+    private static Method getStaticSetterMethod(Class<?> sourceType, String key,
+        Class<?> valueType, Class<?> targetType) {
+        if (valueType == null) {
+            throw new NullPointerException();
+        }
+
+        return getStaticMethod(sourceType, key, valueType, targetType);
+    }
+
+    /*
+     * Returns the static getter (if valueType is null) or setter for the given
+     * property. The lookups are cached with the target type, unless the source
+     * type or the value type is not visible from the class loader of the target
+     * type, so that the cache does not keep unrelated class loaders reachable.
+     */
+    private static Method getStaticMethod(Class<?> sourceType, String key,
+        Class<?> valueType, Class<?> targetType) {
+        if (sourceType == null) {
+            throw new NullPointerException();
+        }
+
+        if (key == null) {
+            throw new NullPointerException();
+        }
+
+        if (targetType == null
+            || !isVisible(sourceType, targetType)
+            || (valueType != null && !isVisible(valueType, targetType))) {
+            return (valueType == null) ? findStaticGetterMethod(sourceType, key, targetType)
+                : findStaticSetterMethod(sourceType, key, valueType, targetType);
+        }
+
+        Map<StaticMethodKey, Optional<Method>> methods = staticMethodCache.get(targetType);
+        StaticMethodKey methodKey = new StaticMethodKey(sourceType, key, valueType);
+        Optional<Method> method = methods.get(methodKey);
+
+        if (method == null) {
+            method = Optional.ofNullable((valueType == null) ? findStaticGetterMethod(sourceType, key, targetType)
+                : findStaticSetterMethod(sourceType, key, valueType, targetType));
+            methods.putIfAbsent(methodKey, method);
+        }
+
+        return method.orElse(null);
+    }
+
+    private static boolean isVisible(Class<?> type, Class<?> fromType) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return true;
+        }
+
+        for (ClassLoader loader = fromType.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == classLoader) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Method findStaticGetterMethod(Class<?> sourceType, String key,
         Class<?> targetType) {
         if (sourceType == null) {
             throw new NullPointerException();
@@ -883,14 +995,14 @@ public class BeanAdapter extends AbstractMap<String, Object> {
             }
 
             if (method == null) {
-                method = getStaticGetterMethod(sourceType, key, targetType.getSuperclass());
+                method = findStaticGetterMethod(sourceType, key, targetType.getSuperclass());
             }
         }
 
         return method;
     }
 
-    private static Method getStaticSetterMethod(Class<?> sourceType, String key,
+    private static Method findStaticSetterMethod(Class<?> sourceType, String key,
         Class<?> valueType, Class<?> targetType) {
         if (sourceType == null) {
             throw new NullPointerException();
@@ -933,14 +1045,14 @@ public class BeanAdapter extends AbstractMap<String, Object> {
             }
 
             if (method == null) {
-                method = getStaticSetterMethod(sourceType, key, valueType, targetType.getSuperclass());
+                method = findStaticSetterMethod(sourceType, key, valueType, targetType.getSuperclass());
             }
         }
 
         return method;
     }
 
-    private static String toAllCaps(String value) {
+    static String toAllCaps(String value) {
         if (value == null) {
             throw new NullPointerException();
         }
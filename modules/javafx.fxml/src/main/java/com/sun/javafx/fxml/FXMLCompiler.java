@@ -0,0 +1,1562 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.fxml;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javafx.beans.DefaultProperty;
+import javafx.beans.NamedArg;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.fxml.CompiledFXML;
+import javafx.fxml.FXMLLoader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.sun.javafx.beans.IDProperty;
+
+/**
+ * Compiles FXML documents into the Java source code of classes that implement
+ * {@link CompiledFXML}.
+ * <p>
+ * A generated class creates the object hierarchy of its document with direct
+ * constructor, setter and list calls, and attaches controller event handlers
+ * with lambda expressions, so {@link FXMLLoader} can load the document without
+ * parsing XML or calling methods reflectively. Types, properties and values are
+ * resolved at compile time with the same rules that {@code FXMLLoader} applies
+ * at runtime, using the class loader passed to the compiler, which therefore has
+ * to see the application classes that the documents refer to, including their
+ * controllers.
+ * <p>
+ * A document is not compiled if it uses a feature that cannot be expressed with
+ * plain method calls: scripts, expressions and bindings, location references,
+ * {@code fx:include}, {@code fx:reference} and {@code fx:copy}, map values,
+ * types that need a builder, property change handlers, and event handlers other
+ * than public methods of the {@code fx:controller} class. Such documents are
+ * reported and loaded from source at runtime.
+ * <p>
+ * The compiler is run during the application build, after the controllers are
+ * compiled and before the generated sources are:
+ * <pre>
+ * java -cp &lt;application classes&gt; --module-path &lt;JavaFX modules&gt; --add-modules javafx.controls \
+ *      -m javafx.fxml/com.sun.javafx.fxml.FXMLCompiler \
+ *      -d &lt;generated sources&gt; -s &lt;generated resources&gt; &lt;resource directory&gt;...
+ * </pre>
+ * The generated resources hold the {@code META-INF/services} registration of
+ * the generated classes, so both output directories have to be added to the
+ * application. No build tool integration is provided; the application's build
+ * runs the compiler itself. With Gradle, for example, it can be run by an
+ * {@code Exec} task that the compilation of a source set containing the
+ * generated sources depends on:
+ * <pre>
+ * task compileFXML(type: Exec) {
+ *     dependsOn compileJava
+ *     inputs.dir "src/main/resources"
+ *     outputs.dirs "$buildDir/gensrc/fxml", "$buildDir/genres/fxml"
+ *     commandLine "java", "-cp", sourceSets.main.runtimeClasspath.asPath,
+ *         "--module-path", javafxModulePath, "--add-modules", "javafx.controls",
+ *         "-m", "javafx.fxml/com.sun.javafx.fxml.FXMLCompiler",
+ *         "-d", "$buildDir/gensrc/fxml", "-s", "$buildDir/genres/fxml",
+ *         "src/main/resources"
+ * }
+ * </pre>
+ */
+public final class FXMLCompiler {
+
+    /**
+     * The suffix that is appended to the name of a document to form the simple
+     * name of its generated class.
+     */
+    public static final String CLASS_NAME_SUFFIX = "_fxml";
+
+    /**
+     * The resource that registers the generated classes as service providers.
+     */
+    public static final String SERVICES_RESOURCE = "META-INF/services/" + CompiledFXML.class.getName();
+
+    private static final String FXML_EXTENSION = ".fxml";
+
+    private static final Pattern EXTRANEOUS_WHITESPACE = Pattern.compile("\\s+");
+
+    // Types that FXMLLoader always creates with a builder of JavaFXBuilderFactory
+    private static final Set<String> BUILDER_TYPES = Set.of(
+        "javafx.scene.Scene",
+        "javafx.scene.text.Font",
+        "javafx.scene.image.Image",
+        "java.net.URL",
+        "javafx.scene.shape.TriangleMesh",
+        "javafx.scene.web.WebView");
+
+    private static final Map<Class<?>, Class<?>> BOXED_TYPES = Map.of(
+        Boolean.TYPE, Boolean.class,
+        Character.TYPE, Character.class,
+        Byte.TYPE, Byte.class,
+        Short.TYPE, Short.class,
+        Integer.TYPE, Integer.class,
+        Long.TYPE, Long.class,
+        Float.TYPE, Float.class,
+        Double.TYPE, Double.class);
+
+    /**
+     * Thrown when a document cannot be compiled.
+     */
+    public static final class CompileException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        public CompileException(String message) {
+            super(message);
+        }
+    }
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Creates a compiler that resolves the types used in documents with the
+     * given class loader.
+     *
+     * @param classLoader the class loader
+     */
+    public FXMLCompiler(ClassLoader classLoader) {
+        this.classLoader = Objects.requireNonNull(classLoader);
+    }
+
+    /**
+     * Returns the fully qualified name of the class generated for a document.
+     * The package of the class is the directory of the document, and its simple
+     * name is the name of the document followed by {@link #CLASS_NAME_SUFFIX},
+     * so {@code com/example/Main.fxml} is compiled to {@code com.example.Main_fxml}.
+     *
+     * @param location the resource name of the document
+     * @return the name of the generated class
+     */
+    public static String getClassName(String location) {
+        String name = location.endsWith(FXML_EXTENSION) ?
+            location.substring(0, location.length() - FXML_EXTENSION.length()) : location;
+
+        StringBuilder className = new StringBuilder();
+        for (String segment : name.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+
+            if (className.length() > 0) {
+                className.append('.');
+            }
+
+            if (!Character.isJavaIdentifierStart(segment.charAt(0))) {
+                className.append('_');
+            }
+
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                className.append(Character.isJavaIdentifierPart(c) ? c : '_');
+            }
+        }
+
+        return className.append(CLASS_NAME_SUFFIX).toString();
+    }
+
+    /**
+     * Compiles a document.
+     *
+     * @param location the resource name of the document
+     * @param inputStream the content of the document
+     * @return the source code of the generated class
+     * @throws IOException if the document cannot be read
+     * @throws CompileException if the document is not valid or uses a feature
+     * that cannot be compiled
+     */
+    public String compile(String location, InputStream inputStream) throws IOException, CompileException {
+        return new Generator(location).generate(parse(location, inputStream));
+    }
+
+    /**
+     * Compiles all documents found in the given resource directories.
+     * <p>
+     * Usage: {@code FXMLCompiler [-d <source output directory>]
+     * [-s <resource output directory>] <resource directory>...}
+     *
+     * @param args the command line arguments
+     * @throws IOException if a document cannot be read or a generated file
+     * cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path sourceDirectory = Paths.get(".");
+        Path resourceDirectory = null;
+        List<Path> roots = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-d") && i + 1 < args.length) {
+                sourceDirectory = Paths.get(args[++i]);
+            } else if (args[i].equals("-s") && i + 1 < args.length) {
+                resourceDirectory = Paths.get(args[++i]);
+            } else {
+                roots.add(Paths.get(args[i]));
+            }
+        }
+
+        if (roots.isEmpty()) {
+            System.err.println("Usage: FXMLCompiler [-d <source output directory>] "
+                + "[-s <resource output directory>] <resource directory>...");
+            System.exit(2);
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ClassLoader.getSystemClassLoader();
+        }
+
+        FXMLCompiler compiler = new FXMLCompiler(classLoader);
+        List<String> classNames = new ArrayList<>();
+        int count = 0;
+
+        for (Path root : roots) {
+            List<Path> documents;
+            try (Stream<Path> files = Files.walk(root)) {
+                documents = files
+                    .filter(file -> file.toString().endsWith(FXML_EXTENSION) && Files.isRegularFile(file))
+                    .sorted()
+                    .collect(Collectors.toList());
+            }
+
+            for (Path document : documents) {
+                String location = root.relativize(document).toString().replace(File.separatorChar, '/');
+                count++;
+
+                String source;
+                try (InputStream inputStream = Files.newInputStream(document)) {
+                    source = compiler.compile(location, inputStream);
+                } catch (CompileException exception) {
+                    System.err.println(exception.getMessage() + " (not compiled)");
+                    continue;
+                }
+
+                String className = getClassName(location);
+                Path file = sourceDirectory.resolve(className.replace('.', File.separatorChar) + ".java");
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, source);
+                classNames.add(className);
+            }
+        }
+
+        if (resourceDirectory != null) {
+            Path file = resourceDirectory.resolve(SERVICES_RESOURCE.replace('/', File.separatorChar));
+            Files.createDirectories(file.getParent());
+            Files.write(file, classNames);
+        }
+
+        System.out.println("Compiled " + classNames.size() + " of " + count + " FXML documents.");
+    }
+
+    // A node of the document tree: an element, a processing instruction, or text
+    private static final class XmlElement {
+        final String prefix;
+        final String localName;
+        final int line;
+        final List<String[]> attributes = new ArrayList<>();
+        final List<Object> content = new ArrayList<>();
+
+        XmlElement(String prefix, String localName, int line) {
+            this.prefix = prefix;
+            this.localName = localName;
+            this.line = line;
+        }
+    }
+
+    private record ProcessingInstruction(String target, String data, int line) {
+    }
+
+    // A value created by the generated code: the name of a local variable and its type
+    private record Value(String variable, Class<?> type) {
+    }
+
+    // A bean property, the setter is null for read-only properties
+    private record BeanProperty(Method getter, Method setter) {
+        Class<?> type() {
+            return getter.getReturnType();
+        }
+    }
+
+    private static List<Object> parse(String location, InputStream inputStream)
+            throws IOException, CompileException {
+        List<Object> document = new ArrayList<>();
+        Deque<XmlElement> elements = new ArrayDeque<>();
+
+        XMLStreamReader reader = null;
+        try {
+            XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+            xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+            xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            reader = xmlInputFactory.createXMLStreamReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                List<Object> content = elements.isEmpty() ? document : elements.peek().content;
+
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT: {
+                        XmlElement element = new XmlElement(emptyToNull(reader.getPrefix()),
+                            reader.getLocalName(), reader.getLocation().getLineNumber());
+
+                        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+                            element.attributes.add(new String[] {
+                                emptyToNull(reader.getAttributePrefix(i)),
+                                reader.getAttributeLocalName(i),
+                                reader.getAttributeValue(i)
+                            });
+                        }
+
+                        content.add(element);
+                        elements.push(element);
+                        break;
+                    }
+
+                    case XMLStreamConstants.END_ELEMENT: {
+                        elements.pop();
+                        break;
+                    }
+
+                    case XMLStreamConstants.CHARACTERS: {
+                        if (!reader.isWhiteSpace() && !elements.isEmpty()) {
+                            content.add(reader.getText());
+                        }
+                        break;
+                    }
+
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION: {
+                        content.add(new ProcessingInstruction(reader.getPITarget().trim(),
+                            reader.getPIData() == null ? "" : reader.getPIData().trim(),
+                            reader.getLocation().getLineNumber()));
+                        break;
+                    }
+                }
+            }
+        } catch (XMLStreamException exception) {
+            throw new CompileException(location + ": " + exception.getMessage());
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException exception) {
+                    // No-op
+                }
+            }
+        }
+
+        return document;
+    }
+
+    private static String emptyToNull(String prefix) {
+        return (prefix == null || prefix.isEmpty()) ? null : prefix;
+    }
+
+    // Generates the class for one document
+    private final class Generator {
+        private final String location;
+
+        private final List<String> packages = new ArrayList<>();
+        private final Map<String, Class<?>> classes = new HashMap<>();
+
+        private final StringBuilder body = new StringBuilder();
+        private int variableCount = 0;
+        private int line = 0;
+
+        private Class<?> controllerType = null;
+        private boolean namespaceUsed = false;
+        private boolean controllerUsed = false;
+
+        Generator(String location) {
+            this.location = location;
+        }
+
+        String generate(List<Object> document) throws CompileException {
+            XmlElement rootElement = null;
+            for (Object node : document) {
+                if (node instanceof ProcessingInstruction instruction) {
+                    processProcessingInstruction(instruction);
+                } else if (node instanceof XmlElement element) {
+                    rootElement = element;
+                }
+            }
+
+            if (rootElement == null) {
+                throw error("The document does not have a root element.");
+            }
+
+            Value root = processInstance(rootElement, true);
+
+            String className = getClassName(location);
+            int i = className.lastIndexOf('.');
+
+            StringBuilder source = new StringBuilder();
+            source.append("// Generated by the FXML compiler from ").append(location).append(". Do not edit.\n");
+            if (i != -1) {
+                source.append("package ").append(className, 0, i).append(";\n");
+            }
+            source.append("\n");
+            source.append("public final class ").append(className.substring(i + 1))
+                .append(" implements ").append(CompiledFXML.class.getName()).append(" {\n\n");
+
+            source.append("    @Override\n");
+            source.append("    public String getLocation() {\n");
+            source.append("        return ").append(quote(location)).append(";\n");
+            source.append("    }\n\n");
+
+            source.append("    @Override\n");
+            source.append("    public Class<?> getControllerType() {\n");
+            source.append("        return ").append(controllerType == null ? "null" : typeName(controllerType) + ".class")
+                .append(";\n");
+            source.append("    }\n\n");
+
+            source.append("    @Override\n");
+            source.append("    @SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+            source.append("    public Object load(").append(FXMLLoader.class.getName())
+                .append(" loader) throws java.io.IOException {\n");
+            if (namespaceUsed) {
+                source.append("        java.util.Map<String, Object> namespace = loader.getNamespace();\n");
+            }
+            if (controllerUsed) {
+                source.append("        ").append(typeName(controllerType)).append(" controller = (")
+                    .append(typeName(controllerType)).append(") loader.getController();\n");
+            }
+            source.append(body);
+            source.append("        return ").append(root.variable()).append(";\n");
+            source.append("    }\n");
+            source.append("}\n");
+
+            return source.toString();
+        }
+
+        private void emit(String statement) {
+            body.append("        ").append(statement).append("\n");
+        }
+
+        private CompileException error(String message) {
+            return new CompileException(location + ":" + line + ": " + message);
+        }
+
+        private CompileException unsupported(String feature) {
+            return error(feature + " is not supported by the FXML compiler.");
+        }
+
+        private void processProcessingInstruction(ProcessingInstruction instruction) throws CompileException {
+            line = instruction.line();
+
+            if (instruction.target().equals(FXMLLoader.IMPORT_PROCESSING_INSTRUCTION)) {
+                String target = instruction.data();
+                if (target.endsWith(".*")) {
+                    packages.add(target.substring(0, target.length() - 2));
+                } else {
+                    Class<?> type = loadType(target);
+                    if (type == null) {
+                        throw error(target + " is not a valid type.");
+                    }
+
+                    classes.put(target.substring(target.length() - getClassNameLength(target)), type);
+                }
+            } else if (instruction.target().equals(FXMLLoader.LANGUAGE_PROCESSING_INSTRUCTION)) {
+                throw unsupported("Scripting");
+            }
+        }
+
+        private Value processInstance(XmlElement element, boolean root) throws CompileException {
+            line = element.line;
+
+            boolean fxRoot = FXMLLoader.FX_NAMESPACE_PREFIX.equals(element.prefix)
+                && element.localName.equals(FXMLLoader.ROOT_TAG);
+
+            if (element.prefix != null && !fxRoot) {
+                if (element.prefix.equals(FXMLLoader.FX_NAMESPACE_PREFIX)) {
+                    throw unsupported(element.prefix + ":" + element.localName);
+                }
+
+                throw error(element.prefix + ":" + element.localName + " is not a valid element.");
+            }
+
+            if (fxRoot && !root) {
+                throw error(FXMLLoader.FX_NAMESPACE_PREFIX + ":" + FXMLLoader.ROOT_TAG
+                    + " can only be applied to root element.");
+            }
+
+            String fxId = null;
+            String fxValue = null;
+            String fxConstant = null;
+            String fxFactory = null;
+            String rootType = null;
+
+            Map<String, String> instanceAttributes = new LinkedHashMap<>();
+            List<String[]> eventHandlerAttributes = new ArrayList<>();
+            List<String[]> staticPropertyAttributes = new ArrayList<>();
+
+            for (String[] attribute : element.attributes) {
+                String prefix = attribute[0];
+                String localName = attribute[1];
+                String value = attribute[2];
+
+                if (prefix != null) {
+                    if (!prefix.equals(FXMLLoader.FX_NAMESPACE_PREFIX)) {
+                        throw error(prefix + ":" + localName + " is not a valid attribute.");
+                    }
+
+                    switch (localName) {
+                        case FXMLLoader.FX_ID_ATTRIBUTE -> {
+                            if (value.equals(FXMLLoader.NULL_KEYWORD) || value.isEmpty()
+                                    || !value.chars().allMatch(Character::isJavaIdentifierPart)) {
+                                throw error("Invalid identifier.");
+                            }
+                            fxId = value;
+                        }
+                        case FXMLLoader.FX_CONTROLLER_ATTRIBUTE -> {
+                            if (!root) {
+                                throw error(FXMLLoader.FX_NAMESPACE_PREFIX + ":" + FXMLLoader.FX_CONTROLLER_ATTRIBUTE
+                                    + " can only be applied to root element.");
+                            }
+                            controllerType = loadClass(value);
+                            checkAccessible(controllerType);
+                        }
+                        case FXMLLoader.FX_VALUE_ATTRIBUTE -> fxValue = value;
+                        case FXMLLoader.FX_CONSTANT_ATTRIBUTE -> fxConstant = value;
+                        case FXMLLoader.FX_FACTORY_ATTRIBUTE -> fxFactory = value;
+                        default -> throw unsupported(prefix + ":" + localName);
+                    }
+                } else if (fxRoot && localName.equals(FXMLLoader.ROOT_TYPE_ATTRIBUTE)) {
+                    rootType = value;
+                } else if (localName.startsWith(FXMLLoader.EVENT_HANDLER_PREFIX)) {
+                    eventHandlerAttributes.add(attribute);
+                } else if (localName.indexOf('.') != -1) {
+                    staticPropertyAttributes.add(attribute);
+                } else {
+                    instanceAttributes.put(localName, value);
+                }
+            }
+
+            // Create the value
+            String variable = "v" + variableCount++;
+            Class<?> type;
+
+            if (fxRoot) {
+                if (rootType == null) {
+                    throw error(FXMLLoader.ROOT_TYPE_ATTRIBUTE + " is required.");
+                }
+
+                type = getType(rootType);
+                if (type == null) {
+                    throw error(rootType + " is not a valid type.");
+                }
+
+                checkAccessible(type);
+                emit("Object root = loader.getRoot();");
+                emit("if (root == null) {");
+                emit("    throw new javafx.fxml.LoadException(\"Root hasn't been set. Use method setRoot() before load.\");");
+                emit("}");
+                emit("if (!(root instanceof " + typeName(type) + ")) {");
+                emit("    throw new javafx.fxml.LoadException(\"Root is not an instance of " + type.getName() + ".\");");
+                emit("}");
+                emit(typeName(type) + " " + variable + " = (" + typeName(type) + ") root;");
+            } else {
+                String name = element.localName;
+                int i = name.lastIndexOf('.');
+                if (Character.isLowerCase(name.charAt(i + 1))) {
+                    throw error("Invalid root element.");
+                }
+
+                Class<?> elementType = getType(name);
+                if (elementType == null) {
+                    throw error(name + " is not a valid type.");
+                }
+
+                checkAccessible(elementType);
+
+                String expression;
+                if (fxValue != null) {
+                    expression = literal(fxValue, elementType);
+                    type = box(elementType);
+                } else if (fxConstant != null) {
+                    Field field;
+                    try {
+                        field = elementType.getField(fxConstant);
+                    } catch (NoSuchFieldException exception) {
+                        throw error(name + " does not define a constant named " + fxConstant + ".");
+                    }
+
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        throw error(name + " does not define a constant named " + fxConstant + ".");
+                    }
+
+                    expression = typeName(elementType) + "." + fxConstant;
+                    type = box(field.getType());
+                } else if (fxFactory != null) {
+                    Method method;
+                    try {
+                        method = elementType.getMethod(fxFactory);
+                    } catch (NoSuchMethodException exception) {
+                        throw error(name + " does not define a factory method named " + fxFactory + ".");
+                    }
+
+                    if (!Modifier.isStatic(method.getModifiers()) || method.getReturnType() == Void.TYPE) {
+                        throw error(name + " does not define a factory method named " + fxFactory + ".");
+                    }
+
+                    expression = typeName(elementType) + "." + fxFactory + "()";
+                    type = box(method.getReturnType());
+                } else {
+                    type = elementType;
+                    expression = construct(type, instanceAttributes, hasElementContent(element));
+                }
+
+                checkAccessible(type);
+                if (Map.class.isAssignableFrom(type)) {
+                    throw unsupported("Map value " + name);
+                }
+
+                emit(typeName(type) + " " + variable + " = " + expression + ";");
+            }
+
+            Value value = new Value(variable, type);
+
+            // Add the value to the namespace
+            if (fxId != null) {
+                namespaceUsed = true;
+                emit("namespace.put(" + quote(fxId) + ", " + variable + ");");
+
+                IDProperty idProperty = type.getAnnotation(IDProperty.class);
+                if (idProperty != null && !instanceAttributes.containsKey(idProperty.value())) {
+                    BeanProperty property = getProperty(type, idProperty.value());
+                    if (property != null && property.setter() != null) {
+                        emit(variable + "." + property.setter().getName() + "("
+                            + literal(fxId, property.type()) + ");");
+                    }
+                }
+            }
+
+            // Process the content
+            for (Object node : element.content) {
+                if (node instanceof ProcessingInstruction instruction) {
+                    processProcessingInstruction(instruction);
+                } else if (node instanceof String text) {
+                    processDefaultPropertyText(value, text);
+                } else {
+                    processContentElement(value, (XmlElement) node);
+                }
+                line = element.line;
+            }
+
+            // Apply the attributes that were not passed to a constructor
+            for (Map.Entry<String, String> attribute : instanceAttributes.entrySet()) {
+                if (attribute.getValue() != null) {
+                    processPropertyAttribute(value, attribute.getKey(), attribute.getValue());
+                }
+            }
+
+            for (String[] attribute : eventHandlerAttributes) {
+                processEventHandlerAttribute(value, attribute[1], attribute[2]);
+            }
+
+            for (String[] attribute : staticPropertyAttributes) {
+                String localName = attribute[1];
+                int i = localName.lastIndexOf('.');
+                processStaticPropertyAttribute(value, localName.substring(0, i), localName.substring(i + 1),
+                    attribute[2]);
+            }
+
+            return value;
+        }
+
+        private boolean hasElementContent(XmlElement element) {
+            return element.content.stream().anyMatch(node -> !(node instanceof ProcessingInstruction));
+        }
+
+        /*
+         * Returns the expression that creates an instance of the given type. Types
+         * with @NamedArg constructors are created the way ProxyBuilder does it: with
+         * the default constructor if all attributes can be set with setters, and
+         * otherwise with the constructor that takes the attributes that cannot.
+         * The attributes that are passed to the constructor are marked as consumed
+         * by setting their values to null.
+         */
+        private String construct(Class<?> type, Map<String, String> attributes, boolean hasContent)
+                throws CompileException {
+            String name = type.getName();
+            if (BUILDER_TYPES.contains(name)) {
+                throw unsupported("Type " + name);
+            }
+
+            if (Modifier.isAbstract(type.getModifiers()) || type.isInterface()) {
+                throw error(name + " cannot be instantiated.");
+            }
+
+            Constructor<?> defaultConstructor = null;
+            List<Constructor<?>> namedArgConstructors = new ArrayList<>();
+            for (Constructor<?> constructor : type.getConstructors()) {
+                if (constructor.getParameterCount() == 0) {
+                    defaultConstructor = constructor;
+                } else if (getArgumentNames(constructor) != null) {
+                    namedArgConstructors.add(constructor);
+                }
+            }
+
+            if (namedArgConstructors.isEmpty() && isBuilderType(type)) {
+                throw unsupported("Partially annotated constructors of " + name);
+            }
+
+            Set<String> immutables = new HashSet<>();
+            for (String attribute : attributes.keySet()) {
+                BeanProperty property = getProperty(type, attribute);
+                if (property == null
+                        || (property.setter() == null && !List.class.isAssignableFrom(property.type()))) {
+                    immutables.add(attribute);
+                }
+            }
+
+            if (immutables.isEmpty() && defaultConstructor != null) {
+                return "new " + typeName(type) + "()";
+            }
+
+            if (namedArgConstructors.isEmpty()) {
+                if (defaultConstructor == null) {
+                    throw error(name + " does not have a public default constructor.");
+                }
+
+                String attribute = immutables.iterator().next();
+                throw error("Property \"" + attribute + "\" does not exist or is read-only.");
+            }
+
+            if (hasContent) {
+                throw unsupported("Element content of " + name + " created with a @NamedArg constructor");
+            }
+
+            // Choose the constructor that takes all immutable attributes and
+            // has the fewest arguments that are not specified
+            Constructor<?> chosen = null;
+            int chosenUnspecified = Integer.MAX_VALUE;
+            int chosenMutablesNotSet = Integer.MAX_VALUE;
+            boolean ambiguous = false;
+
+            for (Constructor<?> constructor : namedArgConstructors) {
+                List<String> argumentNames = getArgumentNames(constructor);
+                if (!argumentNames.containsAll(immutables)) {
+                    continue;
+                }
+
+                int unspecified = 0;
+                for (String argumentName : argumentNames) {
+                    if (!attributes.containsKey(argumentName)) {
+                        unspecified++;
+                    }
+                }
+
+                int mutablesNotSet = 0;
+                for (String attribute : attributes.keySet()) {
+                    if (!immutables.contains(attribute) && !argumentNames.contains(attribute)) {
+                        mutablesNotSet++;
+                    }
+                }
+
+                if (unspecified < chosenUnspecified
+                        || (unspecified == chosenUnspecified && mutablesNotSet < chosenMutablesNotSet)) {
+                    chosen = constructor;
+                    chosenUnspecified = unspecified;
+                    chosenMutablesNotSet = mutablesNotSet;
+                    ambiguous = false;
+                } else if (unspecified == chosenUnspecified && mutablesNotSet == chosenMutablesNotSet) {
+                    ambiguous = true;
+                }
+            }
+
+            if (chosen == null) {
+                throw error("Cannot create instance of " + name + " with given set of properties: "
+                    + attributes.keySet());
+            }
+
+            if (ambiguous) {
+                throw unsupported("Choosing between several constructors of " + name);
+            }
+
+            List<String> argumentNames = getArgumentNames(chosen);
+            Parameter[] parameters = chosen.getParameters();
+            List<String> arguments = new ArrayList<>();
+
+            for (int i = 0; i < parameters.length; i++) {
+                Class<?> parameterType = parameters[i].getType();
+                if (parameterType.isArray() || List.class.isAssignableFrom(parameterType)) {
+                    throw unsupported("Collection argument of a @NamedArg constructor of " + name);
+                }
+
+                String argumentName = argumentNames.get(i);
+                String value = attributes.get(argumentName);
+                if (value != null) {
+                    arguments.add(resolve(value, parameterType));
+                    attributes.put(argumentName, null);
+                } else {
+                    String defaultValue = parameters[i].getAnnotation(NamedArg.class).defaultValue();
+                    arguments.add(defaultValue.isEmpty() ?
+                        defaultValue(parameterType) : literal(defaultValue, parameterType));
+                }
+            }
+
+            return "new " + typeName(type) + "(" + String.join(", ", arguments) + ")";
+        }
+
+        // Returns whether JavaFXBuilderFactory creates the type with a ProxyBuilder
+        private boolean isBuilderType(Class<?> type) {
+            for (Constructor<?> constructor : type.getConstructors()) {
+                for (Parameter parameter : constructor.getParameters()) {
+                    if (parameter.isAnnotationPresent(NamedArg.class)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        private List<String> getArgumentNames(Constructor<?> constructor) {
+            List<String> names = new ArrayList<>();
+            for (Parameter parameter : constructor.getParameters()) {
+                NamedArg namedArg = parameter.getAnnotation(NamedArg.class);
+                if (namedArg == null) {
+                    return null;
+                }
+                names.add(namedArg.value());
+            }
+
+            return names;
+        }
+
+        private void processContentElement(Value parent, XmlElement element) throws CompileException {
+            line = element.line;
+
+            if (element.prefix != null) {
+                if (element.prefix.equals(FXMLLoader.FX_NAMESPACE_PREFIX)
+                        && element.localName.equals(FXMLLoader.DEFINE_TAG)) {
+                    processDefine(element);
+                } else {
+                    // fx:include, fx:reference, fx:copy, fx:script
+                    processInstance(element, false);
+                }
+                return;
+            }
+
+            String name = element.localName;
+            int i = name.lastIndexOf('.');
+            if (Character.isLowerCase(name.charAt(i + 1))) {
+                if (i == -1) {
+                    processPropertyElement(parent, element);
+                } else {
+                    Class<?> sourceType = getType(name.substring(0, i));
+                    if (sourceType == null) {
+                        throw error(name + " is not a valid property.");
+                    }
+
+                    processStaticPropertyElement(parent, sourceType, name.substring(i + 1), element);
+                }
+            } else {
+                Value child = processInstance(element, false);
+                line = element.line;
+                addToDefaultProperty(parent, child);
+            }
+        }
+
+        private void processDefine(XmlElement element) throws CompileException {
+            if (!element.attributes.isEmpty()) {
+                throw error("Element does not support attributes.");
+            }
+
+            for (Object node : element.content) {
+                if (node instanceof ProcessingInstruction instruction) {
+                    processProcessingInstruction(instruction);
+                } else if (node instanceof XmlElement child) {
+                    processInstance(child, false);
+                } else {
+                    throw error("Unexpected characters in input stream.");
+                }
+            }
+        }
+
+        private void addToDefaultProperty(Value parent, Value child) throws CompileException {
+            if (List.class.isAssignableFrom(parent.type())) {
+                emit(parent.variable() + ".add(" + child.variable() + ");");
+                return;
+            }
+
+            BeanProperty property = getDefaultProperty(parent);
+            if (property.setter() == null) {
+                if (!List.class.isAssignableFrom(property.type())) {
+                    throw error("Property \"" + property.getter().getName() + "\" is read-only.");
+                }
+
+                emit(parent.variable() + "." + property.getter().getName() + "().add("
+                    + coerce(child, getListItemType(property)) + ");");
+            } else {
+                if (List.class.isAssignableFrom(property.type())) {
+                    throw unsupported("Writable list default property of " + parent.type().getName());
+                }
+
+                emit(parent.variable() + "." + property.setter().getName() + "("
+                    + coerce(child, property.type()) + ");");
+            }
+        }
+
+        private void processDefaultPropertyText(Value parent, String text) throws CompileException {
+            BeanProperty property = getDefaultProperty(parent);
+            text = EXTRANEOUS_WHITESPACE.matcher(text).replaceAll(" ");
+
+            if (property.setter() == null && List.class.isAssignableFrom(property.type())) {
+                emit(parent.variable() + "." + property.getter().getName() + "().add("
+                    + literal(text, getListItemType(property)) + ");");
+            } else if (property.setter() != null) {
+                emit(parent.variable() + "." + property.setter().getName() + "("
+                    + literal(text.trim(), property.type()) + ");");
+            } else {
+                throw error("Property \"" + property.getter().getName() + "\" is read-only.");
+            }
+        }
+
+        private BeanProperty getDefaultProperty(Value parent) throws CompileException {
+            DefaultProperty defaultProperty = parent.type().getAnnotation(DefaultProperty.class);
+            if (defaultProperty == null) {
+                throw error(parent.type().getName() + " does not have a default property.");
+            }
+
+            BeanProperty property = getProperty(parent.type(), defaultProperty.value());
+            if (property == null) {
+                throw error("Property \"" + defaultProperty.value() + "\" does not exist.");
+            }
+
+            return property;
+        }
+
+        private void processPropertyElement(Value parent, XmlElement element) throws CompileException {
+            String name = element.localName;
+            if (name.startsWith(FXMLLoader.EVENT_HANDLER_PREFIX)) {
+                throw error("\"" + name + "\" is not a valid element name.");
+            }
+
+            BeanProperty property = getProperty(parent.type(), name);
+            if (property == null) {
+                throw error("Property \"" + name + "\" does not exist.");
+            }
+
+            // Like read-only lists, the list properties of types that are created
+            // by ProxyBuilder are populated by adding the elements to them
+            boolean readOnly = property.setter() == null;
+            boolean collection = List.class.isAssignableFrom(property.type())
+                && (readOnly || isBuilderType(parent.type()));
+
+            if (!element.attributes.isEmpty()) {
+                if (readOnly) {
+                    throw unsupported("Attributes of a read-only property element");
+                }
+                throw error("Attributes are not supported for writable property elements.");
+            }
+
+            if (readOnly && !collection) {
+                throw unsupported("Read-only property element \"" + name + "\"");
+            }
+
+            String list = parent.variable() + "." + property.getter().getName() + "()";
+            for (Object node : element.content) {
+                if (node instanceof ProcessingInstruction instruction) {
+                    processProcessingInstruction(instruction);
+                } else if (node instanceof String text) {
+                    line = element.line;
+                    text = EXTRANEOUS_WHITESPACE.matcher(text).replaceAll(" ").trim();
+                    if (collection) {
+                        emit(list + ".add(" + literal(text, getListItemType(property)) + ");");
+                    } else {
+                        emit(parent.variable() + "." + property.setter().getName() + "("
+                            + literal(text, property.type()) + ");");
+                    }
+                } else {
+                    XmlElement child = (XmlElement) node;
+                    if (child.prefix == null && Character.isLowerCase(
+                            child.localName.charAt(child.localName.lastIndexOf('.') + 1))) {
+                        line = child.line;
+                        throw unsupported("Property element \"" + child.localName + "\" of a property element");
+                    }
+
+                    Value value = processInstance(child, false);
+                    line = child.line;
+                    if (collection && !readOnly && Collection.class.isAssignableFrom(value.type())) {
+                        emit(list + ".addAll(" + value.variable() + ");");
+                    } else if (collection) {
+                        emit(list + ".add(" + coerce(value, getListItemType(property)) + ");");
+                    } else {
+                        emit(parent.variable() + "." + property.setter().getName() + "("
+                            + coerce(value, property.type()) + ");");
+                    }
+                }
+            }
+        }
+
+        private void processStaticPropertyElement(Value parent, Class<?> sourceType, String name,
+                XmlElement element) throws CompileException {
+            if (!element.attributes.isEmpty()) {
+                throw error("Attributes are not supported for writable property elements.");
+            }
+
+            Method setter = getStaticSetter(sourceType, name, parent.type());
+            Class<?> valueType = setter.getParameterTypes()[1];
+            String call = typeName(sourceType) + "." + setter.getName() + "(" + parent.variable() + ", ";
+
+            for (Object node : element.content) {
+                if (node instanceof ProcessingInstruction instruction) {
+                    processProcessingInstruction(instruction);
+                } else if (node instanceof String text) {
+                    line = element.line;
+                    text = EXTRANEOUS_WHITESPACE.matcher(text).replaceAll(" ").trim();
+                    emit(call + literal(text, valueType) + ");");
+                } else {
+                    Value value = processInstance((XmlElement) node, false);
+                    line = element.line;
+                    emit(call + coerce(value, valueType) + ");");
+                }
+            }
+        }
+
+        private void processPropertyAttribute(Value value, String name, String attributeValue)
+                throws CompileException {
+            BeanProperty property = getProperty(value.type(), name);
+            if (property == null) {
+                throw error("Property \"" + name + "\" does not exist or is read-only.");
+            }
+
+            if (property.setter() == null) {
+                if (!List.class.isAssignableFrom(property.type())) {
+                    throw error("Property \"" + name + "\" does not exist or is read-only.");
+                }
+
+                // Split the value and add the items to the list
+                if (!attributeValue.isEmpty()) {
+                    Class<?> itemType = getListItemType(property);
+                    for (String item : attributeValue.split(FXMLLoader.ARRAY_COMPONENT_DELIMITER)) {
+                        emit(value.variable() + "." + property.getter().getName() + "().add("
+                            + resolve(item.trim(), itemType) + ");");
+                    }
+                }
+            } else {
+                if (property.type().isArray()) {
+                    throw unsupported("Array property \"" + name + "\"");
+                }
+
+                emit(value.variable() + "." + property.setter().getName() + "("
+                    + resolve(attributeValue, property.type()) + ");");
+            }
+        }
+
+        private void processStaticPropertyAttribute(Value value, String sourceTypeName, String name,
+                String attributeValue) throws CompileException {
+            Class<?> sourceType = getType(sourceTypeName);
+            if (sourceType == null) {
+                throw error(sourceTypeName + "." + name + " is not a valid property.");
+            }
+
+            Method setter = getStaticSetter(sourceType, name, value.type());
+            emit(typeName(sourceType) + "." + setter.getName() + "(" + value.variable() + ", "
+                + resolve(attributeValue, setter.getParameterTypes()[1]) + ");");
+        }
+
+        private void processEventHandlerAttribute(Value value, String name, String handler)
+                throws CompileException {
+            if (name.endsWith(FXMLLoader.CHANGE_EVENT_HANDLER_SUFFIX)) {
+                throw unsupported("Change listener attribute \"" + name + "\"");
+            }
+
+            if (!handler.startsWith(FXMLLoader.CONTROLLER_METHOD_PREFIX)
+                    || handler.startsWith(FXMLLoader.CONTROLLER_METHOD_PREFIX, 1)) {
+                throw unsupported("Event handler \"" + handler + "\"");
+            }
+
+            String methodName = handler.substring(FXMLLoader.CONTROLLER_METHOD_PREFIX.length());
+            if (methodName.isEmpty()) {
+                throw error("Missing controller method.");
+            }
+
+            if (controllerType == null) {
+                throw unsupported("Event handler without " + FXMLLoader.FX_NAMESPACE_PREFIX + ":"
+                    + FXMLLoader.FX_CONTROLLER_ATTRIBUTE);
+            }
+
+            BeanProperty property = getProperty(value.type(), name);
+            if (property == null || property.setter() == null
+                    || !EventHandler.class.isAssignableFrom(property.type())) {
+                throw error("Property \"" + name + "\" does not exist or is read-only.");
+            }
+
+            Class<?> eventType = getEventType(property.setter().getGenericParameterTypes()[0]);
+            Method method = getControllerMethod(methodName);
+            if (method == null) {
+                throw error("Controller method \"" + handler + "\" not found.");
+            }
+
+            if (!Modifier.isPublic(method.getModifiers())) {
+                throw unsupported("Non-public controller method \"" + handler + "\"");
+            }
+
+            String call;
+            if (method.getParameterCount() == 0) {
+                call = "controller." + methodName + "()";
+            } else {
+                Class<?> parameterType = method.getParameterTypes()[0];
+                if (!parameterType.isAssignableFrom(eventType)) {
+                    throw error("Controller method \"" + handler + "\" does not accept " + eventType.getName() + ".");
+                }
+
+                checkAccessible(parameterType);
+                call = "controller." + methodName + "((" + typeName(parameterType) + ") event)";
+            }
+
+            controllerUsed = true;
+            emit(value.variable() + "." + property.setter().getName() + "(event -> " + call + ");");
+        }
+
+        // Finds a controller method the way FXMLLoader does: a method that takes
+        // an event has precedence over a parameterless one
+        private Method getControllerMethod(String name) {
+            Method parameterless = null;
+            for (Class<?> type = controllerType; type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Method method : type.getDeclaredMethods()) {
+                    if (!method.getName().equals(name) || Modifier.isStatic(method.getModifiers())) {
+                        continue;
+                    }
+
+                    Class<?>[] parameterTypes = method.getParameterTypes();
+                    if (parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0])) {
+                        return method;
+                    } else if (parameterTypes.length == 0 && parameterless == null) {
+                        parameterless = method;
+                    }
+                }
+            }
+
+            return parameterless;
+        }
+
+        private Class<?> getEventType(Type handlerType) {
+            if (handlerType instanceof ParameterizedType parameterizedType) {
+                return getRawType(parameterizedType.getActualTypeArguments()[0], Event.class);
+            }
+
+            return Event.class;
+        }
+
+        private Class<?> getRawType(Type type, Class<?> defaultType) {
+            if (type instanceof Class<?> c) {
+                return c;
+            } else if (type instanceof ParameterizedType parameterizedType) {
+                return (Class<?>) parameterizedType.getRawType();
+            } else if (type instanceof WildcardType wildcardType) {
+                Type[] lowerBounds = wildcardType.getLowerBounds();
+                return getRawType(lowerBounds.length > 0 ? lowerBounds[0] : wildcardType.getUpperBounds()[0],
+                    defaultType);
+            } else if (type instanceof TypeVariable<?> typeVariable) {
+                return getRawType(typeVariable.getBounds()[0], defaultType);
+            }
+
+            return defaultType;
+        }
+
+        private Class<?> getListItemType(BeanProperty property) {
+            Type itemType = BeanAdapter.getGenericListItemType(property.getter().getGenericReturnType());
+            return itemType == null ? Object.class : getRawType(itemType, Object.class);
+        }
+
+        private BeanProperty getProperty(Class<?> type, String name) {
+            String key = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+            Method getter = getMethod(type, BeanAdapter.GET_PREFIX + key);
+            if (getter == null) {
+                getter = getMethod(type, BeanAdapter.IS_PREFIX + key);
+            }
+
+            if (getter == null || getter.getReturnType() == Void.TYPE) {
+                return null;
+            }
+
+            return new BeanProperty(getter, getMethod(type, BeanAdapter.SET_PREFIX + key, getter.getReturnType()));
+        }
+
+        private Method getMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+            try {
+                Method method = type.getMethod(name, parameterTypes);
+                return Modifier.isStatic(method.getModifiers()) ? null : method;
+            } catch (NoSuchMethodException exception) {
+                return null;
+            }
+        }
+
+        private Method getStaticSetter(Class<?> sourceType, String name, Class<?> targetType)
+                throws CompileException {
+            checkAccessible(sourceType);
+
+            String key = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (Class<?> type = targetType; type != null; type = type.getSuperclass()) {
+                Method getter = getStaticMethod(sourceType, BeanAdapter.GET_PREFIX + key, type);
+                if (getter == null) {
+                    getter = getStaticMethod(sourceType, BeanAdapter.IS_PREFIX + key, type);
+                }
+
+                if (getter != null) {
+                    Class<?> valueType = getter.getReturnType();
+                    for (Class<?> t = targetType; t != null; t = t.getSuperclass()) {
+                        Method setter = getStaticMethod(sourceType, BeanAdapter.SET_PREFIX + key, t, valueType);
+                        if (setter != null) {
+                            return setter;
+                        }
+                    }
+                    break;
+                }
+            }
+
+            throw error(sourceType.getSimpleName() + "." + name + " is not a valid property.");
+        }
+
+        private Method getStaticMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+            try {
+                Method method = type.getMethod(name, parameterTypes);
+                return Modifier.isStatic(method.getModifiers()) ? method : null;
+            } catch (NoSuchMethodException exception) {
+                return null;
+            }
+        }
+
+        // Returns the expression for an attribute value, resolving the prefixes
+        // the way FXMLLoader does
+        private String resolve(String value, Class<?> type) throws CompileException {
+            if (value.startsWith(FXMLLoader.ESCAPE_PREFIX)) {
+                value = value.substring(FXMLLoader.ESCAPE_PREFIX.length());
+
+                if (value.isEmpty()
+                    || !(value.startsWith(FXMLLoader.ESCAPE_PREFIX)
+                        || value.startsWith(FXMLLoader.RELATIVE_PATH_PREFIX)
+                        || value.startsWith(FXMLLoader.RESOURCE_KEY_PREFIX)
+                        || value.startsWith(FXMLLoader.EXPRESSION_PREFIX)
+                        || value.startsWith(FXMLLoader.BI_DIRECTIONAL_BINDING_PREFIX))) {
+                    throw error("Invalid escape sequence.");
+                }
+                return literal(value, type);
+            } else if (value.startsWith(FXMLLoader.RELATIVE_PATH_PREFIX)) {
+                throw unsupported("Location reference \"" + value + "\"");
+            } else if (value.startsWith(FXMLLoader.RESOURCE_KEY_PREFIX)) {
+                String key = value.substring(FXMLLoader.RESOURCE_KEY_PREFIX.length());
+                if (key.isEmpty()) {
+                    throw error("Missing resource key.");
+                }
+
+                if (key.startsWith(FXMLLoader.RESOURCE_KEY_PREFIX)) {
+                    return literal(key, type);
+                }
+
+                if (!type.isAssignableFrom(String.class)) {
+                    throw unsupported("Resource \"" + value + "\" for a property of type " + type.getName());
+                }
+
+                return "loader.getResources().getString(" + quote(key) + ")";
+            } else if (value.equals(FXMLLoader.EXPRESSION_PREFIX + FXMLLoader.NULL_KEYWORD)
+                    && !type.isPrimitive()) {
+                checkAccessible(type);
+                return "(" + typeName(type) + ") null";
+            } else if (value.startsWith(FXMLLoader.EXPRESSION_PREFIX)
+                    || value.startsWith(FXMLLoader.BI_DIRECTIONAL_BINDING_PREFIX)) {
+                throw unsupported("Expression \"" + value + "\"");
+            }
+
+            return literal(value, type);
+        }
+
+        // Returns the Java literal for a value that BeanAdapter.coerce() would
+        // convert to the given type
+        private String literal(String value, Class<?> type) throws CompileException {
+            if (type.isAssignableFrom(String.class)) {
+                return quote(value);
+            }
+
+            try {
+                if (type == Boolean.class || type == Boolean.TYPE) {
+                    return String.valueOf(Boolean.parseBoolean(value));
+                } else if (type == Character.class || type == Character.TYPE) {
+                    return "(char) " + (int) value.charAt(0);
+                } else if (type == Byte.class || type == Byte.TYPE) {
+                    return "(byte) " + Byte.parseByte(value);
+                } else if (type == Short.class || type == Short.TYPE) {
+                    return "(short) " + Short.parseShort(value);
+                } else if (type == Integer.class || type == Integer.TYPE) {
+                    return String.valueOf(Integer.parseInt(value));
+                } else if (type == Long.class || type == Long.TYPE) {
+                    return Long.parseLong(value) + "L";
+                } else if (type == Float.class || type == Float.TYPE) {
+                    return floatLiteral(Float.parseFloat(value));
+                } else if (type == Double.class || type == Double.TYPE) {
+                    return doubleLiteral(Double.parseDouble(value));
+                } else if (type == Number.class) {
+                    return value.contains(".") ? doubleLiteral(Double.parseDouble(value)) : Long.parseLong(value) + "L";
+                } else if (type == BigInteger.class) {
+                    return "new java.math.BigInteger(" + quote(new BigInteger(value).toString()) + ")";
+                } else if (type == BigDecimal.class) {
+                    return "new java.math.BigDecimal(" + quote(new BigDecimal(value).toString()) + ")";
+                }
+            } catch (NumberFormatException | IndexOutOfBoundsException exception) {
+                throw error("Unable to coerce " + value + " to " + type + ".");
+            }
+
+            if (type.isEnum()) {
+                String name = (!value.isEmpty() && Character.isLowerCase(value.charAt(0))) ?
+                    BeanAdapter.toAllCaps(value) : value;
+                for (Object constant : type.getEnumConstants()) {
+                    if (((Enum<?>) constant).name().equals(name)) {
+                        checkAccessible(type);
+                        return typeName(type) + "." + name;
+                    }
+                }
+
+                throw error("Unable to coerce " + value + " to " + type + ".");
+            }
+
+            Method valueOf = null;
+            for (Class<?> valueType = String.class; valueOf == null && valueType != null;
+                    valueType = valueType.getSuperclass()) {
+                try {
+                    valueOf = type.getDeclaredMethod(BeanAdapter.VALUE_OF_METHOD_NAME, valueType);
+                } catch (NoSuchMethodException exception) {
+                    // No-op
+                }
+            }
+
+            if (valueOf == null) {
+                throw error("Unable to coerce " + value + " to " + type + ".");
+            }
+
+            if (!Modifier.isStatic(valueOf.getModifiers()) || !Modifier.isPublic(valueOf.getModifiers())) {
+                throw unsupported("Coercion of \"" + value + "\" to " + type.getName());
+            }
+
+            checkAccessible(type);
+            return typeName(type) + "." + BeanAdapter.VALUE_OF_METHOD_NAME + "(" + quote(value) + ")";
+        }
+
+        private String defaultValue(Class<?> type) {
+            if (type == Boolean.TYPE) {
+                return "false";
+            } else if (type == Character.TYPE) {
+                return "(char) 0";
+            } else if (type == Byte.TYPE) {
+                return "(byte) 0";
+            } else if (type == Short.TYPE) {
+                return "(short) 0";
+            } else if (type == Long.TYPE) {
+                return "0L";
+            } else if (type == Float.TYPE) {
+                return "0.0f";
+            } else if (type == Double.TYPE) {
+                return "0.0";
+            } else if (type.isPrimitive()) {
+                return "0";
+            }
+
+            return "(" + typeName(type) + ") null";
+        }
+
+        // Returns the expression that passes a value where the given type is expected
+        private String coerce(Value value, Class<?> type) throws CompileException {
+            Class<?> valueType = box(value.type());
+            if (box(type).isAssignableFrom(valueType)) {
+                return value.variable();
+            }
+
+            if (valueType.isAssignableFrom(type) && !type.isPrimitive()) {
+                checkAccessible(type);
+                return "(" + typeName(type) + ") " + value.variable();
+            }
+
+            throw unsupported("Coercion of " + valueType.getName() + " to " + type.getName());
+        }
+
+        private Class<?> getType(String name) {
+            Class<?> type = null;
+
+            if (Character.isLowerCase(name.charAt(0))) {
+                // This is a fully-qualified class name
+                type = loadType(name);
+            } else {
+                // This is an unqualified class name
+                type = classes.get(name);
+
+                if (type == null) {
+                    for (String packageName : packages) {
+                        type = loadType(packageName, name);
+                        if (type != null) {
+                            classes.put(name, type);
+                            break;
+                        }
+                    }
+                }
+            }
+
+            return type;
+        }
+
+        private int getClassNameLength(String name) {
+            int i = name.indexOf('.');
+            int n = name.length();
+            while (i != -1 && i < n - 1 && Character.isLowerCase(name.charAt(i + 1))) {
+                i = name.indexOf('.', i + 1);
+            }
+
+            return (i == -1 || i >= n - 1) ? 0 : n - i - 1;
+        }
+
+        private Class<?> loadType(String name) {
+            int length = getClassNameLength(name);
+            if (length == 0) {
+                return null;
+            }
+
+            return loadType(name.substring(0, name.length() - length - 1), name.substring(name.length() - length));
+        }
+
+        private Class<?> loadType(String packageName, String className) {
+            try {
+                return Class.forName(packageName + "." + className.replace('.', '$'), false, classLoader);
+            } catch (ClassNotFoundException | LinkageError exception) {
+                return null;
+            }
+        }
+
+        private Class<?> loadClass(String name) throws CompileException {
+            try {
+                return Class.forName(name, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError exception) {
+                throw error(name + " is not a valid type.");
+            }
+        }
+
+        private void checkAccessible(Class<?> type) throws CompileException {
+            if (type.isPrimitive()) {
+                return;
+            }
+
+            if (type.isArray() || type.getCanonicalName() == null) {
+                throw unsupported("Type " + type.getName());
+            }
+
+            for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+                if (!Modifier.isPublic(c.getModifiers())) {
+                    throw unsupported("Non-public type " + type.getName());
+                }
+            }
+
+            Module module = type.getModule();
+            if (module.isNamed() && !module.isExported(type.getPackageName())) {
+                throw unsupported("Type " + type.getName() + " of a package that is not exported");
+            }
+        }
+    }
+
+    private static Class<?> box(Class<?> type) {
+        return type.isPrimitive() ? BOXED_TYPES.get(type) : type;
+    }
+
+    private static String typeName(Class<?> type) {
+        return type.getCanonicalName();
+    }
+
+    private static String doubleLiteral(double value) {
+        if (Double.isNaN(value)) {
+            return "Double.NaN";
+        } else if (Double.isInfinite(value)) {
+            return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+        }
+
+        return Double.toString(value);
+    }
+
+    private static String floatLiteral(float value) {
+        if (Float.isNaN(value)) {
+            return "Float.NaN";
+        } else if (Float.isInfinite(value)) {
+            return value > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+        }
+
+        return Float.toString(value) + "f";
+    }
+
+    private static String quote(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+
+        return builder.append('"').toString();
+    }
+}
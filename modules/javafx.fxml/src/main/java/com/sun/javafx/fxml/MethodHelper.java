@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,19 +26,66 @@
 package com.sun.javafx.fxml;
 
 import com.sun.javafx.reflect.MethodUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import com.sun.javafx.reflect.ReflectUtil;
 
 /**
  * Utility class to wrap method invocation.
+ * <p>
+ * Public methods of public classes in unconditionally exported packages are
+ * invoked through method handles, which are created once per method and cached
+ * with the class that declares it. All other methods are invoked reflectively
+ * through the trampoline.
  */
 public class MethodHelper {
     private static final boolean logAccessErrors = Boolean.getBoolean("sun.reflect.debugModuleAccessChecks");
     private static final Module trampolineModule = MethodUtil.getTrampolineModule();
 
+    private static final MethodType INVOKER_TYPE =
+        MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    // The invokers of the methods of a class, by method
+    private static final ClassValue<Map<Method, Invoker>> invokers = new ClassValue<>() {
+        @Override
+        protected Map<Method, Invoker> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final class Invoker {
+        private final MethodHandle handle;
+        private final Class<?>[] parameterTypes;
+        private final boolean isStatic;
+
+        private Invoker(MethodHandle handle, Class<?>[] parameterTypes, boolean isStatic) {
+            this.handle = handle;
+            this.parameterTypes = parameterTypes;
+            this.isStatic = isStatic;
+        }
+    }
+
+    // Marks methods that cannot be invoked with a public method handle
+    private static final Invoker NO_INVOKER = new Invoker(null, null, false);
+
     public static Object invoke(Method m, Object obj, Object[] params)
             throws InvocationTargetException, IllegalAccessException {
+        Invoker invoker = getInvoker(m);
+        if (invoker != NO_INVOKER) {
+            checkArguments(m, invoker, obj, params);
+            try {
+                return invoker.handle.invokeExact(obj, params);
+            } catch (Throwable exception) {
+                throw new InvocationTargetException(exception);
+            }
+        }
 
         // Check that the class in question is in a package that is open to
         // this module (or exported unconditionally). If so, then we will open
@@ -78,6 +125,107 @@ public class MethodHelper {
         return MethodUtil.invoke(m, obj, params);
     }
 
+    // Returns the cached invoker of the given method, creating it if needed
+    private static Invoker getInvoker(Method m) {
+        Map<Method, Invoker> classInvokers = invokers.get(m.getDeclaringClass());
+        Invoker invoker = classInvokers.get(m);
+        if (invoker == null) {
+            MethodHandle handle = createMethodHandle(m);
+            invoker = (handle == null) ? NO_INVOKER
+                : new Invoker(handle, m.getParameterTypes(), Modifier.isStatic(m.getModifiers()));
+            Invoker existing = classInvokers.putIfAbsent(m, invoker);
+            if (existing != null) {
+                invoker = existing;
+            }
+        }
+
+        return invoker;
+    }
+
+    // Returns a method handle of type (Object, Object[])Object that invokes the
+    // given method, or null if it has to be invoked reflectively
+    private static MethodHandle createMethodHandle(Method m) {
+        Class<?> clazz = m.getDeclaringClass();
+        if (!Modifier.isPublic(clazz.getModifiers())
+                || !clazz.getModule().isExported(clazz.getPackageName())) {
+            return null;
+        }
+
+        MethodHandle handle;
+        try {
+            // The public lookup has no access beyond what is exported, and
+            // refuses caller sensitive methods
+            handle = MethodHandles.publicLookup().unreflect(m);
+        } catch (IllegalAccessException exception) {
+            return null;
+        }
+
+        if (Modifier.isStatic(m.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        int parameterCount = m.getParameterCount();
+        return handle.asType(handle.type().generic().changeReturnType(Object.class))
+            .asSpreader(Object[].class, parameterCount)
+            .asType(INVOKER_TYPE);
+    }
+
+    // Throws the exceptions that reflective invocation would throw for
+    // arguments that do not match the method
+    private static void checkArguments(Method m, Invoker invoker, Object obj, Object[] params) {
+        if (!invoker.isStatic) {
+            if (obj == null) {
+                throw new NullPointerException();
+            }
+            if (!m.getDeclaringClass().isInstance(obj)) {
+                throw new IllegalArgumentException("object is not an instance of declaring class");
+            }
+        }
+
+        Class<?>[] parameterTypes = invoker.parameterTypes;
+        int length = (params == null) ? 0 : params.length;
+        if (length != parameterTypes.length) {
+            throw new IllegalArgumentException("wrong number of arguments: " + length
+                + " expected: " + parameterTypes.length);
+        }
+
+        for (int i = 0; i < length; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            Object param = params[i];
+            boolean matches;
+            if (param == null) {
+                matches = !parameterType.isPrimitive();
+            } else if (parameterType.isPrimitive()) {
+                Class<?> valueType = MethodType.methodType(param.getClass()).unwrap().returnType();
+                matches = valueType.isPrimitive() && isWidening(valueType, parameterType);
+            } else {
+                matches = parameterType.isInstance(param);
+            }
+
+            if (!matches) {
+                throw new IllegalArgumentException("argument type mismatch");
+            }
+        }
+    }
+
+    // Primitive types in the order of widening conversions, char aside
+    private static final List<Class<?>> wideningOrder =
+        List.of(byte.class, short.class, int.class, long.class, float.class, double.class);
+
+    private static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == to) {
+            return true;
+        }
+
+        int toIndex = wideningOrder.indexOf(to);
+        if (from == char.class) {
+            return toIndex >= wideningOrder.indexOf(int.class);
+        }
+
+        int fromIndex = wideningOrder.indexOf(from);
+        return fromIndex != -1 && fromIndex < toIndex;
+    }
+
     // Utility class, do not instantiate
     private MethodHelper() {
     }
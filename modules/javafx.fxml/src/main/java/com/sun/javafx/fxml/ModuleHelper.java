@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -84,8 +84,8 @@ public class ModuleHelper {
     public static Object invoke(Method m, Object obj, Object[] params)
             throws InvocationTargetException, IllegalAccessException
     {
-        Object thisModule = getModule(ModuleHelper.class);
-        Object methodModule = getModule(m.getDeclaringClass());
+        Module thisModule = ModuleHelper.class.getModule();
+        Module methodModule = m.getDeclaringClass().getModule();
         if (verbose) {
             System.out.println("thisModule = " + thisModule);
             System.out.println("methodModule = " + methodModule);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,7 @@ import java.lang.reflect.Modifier;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -121,7 +122,7 @@ public class ProxyBuilder<T> extends AbstractMap<String, Object> implements Buil
 
         constructors = new TreeSet<>(constructorComparator);
         constructors.addAll(constructorsMap.keySet());
-        propertiesMap = scanForSetters();
+        propertiesMap = classProperties.get(type);
     }
 
     //make sure int goes before float
@@ -494,7 +495,15 @@ public class ProxyBuilder<T> extends AbstractMap<String, Object> implements Buil
         return retObj;
     }
 
-    private Map<String, Property> scanForSetters() {
+    // The setters and collection getters of a class are scanned once per class
+    private static final ClassValue<Map<String, Property>> classProperties = new ClassValue<>() {
+        @Override
+        protected Map<String, Property> computeValue(Class<?> type) {
+            return Collections.unmodifiableMap(scanForSetters(type));
+        }
+    };
+
+    private static Map<String, Property> scanForSetters(Class<?> type) {
         Map<String, Property> strsMap = new HashMap<>();
         Map<String, LinkedList<Method>> methods = getClassMethodCache(type);
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package javafx.fxml;
+
+import java.io.IOException;
+
+/**
+ * An FXML document that has been compiled ahead of time into a Java class.
+ * <p>
+ * Implementations of this interface are generated at build time by the FXML
+ * compiler. Each one creates the object hierarchy of one document with direct
+ * constructor and setter calls, so loading it neither parses XML nor uses
+ * reflection. Compiled documents are registered as service providers of this
+ * interface, either in a {@code META-INF/services/javafx.fxml.CompiledFXML}
+ * file or with a {@code provides} clause in the application's module
+ * declaration.
+ * <p>
+ * The FXML compiler is a command line tool, the main class
+ * {@code com.sun.javafx.fxml.FXMLCompiler} of the {@code javafx.fxml} module:
+ * <pre>
+ * java -cp &lt;application classes&gt; --module-path &lt;JavaFX modules&gt; --add-modules javafx.controls \
+ *      -m javafx.fxml/com.sun.javafx.fxml.FXMLCompiler \
+ *      -d &lt;generated sources&gt; -s &lt;generated resources&gt; &lt;resource directory&gt;...
+ * </pre>
+ * It writes the sources of the compiled documents and their service
+ * registration, which the application compiles and packages with its own
+ * classes. JavaFX does not provide a Gradle task or a plugin for any other
+ * build tool; running the compiler as part of the build, after the
+ * controllers have been compiled, is left to the application.
+ * <p>
+ * When {@link FXMLLoader#load()} is called, the loader looks up the providers
+ * with the loader's {@link FXMLLoader#getClassLoader() class loader}, and uses
+ * the one whose {@link #getLocation() location}, resolved as a resource from
+ * the provider class, is the loader's location. A document that is loaded from
+ * any other URL, such as a file or a remote URL, is not matched. In a named
+ * module, the package of the document has to be open to {@code javafx.fxml},
+ * as it is for the controllers of FXML documents. If a provider is found, and
+ * neither a custom {@link FXMLLoader#setBuilderFactory
+ * builder factory} nor a {@link LoadListener} is set, the compiled document is
+ * used in place of the FXML source. Otherwise, the document is loaded from its
+ * location as usual.
+ * <p>
+ * The controller of a compiled document is created, injected and initialized by
+ * the {@code FXMLLoader} exactly as for a document that is loaded from source.
+ *
+ * @since 25
+ */
+public interface CompiledFXML {
+
+    /**
+     * Returns the resource name of the FXML document this class was compiled
+     * from, for example {@code "com/example/Main.fxml"}.
+     *
+     * @return the resource name of the document
+     */
+    String getLocation();
+
+    /**
+     * Returns the controller class named by the {@code fx:controller} attribute
+     * of the root element of the document.
+     *
+     * @return the controller class, or {@code null} if the document does not
+     * specify a controller
+     */
+    Class<?> getControllerType();
+
+    /**
+     * Creates the object hierarchy of the document. The namespace, resources,
+     * root and controller of the given loader have been set up when this method
+     * is called.
+     *
+     * @param loader the loader that is loading the document
+     * @return the root of the object hierarchy
+     * @throws IOException if an error occurs while creating the object hierarchy
+     */
+    Object load(FXMLLoader loader) throws IOException;
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,7 @@ import com.sun.javafx.util.Logging;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -47,7 +48,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 
 import javafx.beans.DefaultProperty;
@@ -611,7 +618,8 @@ public class FXMLLoader {
                                         + "', either the event handler is not in the Namespace or there is an error in the script.");
                             }
                             eventHandler = new ScriptEventHandler(handlerName, scriptEngine, location.getPath()
-                                        + "-" + attribute.name  + "_attribute_in_element_ending_at_line_"  + getLineNumber());
+                                        + "-" + attribute.name  + "_attribute_in_element_ending_at_line_"  + getLineNumber(),
+                                        compileScript);
                         }
 
                         // Add the handler
@@ -922,16 +930,7 @@ public class FXMLLoader {
                             throw constructLoadException(exception);
                         }
 
-                        try {
-                            if (controllerFactory == null) {
-                                ReflectUtil.checkPackageAccess(type);
-                                setController(type.getDeclaredConstructor().newInstance());
-                            } else {
-                                setController(controllerFactory.call(type));
-                            }
-                        } catch (Exception e) {
-                            throw constructLoadException(e);
-                        }
+                        createController(type);
                     }
                 } else {
                     throw constructLoadException("Invalid attribute.");
@@ -1143,6 +1142,8 @@ public class FXMLLoader {
             }
             fxmlLoader.setClassLoader(cl);
             fxmlLoader.setStaticLoad(staticLoad);
+            fxmlLoader.compileScript = compileScript;
+            fxmlLoader.asyncLoad = asyncLoad;
 
             Object value = fxmlLoader.loadImpl(callerClass);
 
@@ -1727,7 +1728,7 @@ public class FXMLLoader {
         public CompiledScript compiledScript;
         public boolean isCompiled = false;
 
-        public ScriptEventHandler(String script, ScriptEngine scriptEngine, String filename) {
+        public ScriptEventHandler(String script, ScriptEngine scriptEngine, String filename, boolean compileScript) {
             this.script = script;
             this.scriptEngine = scriptEngine;
             this.filename = filename;
@@ -1874,25 +1875,31 @@ public class FXMLLoader {
 
     private FXMLLoader parentLoader;
 
+    // The future of the asynchronous load in progress, if any
+    private CompletableFuture<?> asyncLoad = null;
+
     private XMLStreamReader xmlStreamReader = null;
     private Element current = null;
 
     private ScriptEngine scriptEngine = null;
-    private static boolean compileScript = true;
+    private boolean compileScript = true;
 
     private List<String> packages = new LinkedList<>();
     private Map<String, Class<?>> classes = new HashMap<>();
 
     private ScriptEngineManager scriptEngineManager = null;
 
-    private static ClassLoader defaultClassLoader = null;
+    private static volatile ClassLoader defaultClassLoader = null;
 
     private static final Pattern extraneousWhitespacePattern = Pattern.compile("\\s+");
 
-    private static BuilderFactory DEFAULT_BUILDER_FACTORY = new JavaFXBuilderFactory();
+    private static final BuilderFactory DEFAULT_BUILDER_FACTORY = new JavaFXBuilderFactory();
 
     private static final Boolean ALLOW_JAVASCRIPT = Boolean.getBoolean("javafx.allowjs");
 
+    private static final Map<ClassLoader, SoftReference<Map<String, CompiledFXML>>> compiledDocuments =
+        new WeakHashMap<>();
+
     /**
      * The character set used when character set is not explicitly specified.
      */
@@ -2492,6 +2499,10 @@ public class FXMLLoader {
      * Loads an object hierarchy from a FXML document. The location from which
      * the document will be loaded must have been set by a prior call to
      * {@link #setLocation(URL)}.
+     * <p>
+     * If the document has been compiled ahead of time into a {@link CompiledFXML}
+     * class that is visible to the {@link #getClassLoader() class loader} of this
+     * loader, the compiled class creates the object hierarchy instead.
      *
      * @param <T> the type of the root object
      * @throws IOException if an error occurs during loading
@@ -2516,6 +2527,87 @@ public class FXMLLoader {
         return loadImpl(inputStream, null);
     }
 
+    /**
+     * Loads an object hierarchy from a FXML document on the given executor.
+     * The location from which the document will be loaded must have been set
+     * by a prior call to {@link #setLocation(URL)}.
+     * <p>
+     * The document is loaded as by {@link #load()}, on a thread of the executor.
+     * The returned future completes with the root of the object hierarchy, or
+     * exceptionally with the {@code IOException} that {@code load()} would
+     * throw. Cancelling the future stops the loading of the document, and of
+     * the documents it includes, before the next element is processed. The
+     * objects that were created until then are discarded.
+     * <p>
+     * The object hierarchy is built outside of the JavaFX Application Thread,
+     * as is the controller, whose {@code initialize} method is also called on
+     * the thread of the executor. Like any other nodes, the nodes that are
+     * created must be added to a live scene on the JavaFX Application Thread.
+     * Documents that create objects that can only be created on the JavaFX
+     * Application Thread, such as {@code WebView}, cannot be loaded this way.
+     * <p>
+     * Any number of loaders can load documents concurrently, so that the
+     * views of an application can be prepared in parallel:
+     * <pre>{@code
+     * CompletableFuture<Parent> settings =
+     *     new FXMLLoader(getClass().getResource("settings.fxml")).loadAsync(executor);
+     * CompletableFuture<Parent> reports =
+     *     new FXMLLoader(getClass().getResource("reports.fxml")).loadAsync(executor);
+     *
+     * CompletableFuture.allOf(settings, reports).thenRunAsync(() -> {
+     *     tabPane.getTabs().addAll(
+     *         new Tab("Settings", settings.join()),
+     *         new Tab("Reports", reports.join()));
+     * }, Platform::runLater);
+     * }</pre>
+     * This loader must not be used in any other way until the returned future
+     * has completed.
+     *
+     * @param <T> the type of the root object
+     * @param executor the executor that loads the document
+     * @return a future of the loaded object hierarchy
+     * @throws NullPointerException if {@code executor} is null
+     * @throws IllegalStateException if the location is not set
+     * @throws java.util.concurrent.RejectedExecutionException if the executor
+     * does not accept the task
+     *
+     * @since 25
+     */
+    public <T> CompletableFuture<T> loadAsync(Executor executor) {
+        if (executor == null) {
+            throw new NullPointerException("executor is null.");
+        }
+
+        if (location == null) {
+            throw new IllegalStateException("Location is not set.");
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            // The future may have been cancelled before the task started
+            if (future.isDone()) {
+                return;
+            }
+
+            asyncLoad = future;
+            try {
+                future.complete(this.<T>load());
+            } catch (Throwable exception) {
+                future.completeExceptionally(exception);
+            } finally {
+                asyncLoad = null;
+            }
+        });
+
+        return future;
+    }
+
+    private void checkCancelled() throws LoadException {
+        if (asyncLoad != null && asyncLoad.isCancelled()) {
+            throw constructLoadException("Loading was cancelled.");
+        }
+    }
+
     // TODO: JDK-8344109: Consider removing this field and all
     // occurrences of callerClass arguments from the various load* methods
     // (callerClass is always null now)
@@ -2526,6 +2618,15 @@ public class FXMLLoader {
             throw new IllegalStateException("Location is not set.");
         }
 
+        // The compiled form of a document bypasses builders and load listeners
+        if (loadListener == null && !staticLoad
+                && (builderFactory == null || builderFactory.getClass() == JavaFXBuilderFactory.class)) {
+            CompiledFXML compiledDocument = getCompiledDocument(getClassLoader(), location);
+            if (compiledDocument != null) {
+                return loadCompiled(compiledDocument, callerClass);
+            }
+        }
+
         InputStream inputStream = null;
         T value;
         try {
@@ -2616,6 +2717,7 @@ public class FXMLLoader {
                         }
 
                         case XMLStreamConstants.START_ELEMENT: {
+                            checkCancelled();
                             processStartElement();
                             break;
                         }
@@ -2635,35 +2737,53 @@ public class FXMLLoader {
                 throw constructLoadException(exception);
             }
 
-            if (controller != null) {
-                if (controller instanceof Initializable) {
-                    ((Initializable)controller).initialize(location, resources);
-                } else {
-                    // Inject controller fields
-                    Map<String, List<Field>> controllerFields =
-                            controllerAccessor.getControllerFields();
+            initializeController();
+        } catch (final LoadException exception) {
+            throw exception;
+        } catch (final Exception exception) {
+            throw constructLoadException(exception);
+        } finally {
+            controllerAccessor.setCallerClass(null);
+            // Clear controller accessor caches
+            controllerAccessor.reset();
+            // Clear the parser
+            xmlStreamReader = null;
+        }
+
+        return (T)root;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadCompiled(CompiledFXML compiledDocument, Class<?> callerClass) throws IOException {
+        this.callerClass = callerClass;
+        controllerAccessor.setCallerClass(callerClass);
+        try {
+            // Initialize the namespace
+            namespace.put(LOCATION_KEY, location);
+            namespace.put(RESOURCES_KEY, resources);
 
-                    injectFields(LOCATION_KEY, location);
+            Class<?> controllerType = compiledDocument.getControllerType();
+            if (controllerType != null) {
+                if (controller != null) {
+                    throw constructLoadException("Controller value already specified.");
+                }
 
-                    injectFields(RESOURCES_KEY, resources);
+                createController(controllerType);
+            }
 
-                    // Initialize the controller
-                    Method initializeMethod = controllerAccessor
-                                                  .getControllerMethods()
-                                                  .get(SupportedType.PARAMETERLESS)
-                                                  .get(INITIALIZE_METHOD_NAME);
+            Map<String, Object> values = new HashMap<>(namespace);
+            root = compiledDocument.load(this);
 
-                    if (initializeMethod != null) {
-                        try {
-                            MethodHelper.invoke(initializeMethod, controller, new Object [] {});
-                        } catch (IllegalAccessException exception) {
-                            throw constructLoadException(exception);
-                        } catch (InvocationTargetException exception) {
-                            throw constructLoadException(exception);
-                        }
+            // Inject the values that the document added to the namespace
+            if (controller != null) {
+                for (Map.Entry<String, Object> entry : namespace.entrySet()) {
+                    if (values.get(entry.getKey()) != entry.getValue()) {
+                        injectFields(entry.getKey(), entry.getValue());
                     }
                 }
             }
+
+            initializeController();
         } catch (final LoadException exception) {
             throw exception;
         } catch (final Exception exception) {
@@ -2672,13 +2792,109 @@ public class FXMLLoader {
             controllerAccessor.setCallerClass(null);
             // Clear controller accessor caches
             controllerAccessor.reset();
-            // Clear the parser
-            xmlStreamReader = null;
         }
 
         return (T)root;
     }
 
+    private void createController(Class<?> type) throws LoadException {
+        try {
+            if (controllerFactory == null) {
+                ReflectUtil.checkPackageAccess(type);
+                setController(type.getDeclaredConstructor().newInstance());
+            } else {
+                setController(controllerFactory.call(type));
+            }
+        } catch (Exception e) {
+            throw constructLoadException(e);
+        }
+    }
+
+    private void initializeController() throws LoadException {
+        if (controller != null) {
+            if (controller instanceof Initializable) {
+                ((Initializable)controller).initialize(location, resources);
+            } else {
+                // Inject controller fields
+                injectFields(LOCATION_KEY, location);
+
+                injectFields(RESOURCES_KEY, resources);
+
+                // Initialize the controller
+                Method initializeMethod = controllerAccessor
+                                              .getControllerMethods()
+                                              .get(SupportedType.PARAMETERLESS)
+                                              .get(INITIALIZE_METHOD_NAME);
+
+                if (initializeMethod != null) {
+                    try {
+                        MethodHelper.invoke(initializeMethod, controller, new Object [] {});
+                    } catch (IllegalAccessException exception) {
+                        throw constructLoadException(exception);
+                    } catch (InvocationTargetException exception) {
+                        throw constructLoadException(exception);
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Returns the compiled document registered with the given class loader that
+     * was compiled from the resource at the given location. A document only
+     * matches the location that its resource name resolves to, from the class
+     * that was generated for it, so a file or remote URL whose path happens to
+     * end with the same name is loaded from source.
+     */
+    private static CompiledFXML getCompiledDocument(ClassLoader classLoader, URL location) {
+        Map<String, CompiledFXML> documents = getCompiledDocuments(classLoader);
+        if (documents.isEmpty()) {
+            return null;
+        }
+
+        String path = location.getPath();
+        for (int i = path.indexOf('/'); i != -1; i = path.indexOf('/', i + 1)) {
+            String name = path.substring(i + 1);
+            CompiledFXML document = documents.get(name);
+            if (document != null) {
+                URL resource = document.getClass().getResource("/" + name);
+                if (resource != null && resource.toExternalForm().equals(location.toExternalForm())) {
+                    return document;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /*
+     * Returns the compiled documents registered with the given class loader, by
+     * resource name. The documents are discovered once per class loader; the map
+     * is softly reachable because the compiled classes keep their class loader
+     * reachable.
+     */
+    static Map<String, CompiledFXML> getCompiledDocuments(ClassLoader classLoader) {
+        synchronized (compiledDocuments) {
+            SoftReference<Map<String, CompiledFXML>> reference = compiledDocuments.get(classLoader);
+            Map<String, CompiledFXML> documents = (reference == null) ? null : reference.get();
+
+            if (documents == null) {
+                documents = new ConcurrentHashMap<>();
+                try {
+                    for (CompiledFXML document : ServiceLoader.load(CompiledFXML.class, classLoader)) {
+                        documents.putIfAbsent(document.getLocation(), document);
+                    }
+                } catch (ServiceConfigurationError error) {
+                    Logging.getJavaFXLogger().warning("Failed to load compiled FXML documents: " + error);
+                }
+
+                compiledDocuments.put(classLoader, new SoftReference<>(documents));
+            }
+
+            return documents;
+        }
+    }
+
     private void clearImports() {
         packages.clear();
         classes.clear();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -169,7 +169,19 @@ public final class JavaFXBuilderFactory implements BuilderFactory {
         return builder;
     }
 
+    // Whether a class has a constructor with @NamedArg parameters, computed once per class
+    private static final ClassValue<Boolean> hasNamedArgConstructor = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return scanForNamedArgConstructor(type);
+        }
+    };
+
     private boolean scanForConstructorAnnotations(Class<?> type) {
+        return hasNamedArgConstructor.get(type);
+    }
+
+    private static boolean scanForNamedArgConstructor(Class<?> type) {
         Constructor constructors[] = ConstructorUtil.getConstructors(type);
         for (Constructor constructor : constructors) {
             Annotation[][] paramAnnotations = constructor.getParameterAnnotations();
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.javafx.fxml;
+
+import com.sun.javafx.fxml.BeanAdapter;
+import com.sun.javafx.fxml.MethodHelper;
+import com.sun.javafx.fxml.PropertyNotFoundException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javafx.beans.value.ObservableValue;
+import org.junit.jupiter.api.Test;
+import test.javafx.fxml.Alignment;
+import test.javafx.fxml.Widget;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanAdapterTest {
+
+    @Test
+    public void testGetAndPut() {
+        Widget widget = new Widget("a");
+        BeanAdapter adapter = new BeanAdapter(widget);
+
+        assertEquals("a", adapter.get("name"));
+        adapter.put("name", "b");
+        assertEquals("b", widget.getName());
+
+        // the value is coerced to the type of the property
+        adapter.put("number", "42");
+        assertEquals(42, widget.getNumber());
+        adapter.put("enabled", "false");
+        assertEquals(Boolean.FALSE, adapter.get("enabled"));
+
+        assertEquals(String.class, adapter.getType("name"));
+        assertEquals(int.class, adapter.getType("number"));
+        assertTrue(adapter.containsKey("name"));
+        assertFalse(adapter.containsKey("color"));
+        assertNull(adapter.get("color"));
+    }
+
+    @Test
+    public void testReadOnlyProperty() {
+        BeanAdapter adapter = new BeanAdapter(new Widget());
+
+        assertTrue(adapter.isReadOnly("children"));
+        assertFalse(adapter.isReadOnly("name"));
+        assertThrows(PropertyNotFoundException.class, () -> adapter.put("children", null));
+        assertThrows(UnsupportedOperationException.class, () -> adapter.put("color", "red"));
+    }
+
+    @Test
+    public void testPropertyModel() {
+        Widget widget = new Widget("a");
+        BeanAdapter adapter = new BeanAdapter(widget);
+
+        ObservableValue<String> property = adapter.getPropertyModel("name");
+        assertSame(widget.nameProperty(), property);
+        assertNull(adapter.getPropertyModel("color"));
+    }
+
+    @Test
+    public void testStaticProperty() {
+        Widget widget = new Widget();
+
+        assertTrue(BeanAdapter.isDefined(Widget.class, "alignment", Widget.class));
+        assertFalse(BeanAdapter.isDefined(Widget.class, "color", Widget.class));
+        assertEquals(Alignment.class, BeanAdapter.getType(Widget.class, "alignment", Widget.class));
+
+        BeanAdapter.put(widget, Widget.class, "alignment", Alignment.LEFT);
+        assertEquals(Alignment.LEFT, BeanAdapter.<Alignment>get(widget, Widget.class, "alignment"));
+
+        // the value is coerced to the type of the property
+        BeanAdapter.put(widget, Widget.class, "alignment", "right");
+        assertEquals(Alignment.RIGHT, Widget.getAlignment(widget));
+
+        assertThrows(PropertyNotFoundException.class, () -> BeanAdapter.put(widget, Widget.class, "color", "red"));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                int number = i;
+                Callable<Integer> task = () -> {
+                    Widget widget = new Widget();
+                    for (int j = 0; j < 1000; j++) {
+                        BeanAdapter adapter = new BeanAdapter(widget);
+                        adapter.put("number", number);
+                        adapter.put("name", "widget");
+                        BeanAdapter.put(widget, Widget.class, "alignment", Alignment.LEFT);
+                    }
+                    return (Integer) new BeanAdapter(widget).get("number");
+                };
+                results.add(executor.submit(task));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(Integer.valueOf(i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        StringBuilder builder = new StringBuilder("abc");
+        Method setLength = StringBuilder.class.getMethod("setLength", int.class);
+        assertNull(MethodHelper.invoke(setLength, builder, new Object[] { 2 }));
+        assertEquals("ab", builder.toString());
+
+        // primitive arguments are widened
+        Method abs = Math.class.getMethod("abs", long.class);
+        assertEquals(3L, MethodHelper.invoke(abs, null, new Object[] { -3 }));
+        assertEquals(97L, MethodHelper.invoke(abs, null, new Object[] { 'a' }));
+
+        Method length = String.class.getMethod("length");
+        assertEquals(3, MethodHelper.invoke(length, "abc", null));
+        assertEquals(3, MethodHelper.invoke(length, "abc", new Object[0]));
+    }
+
+    @Test
+    public void testInvokeWithIllegalArguments() throws Exception {
+        Method setLength = StringBuilder.class.getMethod("setLength", int.class);
+        StringBuilder builder = new StringBuilder();
+
+        assertThrows(IllegalArgumentException.class, () -> MethodHelper.invoke(setLength, builder, new Object[] { "2" }));
+        assertThrows(IllegalArgumentException.class, () -> MethodHelper.invoke(setLength, builder, new Object[] { 2L }));
+        assertThrows(IllegalArgumentException.class, () -> MethodHelper.invoke(setLength, builder, new Object[] { null }));
+        assertThrows(IllegalArgumentException.class, () -> MethodHelper.invoke(setLength, builder, new Object[0]));
+        assertThrows(IllegalArgumentException.class, () -> MethodHelper.invoke(setLength, "abc", new Object[] { 2 }));
+        assertThrows(NullPointerException.class, () -> MethodHelper.invoke(setLength, null, new Object[] { 2 }));
+    }
+
+    @Test
+    public void testInvokeWrapsExceptions() throws Exception {
+        Method parseInt = Integer.class.getMethod("parseInt", String.class);
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+            () -> MethodHelper.invoke(parseInt, null, new Object[] { "a" }));
+        assertInstanceOf(NumberFormatException.class, exception.getCause());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.javafx.fxml;
+
+import com.sun.javafx.fxml.FXMLCompiler;
+import com.sun.javafx.fxml.FXMLCompiler.CompileException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FXMLCompilerTest {
+    private static final String PROLOG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+        + "<?import java.lang.*?><?import test.javafx.fxml.*?>";
+
+    private final FXMLCompiler compiler = new FXMLCompiler(getClass().getClassLoader());
+
+    private String compile(String fxml) throws IOException, CompileException {
+        InputStream inputStream = new ByteArrayInputStream((PROLOG + fxml).getBytes(StandardCharsets.UTF_8));
+        return compiler.compile("test/javafx/fxml/test.fxml", inputStream);
+    }
+
+    private void assertUnsupported(String fxml) {
+        CompileException exception = assertThrows(CompileException.class, () -> compile(fxml));
+        assertTrue(exception.getMessage().contains("not supported"), exception.getMessage());
+    }
+
+    @Test
+    public void testClassName() {
+        assertEquals("com.example.Main_fxml", FXMLCompiler.getClassName("com/example/Main.fxml"));
+        assertEquals("Main_fxml", FXMLCompiler.getClassName("Main.fxml"));
+        assertEquals("com.example.main_view_fxml", FXMLCompiler.getClassName("com/example/main-view.fxml"));
+    }
+
+    @Test
+    public void testCompileDocument() throws IOException, CompileException {
+        String source;
+        try (InputStream inputStream = getClass().getResourceAsStream("/test/javafx/fxml/compiled_widget.fxml")) {
+            source = compiler.compile("test/javafx/fxml/compiled_widget.fxml", inputStream);
+        }
+
+        assertTrue(source.contains("package test.javafx.fxml;"));
+        assertTrue(source.contains("public final class compiled_widget_fxml implements javafx.fxml.CompiledFXML"));
+        assertTrue(source.contains("return \"test/javafx/fxml/compiled_widget.fxml\";"));
+        assertTrue(source.contains("return test.javafx.fxml.CompiledWidgetController.class;"));
+        assertTrue(source.contains("namespace.put(\"child1\", v1);"));
+        assertTrue(source.contains("v1.setName(loader.getResources().getString(\"name\"));"));
+        assertTrue(source.contains("test.javafx.fxml.Widget.setAlignment(v1, test.javafx.fxml.Alignment.RIGHT);"));
+        assertTrue(source.contains("v2.setEnabled(false);"));
+        assertTrue(source.contains("v0.setNumber(3);"));
+        assertTrue(source.contains("v0.getStyles().add(\"b\");"));
+        assertTrue(source.contains("v0.setOnAction(event -> controller.handleAction((javafx.event.ActionEvent) event));"));
+    }
+
+    @Test
+    public void testConstantsAndValues() throws IOException, CompileException {
+        String source = compile("<Widget xmlns:fx=\"http://javafx.com/fxml\" name=\"$null\">"
+            + "<fx:define><Integer fx:id=\"ten\" fx:value=\"10\"/></fx:define>"
+            + "<children><Widget><number><Widget fx:constant=\"TEN\"/></number></Widget></children>"
+            + "</Widget>");
+
+        assertTrue(source.contains("java.lang.Integer v1 = 10;"), source);
+        assertTrue(source.contains("test.javafx.fxml.Widget.TEN"), source);
+        assertTrue(source.contains("v0.setName((java.lang.String) null);"), source);
+    }
+
+    @Test
+    public void testUnsupportedFeatures() {
+        assertUnsupported("<Widget xmlns:fx=\"http://javafx.com/fxml\"><fx:include source=\"a.fxml\"/></Widget>");
+        assertUnsupported("<Widget xmlns:fx=\"http://javafx.com/fxml\" name=\"${a.name}\"/>");
+        assertUnsupported("<Widget xmlns:fx=\"http://javafx.com/fxml\" name=\"$a\"/>");
+        assertUnsupported("<Widget xmlns:fx=\"http://javafx.com/fxml\" name=\"@a.png\"/>");
+        assertUnsupported("<?language javascript?><Widget xmlns:fx=\"http://javafx.com/fxml\"/>");
+        assertUnsupported("<Widget xmlns:fx=\"http://javafx.com/fxml\" onAction=\"#handleAction\"/>");
+    }
+
+    @Test
+    public void testInvalidProperty() {
+        CompileException exception = assertThrows(CompileException.class,
+            () -> compile("<Widget xmlns:fx=\"http://javafx.com/fxml\" color=\"red\"/>"));
+        assertTrue(exception.getMessage().contains("color"), exception.getMessage());
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.javafx.fxml;
+
+import com.sun.javafx.fxml.FXMLCompiler;
+import com.sun.javafx.fxml.FXMLCompiler.CompileException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.stream.Stream;
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.LoadException;
+import javafx.fxml.LoadListener;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compiles compiled_widget.fxml with the FXML compiler and javac, and loads the
+ * generated class like an application would, as a service provider of a class
+ * loader.
+ */
+public class CompiledFXMLTest {
+    /*
+     * The document is compiled under another name, next to an invalid copy of it,
+     * so that loading from that location only succeeds with the compiled document.
+     */
+    private static final String NAME = "test/javafx/fxml/compiled/compiled_widget.fxml";
+
+    private static Path directory;
+
+    private URLClassLoader classLoader;
+
+    @BeforeAll
+    public static void compile() throws IOException, CompileException {
+        directory = Files.createTempDirectory("CompiledFXMLTest");
+
+        String source;
+        try (InputStream inputStream = CompiledFXMLTest.class.getResourceAsStream("compiled_widget.fxml")) {
+            source = new FXMLCompiler(CompiledFXMLTest.class.getClassLoader()).compile(NAME, inputStream);
+        }
+
+        String className = FXMLCompiler.getClassName(NAME);
+        Path sourceFile = directory.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source);
+
+        List<String> options = new ArrayList<>(List.of(
+            "-d", directory.toString(),
+            "-classpath", System.getProperty("java.class.path")));
+        String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath != null) {
+            options.addAll(List.of("--module-path", modulePath, "--add-modules", "javafx.fxml"));
+        }
+
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(javac, "no system Java compiler");
+        StringWriter output = new StringWriter();
+        boolean compiled = javac.getTask(output, null, null, options, null,
+            javac.getStandardFileManager(null, null, null).getJavaFileObjects(sourceFile)).call();
+        assertTrue(compiled, output.toString());
+
+        Path services = directory.resolve(FXMLCompiler.SERVICES_RESOURCE);
+        Files.createDirectories(services.getParent());
+        Files.writeString(services, className + "\n");
+
+        Files.writeString(directory.resolve(NAME), "<Widget");
+    }
+
+    @AfterAll
+    public static void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        // a new class loader for each test, so that its compiled documents are looked up again
+        classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, getClass().getClassLoader());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        classLoader.close();
+    }
+
+    private FXMLLoader createLoader(URL location) {
+        FXMLLoader fxmlLoader = new FXMLLoader(location, ResourceBundle.getBundle("test/javafx/fxml/rt_16815"));
+        fxmlLoader.setClassLoader(classLoader);
+        return fxmlLoader;
+    }
+
+    private URL getCompiledLocation() {
+        return classLoader.getResource(NAME);
+    }
+
+    @Test
+    public void testCompiledDocumentIsLoaded() throws IOException {
+        FXMLLoader fxmlLoader = createLoader(getCompiledLocation());
+        Widget widget = fxmlLoader.load();
+
+        assertEquals("root", widget.getName());
+        assertEquals(3, widget.getNumber());
+        assertEquals(Arrays.asList("a", "b"), widget.getStyles());
+        assertEquals(2, widget.getChildren().size());
+        assertSame(widget, fxmlLoader.getRoot());
+
+        Widget child1 = widget.getChildren().get(0);
+        assertEquals("child1", child1.getId());
+        assertEquals("My Widget", child1.getName());
+        assertEquals(Alignment.RIGHT, Widget.getAlignment(child1));
+
+        Widget child2 = widget.getChildren().get(1);
+        assertFalse(child2.isEnabled());
+        assertEquals(Arrays.asList("c"), child2.getStyles());
+        assertSame(child2, fxmlLoader.getNamespace().get("child2"));
+    }
+
+    @Test
+    public void testControllerOfCompiledDocument() throws IOException {
+        FXMLLoader fxmlLoader = createLoader(getCompiledLocation());
+        Widget widget = fxmlLoader.load();
+
+        CompiledWidgetController controller = fxmlLoader.getController();
+        assertTrue(controller.isInitialized());
+        assertSame(widget.getChildren().get(0), controller.getChild1());
+        assertSame(widget.getChildren().get(1), controller.getChild2());
+        assertEquals(getCompiledLocation(), controller.getLocation());
+        assertSame(fxmlLoader.getResources(), controller.getResources());
+        assertSame(controller, fxmlLoader.getNamespace().get(FXMLLoader.CONTROLLER_KEYWORD));
+
+        widget.fire();
+        widget.fire();
+        assertEquals(2, controller.getActionCount());
+    }
+
+    private static void assertSameWidget(Widget expected, Widget actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getNumber(), actual.getNumber());
+        assertEquals(expected.isEnabled(), actual.isEnabled());
+        assertEquals(expected.getStyles(), actual.getStyles());
+        assertEquals(Widget.getAlignment(expected), Widget.getAlignment(actual));
+        assertEquals(expected.getOnAction() != null, actual.getOnAction() != null);
+        assertEquals(expected.getChildren().size(), actual.getChildren().size());
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            assertSameWidget(expected.getChildren().get(i), actual.getChildren().get(i));
+        }
+    }
+
+    @Test
+    public void testCompiledDocumentMatchesRuntimeLoading() throws IOException {
+        FXMLLoader compiledLoader = createLoader(getCompiledLocation());
+        Widget compiled = compiledLoader.load();
+
+        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("compiled_widget.fxml"),
+            ResourceBundle.getBundle("test/javafx/fxml/rt_16815"));
+        Widget loaded = fxmlLoader.load();
+
+        assertSameWidget(loaded, compiled);
+        assertEquals(fxmlLoader.getNamespace().keySet(), compiledLoader.getNamespace().keySet());
+
+        CompiledWidgetController expected = fxmlLoader.getController();
+        CompiledWidgetController actual = compiledLoader.getController();
+        assertEquals(expected.isInitialized(), actual.isInitialized());
+        assertEquals(expected.getChild1() != null, actual.getChild1() != null);
+        assertEquals(expected.getChild2() != null, actual.getChild2() != null);
+    }
+
+    @Test
+    public void testOtherLocationWithTheSameNameIsNotMatched() throws IOException {
+        URL location = URI.create("file:/missing/" + NAME).toURL();
+        assertThrows(IOException.class, () -> createLoader(location).load());
+    }
+
+    @Test
+    public void testCustomBuilderFactoryDisablesCompiledDocument() throws IOException {
+        FXMLLoader fxmlLoader = createLoader(getCompiledLocation());
+        fxmlLoader.setBuilderFactory(type -> null);
+        assertThrows(IOException.class, () -> fxmlLoader.load());
+    }
+
+    @Test
+    public void testLoadListenerDisablesCompiledDocument() throws IOException {
+        FXMLLoader fxmlLoader = createLoader(getCompiledLocation());
+        fxmlLoader.setLoadListener(new LoadListener() {
+            @Override public void readImportProcessingInstruction(String target) {}
+            @Override public void readLanguageProcessingInstruction(String language) {}
+            @Override public void readComment(String comment) {}
+            @Override public void beginInstanceDeclarationElement(Class<?> type) {}
+            @Override public void beginUnknownTypeElement(String name) {}
+            @Override public void beginIncludeElement() {}
+            @Override public void beginReferenceElement() {}
+            @Override public void beginCopyElement() {}
+            @Override public void beginRootElement() {}
+            @Override public void beginPropertyElement(String name, Class<?> sourceType) {}
+            @Override public void beginUnknownStaticPropertyElement(String name) {}
+            @Override public void beginScriptElement() {}
+            @Override public void beginDefineElement() {}
+            @Override public void readInternalAttribute(String name, String value) {}
+            @Override public void readPropertyAttribute(String name, Class<?> sourceType, String value) {}
+            @Override public void readUnknownStaticPropertyAttribute(String name, String value) {}
+            @Override public void readEventHandlerAttribute(String name, String value) {}
+            @Override public void endElement(Object value) {}
+        });
+        assertThrows(IOException.class, () -> fxmlLoader.load());
+    }
+
+    @Test
+    public void testControllerAlreadySpecified() throws IOException {
+        FXMLLoader fxmlLoader = createLoader(getCompiledLocation());
+        fxmlLoader.setController(new CompiledWidgetController());
+        LoadException exception = assertThrows(LoadException.class, () -> fxmlLoader.load());
+        assertTrue(exception.getMessage().contains("Controller value already specified"), exception.getMessage());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.javafx.fxml;
+
+import java.net.URL;
+import java.util.ResourceBundle;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+
+public class CompiledWidgetController {
+    @FXML private Widget child1;
+    @FXML private Widget child2;
+    @FXML private URL location;
+    @FXML private ResourceBundle resources;
+
+    private boolean initialized = false;
+    private int actionCount = 0;
+
+    public Widget getChild1() {
+        return child1;
+    }
+
+    public Widget getChild2() {
+        return child2;
+    }
+
+    public URL getLocation() {
+        return location;
+    }
+
+    public ResourceBundle getResources() {
+        return resources;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    @FXML
+    public void initialize() {
+        initialized = true;
+    }
+
+    public void handleAction(ActionEvent event) {
+        actionCount++;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.javafx.fxml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.LoadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FXMLLoader_LoadAsyncTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private FXMLLoader createLoader() {
+        return new FXMLLoader(getClass().getResource("compiled_widget.fxml"),
+            ResourceBundle.getBundle("test/javafx/fxml/rt_16815"));
+    }
+
+    @Test
+    public void testLoadAsync() throws Exception {
+        FXMLLoader fxmlLoader = createLoader();
+        CompletableFuture<Widget> future = fxmlLoader.loadAsync(executor);
+
+        Widget widget = future.get(10, TimeUnit.SECONDS);
+        assertEquals("root", widget.getName());
+        assertEquals("My Widget", widget.getChildren().get(0).getName());
+        assertSame(widget, fxmlLoader.getRoot());
+
+        CompiledWidgetController controller = fxmlLoader.getController();
+        assertTrue(controller.isInitialized());
+        assertSame(widget.getChildren().get(1), controller.getChild2());
+    }
+
+    @Test
+    public void testConcurrentLoads() throws Exception {
+        List<FXMLLoader> fxmlLoaders = new ArrayList<>();
+        List<CompletableFuture<Widget>> futures = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            FXMLLoader fxmlLoader = createLoader();
+            fxmlLoaders.add(fxmlLoader);
+            futures.add(fxmlLoader.loadAsync(executor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+
+        for (int i = 0; i < futures.size(); i++) {
+            Widget widget = futures.get(i).join();
+            CompiledWidgetController controller = fxmlLoaders.get(i).getController();
+            assertSame(widget.getChildren().get(0), controller.getChild1());
+            assertEquals(Alignment.RIGHT, Widget.getAlignment(controller.getChild1()));
+            if (i > 0) {
+                assertNotSame(futures.get(i - 1).join(), widget);
+            }
+        }
+    }
+
+    @Test
+    public void testLoadAsyncFailure() {
+        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("rt_18933.fxml"));
+        CompletableFuture<Object> future = fxmlLoader.loadAsync(executor);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(LoadException.class, exception.getCause());
+    }
+
+    @Test
+    public void testCancelBeforeLoading() {
+        List<Runnable> tasks = new ArrayList<>();
+        FXMLLoader fxmlLoader = createLoader();
+        CompletableFuture<Widget> future = fxmlLoader.loadAsync(tasks::add);
+
+        assertTrue(future.cancel(false));
+        tasks.forEach(Runnable::run);
+
+        assertTrue(future.isCancelled());
+        assertNull(fxmlLoader.getRoot());
+        assertNull(fxmlLoader.getController());
+    }
+
+    @Test
+    public void testCancelWhileLoading() {
+        List<Runnable> tasks = new ArrayList<>();
+        FXMLLoader fxmlLoader = createLoader();
+
+        // Cancel the load when the builder of the first child is requested
+        AtomicInteger elementCount = new AtomicInteger();
+        List<CompletableFuture<Widget>> futures = new ArrayList<>();
+        fxmlLoader.setBuilderFactory(type -> {
+            if (elementCount.incrementAndGet() == 2) {
+                futures.get(0).cancel(false);
+            }
+            return null;
+        });
+
+        futures.add(fxmlLoader.loadAsync(tasks::add));
+        tasks.forEach(Runnable::run);
+
+        assertTrue(futures.get(0).isCancelled());
+        assertEquals(2, elementCount.get());
+
+        // the rest of the document was not loaded
+        CompiledWidgetController controller = fxmlLoader.getController();
+        assertFalse(controller.isInitialized());
+        assertNull(controller.getChild2());
+    }
+
+    @Test
+    public void testLoadAsyncWithoutLocation() {
+        assertThrows(IllegalStateException.class, () -> new FXMLLoader().loadAsync(executor));
+        assertThrows(NullPointerException.class, () -> createLoader().loadAsync(null));
+    }
+}
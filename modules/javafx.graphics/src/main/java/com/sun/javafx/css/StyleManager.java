@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -76,6 +76,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -164,6 +165,104 @@ final public class StyleManager {
     // public for testing
     public static final Map<Parent, CacheContainer> cacheContainerMap = new WeakHashMap<>();
 
+    /*
+     * The results of matching a list of selectors against the styleables from a
+     * node up to the root, shared by all scenes. Which selectors apply to a node
+     * depends only on the type selector, id, style classes and orientation of the
+     * node and of its ancestors, so the nodes at the same place in structurally
+     * identical subtrees, like the rows of a form, share the same result, whether
+     * they are in the same scene or not. A subtree that had its CSS applied in a
+     * scene that is not showing, possibly on a background thread, does not need to
+     * be matched again when it is moved to a scene with the same stylesheets.
+     *
+     * The lists of selectors are compared by identity. Each lookup moves the list
+     * to the end of the access order, so the least recently used ones are dropped
+     * once there are more than MAX_MATCH_CACHE_SIZE. The lists that contain
+     * selectors of a stylesheet are dropped when the stylesheet is removed.
+     */
+    private static final int MAX_MATCH_CACHE_SIZE = 512;
+
+    // package for testing
+    final Map<SelectorList, Map<Cache.Chain, Cache.Match>> matchCache =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Entry<SelectorList, Map<Cache.Chain, Cache.Match>> eldest) {
+                    return size() > MAX_MATCH_CACHE_SIZE;
+                }
+            };
+
+    /*
+     * Returns the shared match results for the given selectors, or null if
+     * matching them is not worth caching.
+     */
+    private Map<Cache.Chain, Cache.Match> getMatches(List<Selector> selectors) {
+        boolean hasCompoundSelector = false;
+        for (int n = 0, nMax = selectors.size(); n < nMax; n++) {
+            if (selectors.get(n) instanceof CompoundSelector) {
+                hasCompoundSelector = true;
+                break;
+            }
+        }
+        // simple selectors only look at the node itself, which is already part of the cache key
+        if (!hasCompoundSelector) {
+            return null;
+        }
+        SelectorList key = new SelectorList(selectors);
+        // get() is what updates the access order of the map
+        Map<Cache.Chain, Cache.Match> matches = matchCache.get(key);
+        if (matches == null) {
+            matches = new HashMap<>();
+            matchCache.put(key, matches);
+        }
+        return matches;
+    }
+
+    /*
+     * A list of selectors that is compared by identity.
+     */
+    private static final class SelectorList {
+        private final Selector[] selectors;
+        private final int hash;
+
+        SelectorList(List<Selector> selectors) {
+            this.selectors = selectors.toArray(new Selector[0]);
+            int h = 1;
+            for (Selector selector : this.selectors) {
+                h = 31 * h + System.identityHashCode(selector);
+            }
+            this.hash = h;
+        }
+
+        boolean containsSelectorOf(Stylesheet stylesheet) {
+            for (Selector selector : selectors) {
+                Rule rule = selector.getRule();
+                if (rule != null && rule.getStylesheet() == stylesheet) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SelectorList other) || hash != other.hash
+                    || selectors.length != other.selectors.length) {
+                return false;
+            }
+            for (int n = 0; n < selectors.length; n++) {
+                if (selectors[n] != other.selectors[n]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     // package for testing
     CacheContainer getCacheContainer(Styleable styleable, SubScene subScene) {
 
@@ -687,6 +786,10 @@ final public class StyleManager {
                 stylesheetContainer.selectorPartitioning.reset();
             }
 
+            if (stylesheetContainer.stylesheet != null) {
+                matchCache.keySet().removeIf(selectors -> selectors.containsSelectorOf(stylesheetContainer.stylesheet));
+            }
+
             // if container has no references, then remove it
             for(Entry<Parent,CacheContainer> entry : cacheContainerMap.entrySet()) {
 
@@ -1424,6 +1527,7 @@ final public class StyleManager {
             for (CacheContainer container : cacheContainerMap.values()) {
                 container.clearCache();
             }
+            matchCache.clear();
 
             StyleConverter.clearCache();
 
@@ -1756,7 +1860,7 @@ final public class StyleManager {
                 }
 
                 // create a new Cache from these selectors.
-                cache = new Cache(selectorData);
+                cache = new Cache(selectorData, getMatches(selectorData));
                 cacheMap.put(key, cache);
 
                 // cause a new Key to be created the next time this method is called
@@ -2039,6 +2143,48 @@ final public class StyleManager {
 
         }
 
+        /*
+         * The styleables from a node up to the root, as far as selector
+         * matching is concerned.
+         */
+        static final class Chain {
+            private final Object[] parts;
+            private final int hash;
+
+            Chain(Styleable styleable) {
+                List<Object> parts = new ArrayList<>();
+                while (styleable != null) {
+                    parts.add(styleable.getTypeSelector());
+                    parts.add(styleable.getId());
+                    parts.add(styleable.getStyleClass().toArray());
+                    // for the :dir() pseudo-class
+                    parts.add(styleable instanceof Node node ? node.getEffectiveNodeOrientation() : null);
+                    styleable = styleable.getStyleableParent();
+                }
+                this.parts = parts.toArray();
+                this.hash = Arrays.deepHashCode(this.parts);
+            }
+
+            @Override
+            public int hashCode() {
+                return hash;
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                return obj instanceof Chain other && hash == other.hash && Arrays.deepEquals(parts, other.parts);
+            }
+        }
+
+        /*
+         * The selectors that apply to a chain of styleables, as bits, and the
+         * pseudo-classes of those selectors, by depth.
+         */
+        record Match(long[] key, PseudoClassState[] triggerStates) {}
+
+        // the number of chains for which matches are kept, per list of selectors
+        private static final int MAX_MATCHES = 256;
+
         // this must be initialized to the appropriate possible selectors when
         // the helper cache is created by the StylesheetContainer. Note that
         // SelectorPartioning sorts the matched selectors by ordinal, so this
@@ -2046,10 +2192,12 @@ final public class StyleManager {
         // appear in the stylesheets.
         private final List<Selector> selectors;
         private final Map<Key, Integer> cache;
+        private final Map<Chain, Match> matches;
 
-        Cache(List<Selector> selectors) {
+        Cache(List<Selector> selectors, Map<Chain, Match> matches) {
             this.selectors = selectors;
             this.cache = new HashMap<>();
+            this.matches = matches;
         }
 
         private StyleMap getStyleMap(CacheContainer cacheContainer, Node node, Set<PseudoClass>[] triggerStates, boolean hasInlineStyle) {
@@ -2058,49 +2206,36 @@ final public class StyleManager {
                 return StyleMap.EMPTY_MAP;
             }
 
-            final int selectorDataSize = selectors.size();
+            final long[] key;
+            if (matches != null && triggerStates != null) {
+                final Chain chain = new Chain(node);
+                Match match = matches.get(chain);
+                if (match == null) {
+                    final PseudoClassState[] states = new PseudoClassState[triggerStates.length];
+                    match = new Match(match(node, states), states);
+                    if (matches.size() < MAX_MATCHES) {
+                        matches.put(chain, match);
+                    }
+                }
+                for (int n = 0; n < triggerStates.length; n++) {
+                    final PseudoClassState states = match.triggerStates()[n];
+                    if (states != null) {
+                        if (triggerStates[n] == null) {
+                            triggerStates[n] = new PseudoClassState();
+                        }
+                        triggerStates[n].addAll(states);
+                    }
+                }
+                key = match.key();
+            } else {
+                key = match(node, triggerStates);
+            }
 
-            //
-            // Since the list of selectors is found by matching only the
-            // rightmost selector, the set of selectors may larger than those
-            // selectors that actually match the node. The following loop
-            // whittles the list down to those selectors that apply.
-            //
-            //
-            // To lookup from the cache, we construct a key from a Long
-            // where the selectors that match this particular node are
-            // represented by bits on the long[].
-            //
-            long key[] = new long[selectorDataSize/Long.SIZE + 1];
             boolean nothingMatched = true;
-
-            for (int s = 0; s < selectorDataSize; s++) {
-
-                final Selector sel = selectors.get(s);
-
-                //
-                // This particular flavor of applies takes a PseudoClassState[]
-                // fills in the pseudo-class states from the selectors where
-                // they apply to a node. This is an expedient to looking the
-                // applies loopa second time on the matching selectors. This has to
-                // be done ahead of the cache lookup since not all nodes that
-                // have the same set of selectors will have the same node hierarchy.
-                //
-                // For example, if I have .foo:hover:focused .bar:selected {...}
-                // and the "bar" node is 4 away from the root and the foo
-                // node is two away from the root, pseudoclassBits would be
-                // [selected, 0, hover:focused, 0]
-                // Note that the states run from leaf to root. This is how
-                // the code in StyleHelper expects things.
-                // Note also that, if the selector does not apply, the triggerStates
-                // is unchanged.
-                //
-
-                if (sel.applies(node, triggerStates, 0)) {
-                    final int index = s / Long.SIZE;
-                    final long mask = key[index] | 1l << s;
-                    key[index] = mask;
+            for (long bits : key) {
+                if (bits != 0) {
                     nothingMatched = false;
+                    break;
                 }
             }
 
@@ -2152,6 +2287,58 @@ final public class StyleManager {
             return styleMap;
         }
 
+        /*
+         * Returns the selectors that apply to the node, as bits.
+         */
+        private long[] match(Node node, Set<PseudoClass>[] triggerStates) {
+
+            final int selectorDataSize = selectors.size();
+
+            //
+            // Since the list of selectors is found by matching only the
+            // rightmost selector, the set of selectors may larger than those
+            // selectors that actually match the node. The following loop
+            // whittles the list down to those selectors that apply.
+            //
+            //
+            // To lookup from the cache, we construct a key from a Long
+            // where the selectors that match this particular node are
+            // represented by bits on the long[].
+            //
+            long key[] = new long[selectorDataSize/Long.SIZE + 1];
+
+            for (int s = 0; s < selectorDataSize; s++) {
+
+                final Selector sel = selectors.get(s);
+
+                //
+                // This particular flavor of applies takes a PseudoClassState[]
+                // fills in the pseudo-class states from the selectors where
+                // they apply to a node. This is an expedient to looking the
+                // applies loopa second time on the matching selectors. This has to
+                // be done ahead of the cache lookup since not all nodes that
+                // have the same set of selectors will have the same node hierarchy.
+                //
+                // For example, if I have .foo:hover:focused .bar:selected {...}
+                // and the "bar" node is 4 away from the root and the foo
+                // node is two away from the root, pseudoclassBits would be
+                // [selected, 0, hover:focused, 0]
+                // Note that the states run from leaf to root. This is how
+                // the code in StyleHelper expects things.
+                // Note also that, if the selector does not apply, the triggerStates
+                // is unchanged.
+                //
+
+                if (sel.applies(node, triggerStates, 0)) {
+                    final int index = s / Long.SIZE;
+                    final long mask = key[index] | 1l << s;
+                    key[index] = mask;
+                }
+            }
+
+            return key;
+        }
+
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -54,4 +54,22 @@ public interface ImageLoadListener {
      */
     public void imageLoadMetaData(ImageLoader loader, ImageMetadata metadata);
 
+    /**
+     * Invoked when more rows of the loading image have been decoded. The frame
+     * has the dimensions of the decoded image, which may differ from those in
+     * the meta data if the image is scaled after decoding. The rows before
+     * <code>firstRow + rowCount</code> hold decoded pixels, which are refined
+     * by later updates for interlaced images; the other rows are undefined.
+     * <p>
+     * The frame is backed by the buffer the loader decodes into, so its data
+     * must be copied before this method returns if it is used later.
+     *
+     * @param loader the <code>ImageLoader</code> used to load the image.
+     * @param frame the partially decoded image.
+     * @param firstRow the first row decoded since the previous update.
+     * @param rowCount the number of rows decoded since the previous update.
+     */
+    public default void imageLoadUpdate(ImageLoader loader, ImageFrame frame,
+                                        int firstRow, int rowCount) {
+    }
 }
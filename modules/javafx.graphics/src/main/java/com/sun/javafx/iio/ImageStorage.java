@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -45,8 +45,15 @@ import java.io.InputStream;
 import java.io.SequenceInputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A convenience class for simple image loading. Factories for creating loaders
@@ -166,10 +173,10 @@ public class ImageStorage {
          */
         INT_ARGB_PRE
     }
-//    /**
-//     * A mapping of lower case file extensions to loader factories.
-//     */
-//    private static HashMap<String, ImageLoaderFactory> loaderFactoriesByExtension;
+    /**
+     * A mapping of lower case file extensions to loader factories.
+     */
+    private final HashMap<String, ImageLoaderFactory> loaderFactoriesByExtension;
     /**
      * A mapping of format signature byte sequences to loader factories.
      */
@@ -184,14 +191,122 @@ public class ImageStorage {
 
     private static final boolean isIOS = PlatformUtil.isIOS();
 
+    /**
+     * The number of threads that load images in the background, which can be
+     * set with the {@code javafx.iio.decodingThreads} system property.
+     */
+    public static final int DECODING_THREADS =
+            Math.max(1, Integer.getInteger("javafx.iio.decodingThreads", 4));
+
+    /**
+     * A mapping of lower case format names to the permits for loading images
+     * of that format in the background, if the number of images of the format
+     * that are loaded at the same time is limited with the
+     * {@code javafx.iio.decodingThreads.<format>} system property.
+     */
+    private static final ConcurrentHashMap<String, Optional<Semaphore>> decodingPermits =
+            new ConcurrentHashMap<>();
+
     private static class InstanceHolder {
         static final ImageStorage INSTANCE = new ImageStorage();
     }
 
+    private static class DecodingExecutorHolder {
+        static final Executor EXECUTOR = createDecodingExecutor();
+    }
+
     public static ImageStorage getInstance() {
         return InstanceHolder.INSTANCE;
     }
 
+    /**
+     * Returns the executor on which images are loaded in the background. The
+     * executor runs at most {@link #DECODING_THREADS} tasks at the same time,
+     * and queues the others.
+     *
+     * @return the executor for background image loading.
+     */
+    public static Executor getDecodingExecutor() {
+        return DecodingExecutorHolder.EXECUTOR;
+    }
+
+    private static Executor createDecodingExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                DECODING_THREADS, DECODING_THREADS, 1, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "JavaFX Image Decoder");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns the permits that limit the number of images of the format of the
+     * given URL that are loaded in the background at the same time, or null if
+     * the number is not limited. The permits are only meant to be taken with
+     * {@link Semaphore#tryAcquire()}, by the code that schedules background
+     * loads; loading an image with this class never waits for them.
+     * <p>
+     * The format has to be known before the image data is read, so it is
+     * determined from the MIME subtype of a data URI, or from the file
+     * extension of any other URL.
+     *
+     * @param url the URL of the image.
+     * @return the permits for the format of the image, or null.
+     */
+    public Semaphore getDecodingPermits(String url) {
+        ImageLoaderFactory factory = getLoaderFactory(url);
+        if (factory == null) {
+            return null;
+        }
+
+        String formatName = factory.getFormatDescription().getFormatName().toLowerCase(Locale.ROOT);
+        return decodingPermits.computeIfAbsent(formatName, name -> {
+            Integer limit = Integer.getInteger("javafx.iio.decodingThreads." + name);
+            return limit != null && limit > 0
+                    ? Optional.of(new Semaphore(limit))
+                    : Optional.empty();
+        }).orElse(null);
+    }
+
+    private ImageLoaderFactory getLoaderFactory(String url) {
+        if (url == null) {
+            return null;
+        }
+
+        if (DataURI.matchScheme(url)) {
+            // data:[<type>/<subtype>][;<parameter>...],<data>
+            int start = url.indexOf(':') + 1;
+            int end = start;
+            while (end < url.length() && url.charAt(end) != ';' && url.charAt(end) != ',') {
+                end++;
+            }
+            String mimeType = url.substring(start, end).trim().toLowerCase(Locale.ROOT);
+            return mimeType.startsWith("image/")
+                    ? loaderFactoriesByMimeSubtype.get(mimeType.substring("image/".length()))
+                    : null;
+        }
+
+        int end = url.length();
+        int query = url.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        int fragment = url.indexOf('#');
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        int dot = url.lastIndexOf('.', end - 1);
+        if (dot < 0 || dot < url.lastIndexOf('/', end - 1)) {
+            return null;
+        }
+        return loaderFactoriesByExtension.get(url.substring(dot + 1, end).toLowerCase(Locale.ROOT));
+    }
+
     public ImageStorage() {
         if (isIOS) {
             //On iOS we have single factory/ native loader
@@ -209,7 +324,7 @@ public class ImageStorage {
             };
         }
 
-//        loaderFactoriesByExtension = new HashMap(numExtensions);
+        loaderFactoriesByExtension = new HashMap<>(loaderFactories.length);
         loaderFactoriesBySignature = new HashMap<>(loaderFactories.length);
         loaderFactoriesByMimeSubtype = new HashMap<>(loaderFactories.length);
 
@@ -268,10 +383,9 @@ public class ImageStorage {
      */
     public void addImageLoaderFactory(ImageLoaderFactory factory) {
         ImageFormatDescription desc = factory.getFormatDescription();
-//        String[] extensions = desc.getExtensions();
-//        for (int j = 0; j < extensions.length; j++) {
-//            loaderFactoriesByExtension.put(extensions[j].toLowerCase(), factory);
-//        }
+        for (String extension : desc.getExtensions()) {
+            loaderFactoriesByExtension.put(extension.toLowerCase(Locale.ROOT), factory);
+        }
 
         for (final Signature signature: desc.getSignatures()) {
             loaderFactoriesBySignature.put(signature, factory);
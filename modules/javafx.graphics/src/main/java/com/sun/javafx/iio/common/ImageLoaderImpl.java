@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package com.sun.javafx.iio.common;
 
 import com.sun.javafx.iio.ImageFormatDescription;
+import com.sun.javafx.iio.ImageFrame;
 import com.sun.javafx.iio.ImageLoadListener;
 import com.sun.javafx.iio.ImageLoader;
 import com.sun.javafx.iio.ImageMetadata;
@@ -91,6 +92,28 @@ public abstract class ImageLoaderImpl implements ImageLoader {
         }
     }
 
+    /**
+     * Returns the number of rows a loader that decodes an image of the given
+     * height top to bottom should decode between two calls to
+     * {@link #updateImageRows}, or 0 if there is nobody to receive the rows.
+     */
+    protected int getRowUpdateInterval(int height) {
+        if (listeners == null || listeners.isEmpty()) {
+            return 0;
+        }
+        return Math.max(height / ImageTools.ROW_UPDATE_COUNT, ImageTools.MIN_ROW_UPDATE_ROWS);
+    }
+
+    protected void updateImageRows(ImageFrame frame, int firstRow, int rowCount) {
+        if (listeners != null && !listeners.isEmpty()) {
+            Iterator<ImageLoadListener> iter = listeners.iterator();
+            while (iter.hasNext()) {
+                ImageLoadListener l = iter.next();
+                l.imageLoadUpdate(this, frame, firstRow, rowCount);
+            }
+        }
+    }
+
     protected void updateImageMetadata(ImageMetadata metadata) {
         if(listeners != null && !listeners.isEmpty()) {
             Iterator<ImageLoadListener> iter = listeners.iterator();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -47,6 +47,16 @@ public class ImageTools {
      */
     public static final int PROGRESS_INTERVAL = 5;
 
+    /**
+     * The number of partial images delivered while an image is decoded.
+     */
+    public static final int ROW_UPDATE_COUNT = 8;
+
+    /**
+     * The minimum number of rows between two partial image updates.
+     */
+    public static final int MIN_ROW_UPDATE_ROWS = 32;
+
     /**
      * See the general contract of the <code>readFully</code>
      * method of <code>DataInput</code>.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -78,6 +78,13 @@ public class JPEGImageLoader extends ImageLoaderImpl {
     /** Set by setOutputAttributes native code callback. */
     private int outHeight;
     private ImageType outImageType;
+    /*
+     * The image that is being decoded, while rows of it are reported to
+     * listeners.
+     */
+    private ImageFrame outFrame;
+    private int rowUpdateInterval;
+    private int lastRowUpdate;
 
     private boolean isDisposed = false;
 
@@ -169,6 +176,11 @@ public class JPEGImageLoader extends ImageLoaderImpl {
 
     private void updateImageProgress(int outLinesDecoded) {
         updateImageProgress(100.0F * outLinesDecoded / outHeight);
+        if (rowUpdateInterval > 0 && outLinesDecoded - lastRowUpdate >= rowUpdateInterval
+                && outLinesDecoded < outHeight) {
+            updateImageRows(outFrame, lastRowUpdate, outLinesDecoded - lastRowUpdate);
+            lastRowUpdate = outLinesDecoded;
+        }
     }
 
     JPEGImageLoader(InputStream input) throws IOException {
@@ -241,12 +253,19 @@ public class JPEGImageLoader extends ImageLoaderImpl {
 
             byte[] array = new byte[scanlineStride*outHeight];
             buffer = ByteBuffer.wrap(array);
+            rowUpdateInterval = getRowUpdateInterval(outHeight);
+            lastRowUpdate = 0;
+            if (rowUpdateInterval > 0) {
+                outFrame = new ImageFrame(outImageType, buffer,
+                        outWidth, outHeight, scanlineStride, imagePixelScale, md);
+            }
             decompressIndirect(structPointer, listeners != null && !listeners.isEmpty(), buffer.array());
         } catch (IOException e) {
             throw e;
         } catch (Throwable t) {
             throw new IOException(t);
         } finally {
+            outFrame = null;
             accessLock.unlock();
             dispose();
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -72,6 +72,8 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
     private int trnsR, trnsG, trnsB;
     // Palette data : r,g,b,[a]  -  alpha optional
     private byte palette[][];
+    // the rows of a palette image reported to listeners, expanded to RGB[A]
+    private byte paletteUpdateImage[];
 
     public PNGImageLoader2(InputStream input) throws IOException {
         super(PNGDescriptor.getInstance());
@@ -534,7 +536,30 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         return start[mip] + pos * increment[mip];
     }
 
-    private void loadMip(byte image[], InputStream data, int mip) throws IOException {
+    private void loadRow(InputStream data, byte scanLine[], byte prevScanLine[], int srcBpp,
+            byte image[], int pos, int step, int rowWidth, int resultBpp) throws IOException {
+        int filterByte = data.read();
+        if (filterByte == -1) {
+            throw new EOFException();
+        }
+
+        if (data.read(scanLine) != scanLine.length) {
+            throw new EOFException();
+        }
+
+        doFilter(scanLine, prevScanLine, filterByte, srcBpp);
+
+        if (bitDepth == 16) {
+            downsample16to8(scanLine, image, pos, step, resultBpp);
+        } else if (bitDepth < 8) {
+            upsampleTo8(scanLine, image, pos, rowWidth, step, resultBpp);
+        } else {
+            copy(scanLine, image, pos, step, resultBpp);
+        }
+    }
+
+    private void loadMip(byte image[], InputStream data, int mip,
+            ImageMetadata metadata, float pixelScale) throws IOException {
 
         int mipWidth = mipSize(width, mip, starting_x, increment_x);
         int mipHeight = mipSize(height, mip, starting_y, increment_y);
@@ -547,77 +572,150 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         // to support tRNS
         int resultBpp = bpp(), srcBpp = numBandsPerColorType[colorType] * bytesPerColor();
 
+        // rows of interlaced images are only reported after a complete pass
+        int updateInterval = isInterlaced ? 0 : getRowUpdateInterval(height);
+        int lastUpdate = 0;
+
         for (int y = 0; y != mipHeight; ++y) {
-            int filterByte = data.read();
-            if (filterByte == -1) {
-                throw new EOFException();
+            int pos = (mipPos(y, mip, starting_y, increment_y) * width + starting_x[mip]) * resultBpp;
+            loadRow(data, scanLine0, scanLine1, srcBpp, image, pos, increment_x[mip], mipWidth, resultBpp);
+
+            byte scanLineSwp[] = scanLine0;
+            scanLine0 = scanLine1;
+            scanLine1 = scanLineSwp;
+
+            if (updateInterval > 0 && y + 1 - lastUpdate >= updateInterval && y + 1 != mipHeight) {
+                updateImageRows(image, lastUpdate, y + 1 - lastUpdate, metadata, pixelScale);
+                lastUpdate = y + 1;
             }
+        }
+    }
 
-            if (data.read(scanLine0) != scanLineSize) {
-                throw new EOFException();
+    private void load(byte image[], InputStream data,
+            ImageMetadata metadata, float pixelScale) throws IOException {
+        if (isInterlaced) {
+            boolean reportPasses = getRowUpdateInterval(height) > 0;
+            for (int mip = 0; mip != 7; ++mip) {
+                if (width > starting_x[mip] && height > starting_y[mip]) {
+                    loadMip(image, data, mip, metadata, pixelScale);
+                    if (reportPasses && mip != 6) {
+                        updateImageRows(image, 0, height, metadata, pixelScale);
+                    }
+                }
             }
+        } else {
+            loadMip(image, data, 7, metadata, pixelScale);
+        }
+    }
 
-            doFilter(scanLine0, scanLine1, filterByte, srcBpp);
+    private void updateImageRows(byte image[], int firstRow, int rowCount,
+            ImageMetadata metadata, float pixelScale) throws IOException {
+        ImageFrame frame;
+        if (colorType == PNG_COLOR_PALETTE) {
+            // only expand the rows that are new since the last update
+            int bpp = tRNS_present ? 4 : 3;
+            if (paletteUpdateImage == null) {
+                paletteUpdateImage = new byte[width * height * bpp];
+            }
+            expandPalette(image, firstRow * width, paletteUpdateImage, firstRow * width * bpp,
+                    rowCount * width, bpp);
+            frame = new ImageFrame(getPaletteType(), ByteBuffer.wrap(paletteUpdateImage),
+                    width, height, width * bpp, metadata);
+        } else {
+            frame = new ImageFrame(getType(), ByteBuffer.wrap(image), width, height, bpp() * width, metadata);
+        }
+        frame.setPixelScale(pixelScale);
+        updateImageRows(frame, firstRow, rowCount);
+    }
 
-            int pos = (mipPos(y, mip, starting_y, increment_y) * width + starting_x[mip]) * resultBpp;
-            int step = increment_x[mip];
+    /*
+     * Decodes a non-interlaced image row by row into a scaler, so that only
+     * the scaled image has to be held in memory.
+     */
+    private ImageFrame loadScaled(InputStream data, int rWidth, int rHeight,
+            boolean smooth, ImageMetadata metadata) throws IOException {
+        int scanLineSize = (width * bitDepth * numBandsPerColorType[colorType] + 7) / 8;
+        byte scanLine0[] = new byte[scanLineSize];
+        byte scanLine1[] = new byte[scanLineSize];
 
-            if (bitDepth == 16) {
-                downsample16to8(scanLine0, image, pos, step, resultBpp);
-            } else if (bitDepth < 8) {
-                upsampleTo8(scanLine0, image, pos, mipWidth, step, resultBpp);
+        int resultBpp = bpp(), srcBpp = numBandsPerColorType[colorType] * bytesPerColor();
+        byte row[] = new byte[width * resultBpp];
+
+        boolean isPalette = colorType == PNG_COLOR_PALETTE;
+        int numBands = isPalette ? (tRNS_present ? 4 : 3) : resultBpp;
+        byte paletteRow[] = isPalette ? new byte[width * numBands] : null;
+
+        PushbroomScaler scaler = ScalerFactory.createScaler(width, height, numBands,
+                rWidth, rHeight, smooth);
+        ImageFrame frame = new ImageFrame(isPalette ? getPaletteType() : getType(),
+                scaler.getDestination(), rWidth, rHeight, rWidth * numBands, metadata);
+
+        int updateInterval = getRowUpdateInterval(height);
+        int lastUpdate = 0, lastScaledRow = 0;
+
+        for (int y = 0; y != height; ++y) {
+            loadRow(data, scanLine0, scanLine1, srcBpp, row, 0, 1, width, resultBpp);
+
+            if (isPalette) {
+                expandPalette(row, 0, paletteRow, 0, width, numBands);
+                scaler.putSourceScanline(paletteRow, 0);
             } else {
-                copy(scanLine0, image, pos, step, resultBpp);
+                scaler.putSourceScanline(row, 0);
             }
 
             byte scanLineSwp[] = scanLine0;
             scanLine0 = scanLine1;
             scanLine1 = scanLineSwp;
+
+            if (updateInterval > 0 && y + 1 - lastUpdate >= updateInterval && y + 1 != height) {
+                // a scaled row is complete once all source rows it covers are
+                // in; the smooth minifier's box can reach into the next row
+                int scaledRow = (int) ((long) (y + 1) * rHeight / height) - 1;
+                if (scaledRow > lastScaledRow) {
+                    updateImageRows(frame, lastScaledRow, scaledRow - lastScaledRow);
+                    lastScaledRow = scaledRow;
+                }
+                lastUpdate = y + 1;
+            }
         }
+
+        return frame;
     }
 
-    private void load(byte image[], InputStream data) throws IOException {
-        if (isInterlaced) {
-            for (int mip = 0; mip != 7; ++mip) {
-                if (width > starting_x[mip] && height > starting_y[mip]) {
-                    loadMip(image, data, mip);
-                }
+    private void expandPalette(byte src[], int srcPos, byte dst[], int dstPos, int count, int bpp) {
+        if (bpp == 4) {
+            for (int i = srcPos, j = dstPos, l = srcPos + count; i != l; j += 4, i++) {
+                int index = 0xFF & src[i];
+                dst[j + 0] = palette[0][index];
+                dst[j + 1] = palette[1][index];
+                dst[j + 2] = palette[2][index];
+                dst[j + 3] = palette[3][index];
             }
         } else {
-            loadMip(image, data, 7);
+            for (int i = srcPos, j = dstPos, l = srcPos + count; i != l; j += 3, i++) {
+                int index = 0xFF & src[i];
+                dst[j + 0] = palette[0][index];
+                dst[j + 1] = palette[1][index];
+                dst[j + 2] = palette[2][index];
+            }
         }
     }
 
+    private ImageStorage.ImageType getPaletteType() {
+        return tRNS_present
+                ? ImageStorage.ImageType.RGBA
+                : ImageStorage.ImageType.RGB;
+    }
+
     private ImageFrame decodePalette(byte srcImage[], ImageMetadata metadata) throws IOException {
         int bpp = tRNS_present ? 4 : 3;
         if (width >= (Integer.MAX_VALUE / height / bpp)) {
             throw new IOException("Bad PNG image size!");
         }
         byte newImage[] = new byte[width * height * bpp];
-        int l = width * height;
-
-        if (tRNS_present) {
-            for (int i = 0, j = 0; i != l; j += 4, i++) {
-                int index = 0xFF & srcImage[i];
-                newImage[j + 0] = palette[0][index];
-                newImage[j + 1] = palette[1][index];
-                newImage[j + 2] = palette[2][index];
-                newImage[j + 3] = palette[3][index];
-            }
-        } else {
-            for (int i = 0, j = 0; i != l; j += 3, i++) {
-                int index = 0xFF & srcImage[i];
-                newImage[j + 0] = palette[0][index];
-                newImage[j + 1] = palette[1][index];
-                newImage[j + 2] = palette[2][index];
-            }
-        }
-
-        ImageStorage.ImageType type = tRNS_present
-                ? ImageStorage.ImageType.RGBA
-                : ImageStorage.ImageType.RGB;
+        expandPalette(srcImage, 0, newImage, 0, width * height, bpp);
 
-        return new ImageFrame(type, ByteBuffer.wrap(newImage), width, height,
+        return new ImageFrame(getPaletteType(), ByteBuffer.wrap(newImage), width, height,
                 width * bpp, metadata);
     }
 
@@ -665,17 +763,28 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
                 null, null, null, null, null, rWidth, rHeight, null, null, null);
         updateImageMetadata(metaData);
 
-        ByteBuffer bb = ByteBuffer.allocate(bpp * width * height);
-
         PNGIDATChunkInputStream iDat = new PNGIDATChunkInputStream(stream, dataSize);
         Inflater inf = new Inflater();
         InputStream data = new BufferedInputStream(new InflaterInputStream(iDat, inf));
 
+        // Non-interlaced images are scaled while they are decoded, so we
+        // never allocate the full size image when a smaller one is requested.
+        if (!isInterlaced && (width != rWidth || height != rHeight)) {
+            try {
+                return loadScaled(data, rWidth, rHeight, smooth, metaData);
+            } finally {
+                inf.end();
+            }
+        }
+
+        ByteBuffer bb = ByteBuffer.allocate(bpp * width * height);
+
         try {
-            load(bb.array(), data);
+            load(bb.array(), data, metaData, imagePixelScale);
         } catch (IOException e) {
             throw e;
         } finally {
+            paletteUpdateImage = null;
             if (inf != null) {
                 inf.end();
             }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -114,6 +114,14 @@ public abstract class AbstractAsyncOperation<V> implements AsyncOperation,
         Platform.runLater(() -> listener.onProgress(last, max));
     }
 
+    protected void notifyUpdate(V partialValue) {
+        Platform.runLater(() -> {
+            if (!future.isDone()) {
+                listener.onUpdate(partialValue);
+            }
+        });
+    }
+
     protected void addProgress(int amount) {
         bytesRead += amount;
         if (bytesRead > nextProgress) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,4 +34,11 @@ public interface AsyncOperationListener<V> {
     public void onCompletion(V value);
     public void onCancel();
     public void onException(Exception e);
+
+    /**
+     * Receives an intermediate result of the operation, such as a partially
+     * loaded image. It is not called after the operation is done.
+     */
+    public default void onUpdate(V partialValue) {
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,7 @@ import com.sun.javafx.css.TransitionTimer;
 import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.PickRay;
 import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.logging.NodeProfiler;
 import com.sun.javafx.scene.input.PickResultChooser;
 import com.sun.javafx.scene.traversal.Direction;
 import com.sun.javafx.scene.traversal.TraversalMethod;
@@ -128,7 +129,16 @@ public abstract class NodeHelper {
     }
 
     public static void processCSS(Node node) {
-        getHelper(node).processCSSImpl(node);
+        if (NodeProfiler.PROFILING_ENABLED) {
+            long start = NodeProfiler.begin();
+            try {
+                getHelper(node).processCSSImpl(node);
+            } finally {
+                NodeProfiler.end(NodeProfiler.Operation.CSS, node.getClass(), node.getStyleClass(), start);
+            }
+        } else {
+            getHelper(node).processCSSImpl(node);
+        }
     }
 
     /*
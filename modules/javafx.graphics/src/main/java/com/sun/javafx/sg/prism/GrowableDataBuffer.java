@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,9 +25,15 @@
 
 package com.sun.javafx.sg.prism;
 
+import com.sun.javafx.logging.PulseLogger;
 import java.lang.ref.WeakReference;
 import java.nio.BufferOverflowException;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 
 /**
  * A growable buffer that can contain both byte-encoded primitive values
@@ -45,19 +51,47 @@ import java.util.Arrays;
  * and/or multiple reader threads will definitely cause problems.
  *
  * The static getBuffer() factory methods and the static returnBuffer() method
- * are all synchronized so that they can be called from any thread at any
- * time, but any given buffer should only be returned to the pool once.
+ * are thread-safe and lock-free so that they can be called from any thread
+ * at any time, but any given buffer should only be returned to the pool once.
+ * Pooled buffers are kept in a fixed number of slots for each size class,
+ * the size classes being powers of two of the byte capacity starting at
+ * {@code VAL_GROW_QUANTUM}, and are only weakly referenced by the pool.
+ * Buffers returned to a size class with no free slot are left to the
+ * garbage collector.
  */
 public class GrowableDataBuffer {
     static final int VAL_GROW_QUANTUM = 1024;
     static final int MAX_VAL_GROW = 1024 * 1024;
     static final int MIN_OBJ_GROW = 32;
 
-    static class WeakLink {
-        WeakReference<GrowableDataBuffer> bufref;
-        WeakLink next;
+    static final int NUM_SIZE_CLASSES = 16;
+    static final int SLOTS_PER_CLASS = 8;
+    // Number of larger size classes searched before allocating a new buffer
+    static final int SIZE_CLASS_SEARCH = 2;
+
+    // The buffers in the slots of size class c have a byte capacity of at
+    // least VAL_GROW_QUANTUM << c (the last class holds all larger buffers
+    // too).  Slots are claimed and released with compare-and-set only.
+    private static final AtomicReferenceArray<WeakReference<GrowableDataBuffer>> pool =
+        new AtomicReferenceArray<>(NUM_SIZE_CLASSES * SLOTS_PER_CLASS);
+
+    private static final LongAdder allocCount = new LongAdder();
+    private static final LongAdder growCount = new LongAdder();
+    private static final AtomicInteger highWaterMark = new AtomicInteger();
+
+    // Smallest size class whose buffers all hold minvals bytes
+    static int sizeClassFor(int minvals) {
+        if (minvals <= VAL_GROW_QUANTUM) return 0;
+        int c = 32 - Integer.numberOfLeadingZeros((minvals - 1) / VAL_GROW_QUANTUM);
+        return Math.min(c, NUM_SIZE_CLASSES - 1);
+    }
+
+    // Largest size class whose minimum capacity valcapacity satisfies
+    static int sizeClassOf(int valcapacity) {
+        if (valcapacity < VAL_GROW_QUANTUM) return -1;
+        int c = 31 - Integer.numberOfLeadingZeros(valcapacity / VAL_GROW_QUANTUM);
+        return Math.min(c, NUM_SIZE_CLASSES - 1);
     }
-    static WeakLink buflist = new WeakLink(); // Dummy "head" link object
 
     /**
      * Retrieve a buffer with an initial byte-encoding capacity of at least
@@ -80,24 +114,42 @@ public class GrowableDataBuffer {
      * @param minobjs the minimum initial size of the Object buffer
      * @return a {@code GrowableDataBuffer} object of the requested sizes
      */
-    public synchronized static GrowableDataBuffer getBuffer(int minvals, int minobjs) {
-        WeakLink prev = buflist;
-        WeakLink cur = buflist.next;
-        while (cur != null) {
-            GrowableDataBuffer curgdb = cur.bufref.get();
-            WeakLink next = cur.next;
-            if (curgdb == null) {
-                prev.next = cur = next;
-                continue;
-            }
-            if (curgdb.valueCapacity() >= minvals && curgdb.objectCapacity() >= minobjs) {
-                prev.next = next;
-                return curgdb;
+    public static GrowableDataBuffer getBuffer(int minvals, int minobjs) {
+        int sizeclass = sizeClassFor(minvals);
+        int lastclass = Math.min(sizeclass + SIZE_CLASS_SEARCH, NUM_SIZE_CLASSES - 1);
+        for (int c = sizeclass; c <= lastclass; c++) {
+            int end = (c + 1) * SLOTS_PER_CLASS;
+            for (int i = c * SLOTS_PER_CLASS; i < end; i++) {
+                WeakReference<GrowableDataBuffer> ref = pool.get(i);
+                if (ref == null || !pool.compareAndSet(i, ref, null)) {
+                    continue;
+                }
+                GrowableDataBuffer gdb = ref.get();
+                if (gdb == null) {
+                    continue;
+                }
+                if (gdb.valueCapacity() < minvals) {
+                    // Only possible in the last, unbounded, size class
+                    pool.compareAndSet(i, null, ref);
+                    continue;
+                }
+                if (gdb.objectCapacity() < minobjs) {
+                    // The object buffer was cleared when it was returned
+                    gdb.objs = new Object[minobjs];
+                }
+                return gdb;
             }
-            prev = cur;
-            cur = next;
         }
-        return new GrowableDataBuffer(minvals, minobjs);
+        allocCount.increment();
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("GrowableDataBuffer allocated");
+        }
+        // Allocate the full size of the class so that the buffer can be
+        // reused for any request of the same class
+        int initvals = (sizeclass < NUM_SIZE_CLASSES - 1)
+            ? Math.max(minvals, VAL_GROW_QUANTUM << sizeclass)
+            : minvals;
+        return new GrowableDataBuffer(initvals, minobjs);
     }
 
     /**
@@ -108,34 +160,62 @@ public class GrowableDataBuffer {
      *
      * @param gdb the {@code GrowableDataBuffer} object to be reused.
      */
-    public synchronized static void returnBuffer(GrowableDataBuffer retgdb) {
-        int retvlen = retgdb.valueCapacity();
-        int retolen = retgdb.objectCapacity();
-        retgdb.reset();
-
-        WeakLink prev = buflist;
-        WeakLink cur = buflist.next;
-        while (cur != null) {
-            GrowableDataBuffer curgdb = cur.bufref.get();
-            WeakLink next = cur.next;
-            if (curgdb == null) {
-                prev.next = cur = next;
-                continue;
+    public static void returnBuffer(GrowableDataBuffer retgdb) {
+        int used = retgdb.writevalpos;
+        int hwm;
+        while (used > (hwm = highWaterMark.get())) {
+            if (highWaterMark.compareAndSet(hwm, used)) {
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.addMessage("GrowableDataBuffer high-water mark: " + used + " bytes");
+                }
+                break;
             }
-            int curvlen = curgdb.valueCapacity();
-            int curolen = curgdb.objectCapacity();
-            if (curvlen > retvlen ||
-                (curvlen == retvlen && curolen >= retolen))
+        }
+        retgdb.reset();
+        int c = sizeClassOf(retgdb.valueCapacity());
+        if (c < 0) {
+            return;
+        }
+        int end = (c + 1) * SLOTS_PER_CLASS;
+        for (int i = c * SLOTS_PER_CLASS; i < end; i++) {
+            WeakReference<GrowableDataBuffer> ref = pool.get(i);
+            if ((ref == null || ref.get() == null) &&
+                pool.compareAndSet(i, ref, retgdb.poolRef))
             {
-                break;
+                return;
             }
-            prev = cur;
-            cur = next;
         }
-        WeakLink retlink = new WeakLink();
-        retlink.bufref = new WeakReference<>(retgdb);
-        prev.next = retlink;
-        retlink.next = cur;
+    }
+
+    /**
+     * The number of buffers allocated because no pooled buffer was large
+     * enough.
+     *
+     * @return the number of buffers allocated by the {@code getBuffer()}
+     *         methods
+     */
+    public static long getAllocationCount() {
+        return allocCount.sum();
+    }
+
+    /**
+     * The number of times the byte-encoding or {@code Object} buffer of
+     * any buffer had to grow while it was being written.
+     *
+     * @return the number of buffer growths
+     */
+    public static long getGrowCount() {
+        return growCount.sum();
+    }
+
+    /**
+     * The largest number of bytes written to any buffer before it was
+     * returned to the pool.
+     *
+     * @return the high-water mark of the byte-encoding buffers, in bytes
+     */
+    public static int getHighWaterMark() {
+        return highWaterMark.get();
     }
 
     byte vals[];
@@ -148,6 +228,9 @@ public class GrowableDataBuffer {
     int readobjpos;      // next objs location to read data objects
     int saveobjpos;      // saved objpos for reading objects multiple times
 
+    // The reference held by the pool while this buffer is in it
+    private final WeakReference<GrowableDataBuffer> poolRef = new WeakReference<>(this);
+
     private GrowableDataBuffer(int initvalsize, int initobjsize) {
         vals = new byte[initvalsize];
         objs = new Object[initobjsize];
@@ -309,6 +392,14 @@ public class GrowableDataBuffer {
             int newsize = vals.length + growbytes;
             newsize = (newsize + (VAL_GROW_QUANTUM - 1)) & ~(VAL_GROW_QUANTUM - 1);
             vals = Arrays.copyOf(vals, newsize);
+            grown();
+        }
+    }
+
+    private static void grown() {
+        growCount.increment();
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("GrowableDataBuffer grown");
         }
     }
 
@@ -415,6 +506,7 @@ public class GrowableDataBuffer {
     public void putObject(Object o) {
         if (writeobjpos >= objs.length) {
             objs = Arrays.copyOf(objs, writeobjpos+MIN_OBJ_GROW);
+            grown();
         }
         objs[writeobjpos++] = o;
     }
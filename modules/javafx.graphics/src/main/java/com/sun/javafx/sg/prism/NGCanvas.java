@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,9 +28,11 @@ package com.sun.javafx.sg.prism;
 import javafx.geometry.VPos;
 import javafx.scene.text.Font;
 import java.nio.IntBuffer;
+import java.util.HashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.LinkedList;
+import java.util.Map;
 import com.sun.javafx.font.PGFont;
 import com.sun.javafx.geom.Arc2D;
 import com.sun.javafx.geom.BaseBounds;
@@ -130,6 +132,7 @@ public class NGCanvas extends NGNode {
     public static final byte DRAW_SUBIMAGE   = IMG_BASE + 1;
     public static final byte PUT_ARGB        = IMG_BASE + 2;
     public static final byte PUT_ARGBPRE_BUF = IMG_BASE + 3;
+    public static final byte DRAW_LAYER      = IMG_BASE + 4;
 
     public static final byte                   FX_BASE = 60;
     public static final byte FX_APPLY_EFFECT = FX_BASE + 0;
@@ -138,6 +141,12 @@ public class NGCanvas extends NGNode {
     public static final byte RESET           = UTIL_BASE + 0;
     public static final byte SET_DIMS        = UTIL_BASE + 1;
 
+    public static final byte                   BATCH_BASE = 80;
+    public static final byte FILL_RECTS      = BATCH_BASE + 0;
+    public static final byte FILL_OVALS      = BATCH_BASE + 1;
+    public static final byte STROKE_POLYLINE = BATCH_BASE + 2;
+    public static final byte DRAW_SPRITES    = BATCH_BASE + 3;
+
     public static final byte CAP_BUTT   = 0;
     public static final byte CAP_ROUND  = 1;
     public static final byte CAP_SQUARE = 2;
@@ -314,6 +323,14 @@ public class NGCanvas extends NGNode {
 
     private GrowableDataBuffer thebuf;
 
+    // Retained layers, each of which replays its own command stream into
+    // its own texture.  A layer keeps its commands (layerbuf) so that it
+    // can be rendered again at a new size, and is only rendered when its
+    // commands or the size of the canvas changed since it was last rendered.
+    private Map<String, NGCanvas> layers;
+    private GrowableDataBuffer layerbuf;
+    private boolean layerRendered;
+
     private final float highestPixelScale;
     private int tw, th;
     private int cw, ch;
@@ -331,6 +348,7 @@ public class NGCanvas extends NGNode {
     private float dashOffset;
     private BasicStroke stroke;
     private Path2D path;
+    private Path2D polyline;
     private NGText ngtext;
     private PrismTextLayout textLayout;
     private PGFont pgfont;
@@ -353,27 +371,35 @@ public class NGCanvas extends NGNode {
     private static RectBounds TEMP_RECTBOUNDS = new RectBounds();
 
     public NGCanvas() {
-        Toolkit tk = Toolkit.getToolkit();
-        ScreenConfigurationAccessor screenAccessor = tk.getScreenConfigurationAccessor();
-        float hPS = 1.0f;
-        for (Object screen : tk.getScreens()) {
-            hPS = Math.max(screenAccessor.getRecommendedOutputScaleX(screen), hPS);
-            hPS = Math.max(screenAccessor.getRecommendedOutputScaleY(screen), hPS);
-        }
-        highestPixelScale = (float) Math.ceil(hPS);
+        this(getHighestPixelScale());
+    }
+
+    // Layers use the pixel scale of their canvas, so that their textures
+    // always match the size of the canvas texture
+    private NGCanvas(float highestPixelScale) {
+        this.highestPixelScale = highestPixelScale;
 
         cv = new RenderBuf(InitType.PRESERVE_UPPER_LEFT);
         temp = new RenderBuf(InitType.CLEAR);
         clip = new RenderBuf(InitType.FILL_WHITE);
 
         path = new Path2D();
-        ngtext = new NGText();
-        textLayout = new PrismTextLayout();
         transform = new Affine2D();
         clipStack = new LinkedList<>();
         initAttributes();
     }
 
+    private static float getHighestPixelScale() {
+        Toolkit tk = Toolkit.getToolkit();
+        ScreenConfigurationAccessor screenAccessor = tk.getScreenConfigurationAccessor();
+        float hPS = 1.0f;
+        for (Object screen : tk.getScreens()) {
+            hPS = Math.max(screenAccessor.getRecommendedOutputScaleX(screen), hPS);
+            hPS = Math.max(screenAccessor.getRecommendedOutputScaleY(screen), hPS);
+        }
+        return (float) Math.ceil(hPS);
+    }
+
     private void initAttributes() {
         globalAlpha = 1.0f;
         blendmode = Mode.SRC_OVER;
@@ -551,6 +577,34 @@ public class NGCanvas extends NGNode {
                             TEMP_COORDS[2], TEMP_COORDS[3]);
     }
 
+    /**
+     * Accumulates the untransformed bounds of a batch of {@code count}
+     * elements stored with the given stride in {@code coords}: either
+     * {@code x, y, w, h} rectangles, or {@code x, y} positions of
+     * elements of size {@code w, h}.
+     */
+    private static void batchbounds(float[] coords, int count, int stride,
+                                    float w, float h, RectBounds bounds)
+    {
+        float x0 = Float.POSITIVE_INFINITY;
+        float y0 = Float.POSITIVE_INFINITY;
+        float x1 = Float.NEGATIVE_INFINITY;
+        float y1 = Float.NEGATIVE_INFINITY;
+        for (int i = 0, n = count * stride; i < n; i += stride) {
+            float x = coords[i];
+            float y = coords[i+1];
+            if (stride == 4) {
+                w = coords[i+2];
+                h = coords[i+3];
+            }
+            x0 = Math.min(x0, Math.min(x, x + w));
+            y0 = Math.min(y0, Math.min(y, y + h));
+            x1 = Math.max(x1, Math.max(x, x + w));
+            y1 = Math.max(y1, Math.max(y, y + h));
+        }
+        bounds.setBounds(x0, y0, x1, y1);
+    }
+
     private static void runOnRenderThread(final Runnable r) {
         // We really need a standard mechanism to detect the render thread !
         if (Thread.currentThread().getName().startsWith("QuantumRenderer")) {
@@ -607,6 +661,7 @@ public class NGCanvas extends NGNode {
         initCanvas(g);
         if (cv.tex != null) {
             if (thebuf != null) {
+                renderLayers(g);
                 renderStream(thebuf);
                 GrowableDataBuffer.returnBuffer(thebuf);
                 thebuf = null;
@@ -627,6 +682,7 @@ public class NGCanvas extends NGNode {
         if (thebuf != null) {
             initCanvas(gOptional);
             if (cv.tex != null) {
+                renderLayers(gOptional);
                 renderStream(thebuf);
                 GrowableDataBuffer.returnBuffer(thebuf);
                 thebuf = null;
@@ -636,6 +692,33 @@ public class NGCanvas extends NGNode {
         }
     }
 
+    private void renderLayers(Graphics g) {
+        if (layers == null) return;
+        for (NGCanvas layer : layers.values()) {
+            // A layer covers the whole canvas, so it is rendered again from
+            // its commands when the canvas was resized.
+            if (layer.tw != tw || layer.th != th) {
+                layer.tw = tw;
+                layer.th = th;
+                layer.layerRendered = false;
+            }
+            // Validating the texture also restores its pixels if the
+            // surface was lost, so we do it even for unchanged layers.
+            layer.initCanvas(g);
+            if (layer.cv.tex != null && !layer.layerRendered) {
+                // Rendering consumes the stream, so a copy is rendered
+                GrowableDataBuffer buf = GrowableDataBuffer.getBuffer(layer.layerbuf.writeValuePosition(),
+                                                                      layer.layerbuf.writeObjectPosition());
+                buf.append(layer.layerbuf);
+                layer.renderStream(buf);
+                GrowableDataBuffer.returnBuffer(buf);
+                layer.layerRendered = true;
+                layer.cv.save(layer.tw, layer.th);
+            }
+            layer.temp.g = layer.clip.g = layer.cv.g = null;
+        }
+    }
+
     private void initCanvas(Graphics g) {
         if (tw <= 0 || th <= 0) {
             cv.dispose();
@@ -1054,8 +1137,13 @@ public class NGCanvas extends NGNode {
                 case STROKE_ARC:
                 case DRAW_IMAGE:
                 case DRAW_SUBIMAGE:
+                case DRAW_LAYER:
                 case FILL_TEXT:
                 case STROKE_TEXT:
+                case FILL_RECTS:
+                case FILL_OVALS:
+                case STROKE_POLYLINE:
+                case DRAW_SPRITES:
                 {
                     RenderBuf dest;
                     boolean tempvalidated;
@@ -1365,6 +1453,122 @@ public class NGCanvas extends NGNode {
                 }
                 break;
             }
+            case DRAW_LAYER:
+            {
+                NGCanvas layer = (layers == null) ? null : layers.get((String) buf.getObject());
+                if (layer == null || layer.cv.tex == null) break;
+                float lw = layer.tw / highestPixelScale;
+                float lh = layer.th / highestPixelScale;
+                if (bounds != null) {
+                    bounds.setBounds(0, 0, lw, lh);
+                    transformBounds = true;
+                }
+                if (gr != null) {
+                    RTTexture tex = layer.cv.tex;
+                    boolean isSmooth = tex.getLinearFiltering();
+                    if (imageSmoothing != isSmooth) {
+                        tex.setLinearFiltering(imageSmoothing);
+                    }
+                    gr.drawTexture(tex,
+                                   0, 0, lw, lh,
+                                   0, 0, layer.tw, layer.th);
+                    if (imageSmoothing != isSmooth) {
+                        tex.setLinearFiltering(isSmooth);
+                    }
+                }
+                break;
+            }
+            case FILL_RECTS:
+            case FILL_OVALS:
+            {
+                int count = buf.getInt();
+                float[] xywh = (float[]) buf.getObject();
+                if (bounds != null) {
+                    batchbounds(xywh, count, 4, 0, 0, bounds);
+                    transformBounds = true;
+                }
+                if (gr != null) {
+                    setupFill(gr);
+                    int n = count * 4;
+                    if (token == FILL_RECTS) {
+                        for (int i = 0; i < n; i += 4) {
+                            gr.fillRect(xywh[i], xywh[i+1], xywh[i+2], xywh[i+3]);
+                        }
+                    } else {
+                        for (int i = 0; i < n; i += 4) {
+                            gr.fillEllipse(xywh[i], xywh[i+1], xywh[i+2], xywh[i+3]);
+                        }
+                    }
+                }
+                break;
+            }
+            case STROKE_POLYLINE:
+            {
+                int count = buf.getInt();
+                float[] xy = (float[]) buf.getObject();
+                if (polyline == null) {
+                    polyline = new Path2D();
+                }
+                polyline.reset();
+                polyline.moveTo(xy[0], xy[1]);
+                for (int i = 2, n = count * 2; i < n; i += 2) {
+                    polyline.lineTo(xy[i], xy[i+1]);
+                }
+                if (bounds != null) {
+                    strokebounds(getStroke(), polyline, bounds, transform);
+                }
+                if (gr != null) {
+                    setupStroke(gr);
+                    gr.draw(polyline);
+                }
+                break;
+            }
+            case DRAW_SPRITES:
+            {
+                int count = buf.getInt();
+                float sx = buf.getFloat();
+                float sy = buf.getFloat();
+                float sw = buf.getFloat();
+                float sh = buf.getFloat();
+                float[] xy = (float[]) buf.getObject();
+                Image img = (Image) buf.getObject();
+                // The sprites have the size of the source rectangle in the
+                // coordinates of the image, which may be pixel scaled
+                float dw = sw;
+                float dh = sh;
+                float ps = img.getPixelScale();
+                if (ps != 1.0f) {
+                    sx *= ps;
+                    sy *= ps;
+                    sw *= ps;
+                    sh *= ps;
+                }
+                if (bounds != null) {
+                    batchbounds(xy, count, 2, dw, dh, bounds);
+                    transformBounds = true;
+                }
+                if (gr != null) {
+                    ResourceFactory factory = gr.getResourceFactory();
+                    Texture tex =
+                        factory.getCachedTexture(img, Texture.WrapMode.CLAMP_TO_EDGE);
+                    boolean isSmooth = tex.getLinearFiltering();
+                    if (imageSmoothing != isSmooth) {
+                        tex.setLinearFiltering(imageSmoothing);
+                    }
+                    for (int i = 0, n = count * 2; i < n; i += 2) {
+                        float dx = xy[i];
+                        float dy = xy[i+1];
+                        gr.drawTexture(tex,
+                                       dx, dy, dx+dw, dy+dh,
+                                       sx, sy, sx+sw, sy+sh);
+                    }
+                    if (imageSmoothing != isSmooth) {
+                        tex.setLinearFiltering(isSmooth);
+                    }
+                    tex.unlock();
+                }
+                break;
+            }
             case FILL_TEXT:
             case STROKE_TEXT:
             {
@@ -1376,6 +1580,11 @@ public class NGCanvas extends NGNode {
                 int dir = rtl ? PrismTextLayout.DIRECTION_RTL :
                                 PrismTextLayout.DIRECTION_LTR;
 
+                // Created on first use, as many canvases and layers draw no text
+                if (textLayout == null) {
+                    ngtext = new NGText();
+                    textLayout = new PrismTextLayout();
+                }
                 textLayout.setContent(string, pgfont);
                 textLayout.setAlignment(align);
                 textLayout.setDirection(dir);
@@ -1563,6 +1772,47 @@ public class NGCanvas extends NGNode {
         return false;
     }
 
+    /**
+     * Replaces the commands of the named layer with the given stream,
+     * which must start with a {@code RESET} token. The layer is rendered
+     * into its cached texture the next time this canvas is rendered, and
+     * again whenever the size of this canvas changes, and is composited by
+     * any {@code DRAW_LAYER} token with that name until its commands are
+     * replaced or it is removed.
+     */
+    public void updateLayer(String name, GrowableDataBuffer buf) {
+        if (layers == null) {
+            layers = new HashMap<>();
+        }
+        NGCanvas layer = layers.get(name);
+        if (layer == null) {
+            layer = new NGCanvas(highestPixelScale);
+            layers.put(name, layer);
+        } else {
+            GrowableDataBuffer.returnBuffer(layer.layerbuf);
+        }
+        layer.layerbuf = buf;
+        layer.layerRendered = false;
+        geometryChanged();
+    }
+
+    public void removeLayer(String name) {
+        NGCanvas layer = (layers == null) ? null : layers.remove(name);
+        if (layer != null) {
+            GrowableDataBuffer.returnBuffer(layer.layerbuf);
+            layer.layerbuf = null;
+            layer.cv.dispose();
+            layer.temp.dispose();
+            layer.clip.dispose();
+        }
+    }
+
+    // package for testing
+    RTTexture getLayerTexture(String name) {
+        NGCanvas layer = (layers == null) ? null : layers.get(name);
+        return (layer == null) ? null : layer.cv.tex;
+    }
+
     class RenderInput extends Effect {
         float x, y, w, h;
         int token;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -53,7 +53,9 @@ import com.sun.scenario.effect.ImageData;
 import com.sun.scenario.effect.impl.prism.PrDrawable;
 import com.sun.scenario.effect.impl.prism.PrEffectHelper;
 import com.sun.scenario.effect.impl.prism.PrFilterContext;
+import com.sun.javafx.logging.NodeProfiler;
 import com.sun.javafx.logging.PulseLogger;
+import static com.sun.javafx.logging.NodeProfiler.PROFILING_ENABLED;
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 
 /**
@@ -98,6 +100,12 @@ public abstract class NGNode {
      */
     private String name;
 
+    /**
+     * The type of the Node, which the render time of this node is charged
+     * to by the NodeProfiler. Set during sync, when profiling is enabled.
+     */
+    private NodeProfiler.NodeType nodeType;
+
     /**
      * Temporary bounds for use by this class or subclasses, designed to
      * reduce the amount of garbage we generate. If we get to the point
@@ -652,6 +660,13 @@ public abstract class NGNode {
         return name;
     }
 
+    /**
+     * Used for profiling purposes.
+     */
+    public final void setNodeType(NodeProfiler.NodeType value) {
+        this.nodeType = value;
+    }
+
     protected final Effect getEffect() { return effectFilter == null ? null : effectFilter.getEffect(); }
 
     /**
@@ -1952,7 +1967,16 @@ public abstract class NGNode {
         // We know that we are going to render this node, so we call the
         // doRender method, which subclasses implement to do the actual
         // rendering work.
-        doRender(g);
+        if (PROFILING_ENABLED) {
+            long start = NodeProfiler.begin();
+            try {
+                doRender(g);
+            } finally {
+                NodeProfiler.end(NodeProfiler.Operation.RENDER, nodeType, start);
+            }
+        } else {
+            doRender(g);
+        }
     }
 
     /**
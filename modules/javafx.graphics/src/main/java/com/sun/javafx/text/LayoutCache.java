@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,15 +25,11 @@
 
 package com.sun.javafx.text;
 
-import com.sun.javafx.font.PGFont;
-
 class LayoutCache {
     int[] glyphs;
     float[] advances;
     boolean valid;
     int analysis;
-    char[] text;
-    PGFont font;
     TextRun[] runs;
     int runCount;
     TextLine[] lines;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,8 +28,6 @@ package com.sun.javafx.text;
 import java.text.Bidi;
 import java.text.BreakIterator;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Hashtable;
 import javafx.scene.shape.LineTo;
 import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.PathElement;
@@ -58,17 +56,16 @@ public class PrismTextLayout implements TextLayout {
     private static final int X_MAX_INDEX = 2;
     private static final int Y_MAX_INDEX = 3;
 
-    private static final Hashtable<Integer, LayoutCache> stringCache = new Hashtable<>();
-    private static final Object  CACHE_SIZE_LOCK = new Object();
-    private static int cacheSize = 0;
     private static final int MAX_STRING_SIZE = 256;
     private static final int MAX_CACHE_SIZE = PrismFontFactory.cacheLayoutSize;
+    private static final StringLayoutCache stringCache =
+            MAX_CACHE_SIZE > 0 ? new StringLayoutCache(MAX_CACHE_SIZE) : null;
 
     private char[] text;
     private TextSpan[] spans;   /* Rich text  (null for single font text) */
     private PGFont font;        /* Single font text (null for rich text) */
     private FontStrike strike;  /* cached strike of font (identity) */
-    private Integer cacheKey;
+    private StringLayoutCache.Key cacheKey;
     private TextLine[] lines;
     private TextRun[] runs;
     private int runCount;
@@ -138,10 +135,10 @@ public class PrismTextLayout implements TextLayout {
         this.font = (PGFont)font;
         this.strike = ((PGFont)font).getStrike(IDENTITY);
         this.text = text.toCharArray();
-        if (MAX_CACHE_SIZE > 0) {
+        if (stringCache != null) {
             int length = text.length();
             if (0 < length && length <= MAX_STRING_SIZE) {
-                cacheKey = text.hashCode() * strike.hashCode();
+                cacheKey = new StringLayoutCache.Key(this.text, this.font);
             }
         }
         return true;
@@ -730,7 +727,7 @@ public class PrismTextLayout implements TextLayout {
         if (cacheKey != null) {
             if (layoutCache == null) {
                 LayoutCache cache = stringCache.get(cacheKey);
-                if (cache != null && cache.font.equals(font) && Arrays.equals(cache.text, text)) {
+                if (cache != null) {
                     layoutCache = cache;
                     runs = cache.runs;
                     runCount = cache.runCount;
@@ -1465,23 +1462,13 @@ public class PrismTextLayout implements TextLayout {
                  * be immutable. See copyCache() for the cases where the entire
                  * layout is immutable.
                  */
-                layoutCache.font = font;
-                layoutCache.text = text;
                 layoutCache.runs = runs;
                 layoutCache.runCount = runCount;
                 layoutCache.lines = lines;
                 layoutCache.layoutWidth = layoutWidth;
                 layoutCache.layoutHeight = layoutHeight;
                 layoutCache.analysis = flags & ANALYSIS_MASK;
-                synchronized (CACHE_SIZE_LOCK) {
-                    int charCount = chars.length;
-                    if (cacheSize + charCount > MAX_CACHE_SIZE) {
-                        stringCache.clear();
-                        cacheSize = 0;
-                    }
-                    stringCache.put(cacheKey, layoutCache);
-                    cacheSize += charCount;
-                }
+                stringCache.put(cacheKey, layoutCache);
             }
             layoutCache.valid = true;
         }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.text;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.sun.javafx.font.PGFont;
+import com.sun.javafx.logging.PulseLogger;
+
+/**
+ * A process wide cache of the layouts of short, single font strings, shared
+ * by all {@link PrismTextLayout} instances.
+ * <p>
+ * Entries are keyed by the text and the font. The size of the cache is
+ * measured in characters; when it exceeds the maximum size, entries are
+ * evicted using the CLOCK (second chance) approximation of LRU: entries are
+ * kept in insertion order, a lookup marks its entry as referenced, and the
+ * eviction sweep re-queues referenced entries once before removing them.
+ * <p>
+ * All operations are lock free and may be called from any thread. Hits,
+ * misses and evictions are reported to the {@link PulseLogger}.
+ */
+final class StringLayoutCache {
+
+    /**
+     * The key of a cached layout. The text array is not copied, the caller
+     * must not modify it once the key has been created.
+     */
+    static final class Key {
+        private final char[] text;
+        private final PGFont font;
+        private final int hash;
+
+        Key(char[] text, PGFont font) {
+            this.text = text;
+            this.font = font;
+            this.hash = 31 * Arrays.hashCode(text) + font.hashCode();
+        }
+
+        int length() {
+            return text.length;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key other)) {
+                return false;
+            }
+            return hash == other.hash &&
+                   Arrays.equals(text, other.text) &&
+                   font.equals(other.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        final Key key;
+        final LayoutCache layout;
+        volatile boolean referenced;
+
+        Entry(Key key, LayoutCache layout) {
+            this.key = key;
+            this.layout = layout;
+        }
+    }
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxSize;
+
+    /**
+     * Creates a cache.
+     * @param maxSize the maximum number of characters held by the cache
+     */
+    StringLayoutCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the number of characters currently held by the cache.
+     */
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the layout cached for the given key, or null.
+     */
+    LayoutCache get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (PulseLogger.PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Text layout cache miss");
+            }
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        if (PulseLogger.PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Text layout cache hit");
+        }
+        return entry.layout;
+    }
+
+    /**
+     * Adds a layout to the cache, unless a layout is already cached for the
+     * given key. All the data in the layout must be immutable.
+     */
+    void put(Key key, LayoutCache layout) {
+        int weight = key.length();
+        if (weight > maxSize) {
+            return;
+        }
+        Entry entry = new Entry(key, layout);
+        if (entries.putIfAbsent(key, entry) != null) {
+            return;
+        }
+        clock.offer(entry);
+        if (size.addAndGet(weight) > maxSize) {
+            evict();
+        }
+    }
+
+    private void evict() {
+        // Every referenced entry gets a second chance at most once per sweep,
+        // so two passes over the queue are always enough.
+        int budget = 2 * entries.size() + 1;
+        while (size.get() > maxSize && budget-- > 0) {
+            Entry entry = clock.poll();
+            if (entry == null) {
+                break;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.offer(entry);
+            } else if (entries.remove(entry.key, entry)) {
+                size.addAndGet(-entry.key.length());
+                if (PulseLogger.PULSE_LOGGING_ENABLED) {
+                    PulseLogger.incrementCounter("Text layout cache eviction");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.tk.quantum;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.PlatformImage;
+import com.sun.prism.Image;
+import com.sun.prism.impl.PrismSettings;
+
+/**
+ * A cache of images loaded from URLs, keyed by the URL and the requested size
+ * of the image. The cache holds the loaded images until their total size
+ * exceeds a byte budget, and then evicts the least recently used ones.
+ * <p>
+ * The process wide instance is enabled by setting the budget with the
+ * {@code prism.imagecache} system property, for example
+ * {@code -Dprism.imagecache=64m}. Loaded images are never modified, so the
+ * same image can be shared by all {@code javafx.scene.image.Image} objects
+ * that are created for the same URL and size.
+ */
+public final class PrismImageCache {
+
+    /**
+     * The key of a cached image; the parameters with which it was loaded.
+     */
+    public record Key(String url, double width, double height,
+                      boolean preserveRatio, float pixelScale, boolean smooth) {
+    }
+
+    private static final PrismImageCache instance =
+            new PrismImageCache(PrismSettings.imageCacheSize);
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private record Entry(ImageLoader loader, long bytes) {
+    }
+
+    public PrismImageCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static PrismImageCache getInstance() {
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return maxBytes > 0;
+    }
+
+    public synchronized ImageLoader get(Key key) {
+        Entry entry = entries.get(key);
+        return entry == null ? null : entry.loader();
+    }
+
+    /**
+     * Adds a successfully loaded image to the cache. Images that failed to
+     * load, and images that are larger than the budget, are not cached.
+     */
+    public synchronized void put(Key key, ImageLoader loader) {
+        if (!isEnabled() || loader.getException() != null || loader.getFrameCount() == 0) {
+            return;
+        }
+
+        long size = sizeOf(loader);
+        if (size > maxBytes) {
+            return;
+        }
+
+        Entry previous = entries.put(key, new Entry(loader, size));
+        if (previous != null) {
+            bytes -= previous.bytes();
+        }
+        bytes += size;
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (bytes > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().bytes();
+            iterator.remove();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized long getSize() {
+        return bytes;
+    }
+
+    private static long sizeOf(ImageLoader loader) {
+        long size = 0;
+        for (int i = 0; i < loader.getFrameCount(); i++) {
+            PlatformImage frame = loader.getFrame(i);
+            if (frame instanceof Image image) {
+                size += (long) image.getScanlineStride() * image.getHeight();
+            }
+        }
+        return size;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,8 @@ package com.sun.javafx.tk.quantum;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
 
 import com.sun.javafx.iio.ImageFrame;
 import com.sun.javafx.iio.ImageLoadListener;
@@ -34,22 +36,23 @@ import com.sun.javafx.iio.ImageLoader;
 import com.sun.javafx.iio.ImageMetadata;
 import com.sun.javafx.iio.ImageStorage;
 import com.sun.javafx.iio.ImageStorageException;
+import com.sun.javafx.iio.common.PushbroomScaler;
+import com.sun.javafx.iio.common.ScalerFactory;
 import com.sun.javafx.runtime.async.AbstractRemoteResource;
 import com.sun.javafx.runtime.async.AsyncOperationListener;
 import com.sun.javafx.tk.PlatformImage;
 import com.sun.prism.Image;
 import com.sun.prism.impl.PrismSettings;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 import com.sun.javafx.logging.PlatformLogger;
 
 class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
 
     private static PlatformLogger imageioLogger = null;
 
+    // Partial images are not shown if the loader decodes more than this many
+    // times the requested number of pixels
+    private static final long MAX_PARTIAL_SCALE = 4;
+
     private Image[] images;
     private int[] delayTimes;
     private int loopCount;
@@ -57,6 +60,7 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     private double height;
     private float pixelScale;
     private Exception exception;
+    private Consumer<? super PrismImageLoader2> partialImageConsumer;
 
     public PrismImageLoader2(String url, double width, double height,
                              boolean preserveRatio, float pixelScale,
@@ -71,6 +75,27 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         loadAll(stream, width, height, preserveRatio, smooth);
     }
 
+    /**
+     * Loads an image from a stream and passes the parts of it that are
+     * decoded to the given consumer while it is loading, each as a single
+     * frame loader.
+     */
+    public PrismImageLoader2(InputStream stream, double width, double height,
+                             boolean preserveRatio, boolean smooth,
+                             Consumer<? super PrismImageLoader2> partialImageConsumer)
+    {
+        this.partialImageConsumer = partialImageConsumer;
+        loadAll(stream, width, height, preserveRatio, smooth);
+        this.partialImageConsumer = null;
+    }
+
+    private PrismImageLoader2(Image partialImage, double width, double height) {
+        images = new Image[] { partialImage };
+        delayTimes = new int[1];
+        this.width = width;
+        this.height = height;
+    }
+
     @Override
     public double getWidth() {
         return width;
@@ -122,7 +147,7 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
                          boolean preserveRatio, float pixelScale,
                          boolean smooth)
     {
-        ImageLoadListener listener = new PrismLoadListener();
+        ImageLoadListener listener = new PrismLoadListener(smooth);
         try {
             ImageFrame[] imgFrames =
                 ImageStorage.getInstance().loadAll(url, listener, w, h, preserveRatio, pixelScale, smooth);
@@ -137,7 +162,7 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     private void loadAll(InputStream stream, double w, double h,
                          boolean preserveRatio, boolean smooth)
     {
-        ImageLoadListener listener = new PrismLoadListener();
+        ImageLoadListener listener = new PrismLoadListener(smooth);
         try {
             ImageFrame[] imgFrames =
                 ImageStorage.getInstance().loadAll(stream, listener, w, h, preserveRatio, 1.0f, smooth);
@@ -203,6 +228,26 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     }
 
     private class PrismLoadListener implements ImageLoadListener {
+        private final boolean smooth;
+
+        // The pixels of the partial images of the image being loaded. The
+        // rows of each update are copied to and converted in these buffers,
+        // so that every update only costs as much as the rows it adds.
+        private byte[] partialPixels;
+        private byte[] partialConvertedPixels;
+        private boolean partialImagesSkipped;
+
+        // Scales the rows of each update, if the loader decodes the image at
+        // a larger size than requested
+        private PushbroomScaler partialScaler;
+        private byte[] partialScanline;
+        private int partialScalerRows;
+        private int partialScaledRows;
+
+        PrismLoadListener(boolean smooth) {
+            this.smooth = smooth;
+        }
+
         @Override
         public void imageLoadWarning(ImageLoader loader, String message) {
             getImageioLogger().warning(message);
@@ -224,14 +269,119 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         public void imageLoadMetaData(ImageLoader loader, ImageMetadata metadata) {
             // We currently have no need to listen for ImageMetadata ready.
         }
+
+        @Override
+        public void imageLoadUpdate(ImageLoader loader, ImageFrame frame,
+                                    int firstRow, int rowCount)
+        {
+            if (partialImageConsumer == null || partialImagesSkipped
+                    || !(frame.getImageData() instanceof ByteBuffer imageData)) {
+                return;
+            }
+
+            int width = frame.getWidth();
+            int height = frame.getHeight();
+            ImageMetadata metadata = frame.getMetadata();
+            if (metadata == null || metadata.imageWidth == null || metadata.imageHeight == null
+                    || (metadata.imageWidth == width && metadata.imageHeight == height)) {
+                updatePartialImage(frame, firstRow, rowCount);
+                return;
+            }
+
+            // The rows can only be scaled as they arrive if they arrive top
+            // to bottom, which is not the case for the later passes of an
+            // interlaced image. A much smaller image, such as a thumbnail,
+            // is not worth showing before it is complete.
+            int targetWidth = metadata.imageWidth;
+            int targetHeight = metadata.imageHeight;
+            if (firstRow != partialScalerRows
+                    || (long) width * height > MAX_PARTIAL_SCALE * targetWidth * targetHeight) {
+                partialImagesSkipped = true;
+                return;
+            }
+
+            int numBands = ImageStorage.getInstance().getNumBands(frame.getImageType());
+            if (partialScaler == null) {
+                partialScaler = ScalerFactory.createScaler(width, height, numBands,
+                        targetWidth, targetHeight, smooth);
+                partialScanline = new byte[width * numBands];
+            }
+
+            int stride = frame.getStride();
+            for (int y = firstRow; y < firstRow + rowCount; y++) {
+                imageData.get(y * stride, partialScanline, 0, partialScanline.length);
+                partialScaler.putSourceScanline(partialScanline, 0);
+            }
+            partialScalerRows = firstRow + rowCount;
+
+            // a scaled row is complete once all the rows it covers are in
+            int scaledRows = (int) ((long) partialScalerRows * targetHeight / height) - 1;
+            if (scaledRows > partialScaledRows) {
+                ImageFrame scaledFrame = new ImageFrame(frame.getImageType(),
+                        partialScaler.getDestination(), targetWidth, targetHeight,
+                        targetWidth * numBands, frame.getPixelScale(), metadata);
+                updatePartialImage(scaledFrame, partialScaledRows, scaledRows - partialScaledRows);
+                partialScaledRows = scaledRows;
+            }
+        }
+
+        /*
+         * Copies the given rows of the frame, converts them to a format
+         * supported by Prism, and passes the partial image on.
+         */
+        private void updatePartialImage(ImageFrame frame, int firstRow, int rowCount) {
+            ByteBuffer imageData = (ByteBuffer) frame.getImageData();
+            int width = frame.getWidth();
+            int height = frame.getHeight();
+            int stride = frame.getStride();
+            if (partialPixels == null) {
+                partialPixels = new byte[stride * height];
+            }
+
+            // the loader keeps decoding into the frame, so we have to copy
+            // the rows that are ready before we hand them to another thread
+            imageData.get(firstRow * stride, partialPixels, firstRow * stride, rowCount * stride);
+            ImageFrame rows = new ImageFrame(frame.getImageType(),
+                    ByteBuffer.wrap(partialPixels, firstRow * stride, rowCount * stride).slice(),
+                    width, rowCount, stride, frame.getPixelScale(), frame.getMetadata());
+
+            // most formats are converted in place, the others into a new
+            // buffer, which has to be copied as well
+            Image convertedRows = Image.convertImageFrame(rows);
+            if (!(convertedRows.getPixelBuffer() instanceof ByteBuffer converted)) {
+                partialImagesSkipped = true;
+                return;
+            }
+            int convertedStride = convertedRows.getScanlineStride();
+            byte[] pixels = partialPixels;
+            if (!converted.hasArray() || converted.array() != partialPixels) {
+                if (partialConvertedPixels == null) {
+                    partialConvertedPixels = new byte[convertedStride * height];
+                }
+                converted.get(0, partialConvertedPixels, firstRow * convertedStride, rowCount * convertedStride);
+                pixels = partialConvertedPixels;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(pixels);
+            float pixelScale = frame.getPixelScale();
+            Image partialImage = switch (convertedRows.getPixelFormat()) {
+                case BYTE_GRAY -> Image.fromByteGrayData(buffer, width, height, convertedStride, pixelScale);
+                case BYTE_RGB -> Image.fromByteRgbData(buffer, width, height, convertedStride, pixelScale);
+                case BYTE_BGRA_PRE -> Image.fromByteBgraPreData(buffer, width, height, convertedStride, pixelScale);
+                default -> null;
+            };
+            if (partialImage == null) {
+                partialImagesSkipped = true;
+                return;
+            }
+
+            partialImageConsumer.accept(new PrismImageLoader2(partialImage, width, height));
+        }
     }
 
     static final class AsyncImageLoader
         extends AbstractRemoteResource<PrismImageLoader2>
     {
-        private static final ExecutorService BG_LOADING_EXECUTOR =
-                createExecutor();
-
         double width, height;
         boolean preserveRatio;
         boolean smooth;
@@ -250,41 +400,32 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
 
         @Override
         protected PrismImageLoader2 processStream(InputStream stream) throws IOException {
-            return new PrismImageLoader2(stream, width, height, preserveRatio, smooth);
+            return new PrismImageLoader2(stream, width, height, preserveRatio, smooth,
+                                         this::notifyUpdate);
         }
 
         @Override
         public PrismImageLoader2 call() throws IOException {
-            return AsyncImageLoader.super.call();
+            PrismImageCache cache = PrismImageCache.getInstance();
+            if (!cache.isEnabled()) {
+                return AsyncImageLoader.super.call();
+            }
+
+            // images loaded in the background are loaded from a stream, and
+            // so always have a pixel scale of 1
+            PrismImageCache.Key key = new PrismImageCache.Key(url, width, height, preserveRatio, 1.0f, smooth);
+            if (cache.get(key) instanceof PrismImageLoader2 loader) {
+                return loader;
+            }
+
+            PrismImageLoader2 loader = AsyncImageLoader.super.call();
+            cache.put(key, loader);
+            return loader;
         }
 
         @Override
         public void start() {
-            BG_LOADING_EXECUTOR.execute(future);
-        }
-
-        private static ExecutorService createExecutor() {
-            final ThreadGroup bgLoadingThreadGroup =
-                    new ThreadGroup(QuantumToolkit.getFxUserThread()
-                            .getThreadGroup(),
-                            "Background image loading thread pool");
-
-            final ThreadFactory bgLoadingThreadFactory = runnable -> {
-                final Thread newThread
-                        = new Thread(bgLoadingThreadGroup,
-                                runnable);
-                newThread.setPriority(
-                        Thread.MIN_PRIORITY);
-
-                return newThread;
-            };
-
-            final ExecutorService bgLoadingExecutor =
-                    Executors.newCachedThreadPool(bgLoadingThreadFactory);
-            ((ThreadPoolExecutor) bgLoadingExecutor).setKeepAliveTime(
-                                                         1, TimeUnit.SECONDS);
-
-            return bgLoadingExecutor;
+            ImageStorage.getDecodingExecutor().execute(future);
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -793,7 +793,19 @@ public final class QuantumToolkit extends Toolkit {
     }
 
     @Override public ImageLoader loadImage(String url, double width, double height, boolean preserveRatio, boolean smooth) {
-        return new PrismImageLoader2(url, width, height, preserveRatio, getMaxRenderScale(), smooth);
+        float pixelScale = getMaxRenderScale();
+        PrismImageCache cache = PrismImageCache.getInstance();
+        if (!cache.isEnabled()) {
+            return new PrismImageLoader2(url, width, height, preserveRatio, pixelScale, smooth);
+        }
+
+        PrismImageCache.Key key = new PrismImageCache.Key(url, width, height, preserveRatio, pixelScale, smooth);
+        ImageLoader loader = cache.get(key);
+        if (loader == null) {
+            loader = new PrismImageLoader2(url, width, height, preserveRatio, pixelScale, smooth);
+            cache.put(key, loader);
+        }
+        return loader;
     }
 
     @Override public ImageLoader loadImage(InputStream stream, double width, double height,
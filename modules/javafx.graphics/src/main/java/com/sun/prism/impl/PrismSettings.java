@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -71,6 +71,7 @@ public final class PrismSettings {
     public static final long targetVram;
     public static final boolean poolStats;
     public static final boolean poolDebug;
+    public static final long imageCacheSize;
     public static final boolean disableEffects;
     public static final int glyphCacheWidth;
     public static final int glyphCacheHeight;
@@ -82,6 +83,7 @@ public final class PrismSettings {
     public static final boolean forceUploadingPainter;
     public static final boolean forceAlphaTestShader;
     public static final boolean forceNonAntialiasedShape;
+    public static final int swRasterizerThreads;
 
     public static enum RasterizerType {
         DoubleMarlin("Double Precision Marlin Rasterizer");
@@ -266,6 +268,8 @@ public final class PrismSettings {
                              "Try -Dprism.targetvram=<long>[kKmMgG]|<double(0,100)>%");
         poolStats = getBoolean(systemProperties, "prism.poolstats", false);
         poolDebug = getBoolean(systemProperties, "prism.pooldebug", false);
+        imageCacheSize = getLong(systemProperties, "prism.imagecache", 0,
+                                 "Try -Dprism.imagecache=<long>[kKmMgG]");
 
         if (verbose) {
             System.out.print("Prism pipeline init order: ");
@@ -347,6 +351,18 @@ public final class PrismSettings {
         // Force non anti-aliasing (not smooth) shape rendering
         forceNonAntialiasedShape = getBoolean(systemProperties, "prism.forceNonAntialiasedShape", false);
 
+        /*
+         * Number of threads used by the software pipeline to rasterize large
+         * shapes in horizontal bands. Values of 0 or 1 disable parallel
+         * rasterization, a negative value uses one thread per processor.
+         */
+        int swThreads = getInt(systemProperties, "prism.swRasterizerThreads", 0,
+                "Try -Dprism.swRasterizerThreads=<number>");
+        if (swThreads < 0) {
+            swThreads = Runtime.getRuntime().availableProcessors();
+        }
+        swRasterizerThreads = swThreads;
+
     }
 
     private static int parseInt(String s, int dflt, int trueDflt,
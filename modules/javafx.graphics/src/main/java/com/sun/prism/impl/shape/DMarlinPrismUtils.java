@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -240,6 +240,8 @@ public final class DMarlinPrismUtils {
             final BasicStroke stroke,
             final BaseTransform tx,
             final Rectangle clip,
+            final int rowsY,
+            final int rowsHeight,
             final int piRule,
             final MarlinRenderer renderer)
     {
@@ -273,7 +275,7 @@ public final class DMarlinPrismUtils {
         }
 
         if (stroke != null) {
-            renderer.init(clip.x, clip.y, clip.width, clip.height,
+            renderer.init(clip.x, rowsY, clip.width, rowsHeight,
                           MarlinConst.WIND_NON_ZERO);
 
             return initStroker(rdrCtx, stroke, stroke.getLineWidth(), tx, renderer);
@@ -282,7 +284,7 @@ public final class DMarlinPrismUtils {
             final int oprule = (piRule == PathIterator.WIND_EVEN_ODD) ?
                 MarlinConst.WIND_EVEN_ODD : MarlinConst.WIND_NON_ZERO;
 
-            renderer.init(clip.x, clip.y, clip.width, clip.height, oprule);
+            renderer.init(clip.x, rowsY, clip.width, rowsHeight, oprule);
 
             DPathConsumer2D pc = renderer;
 
@@ -311,6 +313,26 @@ public final class DMarlinPrismUtils {
             final BaseTransform xform,
             final Rectangle rclip,
             final boolean antialiasedShape)
+    {
+        return setupRenderer(rdrCtx, shape, stroke, xform, rclip,
+                             rclip.y, rclip.height, antialiasedShape);
+    }
+
+    /**
+     * Sets up a renderer that only produces the rows of the shape in
+     * [rowsY, rowsY + rowsHeight[. The path is clipped and flattened against
+     * rclip exactly as by the renderer set up for the whole clip, so that both
+     * renderers produce the same coverage in these rows.
+     */
+    public static MarlinRenderer setupRenderer(
+            final RendererContext rdrCtx,
+            final Shape shape,
+            final BasicStroke stroke,
+            final BaseTransform xform,
+            final Rectangle rclip,
+            final int rowsY,
+            final int rowsHeight,
+            final boolean antialiasedShape)
     {
         // Test if transform is identity:
         final BaseTransform tf = ((xform != null) && !xform.isIdentity()) ? xform : null;
@@ -320,13 +342,13 @@ public final class DMarlinPrismUtils {
 
         if (shape instanceof Path2D) {
             final Path2D p2d = (Path2D)shape;
-            final DPathConsumer2D pc2d = initRenderer(rdrCtx, stroke, tf, rclip, p2d.getWindingRule(), r);
+            final DPathConsumer2D pc2d = initRenderer(rdrCtx, stroke, tf, rclip, rowsY, rowsHeight, p2d.getWindingRule(), r);
             if (pc2d != null) {
                 feedConsumer(rdrCtx, p2d, tf, pc2d);
             }
         } else {
             final PathIterator pi = shape.getPathIterator(tf);
-            final DPathConsumer2D pc2d = initRenderer(rdrCtx, stroke, tf, rclip, pi.getWindingRule(), r);
+            final DPathConsumer2D pc2d = initRenderer(rdrCtx, stroke, tf, rclip, rowsY, rowsHeight, pi.getWindingRule(), r);
             if (pc2d != null) {
                 feedConsumer(rdrCtx, pi, pc2d);
             }
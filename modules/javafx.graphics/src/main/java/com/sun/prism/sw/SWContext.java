@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package com.sun.prism.sw;
 
 import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.Shape;
 import com.sun.javafx.geom.transform.BaseTransform;
@@ -43,6 +44,10 @@ import com.sun.prism.Texture;
 import com.sun.prism.impl.PrismSettings;
 import com.sun.prism.impl.shape.DMarlinPrismUtils;
 import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 final class SWContext {
 
@@ -194,16 +199,277 @@ final class SWContext {
         public void dispose() { }
     }
 
+    /**
+     * Rasterizes large shapes in horizontal bands on a pool of threads.
+     * <p>
+     * Each band is rasterized by Marlin using the {@code RendererContext} of
+     * the thread that rasterizes it. The path is clipped and flattened against
+     * the whole clip, as by the {@link DMarlinShapeRenderer}, and only the
+     * rows of the band are scan converted, so the coverage of every row is the
+     * same as if the shape was rasterized at once. The coverage rows of a band
+     * are recorded, then emitted into the render target on the calling thread,
+     * since the {@code PiscesRenderer} is not thread-safe, with the same calls
+     * as the {@link DirectRTMarlinAlphaConsumer} makes. Small shapes are
+     * rendered directly by the {@link DMarlinShapeRenderer}.
+     */
+    static final class ParallelDMarlinShapeRenderer implements ShapeRenderer {
+        // minimum number of pixels covered by a shape to rasterize it in bands
+        private static final int MIN_PARALLEL_AREA = 256 * 256;
+        // minimum number of rows of a band
+        private static final int MIN_BAND_HEIGHT = 32;
+
+        private final DMarlinShapeRenderer serialRenderer = new DMarlinShapeRenderer();
+        private final ForkJoinPool pool;
+        private final int parallelism;
+        private final Band[] bands;
+        private final ForkJoinTask<?>[] tasks;
+
+        ParallelDMarlinShapeRenderer(int parallelism) {
+            this.parallelism = parallelism;
+            this.pool = new ForkJoinPool(parallelism - 1, p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName("SW Rasterizer " + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+            this.bands = new Band[parallelism];
+            for (int i = 0; i < parallelism; i++) {
+                bands[i] = new Band();
+            }
+            this.tasks = new ForkJoinTask<?>[parallelism];
+        }
+
+        @Override
+        public void renderShape(PiscesRenderer pr, Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip, boolean antialiasedShape) {
+            if (stroke != null && stroke.getType() != BasicStroke.TYPE_CENTERED) {
+                // see DMarlinShapeRenderer, only create the stroked shape once
+                shape = stroke.createStrokedShape(shape);
+                stroke = null;
+            }
+
+            // Conservative device bounds of the shape, clipped
+            RectBounds bounds = (RectBounds) tr.transform(shape.getBounds(), new RectBounds());
+            double pad = 1;
+            if (stroke != null) {
+                double scale = Math.max(Math.hypot(tr.getMxx(), tr.getMyx()),
+                                        Math.hypot(tr.getMxy(), tr.getMyy()));
+                pad += stroke.getLineWidth() * Math.max(1f, stroke.getMiterLimit()) * scale;
+            }
+            int x0 = (int) Math.max(clip.x, Math.floor(bounds.getMinX() - pad));
+            int y0 = (int) Math.max(clip.y, Math.floor(bounds.getMinY() - pad));
+            int x1 = (int) Math.min((long) clip.x + clip.width, Math.ceil(bounds.getMaxX() + pad));
+            int y1 = (int) Math.min((long) clip.y + clip.height, Math.ceil(bounds.getMaxY() + pad));
+            int width = x1 - x0;
+            int height = y1 - y0;
+            int bandCount = Math.min(parallelism, height / MIN_BAND_HEIGHT);
+            if (width <= 0 || height <= 0 || bandCount < 2
+                    || (long) width * height < MIN_PARALLEL_AREA) {
+                serialRenderer.renderShape(pr, shape, stroke, tr, clip, antialiasedShape);
+                return;
+            }
+
+            final int bandHeight = (height + bandCount - 1) / bandCount;
+            final Shape s = shape;
+            final BasicStroke st = stroke;
+            for (int i = 0; i < bandCount; i++) {
+                int by = y0 + i * bandHeight;
+                bands[i].setRows(by, Math.min(bandHeight, y1 - by));
+            }
+            try {
+                for (int i = 1; i < bandCount; i++) {
+                    final Band band = bands[i];
+                    tasks[i] = pool.submit(() -> band.rasterize(s, st, tr, clip, antialiasedShape));
+                }
+                bands[0].rasterize(s, st, tr, clip, antialiasedShape);
+                for (int i = 1; i < bandCount; i++) {
+                    tasks[i].join();
+                }
+            } finally {
+                for (int i = 1; i < bandCount; i++) {
+                    if (tasks[i] != null && !tasks[i].isDone()) {
+                        // the calling thread failed, wait for the other bands
+                        // so that their masks are not reused while written
+                        tasks[i].quietlyJoin();
+                    }
+                    tasks[i] = null;
+                }
+            }
+
+            int rowNum = 0;
+            for (int i = 0; i < bandCount; i++) {
+                rowNum = bands[i].emitRows(pr, rowNum);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            pool.shutdown();
+            serialRenderer.dispose();
+        }
+
+        /*
+         * Records the coverage rows of one band, as they would have been
+         * passed to the PiscesRenderer by a DirectRTMarlinAlphaConsumer.
+         */
+        private static final class Band implements MarlinAlphaConsumer {
+            private int rowsY, rowsHeight;
+            private byte[] alphaMap;
+            private int x, w;
+
+            // for each recorded row: y, pix_from, pix_to and the offset of its alpha deltas
+            private int[] rows = new int[4 * MIN_BAND_HEIGHT];
+            private int rowCount;
+            private int[] alphaDeltas = new int[0];
+            private int alphaDeltasLength;
+
+            void setRows(int y, int height) {
+                rowsY = y;
+                rowsHeight = height;
+            }
+
+            void rasterize(Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip, boolean antialiasedShape) {
+                rowCount = 0;
+                alphaDeltasLength = 0;
+                final RendererContext rdrCtx = DMarlinRenderingEngine.getRendererContext();
+                MarlinRenderer renderer = null;
+                try {
+                    renderer = DMarlinPrismUtils.setupRenderer(rdrCtx, shape, stroke, tr, clip,
+                            rowsY, rowsHeight, antialiasedShape);
+                    final int outpix_xmin = renderer.getOutpixMinX();
+                    final int width = renderer.getOutpixMaxX() - outpix_xmin;
+                    final int height = renderer.getOutpixMaxY() - renderer.getOutpixMinY();
+                    if ((width <= 0) || (height <= 0)) {
+                        return;
+                    }
+                    x = outpix_xmin;
+                    w = width;
+                    renderer.produceAlphas(this);
+                } finally {
+                    if (renderer != null) {
+                        renderer.dispose();
+                    }
+                    // recycle the RendererContext instance
+                    DMarlinRenderingEngine.returnRendererContext(rdrCtx);
+                }
+            }
+
+            int emitRows(PiscesRenderer pr, int rowNum) {
+                for (int i = 0; i < rowCount; i++) {
+                    final int r = i << 2;
+                    pr.emitAndClearAlphaRow(alphaMap, alphaDeltas, rows[r], rows[r + 1], rows[r + 2],
+                                            rows[r + 3], rowNum++);
+                }
+                rowCount = 0;
+                return rowNum;
+            }
+
+            @Override
+            public int getOriginX() {
+                return x;
+            }
+
+            @Override
+            public int getOriginY() {
+                return rowsY;
+            }
+
+            @Override
+            public int getWidth() {
+                return w;
+            }
+
+            @Override
+            public int getHeight() {
+                return rowsHeight;
+            }
+
+            @Override
+            public void setMaxAlpha(int maxalpha) {
+                // same alpha map as DirectRTMarlinAlphaConsumer
+                if ((alphaMap == null) || (alphaMap.length != maxalpha+1)) {
+                    alphaMap = new byte[maxalpha+1];
+                    for (int i = 0; i <= maxalpha; i++) {
+                        alphaMap[i] = (byte) ((i*255 + maxalpha/2)/maxalpha);
+                    }
+                }
+            }
+
+            @Override
+            public boolean supportBlockFlags() {
+                return false;
+            }
+
+            @Override
+            public void clearAlphas(final int pix_y) {
+                // noop
+            }
+
+            @Override
+            public void setAndClearRelativeAlphas(final int[] alphaDeltas, final int pix_y,
+                                                  final int pix_from, final int pix_to)
+            {
+                // pix_from indicates the first alpha coverage != 0 within [x; pix_to[
+                final int from = pix_from - x;
+                final int length = pix_to - pix_from + 1;
+                final int copied = Math.max(0, Math.min(length, alphaDeltas.length - from));
+
+                if (this.alphaDeltas.length < alphaDeltasLength + length) {
+                    this.alphaDeltas = Arrays.copyOf(this.alphaDeltas,
+                            Math.max(alphaDeltasLength + length, 2 * this.alphaDeltas.length));
+                }
+                System.arraycopy(alphaDeltas, from, this.alphaDeltas, alphaDeltasLength, copied);
+                Arrays.fill(this.alphaDeltas, alphaDeltasLength + copied, alphaDeltasLength + length, 0);
+
+                if (rows.length < (rowCount + 1) << 2) {
+                    rows = Arrays.copyOf(rows, rows.length * 2);
+                }
+                final int r = rowCount++ << 2;
+                rows[r] = pix_y;
+                rows[r + 1] = pix_from;
+                rows[r + 2] = pix_to;
+                rows[r + 3] = alphaDeltasLength;
+                alphaDeltasLength += length;
+
+                // clear the alphaDeltas for the next row, as the PiscesRenderer
+                // and DirectRTMarlinAlphaConsumer do together:
+                final int to = Math.min(pix_to - x, w);
+                Arrays.fill(alphaDeltas, from, to + 1, 0);
+
+                if (MarlinConst.DO_CHECKS) {
+                    ArrayCacheIntClean.check(alphaDeltas, from, to + 1, 0);
+                }
+            }
+
+            @Override
+            public void setAndClearRelativeAlphas(final int[] blkFlags, final int[] alphaDeltas, final int pix_y,
+                                                  final int pix_from, final int pix_to)
+            {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
     SWContext(ResourceFactory factory) {
         this.factory = factory;
         switch (PrismSettings.rasterizerSpec) {
             default:
             case DoubleMarlin:
-                this.shapeRenderer = new DMarlinShapeRenderer();
+                this.shapeRenderer = createShapeRenderer(PrismSettings.swRasterizerThreads);
                 break;
         }
     }
 
+    /**
+     * Creates the shape renderer for the given value of the
+     * {@code prism.swRasterizerThreads} property.
+     */
+    static ShapeRenderer createShapeRenderer(int rasterizerThreads) {
+        if (rasterizerThreads > 1) {
+            return new ParallelDMarlinShapeRenderer(rasterizerThreads);
+        }
+        return new DMarlinShapeRenderer();
+    }
+
     void renderShape(PiscesRenderer pr, Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip, boolean antialiasedShape) {
         this.shapeRenderer.renderShape(pr, shape, stroke, tr, clip, antialiasedShape);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -134,6 +134,22 @@ public class PSWRenderer extends PrRenderer {
         return ret;
     }
 
+    /**
+     * Returns a {@code VSW} (Vector API/CPU) renderer for the given screen.
+     * The {@code VSW} peers are compiled separately and may not be present.
+     *
+     * @return a {@code VSW} (Vector API/CPU) renderer
+     */
+    private synchronized static PSWRenderer createVSWInstance(Screen screen) {
+        PSWRenderer ret = null;
+        try {
+            Class klass = Class.forName(rootPkg + ".impl.sw.vector.VSWRendererDelegate");
+            RendererDelegate delegate = (RendererDelegate)klass.getDeclaredConstructor().newInstance();
+            ret = new PSWRenderer(screen, delegate);
+        } catch (Throwable e) {}
+        return ret;
+    }
+
     public static Renderer createRenderer(FilterContext fctx) {
         Object ref = fctx.getReferent();
         GraphicsPipeline pipe = GraphicsPipeline.getPipeline();
@@ -142,6 +158,9 @@ public class PSWRenderer extends PrRenderer {
         }
         Screen screen = (Screen)ref;
         Renderer renderer = createSSEInstance(screen);
+        if (renderer == null) {
+            renderer = createVSWInstance(screen);
+        }
         if (renderer == null) {
             renderer = createJSWInstance(screen);
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -170,6 +170,7 @@ import com.sun.prism.impl.PrismSettings;
 import com.sun.scenario.effect.EffectHelper;
 
 import javafx.scene.shape.Shape3D;
+import com.sun.javafx.logging.NodeProfiler;
 import com.sun.javafx.logging.PlatformLogger;
 import com.sun.javafx.logging.PlatformLogger.Level;
 
@@ -769,7 +770,16 @@ public abstract sealed class Node
                                      || isDirty(DirtyBits.NODE_VISIBLE)
                                      || isDirty(DirtyBits.NODE_FORCE_SYNC)))
         {
-            NodeHelper.updatePeer(this);
+            if (NodeProfiler.PROFILING_ENABLED) {
+                long start = NodeProfiler.begin();
+                try {
+                    NodeHelper.updatePeer(this);
+                } finally {
+                    NodeProfiler.end(NodeProfiler.Operation.SYNC, getClass(), getStyleClass(), start);
+                }
+            } else {
+                NodeHelper.updatePeer(this);
+            }
             clearDirty();
         }
     }
@@ -862,6 +872,10 @@ public abstract sealed class Node
             peer.setName(id == null ? className : id + "(" + className + ")");
         }
 
+        if (NodeProfiler.PROFILING_ENABLED) {
+            peer.setNodeType(NodeProfiler.getNodeType(getClass(), getStyleClass()));
+        }
+
         if (isDirty(DirtyBits.NODE_TRANSFORM)) {
             peer.setTransformMatrix(localToParentTx);
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,8 +26,10 @@
 package javafx.scene;
 
 import com.sun.javafx.scene.traversal.ParentTraversalEngine;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
@@ -49,6 +51,7 @@ import com.sun.javafx.geom.Point2D;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.NoninvertibleTransformException;
+import com.sun.javafx.logging.NodeProfiler;
 import com.sun.javafx.scene.CssFlags;
 import com.sun.javafx.scene.DirtyBits;
 import com.sun.javafx.scene.input.PickResultChooser;
@@ -264,6 +267,9 @@ public abstract non-sealed class Parent extends Node {
     private final List<Node> viewOrderChildren = new ArrayList(1);
 
     void markViewOrderChildrenDirty() {
+        if (pickIndex != null) {
+            pickIndex.invalidate();
+        }
         viewOrderChildren.clear();
         NodeHelper.markDirty(this, DirtyBits.PARENT_CHILDREN_VIEW_ORDER);
     }
@@ -327,6 +333,9 @@ public abstract non-sealed class Parent extends Node {
         protected void onChanged(Change<Node> c) {
             // proceed with updating the scene graph
             unmodifiableManagedChildren = null;
+            if (pickIndex != null) {
+                pickIndex.invalidate();
+            }
             boolean relayout = false;
             boolean viewOrderChildrenDirty = false;
             int firstDirtyChildIndex = -1;
@@ -865,8 +874,55 @@ public abstract non-sealed class Parent extends Node {
         }
     }
 
+    /**
+     * Whether picking uses a spatial index of the children of this {@code Parent}.
+     * <p>
+     * To find the node at a given point, picking tests the children of a {@code Parent}
+     * one after the other, from front to back, which takes time proportional to the number
+     * of children. When this property is set, the {@code Parent} keeps a grid of the bounds
+     * in parent of its children, and only tests the children whose bounds contain the point.
+     * The grid is updated as children are added, removed, reordered, moved or resized, which
+     * costs memory and time on each change, so it is meant for parents with many children,
+     * such as a {@code Group} holding thousands of markers on a map.
+     * <p>
+     * The index is not used for parents with few children, nor when picking with a ray that
+     * is not perpendicular to the x-y plane of this {@code Parent}, which is the case with a
+     * {@link PerspectiveCamera} or 3D transforms; all children are then tested. Enabling the
+     * index never changes which node is picked.
+     *
+     * @defaultValue false
+     * @since 25
+     */
+    private BooleanProperty pickIndexed;
+
+    public final void setPickIndexed(boolean value) {
+        pickIndexedProperty().set(value);
+    }
+
+    public final boolean isPickIndexed() {
+        return pickIndexed != null && pickIndexed.get();
+    }
+
+    public final BooleanProperty pickIndexedProperty() {
+        if (pickIndexed == null) {
+            pickIndexed = new SimpleBooleanProperty(this, "pickIndexed") {
+                @Override
+                protected void invalidated() {
+                    pickIndex = get() ? new PickIndex() : null;
+                }
+            };
+        }
+        return pickIndexed;
+    }
+
+    private PickIndex pickIndex;
+
     boolean pickChildrenNode(PickRay pickRay, PickResultChooser result) {
         List<Node> orderedChildren = getOrderedChildren();
+        if (pickIndex != null && orderedChildren.size() >= PickIndex.MIN_CHILDREN
+                && PickIndex.canPick(pickRay)) {
+            return pickIndex.pickChildren(orderedChildren, pickRay, result);
+        }
         for (int i = orderedChildren.size() - 1; i >= 0; i--) {
             orderedChildren.get(i).pickNode(pickRay, result);
             if (result.isClosed()) {
@@ -1269,7 +1325,16 @@ public abstract non-sealed class Parent extends Node {
                     break;
                 }
                 performingLayout = true;
-                layoutChildren();
+                if (NodeProfiler.PROFILING_ENABLED) {
+                    long start = NodeProfiler.begin();
+                    try {
+                        layoutChildren();
+                    } finally {
+                        NodeProfiler.end(NodeProfiler.Operation.LAYOUT, getClass(), getStyleClass(), start);
+                    }
+                } else {
+                    layoutChildren();
+                }
                 // Intended fall-through
             case DIRTY_BRANCH:
                 for (int i = 0, max = children.size(); i < max; i++) {
@@ -1919,6 +1984,10 @@ public abstract non-sealed class Parent extends Node {
      * Called by Node whenever its bounds have changed.
      */
     void childBoundsChanged(Node node) {
+        if (pickIndex != null) {
+            pickIndex.childChanged(node);
+        }
+
         // See comment above at "currentlyProcessedChild" field
         if (node == currentlyProcessedChild) {
             return;
@@ -1942,6 +2011,9 @@ public abstract non-sealed class Parent extends Node {
      * Called by node whenever the visibility of the node changes.
      */
     void childVisibilityChanged(Node node) {
+        if (pickIndex != null) {
+            pickIndex.childChanged(node);
+        }
         if (node.isVisible()) {
             childIncluded(node);
         } else {
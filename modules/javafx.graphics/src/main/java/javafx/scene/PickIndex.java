@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package javafx.scene;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.PickRay;
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Vec3d;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.scene.input.PickResultChooser;
+
+/**
+ * A uniform grid over the bounds in parent of the children of a
+ * {@code Parent}, used to find the children that may be hit by a pick ray.
+ *
+ * The grid can only answer rays that are perpendicular to the x-y plane of
+ * the parent, which hit a child only if they pass through the 2D projection
+ * of its bounds in parent. Each cell lists, in increasing order, the indices
+ * in the ordered children of the children whose bounds overlap it, so that
+ * the candidates of a pick are visited front to back like in the linear scan.
+ * Children that overlap many cells are kept in a separate list that is
+ * merged with the cell at pick time.
+ *
+ * The grid is rebuilt when the list of children or their order changes.
+ * Children whose bounds change, or which become visible, are queued and
+ * moved to their new cells before the next pick; if a large part of the
+ * children changed, the grid is rebuilt instead.
+ */
+final class PickIndex {
+
+    /**
+     * The number of children from which the index is used.
+     */
+    static final int MIN_CHILDREN = 64;
+
+    /**
+     * The target average number of children per cell.
+     */
+    private static final int CHILDREN_PER_CELL = 4;
+
+    private static final int MAX_CELLS_PER_AXIS = 1024;
+
+    private static final int[] EMPTY = new int[0];
+
+    private List<Node> ordered;
+    private int size;
+    private boolean valid;
+    private final ArrayList<Node> pending = new ArrayList<>();
+    private final IdentityHashMap<Node, Integer> indices = new IdentityHashMap<>();
+
+    // grid geometry
+    private double minX;
+    private double minY;
+    private double cellWidth;
+    private double cellHeight;
+    private int cellsX;
+    private int cellsY;
+    private int largeSpan;
+
+    // cell contents, sorted in increasing order
+    private int[][] cells;
+    private int[] cellSizes;
+    private int[] large = EMPTY;
+    private int largeSize;
+
+    // the cell range of each child: x0, y0, x1, y1, or -1 when not in the
+    // grid, -2 when in the large list
+    private int[] ranges = EMPTY;
+
+    private final BaseBounds tmp = new RectBounds();
+
+    /**
+     * Marks the whole index as invalid.
+     */
+    void invalidate() {
+        valid = false;
+        ordered = null;
+        pending.clear();
+    }
+
+    /**
+     * Queues the update of a child whose bounds or visibility changed.
+     */
+    void childChanged(Node node) {
+        if (!valid) {
+            return;
+        }
+        pending.add(node);
+        if (pending.size() > size / 4 + MIN_CHILDREN) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Returns whether the index can be used for the given ray,
+     * given in the local coordinates of the parent.
+     */
+    static boolean canPick(PickRay pickRay) {
+        Vec3d d = pickRay.getDirectionNoClone();
+        return d.x == 0 && d.y == 0 && d.z != 0;
+    }
+
+    /**
+     * Picks the children of a parent, like {@code Parent.pickChildrenNode}.
+     *
+     * @return false if the result was closed by one of the children
+     */
+    boolean pickChildren(List<Node> orderedChildren, PickRay pickRay, PickResultChooser result) {
+        if (!valid || ordered != orderedChildren || size != orderedChildren.size()) {
+            build(orderedChildren);
+        } else if (!pending.isEmpty()) {
+            for (int i = 0, max = pending.size(); i < max; i++) {
+                Integer index = indices.get(pending.get(i));
+                if (index != null) {
+                    remove(index);
+                    insert(index);
+                }
+            }
+            pending.clear();
+        }
+
+        Vec3d o = pickRay.getOriginNoClone();
+        int cx = clamp((int) Math.floor((o.x - minX) / cellWidth), cellsX);
+        int cy = clamp((int) Math.floor((o.y - minY) / cellHeight), cellsY);
+        int cell = cy * cellsX + cx;
+        int[] candidates = cells[cell];
+        int i = cellSizes[cell] - 1;
+        int j = largeSize - 1;
+
+        // Merge the cell and the large children, front to back
+        while (i >= 0 || j >= 0) {
+            int index;
+            if (j < 0 || (i >= 0 && candidates[i] > large[j])) {
+                index = candidates[i--];
+            } else {
+                index = large[j--];
+            }
+            orderedChildren.get(index).pickNode(pickRay, result);
+            if (result.isClosed()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void build(List<Node> orderedChildren) {
+        int n = orderedChildren.size();
+        ordered = orderedChildren;
+        size = n;
+        valid = true;
+        pending.clear();
+        indices.clear();
+        ranges = new int[4 * n];
+        largeSize = 0;
+        large = EMPTY;
+
+        double x0 = Double.POSITIVE_INFINITY;
+        double y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY;
+        double y1 = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            Node node = orderedChildren.get(i);
+            indices.put(node, i);
+            BaseBounds b = node.isVisible() ? bounds(node) : null;
+            if (b != null) {
+                x0 = Math.min(x0, b.getMinX());
+                y0 = Math.min(y0, b.getMinY());
+                x1 = Math.max(x1, b.getMaxX());
+                y1 = Math.max(y1, b.getMaxY());
+            }
+        }
+        if (x0 > x1 || !Double.isFinite(x1 - x0) || !Double.isFinite(y1 - y0)) {
+            x0 = y0 = 0;
+            x1 = y1 = 1;
+        }
+
+        // Choose square-ish cells, about CHILDREN_PER_CELL children per cell
+        double w = Math.max(x1 - x0, 1e-6);
+        double h = Math.max(y1 - y0, 1e-6);
+        double cellCount = Math.max(1.0, (double) n / CHILDREN_PER_CELL);
+        double side = Math.sqrt(w * h / cellCount);
+        cellsX = Math.max(1, Math.min(MAX_CELLS_PER_AXIS, (int) Math.ceil(w / side)));
+        cellsY = Math.max(1, Math.min(MAX_CELLS_PER_AXIS, (int) Math.ceil(h / side)));
+        minX = x0;
+        minY = y0;
+        cellWidth = w / cellsX;
+        cellHeight = h / cellsY;
+        largeSpan = Math.max(16, cellsX * cellsY / 16);
+        cells = new int[cellsX * cellsY][];
+        Arrays.fill(cells, EMPTY);
+        cellSizes = new int[cellsX * cellsY];
+
+        // Children are inserted in increasing order, so appending keeps
+        // every cell sorted
+        for (int i = 0; i < n; i++) {
+            insert(i);
+        }
+    }
+
+    /**
+     * Returns the bounds in parent of a child, or null if it has none.
+     */
+    private BaseBounds bounds(Node node) {
+        BaseBounds b = node.getTransformedBounds(tmp, BaseTransform.IDENTITY_TRANSFORM);
+        return b.isEmpty() ? null : b;
+    }
+
+    private void insert(int index) {
+        Node node = ordered.get(index);
+        int r = 4 * index;
+        BaseBounds b = node.isVisible() ? bounds(node) : null;
+        if (b == null) {
+            ranges[r] = -1;
+            return;
+        }
+        double bx0 = b.getMinX(), by0 = b.getMinY(), bx1 = b.getMaxX(), by1 = b.getMaxY();
+        if (Double.isNaN(bx0 + by0 + bx1 + by1)) {
+            ranges[r] = -2;
+            large = add(large, largeSize++, index);
+            return;
+        }
+        int x0 = clamp((int) Math.floor((bx0 - minX) / cellWidth), cellsX);
+        int y0 = clamp((int) Math.floor((by0 - minY) / cellHeight), cellsY);
+        int x1 = clamp((int) Math.floor((bx1 - minX) / cellWidth), cellsX);
+        int y1 = clamp((int) Math.floor((by1 - minY) / cellHeight), cellsY);
+        if ((long) (x1 - x0 + 1) * (y1 - y0 + 1) > largeSpan) {
+            ranges[r] = -2;
+            large = add(large, largeSize++, index);
+            return;
+        }
+        ranges[r] = x0;
+        ranges[r + 1] = y0;
+        ranges[r + 2] = x1;
+        ranges[r + 3] = y1;
+        for (int y = y0; y <= y1; y++) {
+            for (int x = x0; x <= x1; x++) {
+                int cell = y * cellsX + x;
+                cells[cell] = add(cells[cell], cellSizes[cell]++, index);
+            }
+        }
+    }
+
+    private void remove(int index) {
+        int r = 4 * index;
+        if (ranges[r] == -1) {
+            return;
+        }
+        if (ranges[r] == -2) {
+            largeSize = remove(large, largeSize, index);
+            return;
+        }
+        for (int y = ranges[r + 1]; y <= ranges[r + 3]; y++) {
+            for (int x = ranges[r]; x <= ranges[r + 2]; x++) {
+                int cell = y * cellsX + x;
+                cellSizes[cell] = remove(cells[cell], cellSizes[cell], index);
+            }
+        }
+    }
+
+    /**
+     * Inserts a value in a sorted array holding {@code size} values,
+     * growing it if needed.
+     */
+    private static int[] add(int[] array, int size, int value) {
+        if (size == array.length) {
+            array = Arrays.copyOf(array, Math.max(4, size * 2));
+        }
+        int pos = size;
+        if (size > 0 && array[size - 1] > value) {
+            pos = Arrays.binarySearch(array, 0, size, value);
+            pos = pos < 0 ? -pos - 1 : pos;
+            System.arraycopy(array, pos, array, pos + 1, size - pos);
+        }
+        array[pos] = value;
+        return array;
+    }
+
+    /**
+     * Removes a value from a sorted array holding {@code size} values.
+     *
+     * @return the new size
+     */
+    private static int remove(int[] array, int size, int value) {
+        int pos = Arrays.binarySearch(array, 0, size, value);
+        if (pos < 0) {
+            return size;
+        }
+        System.arraycopy(array, pos + 1, array, pos, size - pos - 1);
+        return size - 1;
+    }
+
+    private static int clamp(int cell, int count) {
+        return cell < 0 ? 0 : cell >= count ? count - 1 : cell;
+    }
+}
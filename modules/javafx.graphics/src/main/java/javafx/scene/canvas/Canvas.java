@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,6 +38,10 @@ import com.sun.javafx.scene.canvas.CanvasHelper;
 import com.sun.javafx.sg.prism.GrowableDataBuffer;
 import com.sun.javafx.sg.prism.NGCanvas;
 import com.sun.javafx.sg.prism.NGNode;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * {@code Canvas} is an image that can be drawn on using a set of graphics
@@ -108,6 +112,11 @@ public non-sealed class Canvas extends Node {
 
     private GraphicsContext theContext;
 
+    // Names of the layers recorded with GraphicsContext.beginLayer() and
+    // the layer streams (or null for a removed layer) not yet sent to the peer
+    private Set<String> layerNames;
+    private Map<String, GrowableDataBuffer> pendingLayers;
+
     {
         // To initialize the class helper at the begining each constructor of this class
         CanvasHelper.initHelper(this);
@@ -153,6 +162,34 @@ public non-sealed class Canvas extends Node {
         return current;
     }
 
+    void setLayer(String name, GrowableDataBuffer buf) {
+        if (layerNames == null) {
+            layerNames = new HashSet<>();
+            pendingLayers = new LinkedHashMap<>();
+        }
+        layerNames.add(name);
+        GrowableDataBuffer old = pendingLayers.put(name, buf);
+        if (old != null) {
+            GrowableDataBuffer.returnBuffer(old);
+        }
+        NodeHelper.markDirty(this, DirtyBits.NODE_CONTENTS);
+    }
+
+    boolean hasLayer(String name) {
+        return layerNames != null && layerNames.contains(name);
+    }
+
+    void removeLayer(String name) {
+        if (hasLayer(name)) {
+            layerNames.remove(name);
+            GrowableDataBuffer old = pendingLayers.put(name, null);
+            if (old != null) {
+                GrowableDataBuffer.returnBuffer(old);
+            }
+            NodeHelper.markDirty(this, DirtyBits.NODE_CONTENTS);
+        }
+    }
+
     boolean isRendererFallingBehind() {
         return rendererBehind;
     }
@@ -267,6 +304,18 @@ public non-sealed class Canvas extends Node {
         }
         if (NodeHelper.isDirty(this, DirtyBits.NODE_CONTENTS)) {
             NGCanvas peer = NodeHelper.getPeer(this);
+            if (pendingLayers != null && !pendingLayers.isEmpty()) {
+                // Layers are sent first so that the stream below draws
+                // their current contents
+                for (Map.Entry<String, GrowableDataBuffer> e : pendingLayers.entrySet()) {
+                    if (e.getValue() == null) {
+                        peer.removeLayer(e.getKey());
+                    } else {
+                        peer.updateLayer(e.getKey(), e.getValue());
+                    }
+                }
+                pendingLayers.clear();
+            }
             if (current != null && !current.isEmpty()) {
                 if (--lastsizeindex < 0) {
                     lastsizeindex = SIZE_HISTORY - 1;
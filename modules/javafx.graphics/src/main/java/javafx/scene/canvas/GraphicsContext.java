@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -58,9 +58,11 @@ import javafx.scene.transform.Affine;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.nio.IntBuffer;
 import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.Objects;
 import javafx.scene.text.FontSmoothingType;
 
 /**
@@ -282,6 +284,8 @@ import javafx.scene.text.FontSmoothingType;
  * {@link #fillRect(double, double, double, double) fillRect()},
  * {@link #fillRoundRect(double, double, double, double, double, double) fillRoundRect()},
  * {@link #fillOval(double, double, double, double) fillOval()},
+ * {@link #fillRects(double[], int) fillRects()},
+ * {@link #fillOvals(double[], int) fillOvals()},
  * {@link #fillArc(double, double, double, double, double, double, javafx.scene.shape.ArcType) fillArc()}
  * </th>
  * <td class="colLast" style="width:13%; text-align:center; color:#0c0">Yes</td>
@@ -331,7 +335,7 @@ import javafx.scene.text.FontSmoothingType;
  * <tr class="rowColor">
  * <th scope="row" class="colLast" style="width:22%">
  * {@link #strokePolygon(double[], double[], int) strokePolygon()},
- * {@link #strokePolyline(double[], double[], int) strokePolyline()}
+ * {@link #strokePolyline(double[], double[], int) strokePolyline(all forms)}
  * </th>
  * <td class="colLast" style="width:13%; text-align:center; color:#0c0">Yes</td>
  * <td class="colLast" style="width:13%; text-align:center; color:#c00">No</td>
@@ -433,7 +437,9 @@ import javafx.scene.text.FontSmoothingType;
  * <tr><th scope="row" colspan="1">Image Rendering</th></tr>
  * <tr class="rowColor">
  * <th scope="row" class="colLast" style="width:22%">
- * {@link #drawImage(javafx.scene.image.Image, double, double) drawImage(all forms)}
+ * {@link #drawImage(javafx.scene.image.Image, double, double) drawImage(all forms)},
+ * {@link #drawImages(javafx.scene.image.Image, double[], int) drawImages(all forms)},
+ * {@link #drawLayer(java.lang.String) drawLayer()}
  * </th>
  * <td class="colLast" style="width:13%; text-align:center; color:#0c0">Yes</td>
  * <td class="colLast" style="width:13%; text-align:center; color:#c00">No</td>
@@ -488,6 +494,17 @@ public final class GraphicsContext {
     LinkedList<State> stateStack;
     LinkedList<Path2D> clipStack;
 
+    // The layer being recorded by beginLayer() and the state of the
+    // canvas stream that is set aside until the matching endLayer()
+    private String layerName;
+    private GrowableDataBuffer layerBuf;
+    private Path2D canvasPath;
+    private boolean canvasPathDirty;
+    private State canvasState;
+    private LinkedList<State> canvasStateStack;
+    private LinkedList<Path2D> canvasClipStack;
+    private boolean canvasTxdirty;
+
     GraphicsContext(Canvas theCanvas) {
         this.theCanvas = theCanvas;
         this.path = new Path2D();
@@ -612,7 +629,7 @@ public final class GraphicsContext {
     }
 
     private GrowableDataBuffer getBuffer() {
-        return theCanvas.getBuffer();
+        return (layerBuf != null) ? layerBuf : theCanvas.getBuffer();
     }
 
     private float coords[] = new float[6];
@@ -767,6 +784,52 @@ public final class GraphicsContext {
         buf.putObject(platformImg);
     }
 
+    private static void checkBatch(int length, int count, int stride) {
+        if (count > length / stride) {
+            throw new IndexOutOfBoundsException("count " + count +
+                    " exceeds the " + (length / stride) + " elements of the array");
+        }
+    }
+
+    private static float[] toFloats(double[] coords, int n) {
+        float[] f = new float[n];
+        for (int i = 0; i < n; i++) {
+            f[i] = (float) coords[i];
+        }
+        return f;
+    }
+
+    // The whole batch is a single command with a private copy of the
+    // coordinates, so it is processed once by the attribute, clip and
+    // effect logic of the renderer.
+    private void writeBatch(float[] coords, int count, byte command) {
+        updateTransform();
+        GrowableDataBuffer buf = getBuffer();
+        buf.putByte(command);
+        buf.putInt(count);
+        buf.putObject(coords);
+    }
+
+    private void writeSprites(Image img,
+                              double sx, double sy, double sw, double sh,
+                              double xy[], int count)
+    {
+        if (img == null || img.getProgress() < 1.0 || xy == null || count <= 0) return;
+        checkBatch(xy.length, count, 2);
+        Object platformImg = Toolkit.getImageAccessor().getPlatformImage(img);
+        if (platformImg == null) return;
+        updateTransform();
+        GrowableDataBuffer buf = getBuffer();
+        buf.putByte(NGCanvas.DRAW_SPRITES);
+        buf.putInt(count);
+        buf.putFloat((float) sx);
+        buf.putFloat((float) sy);
+        buf.putFloat((float) sw);
+        buf.putFloat((float) sh);
+        buf.putObject(toFloats(xy, count * 2));
+        buf.putObject(platformImg);
+    }
+
     private void writeText(String text, double x, double y, double maxWidth,
                            byte command)
     {
@@ -809,7 +872,12 @@ public final class GraphicsContext {
     }
 
     void updateDimensions() {
-        GrowableDataBuffer buf = getBuffer();
+        // Size changes always go to the canvas stream, even while a layer
+        // is being recorded.
+        writeDimensions(theCanvas.getBuffer());
+    }
+
+    private void writeDimensions(GrowableDataBuffer buf) {
         buf.putByte(NGCanvas.SET_DIMS);
         buf.putFloat((float) theCanvas.getWidth());
         buf.putFloat((float) theCanvas.getHeight());
@@ -828,7 +896,7 @@ public final class GraphicsContext {
         {
             buf.reset();
             buf.putByte(NGCanvas.RESET);
-            updateDimensions();
+            writeDimensions(buf);
             txdirty = true;
             pathDirty = true;
             State s = this.curState;
@@ -2647,6 +2715,110 @@ public final class GraphicsContext {
         }
     }
 
+    /**
+     * Fills a batch of rectangles using the current fill paint.
+     * A {@code null} array will be ignored.
+     * <p>
+     * The result is the same as calling
+     * {@link #fillRect(double, double, double, double) fillRect()} for each
+     * rectangle, except that the batch is recorded and rendered as a single
+     * operation: a blend mode other than {@code SRC_OVER} or an effect is
+     * applied to the combined result of all the rectangles rather than to
+     * each one of them. This is much faster than individual calls when
+     * drawing many rectangles, as in a scatter plot or heat map.
+     * </p>
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#fill-attr">fill</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param xywh array containing the x, y, width and height of each
+     *             rectangle, one after the other, or null.
+     * @param count the number of rectangles to fill.
+     * @throws IndexOutOfBoundsException if the array holds fewer than
+     *         {@code count} rectangles
+     * @since 25
+     */
+    public void fillRects(double xywh[], int count) {
+        if (xywh == null || count <= 0) return;
+        checkBatch(xywh.length, count, 4);
+        writeBatch(toFloats(xywh, count * 4), count, NGCanvas.FILL_RECTS);
+    }
+
+    /**
+     * Fills a batch of ovals using the current fill paint.
+     * A {@code null} array will be ignored.
+     * <p>
+     * The result is the same as calling
+     * {@link #fillOval(double, double, double, double) fillOval()} for each
+     * oval, except that the batch is recorded and rendered as a single
+     * operation: a blend mode other than {@code SRC_OVER} or an effect is
+     * applied to the combined result of all the ovals rather than to each
+     * one of them.
+     * </p>
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#fill-attr">fill</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param xywh array containing the x, y, width and height of the
+     *             bounding rectangle of each oval, one after the other,
+     *             or null.
+     * @param count the number of ovals to fill.
+     * @throws IndexOutOfBoundsException if the array holds fewer than
+     *         {@code count} ovals
+     * @since 25
+     */
+    public void fillOvals(double xywh[], int count) {
+        if (xywh == null || count <= 0) return;
+        checkBatch(xywh.length, count, 4);
+        writeBatch(toFloats(xywh, count * 4), count, NGCanvas.FILL_OVALS);
+    }
+
+    /**
+     * Strokes a polyline with the given points using the currently set stroke
+     * paint attribute.
+     * The points are read as x, y pairs starting at the current position of
+     * the buffer, which is not modified.
+     * A {@code null} buffer will be ignored and nothing will be drawn.
+     * <p>
+     * The polyline is recorded as a single command holding a copy of the
+     * points, which is considerably more compact than the commands recorded
+     * by {@link #strokePolyline(double[], double[], int)} for long
+     * polylines such as the series of a line chart.
+     * </p>
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#strk-attr">stroke</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param xy buffer containing the x and y coordinates of the polyline's
+     *           points, one after the other, or null.
+     * @param nPoints the number of points that make the polyline.
+     * @throws IndexOutOfBoundsException if fewer than {@code 2 * nPoints}
+     *         values remain in the buffer
+     * @since 25
+     */
+    public void strokePolyline(DoubleBuffer xy, int nPoints) {
+        if (xy == null || nPoints < 2) return;
+        checkBatch(xy.remaining(), nPoints, 2);
+        int pos = xy.position();
+        float[] coords = new float[nPoints * 2];
+        for (int i = 0; i < coords.length; i++) {
+            coords[i] = (float) xy.get(pos + i);
+        }
+        writeBatch(coords, nPoints, NGCanvas.STROKE_POLYLINE);
+    }
+
     /**
      * Draws an image at the given x, y position using the width
      * and height of the given image.
@@ -2721,6 +2893,81 @@ public final class GraphicsContext {
         writeImage(img, dx, dy, dw, dh, sx, sy, sw, sh);
     }
 
+    /**
+     * Draws a batch of copies of an image, each at its own position and
+     * with the size of the image.
+     * A {@code null} image, a {@code null} array or an image still in
+     * progress will be ignored.
+     * <p>
+     * The result is the same as calling
+     * {@link #drawImage(javafx.scene.image.Image, double, double) drawImage()}
+     * at each position, except that the batch is recorded and rendered as a
+     * single operation: a blend mode other than {@code SRC_OVER} or an
+     * effect is applied to the combined result of all the copies rather
+     * than to each one of them.
+     * </p>
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#image-attr">image</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param img the image to be drawn or null.
+     * @param xy array containing the x and y coordinates of the upper left
+     *           corner of each copy, one after the other, or null.
+     * @param count the number of copies to draw.
+     * @throws IndexOutOfBoundsException if the array holds fewer than
+     *         {@code count} positions
+     * @since 25
+     */
+    public void drawImages(Image img, double xy[], int count) {
+        if (img == null) return;
+        writeSprites(img, 0, 0, img.getWidth(), img.getHeight(), xy, count);
+    }
+
+    /**
+     * Draws a batch of copies of the specified source rectangle of an image,
+     * such as a sprite of a sprite sheet, each at its own position and with
+     * the size of the source rectangle.
+     * A {@code null} image, a {@code null} array or an image still in
+     * progress will be ignored.
+     * <p>
+     * The result is the same as calling
+     * {@link #drawImage(javafx.scene.image.Image, double, double, double, double, double, double, double, double) drawImage()}
+     * for each copy, except that the batch is recorded and rendered as a
+     * single operation: a blend mode other than {@code SRC_OVER} or an
+     * effect is applied to the combined result of all the copies rather
+     * than to each one of them.
+     * </p>
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#image-attr">image</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param img the image to be drawn or null.
+     * @param sx the source rectangle's X coordinate position.
+     * @param sy the source rectangle's Y coordinate position.
+     * @param sw the source rectangle's width.
+     * @param sh the source rectangle's height.
+     * @param xy array containing the x and y coordinates of the upper left
+     *           corner of each copy, one after the other, or null.
+     * @param count the number of copies to draw.
+     * @throws IndexOutOfBoundsException if the array holds fewer than
+     *         {@code count} positions
+     * @since 25
+     */
+    public void drawImages(Image img,
+                           double sx, double sy, double sw, double sh,
+                           double xy[], int count)
+    {
+        writeSprites(img, sx, sy, sw, sh, xy, count);
+    }
+
     private PixelWriter writer;
     /**
      * Returns a {@link PixelWriter} object that can be used to modify
@@ -3011,4 +3258,131 @@ public final class GraphicsContext {
         EffectHelper.sync(effect);
         buf.putObject(EffectHelper.getPeer(effect));
     }
+
+    /**
+     * Starts recording the named layer of the canvas, replacing any
+     * commands previously recorded for that layer.
+     * <p>
+     * A layer is a retained list of rendering commands that is rendered
+     * once into its own cached image and can then be drawn into the canvas
+     * any number of times with {@link #drawLayer(java.lang.String)}
+     * without issuing its commands again. Layers are only re-rendered
+     * when they are recorded again, which makes them suitable for content
+     * that changes much less often than the rest of the canvas, such as
+     * the background and axes of a live plot.
+     * </p>
+     * <p>
+     * Until the matching call to {@link #endLayer()}, all rendering
+     * operations and {@link #getPixelWriter() PixelWriter} methods of this
+     * {@code GraphicsContext} are recorded into the layer instead of
+     * being applied to the canvas. Recording starts with the default value
+     * of all rendering attributes, an empty path, an identity transform and
+     * no clip, covering the size of the canvas; the attributes and path of
+     * the canvas are restored by {@code endLayer()}. When the canvas is resized, its
+     * layers are rendered again from their commands at the new size.
+     * </p>
+     *
+     * @param name the name of the layer
+     * @throws NullPointerException if {@code name} is null
+     * @throws IllegalStateException if a layer is already being recorded
+     * @since 25
+     */
+    public void beginLayer(String name) {
+        Objects.requireNonNull(name, "name cannot be null");
+        if (layerBuf != null) {
+            throw new IllegalStateException("Layer " + layerName + " is already being recorded");
+        }
+        canvasPath = path;
+        canvasPathDirty = pathDirty;
+        canvasState = curState;
+        canvasStateStack = stateStack;
+        canvasClipStack = clipStack;
+        canvasTxdirty = txdirty;
+        path = new Path2D();
+        curState = new State();
+        stateStack = new LinkedList<>();
+        clipStack = new LinkedList<>();
+        txdirty = true;
+        pathDirty = true;
+        layerName = name;
+        layerBuf = GrowableDataBuffer.getBuffer(Canvas.DEFAULT_VAL_BUF_SIZE,
+                                                Canvas.DEFAULT_OBJ_BUF_SIZE);
+        layerBuf.putByte(NGCanvas.RESET);
+        writeDimensions(layerBuf);
+    }
+
+    /**
+     * Ends the recording of the layer started by
+     * {@link #beginLayer(java.lang.String)} and restores the rendering
+     * attributes, path, transform and clip that were in effect before it.
+     * The canvas does not change until the layer is drawn with
+     * {@link #drawLayer(java.lang.String)}.
+     *
+     * @throws IllegalStateException if no layer is being recorded
+     * @since 25
+     */
+    public void endLayer() {
+        if (layerBuf == null) {
+            throw new IllegalStateException("No layer is being recorded");
+        }
+        theCanvas.setLayer(layerName, layerBuf);
+        layerName = null;
+        layerBuf = null;
+        path = canvasPath;
+        curState = canvasState;
+        stateStack = canvasStateStack;
+        clipStack = canvasClipStack;
+        txdirty = canvasTxdirty;
+        pathDirty = canvasPathDirty;
+        canvasPath = null;
+        canvasState = null;
+        canvasStateStack = null;
+        canvasClipStack = null;
+    }
+
+    /**
+     * Draws the named layer into the canvas, with its upper left corner
+     * at the origin of the current transform.
+     * Unknown layer names are ignored.
+     * <p>
+     * The layer is drawn with the commands it holds when the canvas is
+     * next rendered, so if a layer is recorded again after this call but
+     * before the next pulse, the new commands are drawn instead.
+     * </p>
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#image-attr">image</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param name the name of the layer
+     * @throws IllegalStateException if a layer is being recorded
+     * @since 25
+     */
+    public void drawLayer(String name) {
+        if (layerBuf != null) {
+            throw new IllegalStateException("Layers cannot be drawn while recording layer " + layerName);
+        }
+        if (name == null || !theCanvas.hasLayer(name)) return;
+        updateTransform();
+        GrowableDataBuffer buf = getBuffer();
+        buf.putByte(NGCanvas.DRAW_LAYER);
+        buf.putObject(name);
+    }
+
+    /**
+     * Discards the named layer and the resources held for it.
+     * Unknown layer names are ignored.
+     * The pixels of the canvas that were drawn from the layer are not
+     * affected.
+     *
+     * @param name the name of the layer
+     * @since 25
+     */
+    public void removeLayer(String name) {
+        if (name == null) return;
+        theCanvas.removeLayer(name);
+    }
 }
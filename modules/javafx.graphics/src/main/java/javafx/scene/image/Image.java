@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,9 +32,11 @@ import java.net.URL;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
 import java.util.regex.Pattern;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -50,6 +52,7 @@ import javafx.beans.property.ReadOnlyObjectPropertyBase;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
+import com.sun.javafx.iio.ImageStorage;
 import com.sun.javafx.runtime.async.AsyncOperation;
 import com.sun.javafx.runtime.async.AsyncOperationListener;
 import com.sun.javafx.tk.ImageLoader;
@@ -937,16 +940,26 @@ public class Image {
         }
     }
 
-    private void cycleTasks() {
+    private static void cycleTasks(ImageTask task) {
         synchronized (pendingTasks) {
+            if (pendingTasks.remove(task)) {
+                // the task was cancelled before it started
+                return;
+            }
             runningTasks--;
+            task.releasePermit();
             // do we have any pending tasks to run ?
             // we can assume we are under the throttle limit because
-            // one task just completed.
-            final ImageTask nextTask = pendingTasks.poll();
-            if (nextTask != null) {
-                runningTasks++;
-                nextTask.start();
+            // one task just completed, but the format of the next task
+            // may be limited as well.
+            for (Iterator<ImageTask> i = pendingTasks.iterator(); i.hasNext(); ) {
+                ImageTask nextTask = i.next();
+                if (nextTask.acquirePermit()) {
+                    i.remove();
+                    runningTasks++;
+                    nextTask.start();
+                    break;
+                }
             }
         }
     }
@@ -956,11 +969,13 @@ public class Image {
         // This is an artificial throttle on background image loading tasks.
         // It has been shown that with large images, we can quickly use up the
         // heap loading images, even if they result in thumbnails.
-        // The limit of MAX_RUNNING_TASKS is arbitrary, and was based on initial
-        // testing with
-        // about 60 2-6 megapixel images.
+        // The limit of MAX_RUNNING_TASKS defaults to 4, which was based on
+        // initial testing with about 60 2-6 megapixel images, and matches the
+        // number of threads that decode images in the background. Images of
+        // a format limited with javafx.iio.decodingThreads.<format> also wait
+        // for their format, without holding up images of other formats.
         synchronized (pendingTasks) {
-            if (runningTasks >= MAX_RUNNING_TASKS) {
+            if (runningTasks >= MAX_RUNNING_TASKS || !backgroundTask.acquirePermit()) {
                 pendingTasks.offer(backgroundTask);
             } else {
                 runningTasks++;
@@ -1014,7 +1029,7 @@ public class Image {
         platformImage.set(newPlatformImage);
     }
 
-    private static final int MAX_RUNNING_TASKS = 4;
+    private static final int MAX_RUNNING_TASKS = ImageStorage.DECODING_THREADS;
     private static int runningTasks = 0;
     private static final Queue<ImageTask> pendingTasks =
             new LinkedList<>();
@@ -1024,26 +1039,58 @@ public class Image {
 
         private final AsyncOperation peer;
 
+        // limits the number of images of this format loaded at the same time
+        private final Semaphore permits;
+        // guarded by pendingTasks
+        private boolean holdsPermit;
+
         public ImageTask() {
             peer = constructPeer();
+            permits = ImageStorage.getInstance().getDecodingPermits(url);
+        }
+
+        boolean acquirePermit() {
+            if (permits == null) {
+                return true;
+            }
+            holdsPermit = permits.tryAcquire();
+            return holdsPermit;
+        }
+
+        void releasePermit() {
+            if (holdsPermit) {
+                holdsPermit = false;
+                permits.release();
+            }
         }
 
         @Override
         public void onCancel() {
             finishImage(new CancellationException("Loading cancelled"));
-            cycleTasks();
+            cycleTasks(this);
         }
 
         @Override
         public void onException(Exception exception) {
             finishImage(exception);
-            cycleTasks();
+            cycleTasks(this);
         }
 
         @Override
         public void onCompletion(ImageLoader value) {
             finishImage(value);
-            cycleTasks();
+            cycleTasks(this);
+        }
+
+        @Override
+        public void onUpdate(ImageLoader value) {
+            // show the part of the image that is loaded so far
+            if (value.getException() == null && value.getFrameCount() > 0) {
+                PlatformImage pi = value.getFrame(0);
+                double w = value.getWidth() / pi.getPixelScale();
+                double h = value.getHeight() / pi.getPixelScale();
+                setPlatformImageWH(pi, w, h);
+            }
         }
 
         @Override
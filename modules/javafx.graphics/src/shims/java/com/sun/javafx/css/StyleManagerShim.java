@@ -1,6 +1,7 @@
 package com.sun.javafx.css;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javafx.css.PseudoClass;
 import javafx.css.Styleable;
@@ -13,7 +14,7 @@ import javafx.scene.SubScene;
 
 
 /*
- * Copyright (c) 2015, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -61,6 +62,18 @@ public class StyleManagerShim {
         sm.cacheContainerMap.clear();
     }
 
+    public void matchCache_clear() {
+        sm.matchCache.clear();
+    }
+
+    public int matchCache_matchCount() {
+        int count = 0;
+        for (Map<?, ?> matches : sm.matchCache.values()) {
+            count += matches.size();
+        }
+        return count;
+    }
+
     public int platformUserAgentStylesheetContainers_indexOf(String fname) {
         return indexOf(sm.platformUserAgentStylesheetContainers, fname);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -47,10 +47,12 @@ import javafx.scene.shape.Rectangle;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -76,6 +78,7 @@ public class StyleManagerTest {
         sm.platformUserAgentStylesheetContainers_clear();
         sm.stylesheetContainerMap_clear();
         sm.cacheContainerMap_clear();
+        sm.matchCache_clear();
         sm.set_hasDefaultUserAgentStylesheet(false);
     }
 
@@ -1174,4 +1177,90 @@ public class StyleManagerTest {
             Application.setUserAgentStylesheet("data:,");
         }
     }
+
+    private static final String FORM_STYLESHEET = "data:base64," + Base64.getEncoder().encodeToString(
+            ".form .field { -fx-fill: red; } .field { -fx-fill: blue; }".getBytes());
+
+    private static Group createForm(int rows) {
+        Group form = new Group();
+        form.getStyleClass().add("form");
+        for (int i = 0; i < rows; i++) {
+            Rectangle field = new Rectangle();
+            field.getStyleClass().add("field");
+            form.getChildren().add(new Group(field));
+        }
+        return form;
+    }
+
+    private static void assertFieldFill(Group form, Color expected) {
+        for (var row : form.getChildren()) {
+            assertEquals(expected, ((Rectangle) ((Group) row).getChildren().get(0)).getFill());
+        }
+    }
+
+    @Test
+    public void testMatchesAreSharedByIdenticalSubtrees() {
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        Group form = createForm(50);
+        Rectangle outside = new Rectangle();
+        outside.getStyleClass().add("field");
+        Scene scene = new Scene(new StackPane(form, outside));
+        scene.getStylesheets().add(FORM_STYLESHEET);
+        scene.getRoot().applyCss();
+
+        assertFieldFill(form, Color.RED);
+        assertEquals(Color.BLUE, outside.getFill());
+        // one chain for the fields in the form, and one for the field outside
+        assertEquals(2, sm.matchCache_matchCount());
+    }
+
+    @Test
+    public void testMatchesAreReusedInAnotherScene() throws Exception {
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+
+        // apply CSS to a form in a scene that is not shown, on another thread
+        AtomicReference<Group> formRef = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            Group form = createForm(10);
+            Scene offscreen = new Scene(new StackPane(form));
+            offscreen.getStylesheets().add(FORM_STYLESHEET);
+            offscreen.getRoot().applyCss();
+            formRef.set(form);
+        });
+        thread.start();
+        thread.join();
+
+        Group form = formRef.get();
+        assertFieldFill(form, Color.RED);
+        assertEquals(1, sm.matchCache_matchCount());
+
+        ((StackPane) form.getParent()).getChildren().clear();
+        Scene scene = new Scene(new StackPane(form));
+        scene.getStylesheets().add(FORM_STYLESHEET);
+        scene.getRoot().applyCss();
+
+        assertFieldFill(form, Color.RED);
+        assertEquals(1, sm.matchCache_matchCount());
+
+        // a different ancestor does not reuse the matches
+        form.getStyleClass().clear();
+        scene.getRoot().applyCss();
+        assertFieldFill(form, Color.BLUE);
+        assertEquals(2, sm.matchCache_matchCount());
+    }
+
+    @Test
+    public void testMatchesAreDroppedWhenTheStylesheetIsRemoved() {
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        Group form = createForm(10);
+        Scene scene = new Scene(new StackPane(form));
+        scene.getStylesheets().add(FORM_STYLESHEET);
+        scene.getRoot().applyCss();
+
+        assertFieldFill(form, Color.RED);
+        assertEquals(1, sm.matchCache_matchCount());
+
+        scene.getStylesheets().remove(FORM_STYLESHEET);
+        assertEquals(0, sm.matchCache_matchCount());
+    }
 }
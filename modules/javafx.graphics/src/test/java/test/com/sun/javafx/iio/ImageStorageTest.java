@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -44,6 +44,11 @@ import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -374,4 +379,57 @@ public class ImageStorageTest {
 
         assertSame(expectedImage, actualImage);
     }
+
+    @Test
+    public void testDecodingPermitsPerFormat() throws Exception {
+        var limitedFormat = new ImageFormatDescription() {
+            @Override public String getFormatName() { return "LIMITED"; }
+            @Override public List<String> getExtensions() { return List.of("limited"); }
+            @Override public List<Signature> getSignatures() { return Collections.emptyList(); }
+            @Override public List<String> getMIMESubtypes() { return List.of("limited"); }
+        };
+
+        var image = new ImageFrame(ImageStorage.ImageType.RGBA_PRE, ByteBuffer.wrap(new byte[0]),
+            0, 0, 0, null);
+
+        class TestFactory implements ImageLoaderFactory {
+            @Override public ImageFormatDescription getFormatDescription() { return limitedFormat; }
+            @Override public ImageLoader createImageLoader(InputStream input) {
+                return new ImageLoaderImpl(limitedFormat) {
+                    @Override public void dispose() {}
+                    @Override public ImageFrame load(int i, double w, double h, boolean p, boolean s, float s0, float s1) {
+                        return i == 0 ? image : null;
+                    }
+                };
+            }
+        }
+
+        var imageStorage = new ImageStorage();
+        imageStorage.addImageLoaderFactory(new TestFactory());
+
+        System.setProperty("javafx.iio.decodingThreads.limited", "1");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Semaphore permits = imageStorage.getDecodingPermits("file:/images/image.LIMITED?size=1#top");
+            assertNotNull(permits);
+            assertEquals(1, permits.availablePermits());
+            assertSame(permits, imageStorage.getDecodingPermits("data:image/limited;base64,"));
+            assertNull(imageStorage.getDecodingPermits("file:/images.limited/image"));
+            assertNull(imageStorage.getDecodingPermits("file:/images/image.png"));
+
+            // loading an image never waits for the permits of its format,
+            // they only limit the number of images loaded in the background
+            assertTrue(permits.tryAcquire());
+            try {
+                Future<ImageFrame[]> result = executor.submit(() -> imageStorage.loadAll(
+                    "data:image/limited;base64,", null, 0, 0, false, 1, false));
+                assertSame(image, result.get(10, TimeUnit.SECONDS)[0]);
+            } finally {
+                permits.release();
+            }
+        } finally {
+            executor.shutdown();
+            System.clearProperty("javafx.iio.decodingThreads.limited");
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,16 +25,29 @@
 
 package test.com.sun.javafx.iio.png;
 
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageLoadListener;
+import com.sun.javafx.iio.ImageLoader;
+import com.sun.javafx.iio.ImageMetadata;
+import com.sun.javafx.iio.common.ImageTools;
 import com.sun.javafx.iio.png.PNGImageLoader2;
 import test.com.sun.javafx.iio.ImageTestHelper;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class PNGImageLoaderTest {
 
@@ -86,4 +99,87 @@ public class PNGImageLoaderTest {
             testImage(stream);
         });
     }
+
+    @Test
+    public void testRowUpdates() throws IOException {
+        testRowUpdates(new BufferedImage(64, 300, BufferedImage.TYPE_INT_RGB));
+    }
+
+    @Test
+    public void testPaletteRowUpdates() throws IOException {
+        testRowUpdates(new BufferedImage(64, 300, BufferedImage.TYPE_BYTE_INDEXED));
+    }
+
+    private void testRowUpdates(BufferedImage bImg) throws IOException {
+        ImageTestHelper.drawImageRandom(bImg);
+        PNGImageLoader2 loader = new PNGImageLoader2(ImageTestHelper.writeImageToStream(bImg, "png", null));
+
+        List<int[]> updates = new ArrayList<>();
+        List<byte[]> decodedRows = new ArrayList<>();
+        loader.addListener(new ImageLoadListener() {
+            @Override public void imageLoadProgress(ImageLoader l, float p) {}
+            @Override public void imageLoadWarning(ImageLoader l, String message) {}
+            @Override public void imageLoadMetaData(ImageLoader l, ImageMetadata metadata) {}
+
+            @Override
+            public void imageLoadUpdate(ImageLoader l, ImageFrame frame, int firstRow, int rowCount) {
+                assertEquals(64, frame.getWidth());
+                assertEquals(300, frame.getHeight());
+                updates.add(new int[] { firstRow, rowCount });
+                ByteBuffer data = (ByteBuffer) frame.getImageData();
+                byte[] rows = new byte[(firstRow + rowCount) * frame.getStride()];
+                data.get(0, rows);
+                decodedRows.add(rows);
+            }
+        });
+
+        ImageFrame image = loader.load(0, 0, 0, true, true, 1, 1);
+        byte[] pixels = ((ByteBuffer) image.getImageData()).array();
+
+        assertTrue(updates.size() > 1);
+        int nextRow = 0;
+        for (int i = 0; i < updates.size(); i++) {
+            int[] update = updates.get(i);
+            assertEquals(nextRow, update[0]);
+            assertTrue(update[1] > 0);
+            nextRow = update[0] + update[1];
+
+            byte[] rows = decodedRows.get(i);
+            assertArrayEquals(Arrays.copyOf(pixels, rows.length), rows);
+        }
+        assertTrue(nextRow < 300);
+    }
+
+    private void testScaledLoad(BufferedImage bImg, boolean smooth) throws IOException {
+        byte[] encoded = ImageTestHelper.writeImageToStream(bImg, "png", null).readAllBytes();
+
+        ImageFrame full = new PNGImageLoader2(new ByteArrayInputStream(encoded))
+                .load(0, 0, 0, true, smooth, 1, 1);
+        ImageFrame expected = ImageTools.scaleImageFrame(full, 16, 75, smooth);
+        ImageFrame scaled = new PNGImageLoader2(new ByteArrayInputStream(encoded))
+                .load(0, 16, 75, false, smooth, 1, 1);
+
+        assertEquals(expected.getImageType(), scaled.getImageType());
+        assertEquals(16, scaled.getWidth());
+        assertEquals(75, scaled.getHeight());
+        assertEquals(expected.getStride(), scaled.getStride());
+        assertArrayEquals(((ByteBuffer) expected.getImageData()).array(),
+                ((ByteBuffer) scaled.getImageData()).array());
+    }
+
+    @Test
+    public void testScaledLoadRGB() throws IOException {
+        BufferedImage bImg = new BufferedImage(64, 300, BufferedImage.TYPE_INT_RGB);
+        ImageTestHelper.drawImageRandom(bImg);
+        testScaledLoad(bImg, true);
+        testScaledLoad(bImg, false);
+    }
+
+    @Test
+    public void testScaledLoadPalette() throws IOException {
+        BufferedImage bImg = new BufferedImage(64, 300, BufferedImage.TYPE_BYTE_INDEXED);
+        ImageTestHelper.drawImageHue(bImg);
+        testScaledLoad(bImg, true);
+        testScaledLoad(bImg, false);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -84,4 +84,8 @@ public class StubAsyncImageLoader implements AsyncOperation {
     public void setProgress(final int cur, final int max) {
         listener.onProgress(cur, max);
     }
+
+    public void update(final ImageLoader partialImageLoader) {
+        listener.onUpdate(partialImageLoader);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,9 +26,15 @@
 package test.com.sun.javafx.sg.prism;
 
 import com.sun.javafx.sg.prism.GrowableDataBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -413,4 +419,69 @@ public class GrowableDataBufferTest {
         assertFalse(gdb.hasValues());
         assertFalse(gdb.hasObjects());
     }
+
+    @Test public void testPoolReuse() {
+        GrowableDataBuffer gdb = GrowableDataBuffer.getBuffer(5000, 10);
+        fill(gdb, true, true);
+        GrowableDataBuffer.returnBuffer(gdb);
+        GrowableDataBuffer gdb2 = GrowableDataBuffer.getBuffer(4500, 20);
+        assertSame(gdb, gdb2);
+        assertTrue(gdb2.isEmpty());
+        assertFalse(gdb2.hasObjects());
+        assertTrue(gdb2.objectCapacity() >= 20);
+        GrowableDataBuffer.returnBuffer(gdb2);
+    }
+
+    @Test public void testPoolSizeClasses() {
+        GrowableDataBuffer small = GrowableDataBuffer.getBuffer(100);
+        GrowableDataBuffer large = GrowableDataBuffer.getBuffer(50000);
+        GrowableDataBuffer.returnBuffer(small);
+        GrowableDataBuffer.returnBuffer(large);
+        // A small buffer is never handed out for a large request
+        GrowableDataBuffer gdb = GrowableDataBuffer.getBuffer(40000);
+        assertTrue(gdb.valueCapacity() >= 40000);
+        GrowableDataBuffer.returnBuffer(gdb);
+    }
+
+    @Test public void testStatistics() {
+        long grows = GrowableDataBuffer.getGrowCount();
+        GrowableDataBuffer gdb = GrowableDataBuffer.getBuffer(0, 0);
+        int capacity = gdb.valueCapacity();
+        for (int i = 0; i <= capacity; i++) {
+            gdb.putByte((byte) i);
+        }
+        int objcapacity = gdb.objectCapacity();
+        for (int i = 0; i <= objcapacity; i++) {
+            gdb.putObject(gdb);
+        }
+        assertTrue(GrowableDataBuffer.getGrowCount() >= grows + 2);
+        GrowableDataBuffer.returnBuffer(gdb);
+        assertTrue(GrowableDataBuffer.getHighWaterMark() > capacity);
+    }
+
+    @Test public void testConcurrentPool() throws Exception {
+        Map<GrowableDataBuffer, Thread> inUse = new ConcurrentHashMap<>();
+        AtomicBoolean shared = new AtomicBoolean();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    GrowableDataBuffer gdb = GrowableDataBuffer.getBuffer(100 + (i % 7) * 1000, 10);
+                    if (inUse.putIfAbsent(gdb, Thread.currentThread()) != null || !gdb.isEmpty()) {
+                        shared.set(true);
+                    }
+                    fill(gdb, true, true);
+                    test(gdb, true, true);
+                    inUse.remove(gdb);
+                    GrowableDataBuffer.returnBuffer(gdb);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(shared.get());
+    }
 }
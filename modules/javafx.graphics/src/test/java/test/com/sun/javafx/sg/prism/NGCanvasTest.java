@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.javafx.sg.prism;
+
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.sg.prism.GrowableDataBuffer;
+import com.sun.javafx.sg.prism.NGCanvas;
+import com.sun.javafx.sg.prism.NGCanvasShim;
+import com.sun.prism.RTTexture;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import test.com.sun.javafx.sg.prism.TestGraphics.TestRTTexture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class NGCanvasTest {
+
+    private NGCanvas canvas;
+    private TestGraphics graphics;
+
+    @BeforeEach
+    public void setUp() {
+        canvas = new NGCanvas();
+        canvas.updateBounds(100, 80);
+        graphics = new TestGraphics(400, 400);
+    }
+
+    private static GrowableDataBuffer stream(float width, float height) {
+        GrowableDataBuffer buf = GrowableDataBuffer.getBuffer(1024);
+        buf.putByte(NGCanvas.RESET);
+        buf.putByte(NGCanvas.SET_DIMS);
+        buf.putFloat(width);
+        buf.putFloat(height);
+        return buf;
+    }
+
+    private static GrowableDataBuffer fillRect(GrowableDataBuffer buf, float x, float y, float w, float h) {
+        buf.putByte(NGCanvas.FILL_RECT);
+        buf.putFloat(x);
+        buf.putFloat(y);
+        buf.putFloat(w);
+        buf.putFloat(h);
+        return buf;
+    }
+
+    private static GrowableDataBuffer drawLayer(GrowableDataBuffer buf, String name) {
+        buf.putByte(NGCanvas.DRAW_LAYER);
+        buf.putObject(name);
+        return buf;
+    }
+
+    private TestRTTexture render() {
+        int drawn = graphics.getDrawnTextures().size();
+        canvas.render(graphics);
+        // the canvas draws its texture into the graphics
+        assertEquals(drawn + 1, graphics.getDrawnTextures().size());
+        return (TestRTTexture) graphics.getDrawnTextures().get(drawn);
+    }
+
+    private TestRTTexture getLayerTexture(String name) {
+        return (TestRTTexture) NGCanvasShim.getLayerTexture(canvas, name);
+    }
+
+    @Test
+    public void testLayerIsRenderedOnceAndDrawnByEachDrawLayer() {
+        canvas.updateLayer("background", fillRect(stream(100, 80), 10, 10, 20, 30));
+        canvas.updateRendering(drawLayer(stream(100, 80), "background"));
+        TestRTTexture canvasTexture = render();
+
+        TestRTTexture layerTexture = getLayerTexture("background");
+        assertNotNull(layerTexture);
+        assertEquals(List.of(new RectBounds(10, 10, 30, 40)), layerTexture.getFilledRects());
+        assertEquals(List.of(layerTexture), canvasTexture.getDrawnTextures());
+
+        // an unchanged layer is drawn from its texture without being rendered again
+        canvas.updateRendering(drawLayer(drawLayer(stream(100, 80), "background"), "background"));
+        assertSame(canvasTexture, render());
+        assertSame(layerTexture, getLayerTexture("background"));
+        assertEquals(1, layerTexture.getFilledRects().size());
+        assertEquals(List.of(layerTexture, layerTexture, layerTexture), canvasTexture.getDrawnTextures());
+    }
+
+    @Test
+    public void testRedefinedLayerIsRenderedAgain() {
+        canvas.updateLayer("background", fillRect(stream(100, 80), 10, 10, 20, 30));
+        canvas.updateRendering(drawLayer(stream(100, 80), "background"));
+        render();
+
+        canvas.updateLayer("background", fillRect(stream(100, 80), 5, 6, 7, 8));
+        canvas.updateRendering(drawLayer(stream(100, 80), "background"));
+        TestRTTexture canvasTexture = render();
+
+        TestRTTexture layerTexture = getLayerTexture("background");
+        assertEquals(List.of(new RectBounds(10, 10, 30, 40), new RectBounds(5, 6, 12, 14)),
+                     layerTexture.getFilledRects());
+        assertEquals(layerTexture, canvasTexture.getDrawnTextures().get(canvasTexture.getDrawnTextures().size() - 1));
+    }
+
+    @Test
+    public void testRemovedLayerIsNotDrawn() {
+        canvas.updateLayer("background", fillRect(stream(100, 80), 10, 10, 20, 30));
+        canvas.updateRendering(drawLayer(stream(100, 80), "background"));
+        TestRTTexture canvasTexture = render();
+        RTTexture removedTexture = getLayerTexture("background");
+
+        canvas.removeLayer("background");
+        assertNull(getLayerTexture("background"));
+        canvas.updateRendering(drawLayer(stream(100, 80), "background"));
+        assertSame(canvasTexture, render());
+        assertEquals(List.of(removedTexture), canvasTexture.getDrawnTextures());
+
+        // a layer recorded again with the same name is a new layer
+        canvas.updateLayer("background", fillRect(stream(100, 80), 5, 6, 7, 8));
+        canvas.updateRendering(drawLayer(stream(100, 80), "background"));
+        render();
+        TestRTTexture layerTexture = getLayerTexture("background");
+        assertNotSame(removedTexture, layerTexture);
+        assertEquals(List.of(new RectBounds(5, 6, 12, 14)), layerTexture.getFilledRects());
+        assertEquals(List.of(removedTexture, layerTexture), canvasTexture.getDrawnTextures());
+    }
+
+    @Test
+    public void testLayerIsRenderedAgainWhenTheCanvasIsResized() {
+        canvas.updateLayer("background", fillRect(stream(100, 80), 10, 10, 20, 30));
+        canvas.updateRendering(drawLayer(stream(100, 80), "background"));
+        render();
+        TestRTTexture smallTexture = getLayerTexture("background");
+
+        canvas.updateBounds(150, 120);
+        canvas.updateRendering(drawLayer(stream(150, 120), "background"));
+        TestRTTexture canvasTexture = render();
+
+        TestRTTexture layerTexture = getLayerTexture("background");
+        assertNotSame(smallTexture, layerTexture);
+        assertEquals(canvasTexture.getContentWidth(), layerTexture.getContentWidth());
+        assertEquals(canvasTexture.getContentHeight(), layerTexture.getContentHeight());
+        assertEquals(List.of(new RectBounds(10, 10, 30, 40)), layerTexture.getFilledRects());
+        assertEquals(layerTexture, canvasTexture.getDrawnTextures().get(canvasTexture.getDrawnTextures().size() - 1));
+    }
+}
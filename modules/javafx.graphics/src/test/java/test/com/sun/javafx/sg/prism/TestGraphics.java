@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,8 @@
 package test.com.sun.javafx.sg.prism;
 
 import java.nio.Buffer;
+import java.util.ArrayList;
+import java.util.List;
 import com.sun.glass.ui.Screen;
 import com.sun.javafx.font.FontStrike;
 import com.sun.javafx.geom.RectBounds;
@@ -68,12 +70,34 @@ public class TestGraphics extends BaseGraphics {
         this(0, 0);
     }
 
+    // The textures drawn and the bounds of the rectangles and shapes filled
+    // with this graphics, which are shared by all the graphics of a texture
+    private final List<Texture> drawnTextures;
+    private final List<RectBounds> filledRects;
+
     public TestGraphics(int width, int height) {
+        this(width, height, new ArrayList<>(), new ArrayList<>());
+    }
+
+    private TestGraphics(int width, int height, List<Texture> drawnTextures, List<RectBounds> filledRects) {
         super(new TestContext(), new TestRenderTarget(width, height));
+        this.drawnTextures = drawnTextures;
+        this.filledRects = filledRects;
+    }
+
+    public List<Texture> getDrawnTextures() {
+        return drawnTextures;
+    }
+
+    public List<RectBounds> getFilledRects() {
+        return filledRects;
     }
 
     @Override
     protected void renderShape(Shape shape, BasicStroke stroke, float bx, float by, float bw, float bh) {
+        if (stroke == null) {
+            filledRects.add(shape.getBounds());
+        }
     }
 
     @Override
@@ -90,6 +114,7 @@ public class TestGraphics extends BaseGraphics {
 
     @Override
     public void fillRect(float x, float y, float width, float height) {
+        filledRects.add(new RectBounds(x, y, x + width, y + height));
     }
 
     @Override
@@ -124,10 +149,12 @@ public class TestGraphics extends BaseGraphics {
     }
 
     @Override public void drawTexture(Texture tex, float x, float y, float w, float h) {
+        drawnTextures.add(tex);
     }
 
     @Override
     public void drawTexture(Texture tex, float dx1, float dy1, float dx2, float dy2, float sx1, float sy1, float sx2, float sy2) {
+        drawnTextures.add(tex);
     }
 
     @Override
@@ -195,6 +222,76 @@ public class TestGraphics extends BaseGraphics {
         }
     }
 
+    /**
+     * A render target texture that records what is rendered into it.
+     */
+    public static final class TestRTTexture implements RTTexture {
+        private final int width;
+        private final int height;
+        private final List<Texture> drawnTextures = new ArrayList<>();
+        private final List<RectBounds> filledRects = new ArrayList<>();
+
+        TestRTTexture(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        public List<Texture> getDrawnTextures() {
+            return drawnTextures;
+        }
+
+        public List<RectBounds> getFilledRects() {
+            return filledRects;
+        }
+
+        @Override public int[] getPixels() { return new int[0]; }
+        @Override public boolean readPixels(Buffer pixels, int x, int y, int width, int height) { return false; }
+        @Override public boolean readPixels(Buffer pixels) { return false; }
+        @Override public boolean isVolatile() { return false; }
+        @Override public boolean isSurfaceLost() { return false; }
+        @Override public Screen getAssociatedScreen() { return null; }
+        @Override public Graphics createGraphics() {
+            return new TestGraphics(width, height, drawnTextures, filledRects);
+        }
+
+        @Override public Texture getSharedTexture(WrapMode altMode) { return null; }
+        @Override public boolean isOpaque() { return false; }
+        @Override public PixelFormat getPixelFormat() { return null; }
+        @Override public int getPhysicalWidth() { return width; }
+        @Override public int getPhysicalHeight() { return height; }
+        @Override public int getContentX() { return 0; }
+        @Override public int getContentY() { return 0; }
+        @Override public int getContentWidth() { return width; }
+        @Override public int getContentHeight() { return height; }
+        @Override public int getLastImageSerial() { return 0; }
+        @Override public void setLastImageSerial(int serial) { }
+        @Override public void update(Image img) { }
+        @Override public void update(Image img, int dstx, int dsty) { }
+        @Override public void update(Image img, int dstx, int dsty, int srcw, int srch) { }
+        @Override public void update(Image img, int dstx, int dsty, int srcw, int srch, boolean skipFlush) { }
+        @Override public void update(Buffer buffer, PixelFormat format, int dstx, int dsty, int srcx, int srcy, int srcw, int srch, int srcscan, boolean skipFlush) { }
+        @Override public void update(MediaFrame frame, boolean skipFlush) { }
+        @Override public WrapMode getWrapMode() { return null; }
+        @Override public boolean getLinearFiltering() { return false; }
+        @Override public void setLinearFiltering(boolean linear) { }
+        @Override public void dispose() { }
+        @Override public void lock() { }
+        @Override public void unlock() { }
+        @Override public boolean isLocked() { return true; }
+        @Override public int getLockCount() { return 1; }
+        @Override public void assertLocked() { }
+        @Override public void makePermanent() { }
+        @Override public void contentsUseful() { }
+        @Override public void contentsNotUseful() { }
+        @Override public void setOpaque(boolean opaque) { }
+        @Override public boolean isMSAA() { return false; }
+        @Override public int getMaxContentWidth() { return getPhysicalWidth(); }
+        @Override public int getMaxContentHeight() { return getPhysicalHeight(); }
+        @Override public void setContentWidth(int contentWidth) { }
+        @Override public void setContentHeight(int contentHeight) { }
+        @Override public boolean getUseMipmap() { return false; }
+    }
+
     private static class TestResourceFactory implements ResourceFactory {
         @Override public boolean isDeviceReady() { return true; }
         @Override public boolean isDisposed() { return false; }
@@ -219,54 +316,7 @@ public class TestGraphics extends BaseGraphics {
             return createRTTexture(width, height, wrapMode, false);
         }
         @Override public RTTexture createRTTexture(final int width, final int height, Texture.WrapMode wrapMode, boolean msaa) {
-            return new RTTexture() {
-                @Override public int[] getPixels() { return new int[0]; }
-                @Override public boolean readPixels(Buffer pixels, int x, int y, int width, int height) { return false; }
-                @Override public boolean readPixels(Buffer pixels) { return false; }
-                @Override public boolean isVolatile() { return false; }
-                @Override public boolean isSurfaceLost() { return false; }
-                @Override public Screen getAssociatedScreen() { return null; }
-                @Override public Graphics createGraphics() {
-                    return new TestGraphics();
-                }
-
-                @Override public Texture getSharedTexture(WrapMode altMode) { return null; }
-                @Override public boolean isOpaque() { return false; }
-                @Override public PixelFormat getPixelFormat() { return null; }
-                @Override public int getPhysicalWidth() { return width; }
-                @Override public int getPhysicalHeight() { return height; }
-                @Override public int getContentX() { return 0; }
-                @Override public int getContentY() { return 0; }
-                @Override public int getContentWidth() { return width; }
-                @Override public int getContentHeight() { return height; }
-                @Override public int getLastImageSerial() { return 0; }
-                @Override public void setLastImageSerial(int serial) { }
-                @Override public void update(Image img) { }
-                @Override public void update(Image img, int dstx, int dsty) { }
-                @Override public void update(Image img, int dstx, int dsty, int srcw, int srch) { }
-                @Override public void update(Image img, int dstx, int dsty, int srcw, int srch, boolean skipFlush) { }
-                @Override public void update(Buffer buffer, PixelFormat format, int dstx, int dsty, int srcx, int srcy, int srcw, int srch, int srcscan, boolean skipFlush) { }
-                @Override public void update(MediaFrame frame, boolean skipFlush) { }
-                @Override public WrapMode getWrapMode() { return null; }
-                @Override public boolean getLinearFiltering() { return false; }
-                @Override public void setLinearFiltering(boolean linear) { }
-                @Override public void dispose() { }
-                @Override public void lock() { }
-                @Override public void unlock() { }
-                @Override public boolean isLocked() { return true; }
-                @Override public int getLockCount() { return 1; }
-                @Override public void assertLocked() { }
-                @Override public void makePermanent() { }
-                @Override public void contentsUseful() { }
-                @Override public void contentsNotUseful() { }
-                @Override public void setOpaque(boolean opaque) { }
-                @Override public boolean isMSAA() { return false; }
-                @Override public int getMaxContentWidth() { return getPhysicalWidth(); }
-                @Override public int getMaxContentHeight() { return getPhysicalHeight(); }
-                @Override public void setContentWidth(int contentWidth) { }
-                @Override public void setContentHeight(int contentHeight) { }
-                @Override public boolean getUseMipmap() { return false; }
-            };
+            return new TestRTTexture(width, height);
         }
         @Override public Presentable createPresentable(PresentableState pstate) { return null; }
         @Override public ShapeRep createPathRep() { return null; }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.text;
+
+import com.sun.javafx.font.PGFont;
+import com.sun.javafx.text.StringLayoutCacheShim;
+import org.junit.jupiter.api.Test;
+import test.com.sun.javafx.pgstub.StubFontLoader.StubFont;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringLayoutCacheTest {
+
+    private final PGFont font = new StubFont();
+
+    private Object key(String text) {
+        return key(text, font);
+    }
+
+    private Object key(String text, PGFont font) {
+        // PrismTextLayout.setContent creates a new array for every string
+        return StringLayoutCacheShim.newKey(text.toCharArray(), font);
+    }
+
+    @Test
+    public void testMissReturnsNull() {
+        StringLayoutCacheShim cache = new StringLayoutCacheShim(100);
+        assertNull(cache.get(key("Hello")));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testHitReturnsCachedLayout() {
+        StringLayoutCacheShim cache = new StringLayoutCacheShim(100);
+        Object layout = StringLayoutCacheShim.newLayout();
+        cache.put(key("Hello"), layout);
+        assertSame(layout, cache.get(key("Hello")));
+        assertNull(cache.get(key("Hello!")));
+        assertNull(cache.get(key("Hello", new StubFont())));
+    }
+
+    @Test
+    public void testPutKeepsFirstLayout() {
+        StringLayoutCacheShim cache = new StringLayoutCacheShim(100);
+        Object first = StringLayoutCacheShim.newLayout();
+        cache.put(key("Hello"), first);
+        cache.put(key("Hello"), StringLayoutCacheShim.newLayout());
+        assertSame(first, cache.get(key("Hello")));
+        assertEquals(5, cache.size());
+    }
+
+    @Test
+    public void testKeyEqualityUsesTextContents() {
+        char[] text = {'a', 'b', 'c'};
+        Object a = StringLayoutCacheShim.newKey(text, font);
+        Object b = StringLayoutCacheShim.newKey(text.clone(), font);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, key("abd"));
+        assertNotEquals(a, key("ab"));
+        assertNotEquals(a, key("abc", new StubFont()));
+    }
+
+    @Test
+    public void testKeyMatchesAfterSourceTextChanges() {
+        StringLayoutCacheShim cache = new StringLayoutCacheShim(100);
+        Object layout = StringLayoutCacheShim.newLayout();
+
+        // The key of the first content of a layout is stored in the cache,
+        // then the layout is given new content, and later the first one again
+        Object first = key("Hello");
+        cache.put(first, layout);
+        Object changed = key("World");
+        assertNull(cache.get(changed));
+        assertNotEquals(first, changed);
+
+        Object again = key("Hello");
+        assertEquals(first, again);
+        assertSame(layout, cache.get(again));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        StringLayoutCacheShim cache = new StringLayoutCacheShim(9);
+        Object a = StringLayoutCacheShim.newLayout();
+        Object b = StringLayoutCacheShim.newLayout();
+        Object c = StringLayoutCacheShim.newLayout();
+        Object d = StringLayoutCacheShim.newLayout();
+        cache.put(key("aaa"), a);
+        cache.put(key("bbb"), b);
+        cache.put(key("ccc"), c);
+        assertEquals(9, cache.size());
+
+        // "aaa" is the oldest entry, but it was used after "bbb" was added
+        assertSame(a, cache.get(key("aaa")));
+        cache.put(key("ddd"), d);
+
+        assertEquals(9, cache.size());
+        assertSame(a, cache.get(key("aaa")));
+        assertNull(cache.get(key("bbb")));
+        assertSame(c, cache.get(key("ccc")));
+        assertSame(d, cache.get(key("ddd")));
+    }
+
+    @Test
+    public void testSizeIsMeasuredInCharacters() {
+        StringLayoutCacheShim cache = new StringLayoutCacheShim(10);
+        cache.put(key("a"), StringLayoutCacheShim.newLayout());
+        cache.put(key("bcd"), StringLayoutCacheShim.newLayout());
+        assertEquals(4, cache.size());
+
+        cache.put(key("efghij"), StringLayoutCacheShim.newLayout());
+        assertEquals(10, cache.size());
+
+        // Adding one more character evicts the oldest entry
+        cache.put(key("k"), StringLayoutCacheShim.newLayout());
+        assertEquals(10, cache.size());
+        assertNull(cache.get(key("a")));
+        assertNotNull(cache.get(key("bcd")));
+    }
+
+    @Test
+    public void testSizeNeverExceedsBudget() {
+        StringLayoutCacheShim cache = new StringLayoutCacheShim(50);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(key("text " + i), StringLayoutCacheShim.newLayout());
+            if (i % 3 == 0) {
+                cache.get(key("text " + (i / 2)));
+            }
+            assertTrue(cache.size() <= 50, "size " + cache.size());
+        }
+        assertNotNull(cache.get(key("text 999")));
+    }
+
+    @Test
+    public void testTextLongerThanBudgetIsNotCached() {
+        StringLayoutCacheShim cache = new StringLayoutCacheShim(4);
+        cache.put(key("abcd"), StringLayoutCacheShim.newLayout());
+        cache.put(key("abcde"), StringLayoutCacheShim.newLayout());
+        assertEquals(4, cache.size());
+        assertNotNull(cache.get(key("abcd")));
+        assertNull(cache.get(key("abcde")));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.tk.quantum;
+
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.PlatformImage;
+import com.sun.javafx.tk.quantum.PrismImageCache;
+import com.sun.prism.Image;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrismImageCacheTest {
+
+    // 10 x 10 images with 4 bytes per pixel
+    private static final long IMAGE_SIZE = 400;
+
+    private static PrismImageCache.Key key(String url) {
+        return new PrismImageCache.Key(url, 0, 0, true, 1.0f, true);
+    }
+
+    private static ImageLoader loader(Exception exception) {
+        Image image = Image.fromIntArgbPreData(new int[100], 10, 10);
+        return new ImageLoader() {
+            @Override public Exception getException() { return exception; }
+            @Override public int getFrameCount() { return 1; }
+            @Override public PlatformImage getFrame(int index) { return image; }
+            @Override public int getFrameDelay(int index) { return 0; }
+            @Override public int getLoopCount() { return 0; }
+            @Override public double getWidth() { return 10; }
+            @Override public double getHeight() { return 10; }
+        };
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        PrismImageCache cache = new PrismImageCache(0);
+        assertFalse(cache.isEnabled());
+
+        cache.put(key("a.png"), loader(null));
+        assertNull(cache.get(key("a.png")));
+    }
+
+    @Test
+    public void testKeyIncludesRequestedSize() {
+        PrismImageCache cache = new PrismImageCache(10 * IMAGE_SIZE);
+        ImageLoader loader = loader(null);
+        cache.put(key("a.png"), loader);
+
+        assertSame(loader, cache.get(key("a.png")));
+        assertNull(cache.get(new PrismImageCache.Key("a.png", 100, 100, true, 1.0f, true)));
+        assertNull(cache.get(new PrismImageCache.Key("a.png", 0, 0, true, 2.0f, true)));
+        assertEquals(IMAGE_SIZE, cache.getSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedImageIsEvicted() {
+        PrismImageCache cache = new PrismImageCache(2 * IMAGE_SIZE);
+        ImageLoader a = loader(null);
+        ImageLoader b = loader(null);
+        ImageLoader c = loader(null);
+
+        cache.put(key("a.png"), a);
+        cache.put(key("b.png"), b);
+        assertSame(a, cache.get(key("a.png")));
+
+        cache.put(key("c.png"), c);
+        assertSame(a, cache.get(key("a.png")));
+        assertNull(cache.get(key("b.png")));
+        assertSame(c, cache.get(key("c.png")));
+        assertEquals(2 * IMAGE_SIZE, cache.getSize());
+    }
+
+    @Test
+    public void testFailedAndOversizedImagesAreNotCached() {
+        PrismImageCache cache = new PrismImageCache(IMAGE_SIZE / 2);
+        cache.put(key("a.png"), loader(null));
+        assertNull(cache.get(key("a.png")));
+
+        cache = new PrismImageCache(IMAGE_SIZE);
+        cache.put(key("b.png"), loader(new Exception("failed")));
+        assertNull(cache.get(key("b.png")));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testClear() {
+        PrismImageCache cache = new PrismImageCache(IMAGE_SIZE);
+        cache.put(key("a.png"), loader(null));
+        cache.clear();
+
+        assertNull(cache.get(key("a.png")));
+        assertEquals(0, cache.getSize());
+        assertTrue(cache.isEnabled());
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.tk.quantum;
+
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.quantum.PrismImageLoader2Shim;
+import com.sun.prism.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrismImageLoader2Test {
+
+    private static BufferedImage createImage(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Random random = new Random(1);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+        return image;
+    }
+
+    private static ByteArrayInputStream writePNG(BufferedImage image, boolean interlaced) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setProgressiveMode(interlaced
+                    ? ImageWriteParam.MODE_DEFAULT
+                    : ImageWriteParam.MODE_DISABLED);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private static byte[] pixels(Image image) {
+        ByteBuffer buffer = (ByteBuffer) image.getPixelBuffer();
+        byte[] pixels = new byte[image.getScanlineStride() * image.getHeight()];
+        buffer.get(0, pixels);
+        return pixels;
+    }
+
+    private void testPartialImages(int type) throws IOException {
+        List<Image> partialImages = new ArrayList<>();
+        List<byte[]> partialPixels = new ArrayList<>();
+        ImageLoader loader = PrismImageLoader2Shim.load(
+                writePNG(createImage(64, 300, type), false), 0, 0, true, true,
+                partialLoader -> {
+                    Image image = (Image) partialLoader.getFrame(0);
+                    partialImages.add(image);
+                    partialPixels.add(pixels(image));
+                });
+
+        assertNull(loader.getException());
+        Image image = (Image) loader.getFrame(0);
+        byte[] expected = pixels(image);
+        int stride = image.getScanlineStride();
+
+        assertTrue(partialImages.size() > 1);
+        int rows = 0;
+        for (int i = 0; i < partialImages.size(); i++) {
+            Image partialImage = partialImages.get(i);
+            assertEquals(64, partialImage.getWidth());
+            assertEquals(300, partialImage.getHeight());
+            assertEquals(image.getPixelFormat(), partialImage.getPixelFormat());
+            assertEquals(stride, partialImage.getScanlineStride());
+
+            // all the partial images share one array
+            assertSame(((ByteBuffer) partialImages.get(0).getPixelBuffer()).array(),
+                    ((ByteBuffer) partialImage.getPixelBuffer()).array());
+
+            // the rows of every update are converted exactly once, and the
+            // rows that are not decoded yet are left alone
+            byte[] pixels = partialPixels.get(i);
+            int matchingRows = 0;
+            while (matchingRows < 300 && Arrays.equals(
+                    expected, matchingRows * stride, (matchingRows + 1) * stride,
+                    pixels, matchingRows * stride, (matchingRows + 1) * stride)) {
+                matchingRows++;
+            }
+            assertTrue(matchingRows > rows);
+            assertTrue(matchingRows < 300);
+            assertArrayEquals(new byte[(300 - matchingRows) * stride],
+                    Arrays.copyOfRange(pixels, matchingRows * stride, pixels.length));
+            rows = matchingRows;
+        }
+    }
+
+    @Test
+    public void testPartialImagesRGB() throws IOException {
+        testPartialImages(BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Test
+    public void testPartialImagesRGBA() throws IOException {
+        testPartialImages(BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Test
+    public void testPartialImagesOfThumbnailAreSkipped() throws IOException {
+        // interlaced images are decoded at full size and scaled afterwards
+        List<ImageLoader> partialLoaders = new ArrayList<>();
+        ImageLoader loader = PrismImageLoader2Shim.load(
+                writePNG(createImage(640, 600, BufferedImage.TYPE_INT_RGB), true),
+                64, 60, true, true, partialLoaders::add);
+
+        assertNull(loader.getException());
+        assertEquals(64, loader.getWidth());
+        assertEquals(0, partialLoaders.size());
+    }
+
+    @Test
+    public void testPartialImageOfScaledInterlacedImage() throws IOException {
+        // the first pass is scaled as it arrives, the others refine rows
+        // that were already scaled and are not shown
+        List<ImageLoader> partialLoaders = new ArrayList<>();
+        ImageLoader loader = PrismImageLoader2Shim.load(
+                writePNG(createImage(64, 300, BufferedImage.TYPE_INT_RGB), true),
+                48, 225, true, true, partialLoaders::add);
+
+        assertNull(loader.getException());
+        assertEquals(1, partialLoaders.size());
+        assertEquals(48, partialLoaders.get(0).getWidth());
+        assertEquals(225, partialLoaders.get(0).getHeight());
+    }
+}
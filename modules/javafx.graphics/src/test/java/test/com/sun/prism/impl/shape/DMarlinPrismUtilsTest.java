@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.prism.impl.shape;
+
+import com.sun.javafx.geom.Ellipse2D;
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.marlin.DMarlinRenderingEngine;
+import com.sun.marlin.MarlinRenderer;
+import com.sun.marlin.MaskMarlinAlphaConsumer;
+import com.sun.marlin.RendererContext;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.impl.shape.DMarlinPrismUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Verifies that rasterizing the rows of a shape in bands, as the software
+ * pipeline does with {@code prism.swRasterizerThreads}, produces the same
+ * coverage as rasterizing the whole shape at once.
+ */
+public class DMarlinPrismUtilsTest {
+
+    private static final int WIDTH = 701;
+    private static final int HEIGHT = 683;
+    private static final Rectangle CLIP = new Rectangle(0, 0, WIDTH, HEIGHT);
+
+    private static void rasterize(Shape shape, BasicStroke stroke, BaseTransform tr,
+                                  int rowsY, int rowsHeight, byte[] coverage) {
+        RendererContext rdrCtx = DMarlinRenderingEngine.getRendererContext();
+        MarlinRenderer renderer = null;
+        try {
+            renderer = DMarlinPrismUtils.setupRenderer(rdrCtx, shape, stroke, tr, CLIP, rowsY, rowsHeight, true);
+            int x = renderer.getOutpixMinX();
+            int y = renderer.getOutpixMinY();
+            int w = renderer.getOutpixMaxX() - x;
+            int h = renderer.getOutpixMaxY() - y;
+            if (w <= 0 || h <= 0) {
+                return;
+            }
+            MaskMarlinAlphaConsumer consumer = new MaskMarlinAlphaConsumer(w * h);
+            consumer.setBoundsNoClone(x, y, w, h);
+            renderer.produceAlphas(consumer);
+            byte[] alphas = consumer.getMaskData().getMaskBuffer().array();
+            for (int row = 0; row < h; row++) {
+                System.arraycopy(alphas, row * w, coverage, (y + row) * WIDTH + x, w);
+            }
+        } finally {
+            if (renderer != null) {
+                renderer.dispose();
+            }
+            DMarlinRenderingEngine.returnRendererContext(rdrCtx);
+        }
+    }
+
+    private static void assertSameCoverage(Shape shape, BasicStroke stroke, BaseTransform tr) {
+        byte[] expected = new byte[WIDTH * HEIGHT];
+        rasterize(shape, stroke, tr, 0, HEIGHT, expected);
+        for (int bandCount : new int[] { 2, 3, 8, 13 }) {
+            byte[] actual = new byte[WIDTH * HEIGHT];
+            int bandHeight = (HEIGHT + bandCount - 1) / bandCount;
+            for (int y = 0; y < HEIGHT; y += bandHeight) {
+                rasterize(shape, stroke, tr, y, Math.min(bandHeight, HEIGHT - y), actual);
+            }
+            assertArrayEquals(expected, actual, bandCount + " bands");
+        }
+    }
+
+    private static Path2D ellipse() {
+        return new Path2D(new Ellipse2D(13.3f, 17.7f, 650.1f, 640.6f));
+    }
+
+    private static Path2D curves() {
+        Path2D path = new Path2D();
+        path.moveTo(5.5f, 5.25f);
+        path.curveTo(690, 30, 10, 670, 695.7f, 676.1f);
+        path.lineTo(20.4f, 650.2f);
+        path.quadTo(350, 10, 600.3f, 100.6f);
+        path.closePath();
+        return path;
+    }
+
+    @Test
+    public void testFillInBands() {
+        assertSameCoverage(ellipse(), null, BaseTransform.IDENTITY_TRANSFORM);
+        assertSameCoverage(curves(), null, BaseTransform.IDENTITY_TRANSFORM);
+    }
+
+    @Test
+    public void testStrokeInBands() {
+        assertSameCoverage(ellipse(), new BasicStroke(9.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 10f),
+                           BaseTransform.IDENTITY_TRANSFORM);
+        assertSameCoverage(curves(), new BasicStroke(3.3f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f),
+                           BaseTransform.IDENTITY_TRANSFORM);
+    }
+
+    @Test
+    public void testTransformedShapeCrossingTheClipInBands() {
+        BaseTransform tr = BaseTransform.getRotateInstance(0.3, WIDTH / 2.0, HEIGHT / 2.0);
+        assertSameCoverage(curves(), null, tr);
+        assertSameCoverage(ellipse(), new BasicStroke(4.25f, BasicStroke.CAP_SQUARE, BasicStroke.JOIN_BEVEL, 10f), tr);
+    }
+}
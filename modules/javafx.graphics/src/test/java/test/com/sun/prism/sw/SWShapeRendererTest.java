@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.prism.sw;
+
+import com.sun.glass.utils.NativeLibLoader;
+import com.sun.javafx.geom.Ellipse2D;
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.pisces.GradientColorMap;
+import com.sun.pisces.JavaSurface;
+import com.sun.pisces.PiscesRenderer;
+import com.sun.pisces.RendererBase;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.sw.SWContextShim;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that the shape renderer used with {@code prism.swRasterizerThreads}
+ * greater than 1, which rasterizes large shapes in bands, produces exactly the
+ * same pixels as the serial renderer, in particular on the rows at the band
+ * boundaries.
+ */
+public class SWShapeRendererTest {
+
+    private static final int WIDTH = 701;
+    private static final int HEIGHT = 683;
+    private static final Rectangle CLIP = new Rectangle(0, 0, WIDTH, HEIGHT);
+
+    private static Object serialRenderer;
+    private static Object[] bandedRenderers;
+
+    @BeforeAll
+    public static void setUp() {
+        NativeLibLoader.loadLibrary("prism_sw");
+        serialRenderer = SWContextShim.createShapeRenderer(1);
+        // band heights that do and do not divide the height of the shapes
+        bandedRenderers = new Object[] {
+            SWContextShim.createShapeRenderer(2),
+            SWContextShim.createShapeRenderer(3),
+            SWContextShim.createShapeRenderer(8),
+            SWContextShim.createShapeRenderer(13)
+        };
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        SWContextShim.dispose(serialRenderer);
+        for (Object renderer : bandedRenderers) {
+            SWContextShim.dispose(renderer);
+        }
+    }
+
+    private static int[] render(Object renderer, Consumer<PiscesRenderer> paint,
+                                Shape shape, BasicStroke stroke, BaseTransform tr) {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        PiscesRenderer pr = new PiscesRenderer(new JavaSurface(pixels, RendererBase.TYPE_INT_ARGB_PRE, WIDTH, HEIGHT));
+        pr.setClip(CLIP.x, CLIP.y, CLIP.width, CLIP.height);
+        paint.accept(pr);
+        SWContextShim.renderShape(renderer, pr, shape, stroke, tr, CLIP, true);
+        return pixels;
+    }
+
+    private static void assertSamePixels(Consumer<PiscesRenderer> paint, Shape shape, BasicStroke stroke, BaseTransform tr) {
+        int[] expected = render(serialRenderer, paint, shape, stroke, tr);
+        int covered = 0;
+        for (int pixel : expected) {
+            if (pixel != 0) {
+                covered++;
+            }
+        }
+        assertTrue(covered > 256 * 256, "the shape is too small to be rasterized in bands");
+
+        for (Object renderer : bandedRenderers) {
+            assertArrayEquals(expected, render(renderer, paint, shape, stroke, tr));
+        }
+    }
+
+    private static void color(PiscesRenderer pr) {
+        pr.setColor(30, 144, 255, 200);
+    }
+
+    private static void gradient(PiscesRenderer pr) {
+        pr.setLinearGradient(0, 0, WIDTH << 16, HEIGHT << 16,
+                             new int[] { 0, 1 << 16 }, new int[] { 0xFF0000FF, 0x80FF0000 },
+                             GradientColorMap.CYCLE_NONE, null);
+    }
+
+    private static Path2D ellipse() {
+        return new Path2D(new Ellipse2D(13.3f, 17.7f, 650.1f, 640.6f));
+    }
+
+    private static Path2D curves() {
+        Path2D path = new Path2D();
+        path.moveTo(5.5f, 5.25f);
+        path.curveTo(690, 30, 10, 670, 695.7f, 676.1f);
+        path.lineTo(20.4f, 650.2f);
+        path.quadTo(350, 10, 600.3f, 100.6f);
+        path.closePath();
+        return path;
+    }
+
+    @Test
+    public void testFill() {
+        assertSamePixels(SWShapeRendererTest::color, ellipse(), null, BaseTransform.IDENTITY_TRANSFORM);
+        assertSamePixels(SWShapeRendererTest::color, curves(), null, BaseTransform.IDENTITY_TRANSFORM);
+    }
+
+    @Test
+    public void testFillWithGradient() {
+        assertSamePixels(SWShapeRendererTest::gradient, ellipse(), null, BaseTransform.IDENTITY_TRANSFORM);
+        assertSamePixels(SWShapeRendererTest::gradient, curves(), null, BaseTransform.IDENTITY_TRANSFORM);
+    }
+
+    @Test
+    public void testStroke() {
+        BasicStroke stroke = new BasicStroke(9.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 10f);
+        assertSamePixels(SWShapeRendererTest::color, ellipse(), stroke, BaseTransform.IDENTITY_TRANSFORM);
+        stroke = new BasicStroke(BasicStroke.TYPE_OUTER, 3.3f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f);
+        assertSamePixels(SWShapeRendererTest::color, curves(), stroke, BaseTransform.IDENTITY_TRANSFORM);
+    }
+
+    @Test
+    public void testTransformedShapeCrossingTheClip() {
+        BaseTransform tr = BaseTransform.getRotateInstance(0.3, WIDTH / 2.0, HEIGHT / 2.0);
+        assertSamePixels(SWShapeRendererTest::color, curves(), null, tr);
+        assertSamePixels(SWShapeRendererTest::color, ellipse(),
+                         new BasicStroke(4.25f, BasicStroke.CAP_SQUARE, BasicStroke.JOIN_BEVEL, 10f), tr);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.scenario.effect.impl.sw.vector;
+
+import java.util.Random;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.scenario.effect.Color4f;
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.impl.EffectPeerShim;
+import com.sun.scenario.effect.impl.Renderer;
+import com.sun.scenario.effect.impl.state.GaussianRenderState;
+import com.sun.scenario.effect.impl.sw.java.JSWBoxBlurPeer;
+import com.sun.scenario.effect.impl.sw.java.JSWBoxShadowPeer;
+import com.sun.scenario.effect.impl.sw.java.JSWEffectPeerShim;
+import com.sun.scenario.effect.impl.sw.java.JSWLinearConvolvePeer;
+import com.sun.scenario.effect.impl.sw.java.JSWLinearConvolveShadowPeer;
+import com.sun.scenario.effect.impl.sw.vector.VSWBoxBlurPeer;
+import com.sun.scenario.effect.impl.sw.vector.VSWBoxShadowPeer;
+import com.sun.scenario.effect.impl.sw.vector.VSWLinearConvolvePeer;
+import com.sun.scenario.effect.impl.sw.vector.VSWLinearConvolveShadowPeer;
+import com.sun.scenario.effect.impl.sw.vector.VSWRendererDelegate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that the vectorized software peers produce exactly the same
+ * pixels as the scalar {@code JSW} peers they replace.
+ */
+public class VSWPeerTest {
+
+    // Odd sizes, so that the vector loops have partial chunks to process
+    private static final int W = 37;
+    private static final int H = 29;
+    private static final int SCAN = 40;
+    private static final int GROW = 6;
+
+    private final FilterContext fctx = new FilterContext(new Object()) {};
+    private int[] src;
+
+    @BeforeEach
+    public void setUp() {
+        assumeTrue(VSWRendererDelegate.isSupported());
+        src = new int[SCAN * H];
+        Random random = new Random(42);
+        for (int i = 0; i < src.length; i++) {
+            int a = random.nextInt(256);
+            int r = random.nextInt(a + 1);
+            int g = random.nextInt(a + 1);
+            int b = random.nextInt(a + 1);
+            src[i] = (a << 24) | (r << 16) | (g << 8) | b;
+        }
+    }
+
+    @Test
+    public void testPeerNames() {
+        VSWRendererDelegate delegate = new VSWRendererDelegate();
+        assertEquals(Renderer.rootPkg + ".impl.sw.vector.VSWBoxBlurPeer",
+                     delegate.getPlatformPeerName("BoxBlur", 0));
+        assertEquals(Renderer.rootPkg + ".impl.sw.vector.VSWLinearConvolveShadowPeer",
+                     delegate.getPlatformPeerName("LinearConvolveShadow", 0));
+        assertEquals(Renderer.rootPkg + ".impl.sw.java.JSWBlend_SRC_OVERPeer",
+                     delegate.getPlatformPeerName("Blend_SRC_OVER", 0));
+    }
+
+    @Test
+    public void testBoxBlur() {
+        JSWBoxBlurPeer scalar = new JSWBoxBlurPeer(fctx, null, "BoxBlur");
+        JSWBoxBlurPeer vector = new VSWBoxBlurPeer(fctx, null, "BoxBlur");
+        for (int grow = 1; grow <= GROW; grow++) {
+            int dstw = W + grow;
+            int dsth = H + grow;
+            int[] expected = new int[dstw * H];
+            int[] actual = new int[dstw * H];
+            JSWEffectPeerShim.filterHorizontal(scalar, expected, dstw, H, dstw, src, W, H, SCAN);
+            JSWEffectPeerShim.filterHorizontal(vector, actual, dstw, H, dstw, src, W, H, SCAN);
+            assertArrayEquals(expected, actual);
+
+            expected = new int[W * dsth];
+            actual = new int[W * dsth];
+            JSWEffectPeerShim.filterVertical(scalar, expected, W, dsth, W, src, W, H, SCAN);
+            JSWEffectPeerShim.filterVertical(vector, actual, W, dsth, W, src, W, H, SCAN);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testBoxShadow() {
+        JSWBoxShadowPeer scalar = new JSWBoxShadowPeer(fctx, null, "BoxShadow");
+        JSWBoxShadowPeer vector = new VSWBoxShadowPeer(fctx, null, "BoxShadow");
+        float[] shadowColor = { 0.1f, 0.3f, 0.5f, 0.75f };
+        for (float spread : new float[] { 0f, 0.25f, 1f }) {
+            for (int grow = 0; grow <= GROW; grow++) {
+                int dstw = W + grow;
+                int dsth = H + grow;
+                int[] expected = new int[dstw * H];
+                int[] actual = new int[dstw * H];
+                JSWEffectPeerShim.filterHorizontalBlack(scalar, expected, dstw, H, dstw, src, W, H, SCAN, spread);
+                JSWEffectPeerShim.filterHorizontalBlack(vector, actual, dstw, H, dstw, src, W, H, SCAN, spread);
+                assertArrayEquals(expected, actual);
+
+                expected = new int[W * dsth];
+                actual = new int[W * dsth];
+                JSWEffectPeerShim.filterVerticalBlack(scalar, expected, W, dsth, W, src, W, H, SCAN, spread);
+                JSWEffectPeerShim.filterVerticalBlack(vector, actual, W, dsth, W, src, W, H, SCAN, spread);
+                assertArrayEquals(expected, actual);
+
+                JSWEffectPeerShim.filterVertical(scalar, expected, W, dsth, W, src, W, H, SCAN, spread, shadowColor);
+                JSWEffectPeerShim.filterVertical(vector, actual, W, dsth, W, src, W, H, SCAN, spread, shadowColor);
+                assertArrayEquals(expected, actual);
+            }
+        }
+    }
+
+    private void checkLinearConvolve(JSWLinearConvolvePeer scalar, JSWLinearConvolvePeer vector) {
+        float[] weights = { 0.05f, 0.1f, 0.2f, 0.3f, 0.2f, 0.1f, 0.05f };
+        // { srcx0, srcy0, offsetx, offsety, deltax, deltay, dxcol, dycol, dxrow, dyrow }
+        float[][] params = {
+            { 0f, 0f, -3f, 0f, 1f, 0f, 1f, 0f, 0f, 1f },
+            { 0f, 0f, 0f, -3f, 0f, 1f, 1f, 0f, 0f, 1f },
+            { -2.5f, 1.25f, -3.3f, 0.7f, 1.1f, 0.1f, 0.9f, 0.05f, -0.05f, 1.1f },
+            { 3f, -2f, -2f, -2f, 0.7f, 0.7f, 1.3f, 0.4f, -0.4f, 1.3f },
+        };
+        int dstw = W + GROW;
+        int dsth = H + GROW;
+        for (float[] p : params) {
+            int[] expected = new int[dstw * dsth];
+            int[] actual = new int[dstw * dsth];
+            JSWEffectPeerShim.filterVector(scalar, expected, dstw, dsth, dstw, src, W, H, SCAN,
+                                           weights, weights.length,
+                                           p[0], p[1], p[2], p[3], p[4], p[5], p[6], p[7], p[8], p[9]);
+            JSWEffectPeerShim.filterVector(vector, actual, dstw, dsth, dstw, src, W, H, SCAN,
+                                           weights, weights.length,
+                                           p[0], p[1], p[2], p[3], p[4], p[5], p[6], p[7], p[8], p[9]);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testLinearConvolve() {
+        checkLinearConvolve(new JSWLinearConvolvePeer(fctx, null, "LinearConvolve"),
+                            new VSWLinearConvolvePeer(fctx, null, "LinearConvolve"));
+    }
+
+    @Test
+    public void testLinearConvolveShadow() {
+        GaussianRenderState state = new GaussianRenderState(3f, 3f, 0f, true, Color4f.BLACK,
+                                                            BaseTransform.IDENTITY_TRANSFORM);
+        JSWLinearConvolvePeer scalar = new JSWLinearConvolveShadowPeer(fctx, null, "LinearConvolveShadow");
+        JSWLinearConvolvePeer vector = new VSWLinearConvolveShadowPeer(fctx, null, "LinearConvolveShadow");
+        EffectPeerShim.setRenderState(scalar, state);
+        EffectPeerShim.setRenderState(vector, state);
+        checkLinearConvolve(scalar, vector);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,6 +33,7 @@ import com.sun.javafx.geom.PickRay;
 import com.sun.javafx.scene.input.PickResultChooser;
 
 import java.util.Collection;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javafx.scene.Group;
 import javafx.scene.GroupShim;
@@ -47,6 +48,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -940,6 +942,109 @@ public class ParentTest {
         g.getChildren().remove(0);
     }
 
+    private static Node pick(Parent p, double x, double y) {
+        PickResultChooser res = new PickResultChooser();
+        NodeHelper.pickNode(p, new PickRay(x, y, 1, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY), res);
+        return res.getIntersectedNode();
+    }
+
+    private void assertSamePicks(Group indexed, Group plain, Random random) {
+        toolkit.fireTestPulse();
+        for (int i = 0; i < 500; i++) {
+            double x = random.nextDouble() * 600 - 50;
+            double y = random.nextDouble() * 600 - 50;
+            Node expected = pick(plain, x, y);
+            Node actual = pick(indexed, x, y);
+            assertEquals(expected == null ? null : expected.getId(), actual == null ? null : actual.getId(),
+                    "picking at " + x + ", " + y);
+        }
+    }
+
+    private static Rectangle randomRect(Random random, String id) {
+        Rectangle r = new Rectangle(random.nextDouble() * 500, random.nextDouble() * 500,
+                1 + random.nextDouble() * 40, 1 + random.nextDouble() * 40);
+        r.setId(id);
+        return r;
+    }
+
+    @Test
+    public void testPickIndexedProperty() {
+        Group g = new Group();
+        assertFalse(g.isPickIndexed());
+        g.setPickIndexed(true);
+        assertTrue(g.isPickIndexed());
+        assertTrue(g.pickIndexedProperty().get());
+    }
+
+    @Test
+    public void testPickIndexedPicksLikeLinearScan() {
+        Random random = new Random(42);
+        Group indexed = new Group();
+        Group plain = new Group();
+        indexed.setPickIndexed(true);
+        for (int i = 0; i < 300; i++) {
+            long seed = random.nextLong();
+            indexed.getChildren().add(randomRect(new Random(seed), "r" + i));
+            plain.getChildren().add(randomRect(new Random(seed), "r" + i));
+        }
+        // one child covering most of the parent, which is kept out of the grid cells
+        indexed.getChildren().set(100, new Rectangle(0, 0, 400, 400));
+        plain.getChildren().set(100, new Rectangle(0, 0, 400, 400));
+        indexed.getChildren().get(100).setId("large");
+        plain.getChildren().get(100).setId("large");
+
+        stage.setScene(new Scene(new Group(indexed, plain)));
+        stage.show();
+        assertSamePicks(indexed, plain, random);
+
+        // move, hide and resize children
+        for (int i = 0; i < 40; i++) {
+            int index = random.nextInt(300);
+            double dx = random.nextDouble() * 200 - 100;
+            double dy = random.nextDouble() * 200 - 100;
+            indexed.getChildren().get(index).setTranslateX(dx);
+            plain.getChildren().get(index).setTranslateX(dx);
+            indexed.getChildren().get(index).setTranslateY(dy);
+            plain.getChildren().get(index).setTranslateY(dy);
+        }
+        for (int i = 0; i < 20; i++) {
+            int index = random.nextInt(300);
+            indexed.getChildren().get(index).setVisible(false);
+            plain.getChildren().get(index).setVisible(false);
+        }
+        assertSamePicks(indexed, plain, random);
+
+        // reorder, add and remove children
+        for (int i = 0; i < 20; i++) {
+            int index = random.nextInt(300);
+            indexed.getChildren().get(index).toFront();
+            plain.getChildren().get(index).toFront();
+        }
+        assertSamePicks(indexed, plain, random);
+        for (int i = 0; i < 20; i++) {
+            int index = random.nextInt(indexed.getChildren().size());
+            indexed.getChildren().remove(index);
+            plain.getChildren().remove(index);
+            long seed = random.nextLong();
+            indexed.getChildren().add(randomRect(new Random(seed), "n" + i));
+            plain.getChildren().add(randomRect(new Random(seed), "n" + i));
+        }
+        assertSamePicks(indexed, plain, random);
+
+        // view order
+        for (int i = 0; i < 20; i++) {
+            int index = random.nextInt(indexed.getChildren().size());
+            double viewOrder = random.nextInt(5) - 2;
+            indexed.getChildren().get(index).setViewOrder(viewOrder);
+            plain.getChildren().get(index).setViewOrder(viewOrder);
+        }
+        assertSamePicks(indexed, plain, random);
+
+        // disabling the index
+        indexed.setPickIndexed(false);
+        assertSamePicks(indexed, plain, random);
+    }
+
     public static class MockParent extends Parent {
         public MockParent(Node... children) {
             ParentShim.getChildren(this).addAll(children);
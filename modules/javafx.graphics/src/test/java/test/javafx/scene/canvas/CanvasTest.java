@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,7 +25,15 @@
 
 package test.javafx.scene.canvas;
 
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.scene.NodeHelper;
+import com.sun.javafx.sg.prism.NGCanvas;
+import com.sun.javafx.sg.prism.NGCanvasShim;
+import java.nio.DoubleBuffer;
+import java.util.List;
 import javafx.geometry.VPos;
+import test.com.sun.javafx.sg.prism.TestGraphics;
+import test.com.sun.javafx.sg.prism.TestGraphics.TestRTTexture;
 import test.javafx.scene.NodeTest;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -51,6 +59,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CanvasTest {
 
@@ -554,6 +563,145 @@ public class CanvasTest {
         gc.drawImage(image, 0, 0, 100, 100, 0, 0, 100, 100);
     }
 
+    @Test
+    public void testGCbatch_basic() {
+        double[] xywh = { 0, 0, 10, 10, 20, 20, 5, 5, 30, 30, 1, 1 };
+        gc.fillRects(xywh, 3);
+        gc.fillRects(xywh, 0);
+        gc.fillRects(null, 3);
+        gc.fillOvals(xywh, 3);
+        gc.fillOvals(null, 3);
+        DoubleBuffer xy = DoubleBuffer.wrap(xywh);
+        xy.position(2);
+        gc.strokePolyline(xy, 5);
+        assertEquals(2, xy.position());
+        gc.strokePolyline(xy, 1);
+        gc.strokePolyline((DoubleBuffer) null, 5);
+    }
+
+    @Test
+    public void testGCbatch_countTooLarge() {
+        double[] xywh = { 0, 0, 10, 10, 20, 20, 5, 5 };
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(xywh, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillOvals(xywh, 3));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> gc.strokePolyline(DoubleBuffer.wrap(xywh, 1, 7), 4));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> gc.drawImages(new ImageForTesting("http://something.png", false), xywh, 5));
+    }
+
+    @Test
+    public void testGCdrawImages_NullAndInProgress() {
+        double[] xy = { 0, 0, 10, 10 };
+        gc.drawImages(null, xy, 2);
+        gc.drawImages(null, 0, 0, 10, 10, xy, 2);
+        ImageForTesting image = new ImageForTesting("http://something.png", false);
+        image.updateProgress(0.5);
+        gc.drawImages(image, xy, 2);
+        gc.drawImages(image, 0, 0, 10, 10, xy, 2);
+        gc.drawImages(image, null, 2);
+    }
+
+    @Test
+    public void testGClayer_basic() {
+        canvas.setWidth(100);
+        canvas.setHeight(100);
+        gc.beginLayer("grid");
+        gc.strokeLine(0, 50, 100, 50);
+        gc.fillRect(10, 10, 20, 20);
+        gc.endLayer();
+        gc.drawLayer("grid");
+        gc.drawLayer("unknown");
+        gc.drawLayer(null);
+        NodeHelper.syncPeer(canvas);
+
+        NGCanvas peer = NodeHelper.getPeer(canvas);
+        TestGraphics graphics = new TestGraphics(200, 200);
+        peer.render(graphics);
+        TestRTTexture canvasTexture = (TestRTTexture) graphics.getDrawnTextures().get(0);
+        TestRTTexture gridTexture = (TestRTTexture) NGCanvasShim.getLayerTexture(peer, "grid");
+        assertNotNull(gridTexture);
+        assertEquals(List.of(new RectBounds(10, 10, 30, 30)), gridTexture.getFilledRects());
+        // unknown layers are not drawn
+        assertEquals(List.of(gridTexture), canvasTexture.getDrawnTextures());
+
+        gc.beginLayer("grid");
+        gc.fillOval(0, 0, 10, 10);
+        gc.endLayer();
+        gc.drawLayer("grid");
+        gc.removeLayer("grid");
+        gc.removeLayer("unknown");
+        gc.removeLayer(null);
+        gc.drawLayer("grid");
+        NodeHelper.syncPeer(canvas);
+
+        // the layer is removed before the canvas is rendered, so it is not drawn
+        assertNull(NGCanvasShim.getLayerTexture(peer, "grid"));
+        peer.render(graphics);
+        assertEquals(List.of(gridTexture), canvasTexture.getDrawnTextures());
+    }
+
+    @Test
+    public void testGClayer_restoresState() {
+        gc.setFill(Color.RED);
+        gc.setLineWidth(5);
+        gc.translate(10, 20);
+        gc.save();
+        gc.beginLayer("layer");
+        assertEquals(Color.BLACK, gc.getFill());
+        assertEquals(1, gc.getLineWidth(), 0);
+        assertMatrix(new Affine(), gc.getTransform());
+        gc.setFill(Color.BLUE);
+        gc.setLineWidth(2);
+        gc.translate(5, 5);
+        gc.save();
+        gc.endLayer();
+        assertEquals(Color.RED, gc.getFill());
+        assertEquals(5, gc.getLineWidth(), 0);
+        assertMatrix(new Affine(1, 0, 10, 0, 1, 20), gc.getTransform());
+        gc.setFill(Color.GREEN);
+        gc.restore();
+        assertEquals(Color.RED, gc.getFill());
+    }
+
+    @Test
+    public void testGClayer_separatePath() {
+        canvas.setWidth(100);
+        canvas.setHeight(100);
+        gc.beginPath();
+        gc.rect(0, 0, 10, 10);
+        gc.beginLayer("layer");
+        // the path of the canvas is not part of the layer
+        assertFalse(gc.isPointInPath(5, 5));
+        gc.rect(50, 50, 10, 10);
+        gc.fill();
+        gc.endLayer();
+        // and the path of the layer is not part of the canvas
+        assertTrue(gc.isPointInPath(5, 5));
+        assertFalse(gc.isPointInPath(55, 55));
+        gc.drawLayer("layer");
+        NodeHelper.syncPeer(canvas);
+
+        NGCanvas peer = NodeHelper.getPeer(canvas);
+        peer.render(new TestGraphics(200, 200));
+        TestRTTexture layerTexture = (TestRTTexture) NGCanvasShim.getLayerTexture(peer, "layer");
+        assertEquals(List.of(new RectBounds(50, 50, 60, 60)), layerTexture.getFilledRects());
+    }
+
+    @Test
+    public void testGClayer_nullName() {
+        assertThrows(NullPointerException.class, () -> gc.beginLayer(null));
+    }
+
+    @Test
+    public void testGClayer_nested() {
+        gc.beginLayer("a");
+        assertThrows(IllegalStateException.class, () -> gc.beginLayer("b"));
+        assertThrows(IllegalStateException.class, () -> gc.drawLayer("a"));
+        gc.endLayer();
+        assertThrows(IllegalStateException.class, () -> gc.endLayer());
+    }
+
     public static void assertMatrix(Transform expected,
             Transform result) {
         assertEquals(expected.getMxx(), result.getMxx(), 0.00001);
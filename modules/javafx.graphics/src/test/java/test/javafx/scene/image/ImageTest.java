@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -154,6 +154,33 @@ public final class ImageTest {
         assertTrue(p3 == p4);
     }
 
+    @Test
+    public void loadImageAsyncUpdateTest() {
+        final String url = "file:test.png";
+        final String partialUrl = "file:test-partial.png";
+        registerImage(url, 200, 100);
+        registerImage(partialUrl, 200, 100);
+
+        final Image image = new Image(url, true);
+
+        final StubAsyncImageLoader lastAsyncImageLoader =
+                getLastAsyncImageLoader();
+
+        lastAsyncImageLoader.update(
+                imageLoaderFactory.createImageLoader(partialUrl, 0, 0, false, false));
+
+        assertEquals(partialUrl, getPlatformImage(image).getSource());
+        assertEquals(200, (int) image.getWidth());
+        assertEquals(100, (int) image.getHeight());
+        assertTrue(image.getProgress() < 1);
+        assertFalse(image.isError());
+
+        lastAsyncImageLoader.finish();
+
+        assertEquals(url, getPlatformImage(image).getSource());
+        verifyLoadedImage(image, 0, 0, false, false, 200, 100);
+    }
+
     /*
     @Test
     public void loadImageAsyncPlaceholderTest() {
@@ -316,6 +343,42 @@ public final class ImageTest {
         }
     }
 
+    @Test
+    public void loadImagesAsyncLimitedFormatTest() {
+        System.setProperty("javafx.iio.decodingThreads.bmp", "1");
+        try {
+            registerImage("file:limited1.bmp", 100, 100);
+            registerImage("file:limited2.bmp", 100, 100);
+            registerImage("file:unlimited.png", 100, 100);
+
+            final Image limited1 = new Image("file:limited1.bmp", true);
+            final StubAsyncImageLoader limitedLoader1 = getLastAsyncImageLoader();
+
+            // the second image of the limited format waits for the first,
+            // but the image of another format does not wait for either
+            final Image limited2 = new Image("file:limited2.bmp", true);
+            final StubAsyncImageLoader limitedLoader2 =
+                    imageLoaderFactory.getLastAsyncImageLoader();
+            assertFalse(limitedLoader2.isStarted());
+
+            final Image unlimited = new Image("file:unlimited.png", true);
+            final StubAsyncImageLoader unlimitedLoader = getLastAsyncImageLoader();
+
+            unlimitedLoader.finish();
+            assertFalse(limitedLoader2.isStarted());
+
+            limitedLoader1.finish();
+            assertTrue(limitedLoader2.isStarted());
+            limitedLoader2.finish();
+
+            verifyLoadedImage(limited1, 0, 0, false, false, 100, 100);
+            verifyLoadedImage(limited2, 0, 0, false, false, 100, 100);
+            verifyLoadedImage(unlimited, 0, 0, false, false, 100, 100);
+        } finally {
+            System.clearProperty("javafx.iio.decodingThreads.bmp");
+        }
+    }
+
     @Test
     public void animatedImageTest() {
         // reset time
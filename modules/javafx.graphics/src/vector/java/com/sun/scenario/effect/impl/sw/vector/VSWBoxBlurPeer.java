@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl.sw.vector;
+
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.impl.Renderer;
+import com.sun.scenario.effect.impl.sw.java.JSWBoxBlurPeer;
+import jdk.incubator.vector.IntVector;
+import static com.sun.scenario.effect.impl.sw.vector.VSWUtil.*;
+
+/**
+ * A box blur peer whose vertical pass runs the sliding window of the
+ * {@code JSW} peer on adjacent columns in the lanes of a vector. The
+ * horizontal pass slides along the scanline, which does not map onto
+ * vector lanes, and is left to the {@code JSW} peer.
+ */
+public class VSWBoxBlurPeer extends JSWBoxBlurPeer {
+
+    public VSWBoxBlurPeer(FilterContext fctx, Renderer r, String uniqueName) {
+        super(fctx, r, uniqueName);
+    }
+
+    @Override
+    protected void filterVertical(int dstPixels[], int dstw, int dsth, int dstscan,
+                                  int srcPixels[], int srcw, int srch, int srcscan)
+    {
+        if (dstw < ISPECIES.length()) {
+            super.filterVertical(dstPixels, dstw, dsth, dstscan,
+                                 srcPixels, srcw, srch, srcscan);
+            return;
+        }
+        int vsize = dsth - srch + 1;
+        int kscale = 0x7fffffff / (vsize * 255);
+        int voff = vsize * srcscan;
+        for (int x0 = 0; x0 < dstw; x0 += ISPECIES.length()) {
+            // The last chunk is moved back to end at the last column rather
+            // than running past it, its first columns are computed twice.
+            int x = Math.min(x0, dstw - ISPECIES.length());
+            IntVector suma = IntVector.zero(ISPECIES);
+            IntVector sumr = suma;
+            IntVector sumg = suma;
+            IntVector sumb = suma;
+            int srcoff = x;
+            int dstoff = x;
+            for (int y = 0; y < dsth; y++) {
+                IntVector rgb;
+                // Un-accumulate the data for row-vsize location into the sums.
+                if (y >= vsize) {
+                    rgb = IntVector.fromArray(ISPECIES, srcPixels, srcoff - voff);
+                    suma = suma.sub(component(rgb, 24));
+                    sumr = sumr.sub(component(rgb, 16));
+                    sumg = sumg.sub(component(rgb,  8));
+                    sumb = sumb.sub(component(rgb,  0));
+                }
+                // Accumulate the data for this row location into the sums.
+                if (y < srch) {
+                    rgb = IntVector.fromArray(ISPECIES, srcPixels, srcoff);
+                    suma = suma.add(component(rgb, 24));
+                    sumr = sumr.add(component(rgb, 16));
+                    sumg = sumg.add(component(rgb,  8));
+                    sumb = sumb.add(component(rgb,  0));
+                }
+                scale(suma, kscale, 24)
+                    .add(scale(sumr, kscale, 16))
+                    .add(scale(sumg, kscale,  8))
+                    .add(scale(sumb, kscale,  0))
+                    .intoArray(dstPixels, dstoff);
+                srcoff += srcscan;
+                dstoff += dstscan;
+            }
+        }
+    }
+}
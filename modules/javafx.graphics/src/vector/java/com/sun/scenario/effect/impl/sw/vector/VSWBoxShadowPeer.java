@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl.sw.vector;
+
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.impl.Renderer;
+import com.sun.scenario.effect.impl.sw.java.JSWBoxShadowPeer;
+import jdk.incubator.vector.IntVector;
+import static com.sun.scenario.effect.impl.sw.vector.VSWUtil.*;
+import static jdk.incubator.vector.VectorOperators.*;
+
+/**
+ * A box shadow peer whose vertical passes run the sliding window of the
+ * {@code JSW} peer on adjacent columns in the lanes of a vector. The
+ * horizontal pass slides along the scanline, which does not map onto
+ * vector lanes, and is left to the {@code JSW} peer.
+ */
+public class VSWBoxShadowPeer extends JSWBoxShadowPeer {
+
+    public VSWBoxShadowPeer(FilterContext fctx, Renderer r, String uniqueName) {
+        super(fctx, r, uniqueName);
+    }
+
+    @Override
+    protected void filterVerticalBlack(int dstPixels[], int dstw, int dsth, int dstscan,
+                                       int srcPixels[], int srcw, int srch, int srcscan,
+                                       float spread)
+    {
+        if (dstw < ISPECIES.length()) {
+            super.filterVerticalBlack(dstPixels, dstw, dsth, dstscan,
+                                      srcPixels, srcw, srch, srcscan,
+                                      spread);
+            return;
+        }
+        int vsize = dsth - srch + 1;
+        // amax goes from hsize*255 to 255 as spread goes from 0 to 1
+        int amax = vsize * 255;
+        amax += (255 - amax) * spread;
+        int kscale = 0x7fffffff / amax;
+        int amin = (amax / 255);
+        int voff = vsize * srcscan;
+        for (int x0 = 0; x0 < dstw; x0 += ISPECIES.length()) {
+            // The last chunk is moved back to end at the last column rather
+            // than running past it, its first columns are computed twice.
+            int x = Math.min(x0, dstw - ISPECIES.length());
+            IntVector suma = IntVector.zero(ISPECIES);
+            int srcoff = x;
+            int dstoff = x;
+            for (int y = 0; y < dsth; y++) {
+                // Un-accumulate the data for row-vsize location into the sums.
+                if (y >= vsize) {
+                    IntVector rgb = IntVector.fromArray(ISPECIES, srcPixels, srcoff - voff);
+                    suma = suma.sub(component(rgb, 24));
+                }
+                // Accumulate the data for this row location into the sums.
+                if (y < srch) {
+                    IntVector rgb = IntVector.fromArray(ISPECIES, srcPixels, srcoff);
+                    suma = suma.add(component(rgb, 24));
+                }
+                // Clamp, scale and convert the sum into a color.
+                scale(suma, kscale, 24)
+                    .blend(0, suma.compare(LT, amin))
+                    .blend(0xff000000, suma.compare(GE, amax))
+                    .intoArray(dstPixels, dstoff);
+                srcoff += srcscan;
+                dstoff += dstscan;
+            }
+        }
+    }
+
+    @Override
+    protected void filterVertical(int dstPixels[], int dstw, int dsth, int dstscan,
+                                  int srcPixels[], int srcw, int srch, int srcscan,
+                                  float spread, float shadowColor[])
+    {
+        if (dstw < ISPECIES.length()) {
+            super.filterVertical(dstPixels, dstw, dsth, dstscan,
+                                 srcPixels, srcw, srch, srcscan,
+                                 spread, shadowColor);
+            return;
+        }
+        int vsize = dsth - srch + 1;
+        // amax goes from hsize*255 to 255 as spread goes from 0 to 1
+        int amax = vsize * 255;
+        amax += (255 - amax) * spread;
+        int kscalea = 0x7fffffff / amax;
+        int kscaler = (int) (kscalea * shadowColor[0]);
+        int kscaleg = (int) (kscalea * shadowColor[1]);
+        int kscaleb = (int) (kscalea * shadowColor[2]);
+        kscalea *= shadowColor[3];
+        int amin = (amax / 255);
+        int voff = vsize * srcscan;
+        int shadowRGB =
+            (((int) (shadowColor[0] * 255)) << 16) |
+            (((int) (shadowColor[1] * 255)) <<  8) |
+            (((int) (shadowColor[2] * 255))      ) |
+            (((int) (shadowColor[3] * 255)) << 24);
+        for (int x0 = 0; x0 < dstw; x0 += ISPECIES.length()) {
+            // The last chunk is moved back to end at the last column rather
+            // than running past it, its first columns are computed twice.
+            int x = Math.min(x0, dstw - ISPECIES.length());
+            IntVector suma = IntVector.zero(ISPECIES);
+            int srcoff = x;
+            int dstoff = x;
+            for (int y = 0; y < dsth; y++) {
+                // Un-accumulate the data for row-vsize location into the sums.
+                if (y >= vsize) {
+                    IntVector rgb = IntVector.fromArray(ISPECIES, srcPixels, srcoff - voff);
+                    suma = suma.sub(component(rgb, 24));
+                }
+                // Accumulate the data for this row location into the sums.
+                if (y < srch) {
+                    IntVector rgb = IntVector.fromArray(ISPECIES, srcPixels, srcoff);
+                    suma = suma.add(component(rgb, 24));
+                }
+                // Clamp, scale and convert the sum into a color.
+                scale(suma, kscalea, 24)
+                    .or(scale(suma, kscaler, 16))
+                    .or(scale(suma, kscaleg,  8))
+                    .or(scale(suma, kscaleb,  0))
+                    .blend(0, suma.compare(LT, amin))
+                    .blend(shadowRGB, suma.compare(GE, amax))
+                    .intoArray(dstPixels, dstoff);
+                srcoff += srcscan;
+                dstoff += dstscan;
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl.sw.vector;
+
+import java.util.Arrays;
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.impl.Renderer;
+import com.sun.scenario.effect.impl.sw.java.JSWLinearConvolvePeer;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import static com.sun.scenario.effect.impl.sw.vector.VSWUtil.*;
+import static jdk.incubator.vector.VectorOperators.*;
+
+/**
+ * A linear convolve peer that computes adjacent destination pixels of a
+ * scanline in the lanes of a vector. Each lane performs the bilinear
+ * sampling of the {@code JSW} peer in the same order, so both produce
+ * identical results. The four source pixels of a kernel tap are read with
+ * contiguous loads when the samples fall on adjacent pixels, as they do
+ * for untransformed effects, and gathered otherwise.
+ */
+public class VSWLinearConvolvePeer extends JSWLinearConvolvePeer {
+
+    private static final float cmin = 1f;
+    private static final float cmax = 254f + 15f/16f;
+
+    public VSWLinearConvolvePeer(FilterContext fctx, Renderer r, String uniqueName) {
+        super(fctx, r, uniqueName);
+    }
+
+    @Override
+    protected void filterVector(int dstPixels[], int dstw, int dsth, int dstscan,
+                                int srcPixels[], int srcw, int srch, int srcscan,
+                                float weights[], int count,
+                                float srcx0, float srcy0,
+                                float offsetx, float offsety,
+                                float deltax, float deltay,
+                                float dxcol, float dycol, float dxrow, float dyrow)
+    {
+        int lanes = FSPECIES.length();
+        if (dstw < lanes) {
+            super.filterVector(dstPixels, dstw, dsth, dstscan,
+                               srcPixels, srcw, srch, srcscan,
+                               weights, count,
+                               srcx0, srcy0,
+                               offsetx, offsety,
+                               deltax, deltay,
+                               dxcol, dycol, dxrow, dyrow);
+            return;
+        }
+        int dstrow = 0;
+        float sampxs[] = new float[dstw];
+        float sampys[] = new float[dstw];
+        // The state of a chunk is kept in arrays rather than in vectors
+        // so that the methods below stay small enough to be inlined and
+        // compiled into vector instructions.
+        float samples[] = new float[lanes * 2];
+        float fvals[] = new float[lanes * 4];
+        int offsets[] = new int[lanes];
+        // srcxy0 point at UL corner, shift them to center of 1st dest pixel:
+        srcx0 += (dxrow + dxcol) * 0.5f;
+        srcy0 += (dyrow + dycol) * 0.5f;
+        for (int dy = 0; dy < dsth; dy++) {
+            // Step along the scanline exactly as the scalar loop does, then
+            // process the destination pixels in vector sized chunks.
+            float srcx = srcx0;
+            float srcy = srcy0;
+            for (int dx = 0; dx < dstw; dx++) {
+                sampxs[dx] = srcx + offsetx;
+                sampys[dx] = srcy + offsety;
+                srcx += dxcol;
+                srcy += dycol;
+            }
+            for (int dx0 = 0; dx0 < dstw; dx0 += lanes) {
+                // The last chunk is moved back to end at the last pixel rather
+                // than running past it, its first pixels are computed twice.
+                int dx = Math.min(dx0, dstw - lanes);
+                System.arraycopy(sampxs, dx, samples, 0, lanes);
+                System.arraycopy(sampys, dx, samples, lanes, lanes);
+                Arrays.fill(fvals, 0f);
+                for (int i = 0; i < count; ++i) {
+                    laccumsample(srcPixels, samples,
+                                 srcw, srch, srcscan,
+                                 weights[i], fvals, offsets);
+                    FloatVector.fromArray(FSPECIES, samples, 0)
+                        .add(deltax).intoArray(samples, 0);
+                    FloatVector.fromArray(FSPECIES, samples, lanes)
+                        .add(deltay).intoArray(samples, lanes);
+                }
+                clamp(fvals, FVALS_A, 24)
+                    .add(clamp(fvals, FVALS_R, 16))
+                    .add(clamp(fvals, FVALS_G,  8))
+                    .add(clamp(fvals, FVALS_B,  0))
+                    .intoArray(dstPixels, dstrow + dx);
+            }
+            srcx0 += dxrow;
+            srcy0 += dyrow;
+            dstrow += dstscan;
+        }
+    }
+
+    /**
+     * Vector version of {@code JSWEffectPeer.laccumsample}, for the sample
+     * locations stored in the first and second half of {@code samples}.
+     */
+    private static void laccumsample(int img[], float samples[],
+                                     int w, int h, int scan,
+                                     float factor, float fvals[], int offsets[])
+    {
+        factor *= 255f;
+        // If we subtract 0.5 then floc_xy could go negative and the
+        // integer cast will not perform a true floor operation so
+        // instead we add 0.5 and then iloc_xy will be off by 1
+        FloatVector fpix_x = FloatVector.fromArray(FSPECIES, samples, 0).add(0.5f);
+        FloatVector fpix_y = FloatVector.fromArray(FSPECIES, samples, FSPECIES.length()).add(0.5f);
+        IntVector ipix_x = (IntVector) fpix_x.convert(F2I, 0);
+        IntVector ipix_y = (IntVector) fpix_y.convert(F2I, 0);
+        VectorMask<Integer> valid = fpix_x.compare(GT, 0f).cast(ISPECIES)
+            .and(fpix_y.compare(GT, 0f).cast(ISPECIES))
+            .and(ipix_x.compare(LE, w))
+            .and(ipix_y.compare(LE, h));
+        if (!valid.anyTrue()) {
+            return;
+        }
+        fpix_x = fpix_x.sub((FloatVector) ipix_x.convert(I2F, 0));
+        fpix_y = fpix_y.sub((FloatVector) ipix_y.convert(I2F, 0));
+        // sample box from ipix_x-1,y-1 to ipix_x,y
+        IntVector offset = ipix_y.mul(scan).add(ipix_x);
+        FloatVector fract = fpix_x.mul(fpix_y);
+        VectorMask<Integer> inx = ipix_x.compare(LT, w);
+        VectorMask<Integer> gtx = ipix_x.compare(GT, 0);
+        VectorMask<Integer> iny = valid.and(ipix_y.compare(LT, h));
+        VectorMask<Integer> gty = valid.and(ipix_y.compare(GT, 0));
+        VectorMask<Integer> m = iny.and(inx);
+        laccum(load(img, offset, m, offsets),
+               fract.mul(factor), m, fvals);
+        m = iny.and(gtx);
+        laccum(load(img, offset.sub(1), m, offsets),
+               fpix_y.sub(fract).mul(factor), m, fvals);
+        m = gty.and(inx);
+        laccum(load(img, offset.sub(scan), m, offsets),
+               fpix_x.sub(fract).mul(factor), m, fvals);
+        m = gty.and(gtx);
+        laccum(load(img, offset.sub(scan + 1), m, offsets),
+               FloatVector.broadcast(FSPECIES, 1f).sub(fpix_x).sub(fpix_y).add(fract).mul(factor),
+               m, fvals);
+    }
+
+    /**
+     * Vector version of {@code JSWEffectPeer.laccum}, for the lanes set in
+     * the mask.
+     */
+    private static void laccum(IntVector pixel, FloatVector mul, VectorMask<Integer> m,
+                               float fvals[])
+    {
+        mul = mul.div(255f);
+        VectorMask<Float> fm = m.cast(FSPECIES);
+        accum(fvals, FVALS_R, component(pixel, 16), mul, fm);
+        accum(fvals, FVALS_G, component(pixel,  8), mul, fm);
+        accum(fvals, FVALS_B, component(pixel,  0), mul, fm);
+        accum(fvals, FVALS_A, component(pixel, 24), mul, fm);
+    }
+
+    private static void accum(float fvals[], int index, IntVector value,
+                              FloatVector mul, VectorMask<Float> m)
+    {
+        int offset = index * FSPECIES.length();
+        FloatVector c = (FloatVector) value.convert(I2F, 0);
+        FloatVector.fromArray(FSPECIES, fvals, offset)
+            .add(c.mul(mul), m)
+            .intoArray(fvals, offset);
+    }
+
+    private static IntVector clamp(float fvals[], int index, int shift) {
+        FloatVector sum = FloatVector.fromArray(FSPECIES, fvals, index * FSPECIES.length());
+        IntVector c = (IntVector) sum.convert(F2I, 0);
+        return c.blend(0, sum.compare(LT, cmin).cast(ISPECIES))
+                .blend(255, sum.compare(GT, cmax).cast(ISPECIES))
+                .lanewise(LSHL, shift);
+    }
+}
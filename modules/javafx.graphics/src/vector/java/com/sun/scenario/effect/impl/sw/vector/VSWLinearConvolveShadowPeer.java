@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl.sw.vector;
+
+import java.util.Arrays;
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.impl.Renderer;
+import com.sun.scenario.effect.impl.sw.java.JSWLinearConvolveShadowPeer;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import static com.sun.scenario.effect.impl.sw.vector.VSWUtil.*;
+import static jdk.incubator.vector.VectorOperators.*;
+
+/**
+ * A linear convolve shadow peer that computes adjacent destination pixels
+ * of a scanline in the lanes of a vector, accumulating the source alpha of
+ * every kernel tap in the same order as the {@code JSW} peer.
+ */
+public class VSWLinearConvolveShadowPeer extends JSWLinearConvolveShadowPeer {
+
+    public VSWLinearConvolveShadowPeer(FilterContext fctx, Renderer r, String uniqueName) {
+        super(fctx, r, uniqueName);
+    }
+
+    @Override
+    protected void filterVector(int dstPixels[], int dstw, int dsth, int dstscan,
+                                int srcPixels[], int srcw, int srch, int srcscan,
+                                float weights[], int count,
+                                float srcx0, float srcy0,
+                                float offsetx, float offsety,
+                                float deltax, float deltay,
+                                float dxcol, float dycol, float dxrow, float dyrow)
+    {
+        int lanes = FSPECIES.length();
+        if (dstw < lanes) {
+            super.filterVector(dstPixels, dstw, dsth, dstscan,
+                               srcPixels, srcw, srch, srcscan,
+                               weights, count,
+                               srcx0, srcy0,
+                               offsetx, offsety,
+                               deltax, deltay,
+                               dxcol, dycol, dxrow, dyrow);
+            return;
+        }
+        float shadowColor[] = getRenderState().getPassShadowColorComponents();
+
+        int dstrow = 0;
+        float sampxs[] = new float[dstw];
+        float sampys[] = new float[dstw];
+        // The state of a chunk is kept in arrays rather than in vectors
+        // so that the methods below stay small enough to be inlined and
+        // compiled into vector instructions.
+        float samples[] = new float[lanes * 2];
+        float sums[] = new float[lanes];
+        int offsets[] = new int[lanes];
+        // srcxy0 point at UL corner, shift them to center of 1st dest pixel:
+        srcx0 += (dxrow + dxcol) * 0.5f;
+        srcy0 += (dyrow + dycol) * 0.5f;
+        for (int dy = 0; dy < dsth; dy++) {
+            // Step along the scanline exactly as the scalar loop does, then
+            // process the destination pixels in vector sized chunks.
+            float srcx = srcx0;
+            float srcy = srcy0;
+            for (int dx = 0; dx < dstw; dx++) {
+                sampxs[dx] = srcx + offsetx;
+                sampys[dx] = srcy + offsety;
+                srcx += dxcol;
+                srcy += dycol;
+            }
+            for (int dx0 = 0; dx0 < dstw; dx0 += lanes) {
+                // The last chunk is moved back to end at the last pixel rather
+                // than running past it, its first pixels are computed twice.
+                int dx = Math.min(dx0, dstw - lanes);
+                System.arraycopy(sampxs, dx, samples, 0, lanes);
+                System.arraycopy(sampys, dx, samples, lanes, lanes);
+                Arrays.fill(sums, 0f);
+                for (int i = 0; i < count; ++i) {
+                    accumsample(srcPixels, samples,
+                                srcw, srch, srcscan,
+                                weights[i], sums, offsets);
+                    FloatVector.fromArray(FSPECIES, samples, 0)
+                        .add(deltax).intoArray(samples, 0);
+                    FloatVector.fromArray(FSPECIES, samples, lanes)
+                        .add(deltay).intoArray(samples, lanes);
+                }
+                FloatVector sum = FloatVector.fromArray(FSPECIES, sums, 0);
+                sum = sum.blend(0f, sum.compare(LT, 0f))
+                         .blend(255f, sum.compare(GT, 255f));
+                color(sum, shadowColor[0], 16)
+                    .or(color(sum, shadowColor[1],  8))
+                    .or(color(sum, shadowColor[2],  0))
+                    .or(color(sum, shadowColor[3], 24))
+                    .intoArray(dstPixels, dstrow + dx);
+            }
+            srcx0 += dxrow;
+            srcy0 += dyrow;
+            dstrow += dstscan;
+        }
+    }
+
+    /**
+     * Accumulates the weighted alpha of the source pixels nearest to the
+     * sample locations stored in the first and second half of
+     * {@code samples}.
+     */
+    private static void accumsample(int img[], float samples[],
+                                    int w, int h, int scan,
+                                    float weight, float sums[], int offsets[])
+    {
+        FloatVector sampx = FloatVector.fromArray(FSPECIES, samples, 0);
+        FloatVector sampy = FloatVector.fromArray(FSPECIES, samples, FSPECIES.length());
+        IntVector ix = (IntVector) sampx.convert(F2I, 0);
+        IntVector iy = (IntVector) sampy.convert(F2I, 0);
+        VectorMask<Integer> valid = sampx.compare(GE, 0f).cast(ISPECIES)
+            .and(sampy.compare(GE, 0f).cast(ISPECIES))
+            .and(ix.compare(LT, w))
+            .and(iy.compare(LT, h));
+        if (!valid.anyTrue()) {
+            return;
+        }
+        // TODO: Use linear interpolation here... (JDK-8090445)
+        IntVector argb = load(img, iy.mul(scan).add(ix), valid, offsets);
+        FloatVector alpha = (FloatVector) argb.lanewise(LSHR, 24).convert(I2F, 0);
+        FloatVector.fromArray(FSPECIES, sums, 0)
+            .add(alpha.mul(weight), valid.cast(FSPECIES))
+            .intoArray(sums, 0);
+    }
+
+    private static IntVector color(FloatVector sum, float component, int shift) {
+        return ((IntVector) sum.mul(component).convert(F2I, 0)).lanewise(LSHL, shift);
+    }
+}
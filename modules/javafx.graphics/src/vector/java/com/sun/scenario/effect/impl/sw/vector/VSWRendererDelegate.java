@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl.sw.vector;
+
+import java.util.Optional;
+import java.util.Set;
+import com.sun.scenario.effect.Effect.AccelType;
+import com.sun.scenario.effect.impl.Renderer;
+import com.sun.scenario.effect.impl.sw.RendererDelegate;
+
+/**
+ * A software renderer delegate whose blur and shadow peers use the
+ * Vector API ({@code jdk.incubator.vector}) to process several pixels per
+ * instruction. The incubator module is only resolved when the application
+ * is started with {@code --add-modules jdk.incubator.vector}; when it is
+ * absent, or when the {@code decora.vector} system property is set to
+ * {@code false}, the constructor fails and the {@code JSW} renderer is used
+ * instead. Effects without a vectorized peer use the {@code JSW} peers.
+ * <p>
+ * The classes of this package are compiled separately from the rest of
+ * {@code javafx.graphics}, which does not require the incubator module. The
+ * module reads it only once {@link #isSupported()} has found it resolved.
+ */
+public class VSWRendererDelegate implements RendererDelegate {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final Set<String> VECTOR_PEERS = Set.of(
+        "BoxBlur", "BoxShadow", "LinearConvolve", "LinearConvolveShadow");
+
+    public static boolean isSupported() {
+        if ("false".equals(System.getProperty("decora.vector"))) {
+            return false;
+        }
+        Optional<Module> module = ModuleLayer.boot().findModule(VECTOR_MODULE);
+        if (module.isEmpty()) {
+            return false;
+        }
+        VSWRendererDelegate.class.getModule().addReads(module.get());
+        return true;
+    }
+
+    public VSWRendererDelegate() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("required module (" +
+                                                    VECTOR_MODULE + ") not available");
+        }
+    }
+
+    @Override
+    public AccelType getAccelType() {
+        return AccelType.SIMD;
+    }
+
+    @Override
+    public String getPlatformPeerName(String name, int unrollCount) {
+        if (VECTOR_PEERS.contains(name)) {
+            return Renderer.rootPkg + ".impl.sw.vector.VSW" + name + "Peer";
+        }
+        return Renderer.rootPkg + ".impl.sw.java.JSW" + name + "Peer";
+    }
+}
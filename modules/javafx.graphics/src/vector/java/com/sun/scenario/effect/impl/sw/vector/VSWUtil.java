@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl.sw.vector;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import static jdk.incubator.vector.VectorOperators.*;
+
+/**
+ * Helpers shared by the vectorized peers. All of them operate on lanes of
+ * {@code INT_ARGB_PRE} pixels and mirror the bit operations used by the
+ * scalar {@code JSW} peers, so that both produce identical results.
+ */
+final class VSWUtil {
+
+    /*
+     * The vectors are limited to 256 bits: wider vectors lower the clock
+     * speed of many processors and make these loops slower, not faster.
+     */
+    private static final VectorShape SHAPE =
+        (VectorShape.preferredShape().vectorBitSize() > 256)
+            ? VectorShape.S_256_BIT
+            : VectorShape.preferredShape();
+
+    static final VectorSpecies<Integer> ISPECIES = VectorSpecies.of(int.class, SHAPE);
+    static final VectorSpecies<Float> FSPECIES = VectorSpecies.of(float.class, SHAPE);
+    static final IntVector IOTA = IntVector.zero(ISPECIES).addIndex(1);
+
+    private VSWUtil() {
+    }
+
+    /**
+     * Returns the 8 bit component at the given shift of each pixel,
+     * equivalent to {@code (rgb >> shift) & 0xff}.
+     */
+    static IntVector component(IntVector rgb, int shift) {
+        return rgb.lanewise(LSHR, shift).and(0xff);
+    }
+
+    /**
+     * Scales box sums back into an 8 bit component at the given shift,
+     * equivalent to {@code ((sum * kscale) >> 23) << shift}.
+     */
+    static IntVector scale(IntVector sum, int kscale, int shift) {
+        return sum.mul(kscale).lanewise(ASHR, 23).lanewise(LSHL, shift);
+    }
+
+    /**
+     * Loads the pixels at the given indices. If the mask is set for all
+     * lanes and the indices are consecutive, the pixels are read with a
+     * single contiguous load. Otherwise they are gathered, using
+     * {@code offsets} as scratch space for the index map; the lanes not
+     * set in the mask then load the first pixel and must be ignored by the
+     * caller. The mask is never passed on to the gather, as masked gathers
+     * are not reliably compiled on all processors.
+     */
+    static IntVector load(int pixels[], IntVector indices, VectorMask<Integer> m,
+                          int offsets[])
+    {
+        if (m.allTrue()) {
+            int first = indices.lane(0);
+            if (indices.sub(first).eq(IOTA).allTrue()) {
+                return IntVector.fromArray(ISPECIES, pixels, first);
+            }
+        } else {
+            indices = indices.blend(0, m.not());
+        }
+        indices.intoArray(offsets, 0);
+        return IntVector.fromArray(ISPECIES, pixels, 0, offsets, 0);
+    }
+}
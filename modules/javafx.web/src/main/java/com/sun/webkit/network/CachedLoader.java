@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.webkit.network;
+
+import com.sun.javafx.logging.PlatformLogger;
+import com.sun.javafx.logging.PlatformLogger.Level;
+import com.sun.webkit.Invoker;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A runnable that replays a response of the {@link HttpCache}.
+ */
+final class CachedLoader extends URLLoaderBase implements Runnable {
+
+    private static final PlatformLogger logger =
+            PlatformLogger.getLogger(CachedLoader.class.getName());
+
+    /**
+     * The size of the slices of the body passed to WebCore.
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final boolean asynchronous;
+    private final String url;
+    private final HttpCache.Hit hit;
+    private final long data;
+    private final NetworkMetrics.Timing timing;
+    private final NetworkMetrics.Source source;
+    private volatile boolean canceled = false;
+
+
+    /**
+     * Creates a new {@code CachedLoader}.
+     */
+    CachedLoader(boolean asynchronous,
+                 String url,
+                 HttpCache.Hit hit,
+                 long data,
+                 NetworkMetrics.Timing timing,
+                 NetworkMetrics.Source source)
+    {
+        this.asynchronous = asynchronous;
+        this.url = url;
+        this.hit = hit;
+        this.data = data;
+        this.timing = timing;
+        this.source = source;
+    }
+
+
+    /**
+     * Cancels this loader.
+     */
+    @Override
+    public void fwkCancel() {
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(String.format("data: [0x%016X]", data));
+        }
+        canceled = true;
+        timing.canceled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        timing.started();
+        HttpCache.Entry entry = hit.getEntry();
+        String headers = entry.getHeaders();
+        long contentLength = entry.getBodyLength();
+        callBack(() -> {
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest(String.format(
+                        "status: [%d], url: [%s], data: [0x%016X], source: [%s]",
+                        entry.getStatus(), url, data, source));
+            }
+            twkDidReceiveResponse(
+                    entry.getStatus(),
+                    entry.getContentType(),
+                    entry.getContentEncoding(),
+                    contentLength,
+                    headers,
+                    url,
+                    data);
+        });
+        timing.responded();
+
+        // The body is a direct buffer mapping the cached file, so the slices
+        // are passed to WebCore as they are. Each slice starts at position 0,
+        // which is where WebCore reads from.
+        ByteBuffer body = hit.getBody();
+        while (body.hasRemaining() && !canceled) {
+            int count = Math.min(CHUNK_SIZE, body.remaining());
+            ByteBuffer slice = body.slice(body.position(), count);
+            body.position(body.position() + count);
+            callBack(() -> twkDidReceiveData(slice, 0, slice.remaining(), data));
+        }
+        callBack(() -> {
+            twkDidFinishLoading(data);
+            timing.finished(source, contentLength);
+        });
+    }
+
+    private void callBack(Runnable runnable) {
+        Runnable r = () -> {
+            if (!canceled) {
+                runnable.run();
+            }
+        };
+        if (asynchronous) {
+            Invoker.getInvoker().invokeOnEventThread(r);
+        } else {
+            r.run();
+        }
+    }
+}
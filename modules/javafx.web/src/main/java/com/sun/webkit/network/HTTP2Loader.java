@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -83,7 +83,14 @@ final class HTTP2Loader extends URLLoaderBase {
     private final String headers;
     private FormDataElement[] formDataElements;
     private final long data;
+    private final HttpCache cache;
+    private final HttpCache.Hit hit;
+    private final NetworkMetrics.Timing timing;
     private volatile boolean canceled = false;
+    private volatile CachedLoader replay;
+    private HttpCache.Writer writer;
+    private long requestTime;
+    private long receivedBytes;
 
     private final CompletableFuture<Void> response;
     // Use singleton instance of HttpClient to get the maximum benefits
@@ -112,7 +119,10 @@ final class HTTP2Loader extends URLLoaderBase {
               String method,
               String headers,
               FormDataElement[] formDataElements,
-              long data) {
+              long data,
+              HttpCache cache,
+              HttpCache.Hit hit,
+              NetworkMetrics.Timing timing) {
         if (url.startsWith("http://") || url.startsWith("https://")) {
             return new HTTP2Loader(
                 webPage,
@@ -122,7 +132,10 @@ final class HTTP2Loader extends URLLoaderBase {
                 method,
                 headers,
                 formDataElements,
-                data);
+                data,
+                cache,
+                hit,
+                timing);
         }
         return null;
     }
@@ -266,13 +279,20 @@ final class HTTP2Loader extends URLLoaderBase {
                     final byte[] buf = new byte[8 * 1024];
                     final int read = in.read(buf);
                     if (read < 0) {
+                        commitToCache();
                         didFinishLoading();
                         break;
                     }
+                    receivedBytes += read;
+                    if (writer != null) {
+                        writer.write(buf, 0, read);
+                    }
                     didReceiveData(buf, read);
                 }
             } catch (IOException ex) {
                 didFail(ex);
+            } finally {
+                abortCaching();
             }
         });
         return new BodySubscriber<>() {
@@ -311,14 +331,23 @@ final class HTTP2Loader extends URLLoaderBase {
 
             @Override
             public void onComplete() {
+                commitToCache();
                 didFinishLoading();
             }
 
             @Override
-            public void onError(Throwable th) {}
+            public void onError(Throwable th) {
+                abortCaching();
+            }
 
             @Override
             public void onNext(final List<ByteBuffer> bytes) {
+                for (ByteBuffer bb : bytes) {
+                    receivedBytes += bb.remaining();
+                    if (writer != null) {
+                        writer.write(bb);
+                    }
+                }
                 didReceiveData(bytes);
                 requestIfNotCancelled();
             }
@@ -335,6 +364,7 @@ final class HTTP2Loader extends URLLoaderBase {
 
             private void requestIfNotCancelled() {
                 if (canceled) {
+                    abortCaching();
                     subscription.cancel();
                 } else {
                     subscription.request(1);
@@ -356,7 +386,10 @@ final class HTTP2Loader extends URLLoaderBase {
               String method,
               String headers,
               FormDataElement[] formDataElements,
-              long data)
+              long data,
+              HttpCache cache,
+              HttpCache.Hit hit,
+              NetworkMetrics.Timing timing)
     {
         this.webPage = webPage;
         this.asynchronous = asynchronous;
@@ -365,6 +398,9 @@ final class HTTP2Loader extends URLLoaderBase {
         this.headers = headers;
         this.formDataElements = formDataElements;
         this.data = data;
+        this.cache = cache;
+        this.hit = hit;
+        this.timing = timing;
 
         URI uri;
         try {
@@ -375,21 +411,49 @@ final class HTTP2Loader extends URLLoaderBase {
             return;
         }
 
-        final var request = HttpRequest.newBuilder()
+        final var requestBuilder = HttpRequest.newBuilder()
                                .uri(uri)
                                .headers(getRequestHeaders()) // headers from WebCore
                                .headers(getCustomHeaders()) // headers set by us
                                .version(Version.HTTP_2)  // this is the default
-                               .method(method, getFormDataPublisher())
-                               .build();
+                               .method(method, getFormDataPublisher());
+        if (hit != null) {
+            // Validate the response stored in the HTTP cache
+            final String[] validators = hit.getValidators();
+            for (int i = 0; i < validators.length; i += 2) {
+                requestBuilder.setHeader(validators[i], validators[i + 1]);
+            }
+        }
+        final var request = requestBuilder.build();
 
         final BodyHandler<Void> bodyHandler = rsp -> {
+            final long responseTime = System.currentTimeMillis();
+            timing.responded();
+            if (hit != null && rsp.statusCode() == 304) {
+                // The request was a validation of a cached response
+                final HttpCache.Hit validated = cache.revalidated(
+                        hit, rsp.headers().map(), requestTime, responseTime);
+                replay = new CachedLoader(true, url, validated,
+                        data, timing, NetworkMetrics.Source.VALIDATED);
+                if (!canceled) {
+                    replay.run();
+                }
+                return BodySubscribers.discarding();
+            }
             if(!handleRedirectionIfNeeded(rsp)) {
                 didReceiveResponse(rsp);
+                if (cache != null) {
+                    writer = cache.store(url, headers, rsp.statusCode(),
+                            rsp.headers().map(), getContentType(rsp), "",
+                            requestTime, responseTime);
+                }
             }
             return getBodySubscriber(getContentEncoding(rsp));
         };
 
+        timing.started();
+        requestTime = System.currentTimeMillis();
+
         this.response = HTTP_CLIENT.sendAsync(request, bodyHandler)
                               .thenAccept($ -> {})
                               .exceptionally(ex -> didFail(ex.getCause()));
@@ -408,6 +472,11 @@ final class HTTP2Loader extends URLLoaderBase {
             logger.finest(String.format("data: [0x%016X]", data));
         }
         canceled = true;
+        timing.canceled();
+        final CachedLoader r = replay;
+        if (r != null) {
+            r.fwkCancel();
+        }
     }
 
     private void callBackIfNotCanceled(final Runnable r) {
@@ -541,7 +610,22 @@ final class HTTP2Loader extends URLLoaderBase {
         twkDidReceiveData(byteBuffer, byteBuffer.position(), byteBuffer.remaining(), data);
     }
 
+    private void commitToCache() {
+        if (writer != null) {
+            writer.commit();
+            writer = null;
+        }
+    }
+
+    private void abortCaching() {
+        if (writer != null) {
+            writer.abort();
+            writer = null;
+        }
+    }
+
     private void didFinishLoading() {
+        timing.finished(NetworkMetrics.Source.NETWORK, receivedBytes);
         callBackIfNotCanceled(this::notifyDidFinishLoading);
     }
 
@@ -555,6 +639,7 @@ final class HTTP2Loader extends URLLoaderBase {
 
 
     private Void didFail(final Throwable th) {
+        timing.failed();
         callBackIfNotCanceled(() ->  {
             // FIXME: simply copied from URLLoader.java, it should be
             // retwritten using if..else rather than throw.
@@ -0,0 +1,985 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.webkit.network;
+
+import com.sun.javafx.logging.PlatformLogger;
+import com.sun.javafx.logging.PlatformLogger.Level;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A private, on-disk HTTP cache shared by all the loaders of the process.
+ *
+ * The cache follows the storage, freshness and validation rules of RFC 9111
+ * for {@code GET} requests answered with {@code 200 OK}. A stored response
+ * is replayed without touching the network while it is fresh; once stale,
+ * it is revalidated with {@code If-None-Match} or {@code If-Modified-Since},
+ * and replayed again if the server answers {@code 304 Not Modified}.
+ *
+ * Each entry consists of a metadata file holding the URL, the response
+ * headers, the content type and encoding reported to WebCore and the values
+ * of the request headers the response varies on, and of a body file holding
+ * the decoded response body. Bodies are read by
+ * mapping the body file into memory, so replaying a response does not copy
+ * it on the Java heap. The metadata of all the entries is kept in memory,
+ * in least recently used order, and the oldest entries are evicted as soon
+ * as the total size of the cache exceeds its bound.
+ *
+ * Requests that are already conditional, range requests and requests that
+ * ask not to be stored bypass the cache, since WebCore manages these
+ * exchanges itself.
+ */
+final class HttpCache {
+
+    private static final PlatformLogger logger =
+            PlatformLogger.getLogger(HttpCache.class.getName());
+
+    private static final int MAGIC = 0x4A465843;
+    private static final int VERSION = 2;
+    private static final String HEADER_SUFFIX = ".hdr";
+    private static final String BODY_SUFFIX = ".body";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * The largest entry, as a fraction of the size of the cache.
+     */
+    private static final int MAX_ENTRY_FRACTION = 8;
+
+    /**
+     * The longest URL that is stored.
+     */
+    private static final int MAX_URL_LENGTH = 8 * 1024;
+
+    /**
+     * The headers that describe the encoding of the response on the wire
+     * or that must not be replayed. Bodies are stored decoded.
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "connection", "content-encoding", "content-length", "keep-alive",
+            "proxy-connection", "set-cookie", "set-cookie2",
+            "trailer", "transfer-encoding", "upgrade");
+
+
+    private final Path directory;
+    private final long maxSize;
+    private final long maxEntrySize;
+    private final LinkedHashMap<String, Entry> entries =
+            new LinkedHashMap<>(64, 0.75f, true);
+    private long size;
+
+
+    /**
+     * Creates a new cache in the given directory, loading the entries
+     * stored there by a previous instance.
+     */
+    HttpCache(Path directory, long maxSize) throws IOException {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize: " + maxSize);
+        }
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.maxEntrySize = maxSize / MAX_ENTRY_FRACTION;
+        Files.createDirectories(directory);
+        load();
+    }
+
+
+    /**
+     * Returns the maximum size of this cache, in bytes.
+     */
+    long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the current size of this cache, in bytes.
+     */
+    synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     */
+    synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Looks up a response for a {@code GET} request.
+     *
+     * @param url the URL of the request
+     * @param requestHeaders the request headers, one {@code name: value}
+     *        pair per line
+     * @return the cached response, or {@code null} if there is none
+     *         that can be used for the request
+     */
+    Hit lookup(String url, String requestHeaders) {
+        CacheControl requestControl =
+                CacheControl.parse(header(requestHeaders, "cache-control"));
+        if (requestControl.noStore || !isCacheableRequest(requestHeaders)) {
+            return null;
+        }
+
+        String key = key(url);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null || !entry.url.equals(stripFragment(url))
+                || !entry.matchesVary(requestHeaders))
+        {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        long age = entry.currentAge(now);
+        boolean fresh = entry.freshnessLifetime() > age
+                && !entry.control.noCache
+                && !requestControl.noCache
+                && !"no-cache".equalsIgnoreCase(header(requestHeaders, "pragma"))
+                && (requestControl.maxAge < 0 || requestControl.maxAge * 1000 > age);
+        if (!fresh && !entry.hasValidators()) {
+            return null;
+        }
+
+        ByteBuffer body = map(entry);
+        if (body == null) {
+            remove(entry);
+            return null;
+        }
+        return new Hit(entry, body, fresh);
+    }
+
+    /**
+     * Updates a stale response after the server has answered its
+     * validation with {@code 304 Not Modified}.
+     *
+     * @return the refreshed response, with the same body
+     */
+    Hit revalidated(Hit hit,
+                    Map<String, List<String>> responseHeaders,
+                    long requestTime,
+                    long responseTime)
+    {
+        Entry old = hit.entry;
+        TreeMap<String, List<String>> headers = copyHeaders(old.headers);
+        for (Map.Entry<String, List<String>> e : copyHeaders(responseHeaders).entrySet()) {
+            headers.put(e.getKey(), e.getValue());
+        }
+        Entry entry = new Entry(old.key, old.url, old.status, headers,
+                old.contentType, old.contentEncoding, old.vary,
+                requestTime, responseTime, old.bodyFile, old.bodyLength);
+        synchronized (this) {
+            if (entries.get(old.key) == old) {
+                try {
+                    writeEntry(entry);
+                    entries.put(old.key, entry);
+                    size += entry.size() - old.size();
+                } catch (IOException ex) {
+                    logger.fine("Cannot update cache entry", ex);
+                }
+            }
+        }
+        return new Hit(entry, hit.body.duplicate(), true);
+    }
+
+    /**
+     * Starts storing a response to a {@code GET} request.
+     *
+     * @param contentType the content type reported to WebCore for the
+     *        response, or {@code null}
+     * @param contentEncoding the content encoding reported to WebCore for
+     *        the response, or {@code null}
+     * @return a writer for the decoded response body, or {@code null}
+     *         if the response cannot be stored
+     */
+    Writer store(String url,
+                 String requestHeaders,
+                 int status,
+                 Map<String, List<String>> responseHeaders,
+                 String contentType,
+                 String contentEncoding,
+                 long requestTime,
+                 long responseTime)
+    {
+        if (status != 200 || url.length() > MAX_URL_LENGTH
+                || !isCacheableRequest(requestHeaders))
+        {
+            return null;
+        }
+        TreeMap<String, List<String>> headers = copyHeaders(responseHeaders);
+        CacheControl control = CacheControl.parse(join(headers.get("cache-control")));
+        CacheControl requestControl =
+                CacheControl.parse(header(requestHeaders, "cache-control"));
+        if (control.noStore || requestControl.noStore) {
+            return null;
+        }
+        // RFC 9111, 3.5
+        if (header(requestHeaders, "authorization") != null
+                && !control.isPublic && !control.mustRevalidate
+                && !control.hasSharedMaxAge)
+        {
+            return null;
+        }
+        if (control.maxAge < 0 && !headers.containsKey("expires")
+                && !headers.containsKey("etag")
+                && !headers.containsKey("last-modified"))
+        {
+            return null;
+        }
+        String contentLength = null;
+        for (Map.Entry<String, List<String>> e : responseHeaders.entrySet()) {
+            if ("content-length".equalsIgnoreCase(e.getKey())) {
+                contentLength = join(e.getValue());
+            }
+        }
+        if (contentLength != null) {
+            try {
+                if (Long.parseLong(contentLength.trim()) > maxEntrySize) {
+                    return null;
+                }
+            } catch (NumberFormatException ignore) {
+            }
+        }
+
+        Map<String, String> vary = new TreeMap<>();
+        String varyHeader = join(headers.get("vary"));
+        if (varyHeader != null) {
+            for (String name : varyHeader.split(",")) {
+                name = name.trim().toLowerCase(Locale.ROOT);
+                if (name.equals("*")) {
+                    return null;
+                }
+                if (!name.isEmpty()) {
+                    String value = header(requestHeaders, name);
+                    vary.put(name, value != null ? value : "");
+                }
+            }
+        }
+
+        String key = key(url);
+        try {
+            Path tempFile = Files.createTempFile(directory, key + "-", TEMP_SUFFIX);
+            Entry entry = new Entry(key, stripFragment(url), status, headers,
+                    contentType, contentEncoding, vary,
+                    requestTime, responseTime, null, 0);
+            return new Writer(entry, tempFile);
+        } catch (IOException ex) {
+            logger.fine("Cannot create cache entry", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Removes the response stored for a URL. Used when a request with
+     * an unsafe method is sent to the URL, as per RFC 9111, 4.4.
+     */
+    void invalidate(String url) {
+        String key = key(url);
+        synchronized (this) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                size -= entry.size();
+                delete(entry);
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries of this cache.
+     */
+    synchronized void clear() {
+        for (Entry entry : entries.values()) {
+            delete(entry);
+        }
+        entries.clear();
+        size = 0;
+    }
+
+    private synchronized void remove(Entry entry) {
+        if (entries.get(entry.key) == entry) {
+            entries.remove(entry.key);
+            size -= entry.size();
+            delete(entry);
+        }
+    }
+
+    private synchronized void commit(Entry entry, Path tempFile) throws IOException {
+        Path bodyFile = directory.resolve(entry.bodyFile);
+        move(tempFile, bodyFile);
+        try {
+            writeEntry(entry);
+        } catch (IOException ex) {
+            Files.deleteIfExists(bodyFile);
+            throw ex;
+        }
+        Entry old = entries.put(entry.key, entry);
+        size += entry.size();
+        if (old != null) {
+            size -= old.size();
+            deleteQuietly(directory.resolve(old.bodyFile));
+        }
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (size > maxSize && it.hasNext()) {
+            Entry entry = it.next();
+            it.remove();
+            size -= entry.size();
+            delete(entry);
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest("Evicted " + entry.url);
+            }
+        }
+    }
+
+    private ByteBuffer map(Entry entry) {
+        if (entry.bodyLength == 0) {
+            return ByteBuffer.allocateDirect(0);
+        }
+        try (FileChannel channel = FileChannel.open(
+                directory.resolve(entry.bodyFile), StandardOpenOption.READ))
+        {
+            if (channel.size() != entry.bodyLength) {
+                return null;
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, entry.bodyLength);
+        } catch (IOException ex) {
+            logger.fine("Cannot map cached body", ex);
+            return null;
+        }
+    }
+
+    private void delete(Entry entry) {
+        deleteQuietly(directory.resolve(entry.key + HEADER_SUFFIX));
+        deleteQuietly(directory.resolve(entry.bodyFile));
+    }
+
+    /**
+     * Deletes a file. The deletion of a body that is still mapped fails on
+     * some platforms, in which case the file is removed on the next start.
+     */
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            logger.fine("Cannot delete " + file, ex);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void writeEntry(Entry entry) throws IOException {
+        Path tempFile = Files.createTempFile(directory, entry.key + "-", TEMP_SUFFIX);
+        try {
+            try (OutputStream os = Files.newOutputStream(tempFile);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os)))
+            {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(entry.url);
+                out.writeInt(entry.status);
+                out.writeLong(entry.requestTime);
+                out.writeLong(entry.responseTime);
+                out.writeUTF(entry.bodyFile);
+                out.writeLong(entry.bodyLength);
+                writeString(out, entry.contentType);
+                writeString(out, entry.contentEncoding);
+                int count = 0;
+                for (List<String> values : entry.headers.values()) {
+                    count += values.size();
+                }
+                out.writeInt(count);
+                for (Map.Entry<String, List<String>> e : entry.headers.entrySet()) {
+                    for (String value : e.getValue()) {
+                        out.writeUTF(e.getKey());
+                        out.writeUTF(value);
+                    }
+                }
+                out.writeInt(entry.vary.size());
+                for (Map.Entry<String, String> e : entry.vary.entrySet()) {
+                    out.writeUTF(e.getKey());
+                    out.writeUTF(e.getValue());
+                }
+            }
+            move(tempFile, directory.resolve(entry.key + HEADER_SUFFIX));
+        } catch (IOException ex) {
+            deleteQuietly(tempFile);
+            throw ex;
+        }
+    }
+
+    private static Entry readEntry(Path file, String key) throws IOException {
+        try (InputStream is = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(is)))
+        {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unknown cache entry format");
+            }
+            String url = in.readUTF();
+            int status = in.readInt();
+            long requestTime = in.readLong();
+            long responseTime = in.readLong();
+            String bodyFile = in.readUTF();
+            long bodyLength = in.readLong();
+            String contentType = readString(in);
+            String contentEncoding = readString(in);
+            TreeMap<String, List<String>> headers =
+                    new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (int i = in.readInt(); i > 0; i--) {
+                String name = in.readUTF();
+                headers.computeIfAbsent(name, n -> new ArrayList<>()).add(in.readUTF());
+            }
+            Map<String, String> vary = new TreeMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                vary.put(in.readUTF(), in.readUTF());
+            }
+            return new Entry(key, url, status, headers,
+                    contentType, contentEncoding, vary,
+                    requestTime, responseTime, bodyFile, bodyLength);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Loads the entries stored in the cache directory, oldest first,
+     * and removes the files that do not belong to any entry.
+     */
+    private void load() throws IOException {
+        List<Entry> loaded = new ArrayList<>();
+        List<Path> others = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(HEADER_SUFFIX)) {
+                    String key = name.substring(0, name.length() - HEADER_SUFFIX.length());
+                    try {
+                        Entry entry = readEntry(file, key);
+                        if (key.equals(key(entry.url))
+                                && Files.size(directory.resolve(entry.bodyFile)) == entry.bodyLength)
+                        {
+                            loaded.add(entry);
+                            continue;
+                        }
+                    } catch (IOException ex) {
+                        logger.fine("Discarding cache entry " + file, ex);
+                    }
+                    deleteQuietly(file);
+                } else if (name.endsWith(BODY_SUFFIX) || name.endsWith(TEMP_SUFFIX)) {
+                    others.add(file);
+                }
+            }
+        }
+
+        loaded.sort((a, b) -> Long.compare(a.responseTime, b.responseTime));
+        Set<String> bodies = new HashSet<>();
+        synchronized (this) {
+            for (Entry entry : loaded) {
+                entries.put(entry.key, entry);
+                size += entry.size();
+                bodies.add(entry.bodyFile);
+            }
+            evict();
+        }
+        for (Path file : others) {
+            if (!bodies.contains(file.getFileName().toString())) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private static boolean isCacheableRequest(String requestHeaders) {
+        return header(requestHeaders, "range") == null
+                && header(requestHeaders, "if-none-match") == null
+                && header(requestHeaders, "if-modified-since") == null
+                && header(requestHeaders, "if-match") == null
+                && header(requestHeaders, "if-unmodified-since") == null;
+    }
+
+    /**
+     * Returns the value of a header in a string holding one
+     * {@code name: value} pair per line, or {@code null}.
+     */
+    static String header(String headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        String result = null;
+        for (String line : headers.split("\n")) {
+            int i = line.indexOf(':');
+            if (i > 0 && line.substring(0, i).trim().equalsIgnoreCase(name)) {
+                String value = line.substring(i + 1).trim();
+                result = result == null ? value : result + ", " + value;
+            }
+        }
+        return result;
+    }
+
+    private static String join(List<String> values) {
+        return values == null || values.isEmpty() ? null : String.join(", ", values);
+    }
+
+    /**
+     * Copies response headers, dropping the status line of
+     * {@code URLConnection}, pseudo-headers and the excluded headers.
+     */
+    private static TreeMap<String, List<String>> copyHeaders(Map<String, List<String>> headers) {
+        TreeMap<String, List<String>> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, List<String>> e : headers.entrySet()) {
+            String name = e.getKey();
+            if (name == null || name.startsWith(":")
+                    || EXCLUDED_HEADERS.contains(name.toLowerCase(Locale.ROOT)))
+            {
+                continue;
+            }
+            copy.computeIfAbsent(name, n -> new ArrayList<>()).addAll(e.getValue());
+        }
+        return copy;
+    }
+
+    private static String stripFragment(String url) {
+        int i = url.indexOf('#');
+        return i < 0 ? url : url.substring(0, i);
+    }
+
+    static String key(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(stripFragment(url).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private static long parseDate(String date) {
+        if (date == null) {
+            return -1;
+        }
+        try {
+            return DateParser.parse(date);
+        } catch (ParseException ex) {
+            return -1;
+        }
+    }
+
+    private static long parseSeconds(String value) {
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+
+    /**
+     * A stored response.
+     */
+    static final class Entry {
+        private final String key;
+        private final String url;
+        private final int status;
+        private final TreeMap<String, List<String>> headers;
+        private final String contentType;
+        private final String contentEncoding;
+        private final Map<String, String> vary;
+        private final long requestTime;
+        private final long responseTime;
+        private final String bodyFile;
+        private final long bodyLength;
+        private final CacheControl control;
+
+        private Entry(String key,
+                      String url,
+                      int status,
+                      TreeMap<String, List<String>> headers,
+                      String contentType,
+                      String contentEncoding,
+                      Map<String, String> vary,
+                      long requestTime,
+                      long responseTime,
+                      String bodyFile,
+                      long bodyLength)
+        {
+            this.key = key;
+            this.url = url;
+            this.status = status;
+            this.headers = headers;
+            this.contentType = contentType;
+            this.contentEncoding = contentEncoding;
+            this.vary = vary;
+            this.requestTime = requestTime;
+            this.responseTime = responseTime;
+            this.bodyFile = bodyFile;
+            this.bodyLength = bodyLength;
+            this.control = CacheControl.parse(header("cache-control"));
+        }
+
+        String getUrl() {
+            return url;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        long getBodyLength() {
+            return bodyLength;
+        }
+
+        /**
+         * Returns the content type reported to WebCore when the response
+         * was received, or {@code null}.
+         */
+        String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * Returns the content encoding reported to WebCore when the response
+         * was received, or {@code null}.
+         */
+        String getContentEncoding() {
+            return contentEncoding;
+        }
+
+        String header(String name) {
+            return join(headers.get(name));
+        }
+
+        /**
+         * Returns the response headers, as passed to WebCore.
+         */
+        String getHeaders() {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, List<String>> e : headers.entrySet()) {
+                sb.append(e.getKey()).append(':').append(String.join(",", e.getValue())).append('\n');
+            }
+            sb.append("Content-Length:").append(bodyLength).append('\n');
+            return sb.toString();
+        }
+
+        boolean hasValidators() {
+            return headers.containsKey("etag") || headers.containsKey("last-modified");
+        }
+
+        /**
+         * Returns the freshness lifetime in milliseconds (RFC 9111, 4.2.1).
+         */
+        long freshnessLifetime() {
+            if (control.maxAge >= 0) {
+                return control.maxAge * 1000;
+            }
+            long date = parseDate(header("date"));
+            if (date < 0) {
+                date = responseTime;
+            }
+            if (headers.containsKey("expires")) {
+                long expires = parseDate(header("expires"));
+                return expires < 0 ? 0 : Math.max(0, expires - date);
+            }
+            // Heuristic freshness (RFC 9111, 4.2.2)
+            long lastModified = parseDate(header("last-modified"));
+            if (lastModified >= 0 && lastModified < date) {
+                return (date - lastModified) / 10;
+            }
+            return 0;
+        }
+
+        /**
+         * Returns the current age in milliseconds (RFC 9111, 4.2.3).
+         */
+        long currentAge(long now) {
+            long date = parseDate(header("date"));
+            long apparentAge = date < 0 ? 0 : Math.max(0, responseTime - date);
+            String age = header("age");
+            long ageValue = age != null ? Math.max(0, parseSeconds(age)) * 1000 : 0;
+            long correctedAge = ageValue + Math.max(0, responseTime - requestTime);
+            long initialAge = Math.max(apparentAge, correctedAge);
+            return initialAge + Math.max(0, now - responseTime);
+        }
+
+        private boolean matchesVary(String requestHeaders) {
+            for (Map.Entry<String, String> e : vary.entrySet()) {
+                String value = header(requestHeaders, e.getKey());
+                if (!e.getValue().equals(value != null ? value : "")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String header(String requestHeaders, String name) {
+            return HttpCache.header(requestHeaders, name);
+        }
+
+        /**
+         * Returns the size accounted for this entry, in bytes.
+         */
+        private long size() {
+            long headersSize = url.length();
+            for (Map.Entry<String, List<String>> e : headers.entrySet()) {
+                for (String value : e.getValue()) {
+                    headersSize += e.getKey().length() + value.length();
+                }
+            }
+            return bodyLength + headersSize;
+        }
+
+        private Entry withBody(String bodyFile, long bodyLength) {
+            return new Entry(key, url, status, headers,
+                    contentType, contentEncoding, vary,
+                    requestTime, responseTime, bodyFile, bodyLength);
+        }
+    }
+
+    /**
+     * The result of a successful lookup: a stored response and its
+     * memory-mapped body.
+     */
+    static final class Hit {
+        private final Entry entry;
+        private final ByteBuffer body;
+        private final boolean fresh;
+
+        private Hit(Entry entry, ByteBuffer body, boolean fresh) {
+            this.entry = entry;
+            this.body = body;
+            this.fresh = fresh;
+        }
+
+        Entry getEntry() {
+            return entry;
+        }
+
+        /**
+         * Returns the body, as a read-only direct buffer.
+         */
+        ByteBuffer getBody() {
+            return body.duplicate();
+        }
+
+        /**
+         * Returns the request headers that validate the response, as
+         * name and value pairs.
+         */
+        String[] getValidators() {
+            List<String> validators = new ArrayList<>();
+            String etag = entry.header("etag");
+            if (etag != null) {
+                validators.add("If-None-Match");
+                validators.add(etag);
+            }
+            String lastModified = entry.header("last-modified");
+            if (lastModified != null) {
+                validators.add("If-Modified-Since");
+                validators.add(lastModified);
+            }
+            return validators.toArray(new String[0]);
+        }
+
+        /**
+         * Returns whether the response can be used without validation.
+         */
+        boolean isFresh() {
+            return fresh;
+        }
+    }
+
+    /**
+     * Writes the body of a response to a temporary file, and adds
+     * the response to the cache on {@link #commit()}.
+     * A writer is used by one thread at a time.
+     */
+    final class Writer {
+        private final Entry entry;
+        private final Path tempFile;
+        private FileChannel channel;
+        private long length;
+
+        private Writer(Entry entry, Path tempFile) throws IOException {
+            this.entry = entry;
+            this.tempFile = tempFile;
+            this.channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+        }
+
+        /**
+         * Appends the remaining bytes of a buffer to the body, without
+         * changing the position of the buffer.
+         */
+        void write(ByteBuffer buffer) {
+            if (channel == null) {
+                return;
+            }
+            ByteBuffer src = buffer.duplicate();
+            length += src.remaining();
+            if (length > maxEntrySize) {
+                abort();
+                return;
+            }
+            try {
+                while (src.hasRemaining()) {
+                    channel.write(src);
+                }
+            } catch (IOException ex) {
+                logger.fine("Cannot write cache entry", ex);
+                abort();
+            }
+        }
+
+        void write(byte[] bytes, int offset, int count) {
+            write(ByteBuffer.wrap(bytes, offset, count));
+        }
+
+        /**
+         * Completes the body and adds the response to the cache.
+         */
+        void commit() {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+                channel = null;
+                String tempName = tempFile.getFileName().toString();
+                String bodyFile = tempName.substring(0, tempName.length()
+                        - TEMP_SUFFIX.length()) + BODY_SUFFIX;
+                HttpCache.this.commit(entry.withBody(bodyFile, length), tempFile);
+            } catch (IOException ex) {
+                logger.fine("Cannot commit cache entry", ex);
+                abort();
+            }
+        }
+
+        /**
+         * Discards the body, if not committed yet.
+         */
+        void abort() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignore) {
+                }
+                channel = null;
+            }
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * The directives of a {@code Cache-Control} header that matter
+     * to a private cache.
+     */
+    private static final class CacheControl {
+        private static final CacheControl EMPTY = new CacheControl();
+
+        private boolean noStore;
+        private boolean noCache;
+        private boolean mustRevalidate;
+        private boolean isPublic;
+        private boolean hasSharedMaxAge;
+        private long maxAge = -1;
+
+        private static CacheControl parse(String value) {
+            if (value == null || value.isBlank()) {
+                return EMPTY;
+            }
+            CacheControl control = new CacheControl();
+            for (String directive : value.split(",")) {
+                int i = directive.indexOf('=');
+                String name = (i < 0 ? directive : directive.substring(0, i))
+                        .trim().toLowerCase(Locale.ROOT);
+                String argument = i < 0 ? null : directive.substring(i + 1).trim();
+                if (argument != null && argument.length() >= 2 && argument.startsWith("\"")
+                        && argument.endsWith("\""))
+                {
+                    argument = argument.substring(1, argument.length() - 1);
+                }
+                switch (name) {
+                    case "no-store" -> control.noStore = true;
+                    case "no-cache" -> control.noCache = true;
+                    case "must-revalidate" -> control.mustRevalidate = true;
+                    case "public" -> control.isPublic = true;
+                    case "s-maxage" -> control.hasSharedMaxAge = true;
+                    case "max-age" -> {
+                        long seconds = argument != null ? parseSeconds(argument) : -1;
+                        // RFC 9111, 4.2.1: an invalid max-age means stale
+                        control.maxAge = seconds >= 0 ? seconds : 0;
+                    }
+                    default -> { }
+                }
+            }
+            return control;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,7 +27,9 @@ package com.sun.webkit.network;
 
 import static com.sun.webkit.network.URLs.newURL;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
@@ -70,6 +72,11 @@ final class NetworkContext {
      */
     private static final int BYTE_BUFFER_SIZE = 1024 * 40;
 
+    /**
+     * The default maximum size of the HTTP cache.
+     */
+    private static final long DEFAULT_HTTP_CACHE_SIZE = 64L * 1024 * 1024;
+
     /**
      * The thread pool used to execute asynchronous loaders.
      */
@@ -78,7 +85,7 @@ final class NetworkContext {
     /**
      * Can use HTTP2Loader
      */
-    private static final boolean useHTTP2Loader;
+    private static volatile boolean useHTTP2Loader;
     static {
         threadPool = new ThreadPoolExecutor(
                 THREAD_POOL_SIZE,
@@ -101,6 +108,14 @@ final class NetworkContext {
     private static final ByteBufferPool byteBufferPool =
             ByteBufferPool.newInstance(BYTE_BUFFER_SIZE);
 
+    /**
+     * The HTTP cache shared by all the loaders, or {@code null} if disabled.
+     * The cache is enabled by setting the "com.sun.webkit.httpCache.dir"
+     * system property to the directory that holds it; its size in bytes
+     * is set with the "com.sun.webkit.httpCache.maxSize" system property.
+     */
+    private static volatile HttpCache httpCache = createHttpCache();
+
 
     /**
      * Non-invocable constructor.
@@ -110,6 +125,45 @@ final class NetworkContext {
     }
 
 
+    /**
+     * Creates the HTTP cache, if enabled.
+     */
+    private static HttpCache createHttpCache() {
+        String dir = System.getProperty("com.sun.webkit.httpCache.dir");
+        if (dir == null || dir.isEmpty()) {
+            return null;
+        }
+        long maxSize = Long.getLong("com.sun.webkit.httpCache.maxSize", DEFAULT_HTTP_CACHE_SIZE);
+        try {
+            return new HttpCache(Path.of(dir), maxSize);
+        } catch (IOException | RuntimeException ex) {
+            logger.warning("Cannot create HTTP cache in " + dir, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the HTTP cache used by new loaders. Used by tests.
+     *
+     * @return the previous cache
+     */
+    static HttpCache setHttpCache(HttpCache cache) {
+        HttpCache previous = httpCache;
+        httpCache = cache;
+        return previous;
+    }
+
+    /**
+     * Selects the loader used for new HTTP loads. Used by tests.
+     */
+    static void setUseHTTP2Loader(boolean value) {
+        useHTTP2Loader = value;
+    }
+
+    static boolean isUseHTTP2Loader() {
+        return useHTTP2Loader;
+    }
+
     /**
      * Checks whether a URL is valid or not. I.E. if we do have a protocol
      * handler to deal with it.
@@ -157,6 +211,38 @@ final class NetworkContext {
                     Util.formatHeaders(headers)));
         }
 
+        final HttpCache sharedCache = httpCache;
+        HttpCache cache = null;
+        HttpCache.Hit hit = null;
+        if (sharedCache != null
+                && (url.startsWith("http://") || url.startsWith("https://")))
+        {
+            if ("GET".equals(method) && formDataElements == null) {
+                cache = sharedCache;
+                hit = cache.lookup(url, headers);
+            } else if (!"HEAD".equals(method)) {
+                sharedCache.invalidate(url);
+            }
+        }
+
+        final NetworkMetrics.Timing timing = NetworkMetrics.start(method, url);
+        if (hit != null && hit.isFresh()) {
+            CachedLoader loader = new CachedLoader(
+                    asynchronous,
+                    url,
+                    hit,
+                    data,
+                    timing,
+                    NetworkMetrics.Source.CACHE);
+            if (asynchronous) {
+                threadPool.submit(loader);
+                return loader;
+            } else {
+                loader.run();
+                return null;
+            }
+        }
+
         if (useHTTP2Loader) {
             final URLLoaderBase loader = HTTP2Loader.create(
                 webPage,
@@ -166,7 +252,10 @@ final class NetworkContext {
                 method,
                 headers,
                 formDataElements,
-                data);
+                data,
+                cache,
+                hit,
+                timing);
             if (loader != null) {
                 return loader;
             }
@@ -180,7 +269,10 @@ final class NetworkContext {
                 method,
                 headers,
                 formDataElements,
-                data);
+                data,
+                cache,
+                hit,
+                timing);
         if (asynchronous) {
             threadPool.submit(loader);
             if (logger.isLoggable(Level.FINEST)) {
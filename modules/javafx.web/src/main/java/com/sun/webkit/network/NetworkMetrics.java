@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.webkit.network;
+
+import com.sun.javafx.logging.PlatformLogger;
+import com.sun.javafx.logging.PlatformLogger.Level;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timing and queueing metrics of the loaders.
+ *
+ * Every load records the time it waited for a loader thread, the time
+ * until the response headers arrived, the total time and the number of
+ * body bytes, together with where the response came from. The totals are
+ * kept for the whole process; each finished load is also logged at the
+ * {@code FINE} level.
+ */
+final class NetworkMetrics {
+
+    private static final PlatformLogger logger =
+            PlatformLogger.getLogger(NetworkMetrics.class.getName());
+
+    /**
+     * Where the body of a response came from.
+     */
+    enum Source {
+        /** The network. */
+        NETWORK,
+        /** A fresh response of the HTTP cache. */
+        CACHE,
+        /** A stale response of the HTTP cache, validated with the server. */
+        VALIDATED
+    }
+
+    private static final LongAdder requestCount = new LongAdder();
+    private static final LongAdder finishedCount = new LongAdder();
+    private static final LongAdder failedCount = new LongAdder();
+    private static final LongAdder canceledCount = new LongAdder();
+    private static final LongAdder cacheHitCount = new LongAdder();
+    private static final LongAdder validatedCount = new LongAdder();
+    private static final LongAdder networkBytes = new LongAdder();
+    private static final LongAdder cacheBytes = new LongAdder();
+    private static final LongAdder queueNanos = new LongAdder();
+    private static final LongAdder responseNanos = new LongAdder();
+    private static final LongAdder loadNanos = new LongAdder();
+    private static final AtomicLong maxQueueNanos = new AtomicLong();
+
+
+    /**
+     * Non-invocable constructor.
+     */
+    private NetworkMetrics() {
+        throw new AssertionError();
+    }
+
+
+    /**
+     * Starts timing a load. The load is considered queued until
+     * {@link Timing#started()} is called.
+     */
+    static Timing start(String method, String url) {
+        requestCount.increment();
+        return new Timing(method, url);
+    }
+
+    static long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    static long getFinishedCount() {
+        return finishedCount.sum();
+    }
+
+    static long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    static long getCanceledCount() {
+        return canceledCount.sum();
+    }
+
+    static long getCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    static long getValidatedCount() {
+        return validatedCount.sum();
+    }
+
+    static long getNetworkBytes() {
+        return networkBytes.sum();
+    }
+
+    static long getCacheBytes() {
+        return cacheBytes.sum();
+    }
+
+    /**
+     * Returns the total time the finished loads waited for a loader
+     * thread, in nanoseconds.
+     */
+    static long getQueueNanos() {
+        return queueNanos.sum();
+    }
+
+    /**
+     * Returns the longest time a finished load waited for a loader
+     * thread, in nanoseconds.
+     */
+    static long getMaxQueueNanos() {
+        return maxQueueNanos.get();
+    }
+
+    /**
+     * Returns the total time between the start of the finished loads and
+     * the arrival of their response headers, in nanoseconds.
+     */
+    static long getResponseNanos() {
+        return responseNanos.sum();
+    }
+
+    /**
+     * Returns the total duration of the finished loads, in nanoseconds.
+     */
+    static long getLoadNanos() {
+        return loadNanos.sum();
+    }
+
+    /**
+     * The timing of a single load. Each phase is recorded once; later calls
+     * are ignored, and so are all calls once the load has ended.
+     */
+    static final class Timing {
+        private final String method;
+        private final String url;
+        private final long createdNanos = System.nanoTime();
+        private volatile long startedNanos;
+        private volatile long respondedNanos;
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        private Timing(String method, String url) {
+            this.method = method;
+            this.url = url;
+        }
+
+        /**
+         * Records that the load left the queue and started.
+         */
+        void started() {
+            if (startedNanos == 0) {
+                startedNanos = System.nanoTime();
+            }
+        }
+
+        /**
+         * Records the arrival of the response headers.
+         */
+        void responded() {
+            started();
+            if (respondedNanos == 0) {
+                respondedNanos = System.nanoTime();
+            }
+        }
+
+        /**
+         * Records the end of a successful load.
+         */
+        void finished(Source source, long bytes) {
+            if (!ended.compareAndSet(false, true)) {
+                return;
+            }
+            responded();
+            long now = System.nanoTime();
+            long queued = startedNanos - createdNanos;
+            long response = respondedNanos - startedNanos;
+            long total = now - createdNanos;
+
+            finishedCount.increment();
+            queueNanos.add(queued);
+            maxQueueNanos.accumulateAndGet(queued, Math::max);
+            responseNanos.add(response);
+            loadNanos.add(total);
+            switch (source) {
+                case NETWORK -> networkBytes.add(bytes);
+                case CACHE -> {
+                    cacheHitCount.increment();
+                    cacheBytes.add(bytes);
+                }
+                case VALIDATED -> {
+                    validatedCount.increment();
+                    cacheBytes.add(bytes);
+                }
+            }
+
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine(String.format(
+                        "%s %s: %s, %d bytes, queued %.1f ms, "
+                        + "response %.1f ms, total %.1f ms",
+                        method, url, source, bytes,
+                        queued / 1e6, response / 1e6, total / 1e6));
+            }
+        }
+
+        /**
+         * Records the end of a failed load.
+         */
+        void failed() {
+            if (ended.compareAndSet(false, true)) {
+                failedCount.increment();
+            }
+        }
+
+        /**
+         * Records the cancellation of a load.
+         */
+        void canceled() {
+            if (ended.compareAndSet(false, true)) {
+                canceledCount.increment();
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -79,7 +79,14 @@ final class URLLoader extends URLLoaderBase implements Runnable {
     private final String headers;
     private FormDataElement[] formDataElements;
     private final long data;
+    private final HttpCache cache;
+    private final HttpCache.Hit hit;
+    private final NetworkMetrics.Timing timing;
     private volatile boolean canceled = false;
+    private volatile CachedLoader replay;
+    private long requestTime;
+    private long responseTime;
+    private long receivedBytes;
 
 
     /**
@@ -92,7 +99,10 @@ final class URLLoader extends URLLoaderBase implements Runnable {
               String method,
               String headers,
               FormDataElement[] formDataElements,
-              long data)
+              long data,
+              HttpCache cache,
+              HttpCache.Hit hit,
+              NetworkMetrics.Timing timing)
     {
         this.webPage = webPage;
         this.byteBufferPool = byteBufferPool;
@@ -102,6 +112,9 @@ final class URLLoader extends URLLoaderBase implements Runnable {
         this.headers = headers;
         this.formDataElements = formDataElements;
         this.data = data;
+        this.cache = cache;
+        this.hit = hit;
+        this.timing = timing;
     }
 
 
@@ -114,6 +127,11 @@ final class URLLoader extends URLLoaderBase implements Runnable {
             logger.finest(String.format("data: [0x%016X]", data));
         }
         canceled = true;
+        timing.canceled();
+        CachedLoader r = replay;
+        if (r != null) {
+            r.fwkCancel();
+        }
     }
 
     /**
@@ -121,6 +139,7 @@ final class URLLoader extends URLLoaderBase implements Runnable {
      */
     @Override
     public void run() {
+        timing.started();
         Throwable error = null;
         int errorCode = 0;
         try {
@@ -145,6 +164,7 @@ final class URLLoader extends URLLoaderBase implements Runnable {
                 prepareConnection(c);
 
                 try {
+                    requestTime = System.currentTimeMillis();
                     sendRequest(c, streaming);
                     receiveResponse(c);
                 } catch (HttpRetryException ex) {
@@ -278,6 +298,14 @@ final class URLLoader extends URLLoaderBase implements Runnable {
             }
         }
 
+        if (hit != null) {
+            // Validate the response stored in the HTTP cache
+            String[] validators = hit.getValidators();
+            for (int i = 0; i < validators.length; i += 2) {
+                c.setRequestProperty(validators[i], validators[i + 1]);
+            }
+        }
+
         if (c instanceof HttpURLConnection) {
             HttpURLConnection httpConnection = (HttpURLConnection) c;
             httpConnection.setRequestMethod(method);
@@ -394,6 +422,8 @@ final class URLLoader extends URLLoaderBase implements Runnable {
             if (canceled) {
                 return;
             }
+            responseTime = System.currentTimeMillis();
+            timing.responded();
 
             // See JDK-8128279
             switch (code) {
@@ -405,6 +435,17 @@ final class URLLoader extends URLLoaderBase implements Runnable {
                     break;
 
                 case 304: // Not Modified
+                    if (hit != null) {
+                        // The request was a validation of a cached response
+                        HttpCache.Hit validated = cache.revalidated(
+                                hit, http.getHeaderFields(), requestTime, responseTime);
+                        replay = new CachedLoader(asynchronous, url, validated,
+                                data, timing, NetworkMetrics.Source.VALIDATED);
+                        if (!canceled) {
+                            replay.run();
+                        }
+                        return;
+                    }
                     didReceiveResponse(c);
                     didFinishLoading();
                     return;
@@ -491,6 +532,13 @@ final class URLLoader extends URLLoaderBase implements Runnable {
             }
         }
 
+        HttpCache.Writer writer = null;
+        if (cache != null && inputStream != null && errorStream == null) {
+            writer = cache.store(url, headers, extractStatus(c),
+                    c.getHeaderFields(), c.getContentType(),
+                    extractContentEncoding(c), requestTime, responseTime);
+        }
+
         ByteBufferAllocator allocator =
                 byteBufferPool.newAllocator(MAX_BUF_COUNT);
         ByteBuffer byteBuffer = null;
@@ -513,6 +561,10 @@ final class URLLoader extends URLLoaderBase implements Runnable {
                     if (count == -1) {
                         break;
                     }
+                    receivedBytes += count;
+                    if (writer != null) {
+                        writer.write(buffer, 0, count);
+                    }
 
                     if (byteBuffer == null) {
                         byteBuffer = allocator.allocate();
@@ -542,12 +594,19 @@ final class URLLoader extends URLLoaderBase implements Runnable {
                     didReceiveData(byteBuffer, allocator);
                     byteBuffer = null;
                 }
+                if (writer != null) {
+                    writer.commit();
+                    writer = null;
+                }
                 didFinishLoading();
             }
         } finally {
             if (byteBuffer != null) {
                 allocator.release(byteBuffer);
             }
+            if (writer != null) {
+                writer.abort();
+            }
         }
     }
 
@@ -744,6 +803,7 @@ final class URLLoader extends URLLoaderBase implements Runnable {
     }
 
     private void didFinishLoading() {
+        timing.finished(NetworkMetrics.Source.NETWORK, receivedBytes);
         callBack(() -> {
             if (!canceled) {
                 notifyDidFinishLoading();
@@ -759,6 +819,7 @@ final class URLLoader extends URLLoaderBase implements Runnable {
     }
 
     private void didFail(final int errorCode, final String message) {
+        timing.failed();
         final String adjustedUrl = adjustUrlForWebKit(url);
         callBack(() -> {
             if (!canceled) {
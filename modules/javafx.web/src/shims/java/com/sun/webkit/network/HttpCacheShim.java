@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.webkit.network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class HttpCacheShim {
+
+    private final HttpCache cache;
+    private HttpCache previous;
+
+    public HttpCacheShim(Path directory, long maxSize) throws IOException {
+        this.cache = new HttpCache(directory, maxSize);
+    }
+
+    public long getSize() {
+        return cache.getSize();
+    }
+
+    public int getEntryCount() {
+        return cache.getEntryCount();
+    }
+
+    public HitShim lookup(String url, String requestHeaders) {
+        HttpCache.Hit hit = cache.lookup(url, requestHeaders);
+        return hit != null ? new HitShim(hit) : null;
+    }
+
+    public HitShim revalidated(HitShim hit,
+                               Map<String, List<String>> responseHeaders,
+                               long requestTime,
+                               long responseTime)
+    {
+        return new HitShim(cache.revalidated(hit.hit, responseHeaders, requestTime, responseTime));
+    }
+
+    public boolean store(String url,
+                         String requestHeaders,
+                         int status,
+                         Map<String, List<String>> responseHeaders,
+                         String contentType,
+                         String contentEncoding,
+                         long requestTime,
+                         long responseTime,
+                         byte[] body)
+    {
+        HttpCache.Writer writer = cache.store(url, requestHeaders, status,
+                responseHeaders, contentType, contentEncoding,
+                requestTime, responseTime);
+        if (writer == null) {
+            return false;
+        }
+        writer.write(body, 0, body.length);
+        writer.commit();
+        return true;
+    }
+
+    public void invalidate(String url) {
+        cache.invalidate(url);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Makes the loaders of all the web engines use this cache, until
+     * {@link #uninstall()} is called.
+     */
+    public void install() {
+        previous = NetworkContext.setHttpCache(cache);
+    }
+
+    public void uninstall() {
+        NetworkContext.setHttpCache(previous);
+        previous = null;
+    }
+
+    public static void setUseHTTP2Loader(boolean useHTTP2Loader) {
+        NetworkContext.setUseHTTP2Loader(useHTTP2Loader);
+    }
+
+    public static boolean isUseHTTP2Loader() {
+        return NetworkContext.isUseHTTP2Loader();
+    }
+
+    public static class HitShim {
+
+        private final HttpCache.Hit hit;
+
+        private HitShim(HttpCache.Hit hit) {
+            this.hit = hit;
+        }
+
+        public boolean isFresh() {
+            return hit.isFresh();
+        }
+
+        public String[] getValidators() {
+            return hit.getValidators();
+        }
+
+        public String getHeaders() {
+            return hit.getEntry().getHeaders();
+        }
+
+        public String getContentType() {
+            return hit.getEntry().getContentType();
+        }
+
+        public String getContentEncoding() {
+            return hit.getEntry().getContentEncoding();
+        }
+
+        public boolean isDirectBody() {
+            return hit.getBody().isDirect();
+        }
+
+        public String getBody() {
+            return new String(getBodyBytes(), StandardCharsets.UTF_8);
+        }
+
+        public byte[] getBodyBytes() {
+            ByteBuffer body = hit.getBody();
+            byte[] bytes = new byte[body.remaining()];
+            body.get(bytes);
+            return bytes;
+        }
+    }
+
+    // NetworkMetrics
+
+    public static void recordLoad(String url, long bytes, boolean fromCache) {
+        NetworkMetrics.Timing timing = NetworkMetrics.start("GET", url);
+        timing.started();
+        timing.responded();
+        timing.finished(fromCache ? NetworkMetrics.Source.CACHE
+                : NetworkMetrics.Source.NETWORK, bytes);
+        // Ignored once finished
+        timing.failed();
+    }
+
+    public static long getFinishedCount() {
+        return NetworkMetrics.getFinishedCount();
+    }
+
+    public static long getFailedCount() {
+        return NetworkMetrics.getFailedCount();
+    }
+
+    public static long getCacheHitCount() {
+        return NetworkMetrics.getCacheHitCount();
+    }
+
+    public static long getValidatedCount() {
+        return NetworkMetrics.getValidatedCount();
+    }
+
+    public static long getCacheBytes() {
+        return NetworkMetrics.getCacheBytes();
+    }
+
+    public static long getNetworkBytes() {
+        return NetworkMetrics.getNetworkBytes();
+    }
+}
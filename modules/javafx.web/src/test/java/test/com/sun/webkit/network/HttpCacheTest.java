@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.webkit.network;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.webkit.network.HttpCacheShim;
+import com.sun.webkit.network.HttpCacheShim.HitShim;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A test for the {@code HttpCache} class, run against a local HTTP server.
+ */
+public class HttpCacheTest {
+
+    private static final long MAX_SIZE = 1024 * 1024;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+    private HttpServer server;
+    private HttpClient client;
+    private Path directory;
+    private HttpCacheShim cache;
+
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/fresh", ex -> respond(ex, "max-age=3600", "\"f1\"", "fresh body"));
+        server.createContext("/stale", ex -> respond(ex, "max-age=0", "\"v1\"", "stale body"));
+        server.createContext("/no-cache", ex -> respond(ex, "no-cache", "\"v1\"", "no-cache body"));
+        server.createContext("/no-store", ex -> respond(ex, "no-store", "\"v1\"", "no-store body"));
+        server.createContext("/vary", ex -> {
+            ex.getResponseHeaders().add("Vary", "Accept-Language");
+            respond(ex, "max-age=3600", null, "vary body");
+        });
+        server.createContext("/aged", ex -> {
+            ex.getResponseHeaders().add("Age", "120");
+            respond(ex, "max-age=60", null, "aged body");
+        });
+        server.createContext("/large", ex -> respond(ex, "max-age=3600", null, "x".repeat(40 * 1024)));
+        server.start();
+        client = HttpClient.newHttpClient();
+        directory = Files.createTempDirectory("HttpCacheTest");
+        cache = new HttpCacheShim(directory, MAX_SIZE);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.stop(0);
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+        }
+    }
+
+    private void respond(HttpExchange ex, String cacheControl, String etag, String body)
+            throws IOException
+    {
+        requestCount.incrementAndGet();
+        ex.getResponseHeaders().add("Cache-Control", cacheControl);
+        ex.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+        if (etag != null) {
+            ex.getResponseHeaders().add("ETag", etag);
+            if (etag.equals(ex.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedCount.incrementAndGet();
+                ex.sendResponseHeaders(304, -1);
+                ex.close();
+                return;
+            }
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private HttpResponse<byte[]> send(String path, String... headers) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url(path)));
+        if (headers.length > 0) {
+            builder.headers(headers);
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * Loads a resource through the cache the way the loaders do, and
+     * returns where the body came from and the body.
+     */
+    private String load(String path, String requestHeaders) throws Exception {
+        long requestTime = System.currentTimeMillis();
+        HitShim hit = cache.lookup(url(path), requestHeaders);
+        if (hit != null && hit.isFresh()) {
+            return "cache:" + hit.getBody();
+        }
+        HttpResponse<byte[]> response = hit != null
+                ? send(path, hit.getValidators()) : send(path);
+        long responseTime = System.currentTimeMillis();
+        if (response.statusCode() == 304 && hit != null) {
+            hit = cache.revalidated(hit, response.headers().map(), requestTime, responseTime);
+            return "validated:" + hit.getBody();
+        }
+        cache.store(url(path), requestHeaders, response.statusCode(),
+                response.headers().map(),
+                response.headers().firstValue("content-type").orElse(null), "utf-8",
+                requestTime, responseTime, response.body());
+        return "network:" + new String(response.body(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testFreshResponseIsReplayed() throws Exception {
+        assertEquals("network:fresh body", load("/fresh", ""));
+        assertEquals("cache:fresh body", load("/fresh", ""));
+        assertEquals("cache:fresh body", load("/fresh#fragment", ""));
+        assertEquals(1, requestCount.get());
+        assertEquals(1, cache.getEntryCount());
+    }
+
+    @Test
+    public void testCachedBodyIsMapped() throws Exception {
+        load("/fresh", "");
+        HitShim hit = cache.lookup(url("/fresh"), "");
+        assertNotNull(hit);
+        assertTrue(hit.isDirectBody());
+        assertTrue(hit.getHeaders().contains("Content-Length:10\n"), hit.getHeaders());
+    }
+
+    @Test
+    public void testStaleResponseIsValidated() throws Exception {
+        assertEquals("network:stale body", load("/stale", ""));
+        HitShim hit = cache.lookup(url("/stale"), "");
+        assertNotNull(hit);
+        assertFalse(hit.isFresh());
+        assertArrayEquals(new String[] { "If-None-Match", "\"v1\"" }, hit.getValidators());
+
+        assertEquals("validated:stale body", load("/stale", ""));
+        assertEquals("validated:stale body", load("/stale", ""));
+        assertEquals(3, requestCount.get());
+        assertEquals(2, notModifiedCount.get());
+    }
+
+    @Test
+    public void testContentTypeIsKept() throws Exception {
+        load("/stale", "");
+        HitShim hit = cache.lookup(url("/stale"), "");
+        assertEquals("text/plain; charset=utf-8", hit.getContentType());
+        assertEquals("utf-8", hit.getContentEncoding());
+
+        hit = cache.revalidated(hit, Map.of("ETag", List.of("\"v1\"")), 0, 0);
+        assertEquals("text/plain; charset=utf-8", hit.getContentType());
+        assertEquals("utf-8", hit.getContentEncoding());
+
+        hit = new HttpCacheShim(directory, MAX_SIZE).lookup(url("/stale"), "");
+        assertEquals("text/plain; charset=utf-8", hit.getContentType());
+        assertEquals("utf-8", hit.getContentEncoding());
+    }
+
+    @Test
+    public void testNoCacheResponseIsAlwaysValidated() throws Exception {
+        assertEquals("network:no-cache body", load("/no-cache", ""));
+        assertEquals("validated:no-cache body", load("/no-cache", ""));
+        assertEquals(1, notModifiedCount.get());
+    }
+
+    @Test
+    public void testRequestCacheControl() throws Exception {
+        load("/fresh", "");
+        assertFalse(cache.lookup(url("/fresh"), "Cache-Control: max-age=0").isFresh());
+        assertFalse(cache.lookup(url("/fresh"), "Pragma: no-cache").isFresh());
+        assertTrue(cache.lookup(url("/fresh"), "Cache-Control: max-age=600").isFresh());
+        assertNull(cache.lookup(url("/fresh"), "Cache-Control: no-store"));
+    }
+
+    @Test
+    public void testAgeHeader() throws Exception {
+        load("/aged", "");
+        HitShim hit = cache.lookup(url("/aged"), "");
+        // Stored 120 seconds old with a lifetime of 60 seconds, and no validator
+        assertNull(hit);
+    }
+
+    @Test
+    public void testNoStoreResponseIsNotStored() throws Exception {
+        assertEquals("network:no-store body", load("/no-store", ""));
+        assertEquals("network:no-store body", load("/no-store", ""));
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void testConditionalAndRangeRequestsBypassCache() throws Exception {
+        load("/fresh", "");
+        assertNull(cache.lookup(url("/fresh"), "If-None-Match: \"v0\""));
+        assertNull(cache.lookup(url("/fresh"), "If-Modified-Since: Wed, 28 Sep 2011 17:00:00 GMT"));
+        assertNull(cache.lookup(url("/fresh"), "Range: bytes=0-1"));
+        assertNotNull(cache.lookup(url("/fresh"), "Accept: */*"));
+    }
+
+    @Test
+    public void testVary() throws Exception {
+        assertEquals("network:vary body", load("/vary", "Accept-Language: en\n"));
+        assertEquals("cache:vary body", load("/vary", "Accept-Language: en\n"));
+        assertNull(cache.lookup(url("/vary"), "Accept-Language: fr\n"));
+        assertNull(cache.lookup(url("/vary"), ""));
+    }
+
+    @Test
+    public void testAuthorizedRequestIsNotStored() throws Exception {
+        load("/fresh", "Authorization: Basic dXNlcjpwYXNz\n");
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        load("/fresh", "");
+        cache.invalidate(url("/fresh"));
+        assertNull(cache.lookup(url("/fresh"), ""));
+        assertEquals(0, cache.getSize());
+        assertEquals("network:fresh body", load("/fresh", ""));
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        cache = new HttpCacheShim(directory, 512 * 1024);
+        for (int i = 0; i < 16; i++) {
+            assertTrue(load("/large?" + i, "").startsWith("network:"));
+        }
+        assertTrue(cache.getSize() <= 512 * 1024);
+        assertEquals(12, cache.getEntryCount());
+        assertNull(cache.lookup(url("/large?3"), ""));
+        assertNotNull(cache.lookup(url("/large?4"), ""));
+        assertNotNull(cache.lookup(url("/large?15"), ""));
+
+        // Entries larger than an eighth of the cache are not stored
+        cache = new HttpCacheShim(directory, 256 * 1024);
+        cache.clear();
+        load("/large?16", "");
+        assertEquals(0, cache.getEntryCount());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void testEntriesArePersistent() throws Exception {
+        load("/fresh", "");
+        load("/stale", "");
+        long size = cache.getSize();
+
+        HttpCacheShim other = new HttpCacheShim(directory, MAX_SIZE);
+        assertEquals(2, other.getEntryCount());
+        assertEquals(size, other.getSize());
+        assertEquals("fresh body", other.lookup(url("/fresh"), "").getBody());
+
+        // Unknown and truncated files are discarded
+        Files.writeString(directory.resolve("0123.body"), "orphan");
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(f -> f.toString().endsWith(".body"))
+                 .filter(f -> !f.getFileName().toString().equals("0123.body"))
+                 .findFirst()
+                 .ifPresent(f -> f.toFile().delete());
+        }
+        other = new HttpCacheShim(directory, MAX_SIZE);
+        assertEquals(1, other.getEntryCount());
+        assertFalse(Files.exists(directory.resolve("0123.body")));
+    }
+
+    @Test
+    public void testMetrics() {
+        long finished = HttpCacheShim.getFinishedCount();
+        long failed = HttpCacheShim.getFailedCount();
+        long hits = HttpCacheShim.getCacheHitCount();
+        long cacheBytes = HttpCacheShim.getCacheBytes();
+        long networkBytes = HttpCacheShim.getNetworkBytes();
+
+        HttpCacheShim.recordLoad("http://example.org/a", 100, false);
+        HttpCacheShim.recordLoad("http://example.org/b", 50, true);
+
+        assertEquals(finished + 2, HttpCacheShim.getFinishedCount());
+        assertEquals(failed, HttpCacheShim.getFailedCount());
+        assertEquals(hits + 1, HttpCacheShim.getCacheHitCount());
+        assertEquals(cacheBytes + 50, HttpCacheShim.getCacheBytes());
+        assertEquals(networkBytes + 100, HttpCacheShim.getNetworkBytes());
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.javafx.scene.web;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.webkit.network.HttpCacheShim;
+import com.sun.webkit.network.HttpCacheShim.HitShim;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Loads pages through {@code NetworkContext} with the HTTP cache enabled,
+ * using both {@code URLLoader} and {@code HTTP2Loader}.
+ */
+public class HttpCacheLoadTest extends TestBase {
+
+    private static final String CONTENT_TYPE = "text/html; charset=windows-1251";
+    private static final String TITLE = "\u041f\u0440\u0438\u0432\u0435\u0442";
+    private static final byte[] PAGE =
+            ("<html><head><title>" + TITLE + "</title></head>"
+            + "<body>" + TITLE + "</body></html>").getBytes(Charset.forName("windows-1251"));
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+    private final AtomicInteger gzipCount = new AtomicInteger();
+    private HttpServer server;
+    private Path directory;
+    private HttpCacheShim cache;
+    private boolean useHTTP2Loader;
+
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/fresh", ex -> respond(ex, "max-age=3600"));
+        server.createContext("/no-cache", ex -> respond(ex, "no-cache"));
+        server.start();
+        directory = Files.createTempDirectory("HttpCacheLoadTest");
+        cache = new HttpCacheShim(directory, 1024 * 1024);
+        cache.install();
+        useHTTP2Loader = HttpCacheShim.isUseHTTP2Loader();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        HttpCacheShim.setUseHTTP2Loader(useHTTP2Loader);
+        cache.uninstall();
+        server.stop(0);
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+        }
+    }
+
+    private void respond(HttpExchange ex, String cacheControl) throws IOException {
+        requestCount.incrementAndGet();
+        ex.getResponseHeaders().add("Cache-Control", cacheControl);
+        ex.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+        ex.getResponseHeaders().add("ETag", "\"v1\"");
+        if ("\"v1\"".equals(ex.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedCount.incrementAndGet();
+            ex.sendResponseHeaders(304, -1);
+            ex.close();
+            return;
+        }
+        byte[] bytes = PAGE;
+        String acceptEncoding = ex.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            gzipCount.incrementAndGet();
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(PAGE);
+            }
+            bytes = buffer.toByteArray();
+            ex.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        ex.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    /**
+     * Loads a page, and returns what WebCore made of the response.
+     */
+    private List<Object> loadPage(String url) {
+        load(url);
+        List<Object> page = List.of(
+                submit(() -> getEngine().getTitle()),
+                executeScript("document.contentType"),
+                executeScript("document.characterSet"),
+                executeScript("document.body.textContent"));
+        // Leave the page, so that the next load is not a reload
+        load("about:blank");
+        return page;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testDecodedBodyIsStored(boolean http2) {
+        HttpCacheShim.setUseHTTP2Loader(http2);
+        List<Object> page = loadPage(url("/fresh"));
+        assertEquals(TITLE, page.get(0));
+        assertEquals(1, requestCount.get());
+        assertEquals(1, gzipCount.get());
+
+        HitShim hit = cache.lookup(url("/fresh"), "");
+        assertNotNull(hit);
+        assertArrayEquals(PAGE, hit.getBodyBytes());
+        assertEquals(CONTENT_TYPE, hit.getContentType());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testFreshResponseIsReplayed(boolean http2) {
+        HttpCacheShim.setUseHTTP2Loader(http2);
+        List<Object> page = loadPage(url("/fresh"));
+        long hits = submit(HttpCacheShim::getCacheHitCount);
+
+        assertEquals(page, loadPage(url("/fresh")));
+        assertEquals(1, requestCount.get());
+        assertEquals(hits + 1, (long) submit(HttpCacheShim::getCacheHitCount));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testStaleResponseIsReplayedAfterValidation(boolean http2) {
+        HttpCacheShim.setUseHTTP2Loader(http2);
+        List<Object> page = loadPage(url("/no-cache"));
+        long validated = submit(HttpCacheShim::getValidatedCount);
+
+        assertEquals(page, loadPage(url("/no-cache")));
+        assertEquals(2, requestCount.get());
+        assertEquals(1, notModifiedCount.get());
+        assertEquals(validated + 1, (long) submit(HttpCacheShim::getValidatedCount));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.beans;
+
+import java.util.concurrent.TimeUnit;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.NumberBinding;
+import javafx.beans.binding.StringExpression;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the invalidation and re-evaluation of chains of bindings built
+ * with {@link Bindings}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindingsBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int depth;
+
+    private DoubleProperty source;
+    private NumberBinding arithmeticChain;
+    private DoubleBinding customChain;
+    private BooleanBinding conditionChain;
+    private StringProperty text;
+    private StringExpression concatenation;
+    private double value;
+
+    @Setup
+    public void setup() {
+        source = new SimpleDoubleProperty();
+
+        NumberBinding arithmetic = Bindings.add(source, 1);
+        for (int i = 1; i < depth; i++) {
+            arithmetic = i % 2 == 0 ? Bindings.add(arithmetic, 1) : Bindings.multiply(arithmetic, 2);
+        }
+        arithmeticChain = arithmetic;
+
+        DoubleBinding custom = Bindings.createDoubleBinding(() -> source.get() + 1, source);
+        for (int i = 1; i < depth; i++) {
+            DoubleBinding previous = custom;
+            custom = Bindings.createDoubleBinding(() -> previous.get() + 1, previous);
+        }
+        customChain = custom;
+
+        BooleanBinding condition = source.greaterThan(0);
+        for (int i = 1; i < depth; i++) {
+            condition = Bindings.when(condition).then(source.lessThan(i)).otherwise(source.greaterThan(i));
+        }
+        conditionChain = condition;
+
+        text = new SimpleStringProperty("a");
+        StringExpression concat = Bindings.concat(text, "b");
+        for (int i = 1; i < depth; i++) {
+            concat = Bindings.concat(concat, "b");
+        }
+        concatenation = concat;
+    }
+
+    @Benchmark
+    public double arithmeticChain() {
+        source.set(++value);
+        return arithmeticChain.doubleValue();
+    }
+
+    @Benchmark
+    public double customChain() {
+        source.set(++value);
+        return customChain.get();
+    }
+
+    @Benchmark
+    public boolean conditionChain() {
+        source.set(++value % 100);
+        return conditionChain.get();
+    }
+
+    @Benchmark
+    public String concatenation() {
+        text.set((++value % 2) == 0 ? "a" : "c");
+        return concatenation.get();
+    }
+
+    @Benchmark
+    public NumberBinding createAndDispose() {
+        NumberBinding binding = Bindings.add(source, 1);
+        Bindings.multiply(binding, 2.0).dispose();
+        binding.dispose();
+        return binding;
+    }
+}
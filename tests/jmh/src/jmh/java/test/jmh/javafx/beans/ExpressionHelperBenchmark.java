@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.beans;
+
+import java.util.concurrent.TimeUnit;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ChangeListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of notifying listeners registered on a property, which
+ * is dispatched through {@code com.sun.javafx.binding.ExpressionHelper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpressionHelperBenchmark {
+
+    @Param({"1", "2", "10", "100", "500"})
+    public int listenerCount;
+
+    private DoubleProperty invalidationProperty;
+    private DoubleProperty changeProperty;
+    private DoubleProperty mixedProperty;
+    private double value;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        invalidationProperty = new SimpleDoubleProperty();
+        changeProperty = new SimpleDoubleProperty();
+        mixedProperty = new SimpleDoubleProperty();
+
+        // Listeners read the property, so the property becomes valid again
+        // and the next set() fires a notification.
+        for (int i = 0; i < listenerCount; i++) {
+            invalidationProperty.addListener((InvalidationListener) o -> blackhole.consume(invalidationProperty.get()));
+            changeProperty.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> blackhole.consume(newValue));
+            if (i % 2 == 0) {
+                mixedProperty.addListener((InvalidationListener) o -> blackhole.consume(mixedProperty.get()));
+            } else {
+                mixedProperty.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> blackhole.consume(newValue));
+            }
+        }
+    }
+
+    @Benchmark
+    public void fireInvalidation() {
+        invalidationProperty.set(++value);
+    }
+
+    @Benchmark
+    public void fireChange() {
+        changeProperty.set(++value);
+    }
+
+    @Benchmark
+    public void fireMixed() {
+        mixedProperty.set(++value);
+    }
+
+    @Benchmark
+    public void addRemoveListener() {
+        InvalidationListener listener = o -> {};
+        invalidationProperty.addListener(listener);
+        invalidationProperty.removeListener(listener);
+    }
+
+    @Benchmark
+    public void addRemoveListenerWhileFiring(Blackhole blackhole) {
+        DoubleProperty property = new SimpleDoubleProperty();
+        InvalidationListener transientListener = o -> {};
+        for (int i = 0; i < listenerCount; i++) {
+            property.addListener(o -> {
+                property.removeListener(transientListener);
+                property.addListener(transientListener);
+            });
+        }
+        property.set(++value);
+        blackhole.consume(property);
+    }
+}
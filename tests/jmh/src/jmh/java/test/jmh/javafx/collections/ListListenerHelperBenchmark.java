@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.collections;
+
+import java.util.concurrent.TimeUnit;
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the fan-out of a single list change to many listeners, which is
+ * dispatched through {@code com.sun.javafx.collections.ListListenerHelper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListListenerHelperBenchmark {
+
+    @Param({"1", "2", "10", "100", "500"})
+    public int listenerCount;
+
+    private ObservableList<Integer> changeList;
+    private ObservableList<Integer> invalidationList;
+    private Integer element = 42;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        changeList = FXCollections.observableArrayList();
+        invalidationList = FXCollections.observableArrayList();
+        for (int i = 0; i < listenerCount; i++) {
+            changeList.addListener((ListChangeListener<Integer>) change -> {
+                while (change.next()) {
+                    if (change.wasAdded()) {
+                        blackhole.consume(change.getAddedSubList());
+                    }
+                    if (change.wasRemoved()) {
+                        blackhole.consume(change.getRemoved());
+                    }
+                }
+            });
+            invalidationList.addListener((InvalidationListener) o -> blackhole.consume(o));
+        }
+    }
+
+    @Benchmark
+    public void addRemoveWithChangeListeners() {
+        changeList.add(element);
+        changeList.remove(0);
+    }
+
+    @Benchmark
+    public void setWithChangeListeners() {
+        if (changeList.isEmpty()) {
+            changeList.add(element);
+        }
+        changeList.set(0, element);
+    }
+
+    @Benchmark
+    public void addRemoveWithInvalidationListeners() {
+        invalidationList.add(element);
+        invalidationList.remove(0);
+    }
+
+    @Benchmark
+    public void addRemoveListener() {
+        ListChangeListener<Integer> listener = change -> {};
+        changeList.addListener(listener);
+        changeList.removeListener(listener);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.collections;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the propagation of source changes through {@link FilteredList}
+ * and {@link SortedList}, including the change events fired downstream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransformationListBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ObservableList<IntegerProperty> source;
+    private FilteredList<IntegerProperty> filtered;
+    private FilteredList<IntegerProperty> parallelFiltered;
+    private SortedList<IntegerProperty> sorted;
+    private Random random;
+    private int threshold;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        random = new Random(0);
+        // the extractor makes value changes fire update changes
+        source = FXCollections.observableArrayList(p -> new IntegerProperty[] { p });
+        for (int i = 0; i < size; i++) {
+            source.add(new SimpleIntegerProperty(random.nextInt(size)));
+        }
+
+        filtered = new FilteredList<>(source, p -> true);
+        parallelFiltered = new FilteredList<>(source, p -> true);
+        parallelFiltered.setParallelFiltering(true);
+        sorted = new SortedList<>(source, Comparator.comparingInt(IntegerProperty::get));
+
+        ListChangeListener<IntegerProperty> listener = change -> {
+            while (change.next()) {
+                blackhole.consume(change.getFrom());
+            }
+        };
+        filtered.addListener(listener);
+        parallelFiltered.addListener(listener);
+        sorted.addListener(listener);
+    }
+
+    @Benchmark
+    public FilteredList<IntegerProperty> filterPredicateChange() {
+        int t = threshold = (threshold + size / 10) % size;
+        Predicate<IntegerProperty> predicate = p -> p.get() > t;
+        filtered.setPredicate(predicate);
+        return filtered;
+    }
+
+    @Benchmark
+    public FilteredList<IntegerProperty> filterPredicateChangeParallel() {
+        int t = threshold = (threshold + size / 10) % size;
+        Predicate<IntegerProperty> predicate = p -> p.get() > t;
+        parallelFiltered.setPredicate(predicate);
+        return parallelFiltered;
+    }
+
+    @Benchmark
+    public FilteredList<IntegerProperty> filterPredicateNarrowing() {
+        // the threshold grows, except when it wraps around to 0
+        int t = threshold = (threshold + size / 10) % size;
+        Predicate<IntegerProperty> predicate = p -> p.get() > t;
+        if (t == 0) {
+            filtered.setPredicate(predicate);
+        } else {
+            filtered.narrowPredicate(predicate);
+        }
+        return filtered;
+    }
+
+    @Benchmark
+    public SortedList<IntegerProperty> sortComparatorChange() {
+        sorted.setComparator(sorted.getComparator().reversed());
+        return sorted;
+    }
+
+    @Benchmark
+    public ObservableList<IntegerProperty> sourceAddRemove() {
+        source.add(random.nextInt(size), new SimpleIntegerProperty(random.nextInt(size)));
+        source.remove(random.nextInt(size));
+        return source;
+    }
+
+    @Benchmark
+    public ObservableList<IntegerProperty> sourceUpdate() {
+        source.get(random.nextInt(size)).set(random.nextInt(size));
+        return source;
+    }
+
+    @Benchmark
+    public ObservableList<IntegerProperty> sourceBatchUpdate() {
+        FXCollections.batch(source, list -> {
+            for (int i = 0; i < 100; i++) {
+                list.get(random.nextInt(size)).set(random.nextInt(size));
+            }
+        });
+        return source;
+    }
+}
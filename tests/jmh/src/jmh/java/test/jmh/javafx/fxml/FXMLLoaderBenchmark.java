@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.fxml;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the loading of the FXML documents of the {@code FXMLLoader} tests
+ * that only use platform classes. Most of the time goes to the reflective
+ * access of properties through {@code BeanAdapter}.
+ * <p>
+ * The documents are read once and parsed from memory, and the created nodes
+ * are not shown. {@link #loadConcurrently()} loads the documents on several
+ * threads at once, as applications do when they prepare views in the
+ * background, which shows contention in the shared caches of the loader.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+    "-Dglass.platform=Monocle",
+    "-Dmonocle.platform=Headless",
+    "-Dprism.order=sw"
+})
+@State(Scope.Benchmark)
+public class FXMLLoaderBenchmark {
+
+    private static final String CORPUS = "/test/com/oracle/javafx/fxml/test/";
+
+    @Param({
+        "border_pane",
+        "flow_pane",
+        "tile_pane",
+        "svg-complex-tiger",
+        "svg-complex-tux",
+        "svg-complex-gear-flowers",
+        "svg-complex-unhappy-sheep",
+        "svg-svgspec-paints-radialGradient"
+    })
+    public String document;
+
+    private URL location;
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        location = FXMLLoaderBenchmark.class.getResource(CORPUS + document + ".fxml");
+        if (location == null) {
+            throw new IllegalStateException("Document not found: " + document);
+        }
+        try (InputStream inputStream = location.openStream()) {
+            content = inputStream.readAllBytes();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Platform.exit();
+    }
+
+    private Object loadDocument() throws IOException {
+        FXMLLoader loader = new FXMLLoader();
+        loader.setLocation(location);
+        return loader.load(new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public Object load() throws IOException {
+        return loadDocument();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object loadConcurrently() throws IOException {
+        return loadDocument();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import java.util.Random;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Redraws a full screen {@code Canvas} with many primitives in every frame.
+ */
+public class CanvasRenderBenchmark extends RenderBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int primitiveCount;
+
+    private final Random random = new Random(0);
+    private Canvas canvas;
+
+    @Override
+    protected Parent createRoot() {
+        canvas = new Canvas(WIDTH, HEIGHT);
+        return new StackPane(canvas);
+    }
+
+    @Override
+    protected void update(long frame) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, WIDTH, HEIGHT);
+        for (int i = 0; i < primitiveCount; i++) {
+            double x = random.nextDouble() * WIDTH;
+            double y = random.nextDouble() * HEIGHT;
+            switch (i % 3) {
+                case 0 -> {
+                    gc.setFill(Color.hsb(i % 360, 0.8, 0.9));
+                    gc.fillRect(x, y, 10, 10);
+                }
+                case 1 -> {
+                    gc.setStroke(Color.hsb(i % 360, 0.8, 0.6));
+                    gc.strokeLine(x, y, x + 20, y + 20);
+                }
+                default -> {
+                    gc.setFill(Color.hsb(i % 360, 0.5, 0.9));
+                    gc.fillOval(x, y, 12, 12);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Renders moving shapes with an effect applied to each of them.
+ */
+public class EffectRenderBenchmark extends RenderBenchmark {
+
+    @Param({ "DropShadow", "GaussianBlur" })
+    public String effect;
+
+    @Param({ "100" })
+    public int nodeCount;
+
+    private Circle[] circles;
+
+    @Override
+    protected Parent createRoot() {
+        Group group = new Group();
+        circles = new Circle[nodeCount];
+        int columns = (int) Math.ceil(Math.sqrt(nodeCount));
+        double cell = Math.min(WIDTH, HEIGHT) / columns;
+        for (int i = 0; i < nodeCount; i++) {
+            Circle circle = new Circle(cell * 0.3, Color.hsb(i * 37 % 360, 0.7, 0.9));
+            circle.setCenterX((i % columns + 0.5) * cell);
+            circle.setCenterY((i / columns + 0.5) * cell);
+            circle.setEffect(createEffect());
+            circles[i] = circle;
+        }
+        group.getChildren().setAll(circles);
+        return group;
+    }
+
+    private Effect createEffect() {
+        return switch (effect) {
+            case "DropShadow" -> new DropShadow(10, 4, 4, Color.BLACK);
+            case "GaussianBlur" -> new GaussianBlur(8);
+            default -> throw new IllegalArgumentException(effect);
+        };
+    }
+
+    @Override
+    protected void update(long frame) {
+        double offset = frame % 2 == 0 ? 2 : -2;
+        for (Circle circle : circles) {
+            circle.setTranslateY(offset);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import java.util.Random;
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.robot.Robot;
+import javafx.scene.shape.Circle;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Moves the mouse over a flat group of many small markers that highlight
+ * when hovered, with and without the pick index of the group.
+ * <p>
+ * Every frame, the mouse is moved to a new position, so the frame time
+ * includes picking the markers under the mouse, which is linear in the
+ * number of markers unless {@link Parent#setPickIndexed(boolean)} is set.
+ */
+public class HoverPickBenchmark extends RenderBenchmark {
+
+    private static final int POSITIONS = 1024;
+
+    @Param({ "1000", "10000", "100000" })
+    public int nodeCount;
+
+    @Param({ "false", "true" })
+    public boolean pickIndexed;
+
+    private final double[] positions = new double[2 * POSITIONS];
+    private Robot robot;
+
+    @Override
+    protected Parent createRoot() {
+        Random random = new Random(0);
+        Group group = new Group();
+        group.setPickIndexed(pickIndexed);
+        Circle[] markers = new Circle[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            Circle marker = new Circle(3, Color.STEELBLUE);
+            marker.setCenterX(3 + random.nextDouble() * (WIDTH - 6));
+            marker.setCenterY(3 + random.nextDouble() * (HEIGHT - 6));
+            marker.addEventHandler(MouseEvent.MOUSE_ENTERED, e -> marker.setFill(Color.ORANGE));
+            marker.addEventHandler(MouseEvent.MOUSE_EXITED, e -> marker.setFill(Color.STEELBLUE));
+            markers[i] = marker;
+        }
+        group.getChildren().setAll(markers);
+        for (int i = 0; i < positions.length; i += 2) {
+            positions[i] = random.nextDouble() * WIDTH;
+            positions[i + 1] = random.nextDouble() * HEIGHT;
+        }
+        robot = new Robot();
+        return group;
+    }
+
+    @Override
+    protected void update(long frame) {
+        int i = (int) (frame % POSITIONS) * 2;
+        robot.mouseMove(positions[i], positions[i + 1]);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import javafx.scene.Parent;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.chart.XYValues;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Renders a {@code LineChart} of a long series stored in {@code XYValues}, which
+ * scrolls by a fraction of its length in every frame, as a live signal would.
+ */
+public class LineChartRenderBenchmark extends RenderBenchmark {
+
+    @Param({ "10000", "100000", "1000000" })
+    public int pointCount;
+
+    @Param({ "0.001", "0.1" })
+    public double scrolledFraction;
+
+    private XYValues values;
+    private NumberAxis xAxis;
+    private long next;
+
+    @Override
+    protected Parent createRoot() {
+        xAxis = new NumberAxis();
+        xAxis.setAutoRanging(false);
+        xAxis.setUpperBound(pointCount);
+        NumberAxis yAxis = new NumberAxis(-2, 2, 0.5);
+        values = new XYValues(pointCount);
+        for (next = 0; next < pointCount; next++) {
+            values.add(next, signal(next));
+        }
+        LineChart<Number, Number> chart = new LineChart<>(xAxis, yAxis);
+        chart.setAnimated(false);
+        chart.getData().add(new XYChart.Series<>("signal", values));
+        return chart;
+    }
+
+    @Override
+    protected void update(long frame) {
+        int scrolled = Math.max(1, (int) (pointCount * scrolledFraction));
+        double[] x = new double[scrolled];
+        double[] y = new double[scrolled];
+        for (int i = 0; i < scrolled; i++, next++) {
+            x[i] = next;
+            y[i] = signal(next);
+        }
+        values.remove(0, scrolled);
+        values.addAll(x, y);
+        xAxis.setLowerBound(next - pointCount);
+        xAxis.setUpperBound(next);
+    }
+
+    private static double signal(long i) {
+        return Math.sin(i / 50.0) + 0.5 * Math.sin(i / 7.0) * Math.cos(i / 3000.0);
+    }
+}
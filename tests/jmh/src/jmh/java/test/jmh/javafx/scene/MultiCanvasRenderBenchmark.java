@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import java.util.Random;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.TilePane;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Redraws many small {@code Canvas} nodes in every frame, each with a
+ * number of primitives that changes from frame to frame, so that the
+ * command buffers of the canvases are constantly taken from and returned
+ * to the shared buffer pool in different sizes.
+ */
+public class MultiCanvasRenderBenchmark extends RenderBenchmark {
+
+    private static final double CANVAS_SIZE = 64;
+
+    @Param({ "16", "64", "256" })
+    public int canvasCount;
+
+    private final Random random = new Random(0);
+    private Canvas[] canvases;
+
+    @Override
+    protected Parent createRoot() {
+        canvases = new Canvas[canvasCount];
+        TilePane root = new TilePane();
+        for (int i = 0; i < canvasCount; i++) {
+            canvases[i] = new Canvas(CANVAS_SIZE, CANVAS_SIZE);
+            root.getChildren().add(canvases[i]);
+        }
+        return root;
+    }
+
+    @Override
+    protected void update(long frame) {
+        for (int i = 0; i < canvasCount; i++) {
+            GraphicsContext gc = canvases[i].getGraphicsContext2D();
+            gc.clearRect(0, 0, CANVAS_SIZE, CANVAS_SIZE);
+            // between 10 and 400 primitives, so between about 250 bytes
+            // and 10 kilobytes of commands
+            int primitiveCount = 10 + (int) ((frame * 31 + i * 17) % 391);
+            for (int p = 0; p < primitiveCount; p++) {
+                double x = random.nextDouble() * CANVAS_SIZE;
+                double y = random.nextDouble() * CANVAS_SIZE;
+                if ((p & 1) == 0) {
+                    gc.setFill(Color.hsb((i * 7 + p) % 360, 0.8, 0.9));
+                    gc.fillRect(x, y, 4, 4);
+                } else {
+                    gc.setStroke(Color.hsb((i * 7 + p) % 360, 0.8, 0.6));
+                    gc.strokeLine(x, y, x + 6, y + 6);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import java.util.Random;
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Renders a flat group of many small rectangles, a fraction of which moves
+ * in every frame.
+ */
+public class NodeCountRenderBenchmark extends RenderBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int nodeCount;
+
+    @Param({ "0.01", "1" })
+    public double movingFraction;
+
+    private Rectangle[] rectangles;
+
+    @Override
+    protected Parent createRoot() {
+        Random random = new Random(0);
+        Group group = new Group();
+        rectangles = new Rectangle[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            Rectangle rectangle = new Rectangle(8, 8, Color.hsb(random.nextInt(360), 0.8, 0.9));
+            rectangle.setLayoutX(random.nextDouble() * (WIDTH - 8));
+            rectangle.setLayoutY(random.nextDouble() * (HEIGHT - 8));
+            rectangles[i] = rectangle;
+        }
+        group.getChildren().setAll(rectangles);
+        return group;
+    }
+
+    @Override
+    protected void update(long frame) {
+        int moving = Math.max(1, (int) (nodeCount * movingFraction));
+        double offset = frame % 2 == 0 ? 1 : -1;
+        for (int i = 0; i < moving; i++) {
+            Rectangle rectangle = rectangles[i];
+            rectangle.setTranslateX(offset);
+        }
+    }
+}
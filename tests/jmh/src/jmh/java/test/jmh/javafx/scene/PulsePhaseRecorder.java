@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Collects the pulse phase timings reported by the JavaFX pulse logger.
+ * <p>
+ * The JFR pulse logger ({@code com.sun.javafx.logging.jfr.JFRPulseLogger})
+ * is only created if the flight recorder is initialized when the toolkit
+ * starts, so a recorder must be started before the JavaFX platform.
+ * <p>
+ * If the benchmark runs with {@code -Djavafx.nodeProfiler=true}, the
+ * {@code javafx.NodeTypeTime} events are collected as well, and the node types
+ * with the highest self time are printed after the pulse phases.
+ * <p>
+ * Events are delivered asynchronously, so the start and the end of an
+ * iteration are marked with a {@link MarkerEvent}. Only the events delivered
+ * between the two markers are counted, and {@link #reset()} and
+ * {@link #flush()} wait until the stream has dispatched their marker.
+ */
+final class PulsePhaseRecorder {
+
+    private static final String PULSE_PHASE_EVENT = "javafx.PulsePhase";
+    private static final String NODE_TYPE_EVENT = "javafx.NodeTypeTime";
+    private static final String MARKER_EVENT = "test.jmh.javafx.Marker";
+    private static final int NODE_TYPES_PRINTED = 15;
+    private static final long MARKER_TIMEOUT_SECONDS = 60;
+
+    @Name(MARKER_EVENT)
+    @Label("Benchmark Marker")
+    @StackTrace(false)
+    static final class MarkerEvent extends Event {
+        @Label("Sequence")
+        long sequence;
+
+        @Label("Start")
+        boolean start;
+    }
+
+    private static final class PhaseStatistics {
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+    }
+
+    private final RecordingStream stream;
+    private final Map<String, PhaseStatistics> phases = new ConcurrentHashMap<>();
+    private final Map<String, PhaseStatistics> nodeTypes = new ConcurrentHashMap<>();
+    private final Map<Long, CountDownLatch> pendingMarkers = new ConcurrentHashMap<>();
+    private final AtomicLong markerSequence = new AtomicLong();
+
+    // Only accessed by the thread dispatching the events
+    private final List<Long> dispatchedMarkers = new ArrayList<>();
+    private boolean recording;
+
+    PulsePhaseRecorder() {
+        stream = new RecordingStream();
+        stream.enable(PULSE_PHASE_EVENT).withoutThreshold().withoutStackTrace();
+        stream.onEvent(PULSE_PHASE_EVENT, this::onPulsePhase);
+        stream.enable(NODE_TYPE_EVENT).withoutThreshold().withoutStackTrace();
+        stream.onEvent(NODE_TYPE_EVENT, this::onNodeType);
+        stream.enable(MarkerEvent.class);
+        stream.onEvent(MARKER_EVENT, this::onMarker);
+        stream.onFlush(this::onFlush);
+        stream.startAsync();
+    }
+
+    private void onPulsePhase(RecordedEvent event) {
+        if (!recording) {
+            return;
+        }
+        String name = event.getString("phaseName");
+        if (name == null) {
+            return;
+        }
+        PhaseStatistics statistics = phases.computeIfAbsent(name, n -> new PhaseStatistics());
+        statistics.count.increment();
+        statistics.totalNanos.add(event.getDuration().toNanos());
+    }
+
+    private void onNodeType(RecordedEvent event) {
+        if (!recording) {
+            return;
+        }
+        String styleClass = event.getString("styleClass");
+        String name = event.getString("operation") + " " + event.getClass("nodeClass").getName()
+            + (styleClass == null || styleClass.isEmpty() ? "" : " [" + styleClass + "]");
+        PhaseStatistics statistics = nodeTypes.computeIfAbsent(name, n -> new PhaseStatistics());
+        statistics.count.add(event.getInt("count"));
+        statistics.totalNanos.add(event.getLong("selfTime"));
+    }
+
+    private void onMarker(RecordedEvent event) {
+        // The stream is ordered, so every event committed before the marker
+        // has been dispatched already
+        recording = event.getBoolean("start");
+        if (recording) {
+            phases.clear();
+            nodeTypes.clear();
+        }
+        dispatchedMarkers.add(event.getLong("sequence"));
+    }
+
+    private void onFlush() {
+        for (Long sequence : dispatchedMarkers) {
+            CountDownLatch latch = pendingMarkers.remove(sequence);
+            if (latch != null) {
+                latch.countDown();
+            }
+        }
+        dispatchedMarkers.clear();
+    }
+
+    /**
+     * Commits a marker event and waits until the stream has dispatched it,
+     * together with all the events committed before it.
+     */
+    private void mark(boolean start) throws InterruptedException {
+        long sequence = markerSequence.incrementAndGet();
+        CountDownLatch latch = new CountDownLatch(1);
+        pendingMarkers.put(sequence, latch);
+
+        MarkerEvent event = new MarkerEvent();
+        event.sequence = sequence;
+        event.start = start;
+        event.commit();
+
+        if (!latch.await(MARKER_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            pendingMarkers.remove(sequence);
+            throw new IllegalStateException("The flight recorder did not deliver the benchmark marker");
+        }
+    }
+
+    /**
+     * Discards the statistics collected so far and starts collecting new ones.
+     * Events committed before this call are not counted.
+     */
+    void reset() throws InterruptedException {
+        mark(true);
+    }
+
+    /**
+     * Stops collecting statistics, once all the events committed before this
+     * call have been delivered.
+     */
+    void flush() throws InterruptedException {
+        mark(false);
+    }
+
+    /**
+     * Prints the mean duration of each pulse phase collected between the last
+     * calls to {@link #reset()} and {@link #flush()}.
+     */
+    void print(PrintStream out, String title) {
+        Map<String, PhaseStatistics> sorted = new TreeMap<>(phases);
+        out.println();
+        out.println("Pulse phases: " + title);
+        out.printf("  %-32s %10s %12s%n", "phase", "count", "mean (ms)");
+        for (Map.Entry<String, PhaseStatistics> entry : sorted.entrySet()) {
+            long count = entry.getValue().count.sum();
+            double mean = count == 0 ? 0 : entry.getValue().totalNanos.sum() / (count * 1e6);
+            out.printf("  %-32s %10d %12.3f%n", entry.getKey(), count, mean);
+        }
+        if (nodeTypes.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, PhaseStatistics>> types = new ArrayList<>(nodeTypes.entrySet());
+        types.sort((a, b) -> Long.compare(b.getValue().totalNanos.sum(), a.getValue().totalNanos.sum()));
+        out.println("Node types by self time: " + title);
+        out.printf("  %-80s %10s %12s%n", "operation and node type", "count", "total (ms)");
+        for (Map.Entry<String, PhaseStatistics> entry : types.subList(0, Math.min(NODE_TYPES_PRINTED, types.size()))) {
+            out.printf("  %-80s %10d %12.3f%n", entry.getKey(),
+                       entry.getValue().count.sum(), entry.getValue().totalNanos.sum() / 1e6);
+        }
+    }
+
+    void close() {
+        stream.close();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class of the rendering benchmarks.
+ * <p>
+ * The benchmarks run with the headless Monocle glass platform and the
+ * software Prism pipeline, so they need neither a display nor a GPU. Pulses
+ * run at full speed: every frame, {@link #update(long)} is called on the FX
+ * thread to animate the scene, after which the scene goes through CSS,
+ * layout, synchronization and rendering. The score is the mean time per
+ * frame. Since the FX thread waits for the previous frame to be rendered,
+ * this includes the rendering time.
+ * <p>
+ * After each measurement iteration, the mean duration of each pulse phase
+ * reported by the pulse logger is printed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {
+    "-Dglass.platform=Monocle",
+    "-Dmonocle.platform=Headless",
+    "-Dprism.order=sw",
+    "-Dheadless.geometry=1280x1024-32",
+    "-Djavafx.animation.fullspeed=true"
+})
+@State(Scope.Benchmark)
+public abstract class RenderBenchmark {
+
+    protected static final double WIDTH = 1280;
+    protected static final double HEIGHT = 1024;
+
+    private final Semaphore frames = new Semaphore(0);
+    private PulsePhaseRecorder recorder;
+    private Stage stage;
+    private AnimationTimer timer;
+    private long frame;
+
+    /**
+     * Creates the root of the scene. Called on the FX thread.
+     */
+    protected abstract Parent createRoot();
+
+    /**
+     * Animates the scene for the given frame. Called on the FX thread.
+     */
+    protected abstract void update(long frame);
+
+    @Setup(Level.Trial)
+    public void startPlatform() throws Exception {
+        recorder = new PulsePhaseRecorder();
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        runAndWait(() -> {
+            stage = new Stage();
+            stage.setScene(new Scene(createRoot(), WIDTH, HEIGHT));
+            stage.show();
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    update(frame++);
+                    frames.release();
+                }
+            };
+            timer.start();
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() throws InterruptedException {
+        frames.drainPermits();
+        recorder.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration() throws InterruptedException {
+        recorder.flush();
+        recorder.print(System.out, getClass().getSimpleName());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopPlatform() throws Exception {
+        runAndWait(() -> {
+            timer.stop();
+            stage.hide();
+        });
+        recorder.close();
+        Platform.exit();
+    }
+
+    @Benchmark
+    public void frame() throws InterruptedException {
+        frames.acquire();
+    }
+
+    private static void runAndWait(Runnable runnable) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                runnable.run();
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+    }
+}
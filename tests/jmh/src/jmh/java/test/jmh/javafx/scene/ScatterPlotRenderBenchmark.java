@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import java.util.Random;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Redraws a full screen scatter plot of many moving points in every frame,
+ * either with one {@code fillRect} call per point or with a single
+ * {@code fillRects} batch.
+ */
+public class ScatterPlotRenderBenchmark extends RenderBenchmark {
+
+    @Param({ "10000", "100000" })
+    public int pointCount;
+
+    @Param({ "false", "true" })
+    public boolean batched;
+
+    private Canvas canvas;
+    private double[] points;
+
+    @Override
+    protected Parent createRoot() {
+        canvas = new Canvas(WIDTH, HEIGHT);
+        Random random = new Random(0);
+        points = new double[pointCount * 4];
+        for (int i = 0; i < pointCount; i++) {
+            points[i * 4] = random.nextDouble() * WIDTH;
+            points[i * 4 + 1] = random.nextDouble() * HEIGHT;
+            points[i * 4 + 2] = 2;
+            points[i * 4 + 3] = 2;
+        }
+        return new StackPane(canvas);
+    }
+
+    @Override
+    protected void update(long frame) {
+        for (int i = 0; i < pointCount; i++) {
+            points[i * 4] = (points[i * 4] + 1) % WIDTH;
+        }
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, WIDTH, HEIGHT);
+        gc.setFill(Color.STEELBLUE);
+        if (batched) {
+            gc.fillRects(points, pointCount);
+        } else {
+            for (int i = 0; i < pointCount; i++) {
+                gc.fillRect(points[i * 4], points[i * 4 + 1], points[i * 4 + 2], points[i * 4 + 3]);
+            }
+        }
+    }
+}
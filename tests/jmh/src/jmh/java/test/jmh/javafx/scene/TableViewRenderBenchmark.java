@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Parent;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Scrolls a {@code TableView} with many rows, one row per frame.
+ */
+public class TableViewRenderBenchmark extends RenderBenchmark {
+
+    @Param({ "100000" })
+    public int rowCount;
+
+    @Param({ "10" })
+    public int columnCount;
+
+    private TableView<Integer> table;
+
+    @Override
+    protected Parent createRoot() {
+        ObservableList<Integer> rows = FXCollections.observableArrayList();
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(i);
+        }
+        table = new TableView<>(rows);
+        for (int c = 0; c < columnCount; c++) {
+            int column = c;
+            TableColumn<Integer, String> tableColumn = new TableColumn<>("Column " + c);
+            tableColumn.setCellValueFactory(cd ->
+                    new ReadOnlyObjectWrapper<>("Row " + cd.getValue() + ", column " + column));
+            table.getColumns().add(tableColumn);
+        }
+        return table;
+    }
+
+    @Override
+    protected void update(long frame) {
+        table.scrollTo((int) (frame % rowCount));
+    }
+}
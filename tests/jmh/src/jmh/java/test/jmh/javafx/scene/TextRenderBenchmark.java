@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import javafx.scene.Parent;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Renders a wall of {@code Text} nodes, a few of which change their content
+ * in every frame.
+ */
+public class TextRenderBenchmark extends RenderBenchmark {
+
+    @Param({ "2000" })
+    public int textCount;
+
+    @Param({ "10" })
+    public int changesPerFrame;
+
+    private Text[] texts;
+
+    @Override
+    protected Parent createRoot() {
+        FlowPane pane = new FlowPane(4, 2);
+        texts = new Text[textCount];
+        Font font = Font.font(12);
+        for (int i = 0; i < textCount; i++) {
+            Text text = new Text("Label " + i);
+            text.setFont(font);
+            texts[i] = text;
+        }
+        pane.getChildren().setAll(texts);
+        return pane;
+    }
+
+    @Override
+    protected void update(long frame) {
+        for (int i = 0; i < changesPerFrame; i++) {
+            int index = (int) ((frame * changesPerFrame + i) % textCount);
+            texts[index].setText("Label " + index + " @" + frame);
+        }
+    }
+}
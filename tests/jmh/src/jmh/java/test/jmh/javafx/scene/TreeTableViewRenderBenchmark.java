@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.jmh.javafx.scene;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.Parent;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+import javafx.scene.control.TreeTableView;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Scrolls a fully expanded {@code TreeTableView} shaped like a file system,
+ * jumping through the rows and toggling a directory every few frames.
+ */
+public class TreeTableViewRenderBenchmark extends RenderBenchmark {
+
+    private static final int FILES_PER_DIRECTORY = 40;
+    private static final int DIRECTORIES_PER_DIRECTORY = 8;
+
+    @Param({ "500000" })
+    public int nodeCount;
+
+    @Param({ "0", "8" })
+    public int toggleInterval;
+
+    private TreeTableView<String> table;
+    private final List<TreeItem<String>> directories = new ArrayList<>();
+    private int nodes;
+
+    @Override
+    protected Parent createRoot() {
+        TreeItem<String> root = new TreeItem<>("/");
+        root.setExpanded(true);
+        nodes = 1;
+        directories.clear();
+
+        // fill the tree breadth first, so that it is wide and a few levels deep
+        List<TreeItem<String>> level = List.of(root);
+        while (nodes < nodeCount) {
+            List<TreeItem<String>> next = new ArrayList<>();
+            for (TreeItem<String> parent : level) {
+                List<TreeItem<String>> children = new ArrayList<>();
+                for (int i = 0; i < DIRECTORIES_PER_DIRECTORY && nodes < nodeCount; i++, nodes++) {
+                    TreeItem<String> directory = new TreeItem<>("dir" + i);
+                    directory.setExpanded(true);
+                    children.add(directory);
+                    next.add(directory);
+                    directories.add(directory);
+                }
+                for (int i = 0; i < FILES_PER_DIRECTORY && nodes < nodeCount; i++, nodes++) {
+                    children.add(new TreeItem<>("file" + i + ".txt"));
+                }
+                parent.getChildren().setAll(children);
+            }
+            level = next;
+        }
+
+        table = new TreeTableView<>(root);
+        TreeTableColumn<String, String> name = new TreeTableColumn<>("Name");
+        name.setPrefWidth(400);
+        name.setCellValueFactory(cd -> new ReadOnlyObjectWrapper<>(cd.getValue().getValue()));
+        TreeTableColumn<String, String> size = new TreeTableColumn<>("Size");
+        size.setCellValueFactory(cd -> new ReadOnlyObjectWrapper<>(Integer.toString(cd.getValue().getValue().length())));
+        table.getColumns().setAll(List.of(name, size));
+        return table;
+    }
+
+    @Override
+    protected void update(long frame) {
+        if (toggleInterval > 0 && frame % toggleInterval == 0) {
+            TreeItem<String> directory = directories.get((int) ((frame / toggleInterval) % directories.size()));
+            directory.setExpanded(!directory.isExpanded());
+        }
+        // jump through the tree with a stride that is prime to the row count
+        int rowCount = table.getExpandedItemCount();
+        table.scrollTo((int) ((frame * 7919) % rowCount));
+    }
+}